@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop.bench;
+
+import com.badlogic.gdx.utils.ArrayMap;
+import com.github.tommyettinger.ds.ObjectObjectOrderedMap;
+import com.github.tommyettinger.ds.interop.ConversionToGDX;
+import com.github.tommyettinger.ds.interop.ConversionToJDK;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversions to and from libGDX's {@link ArrayMap}. These are kept apart from
+ * {@link ConversionToGDXBenchmark} and {@link ConversionToJDKBenchmark} because every put or get on an ArrayMap is a
+ * linear search, so converting n entries takes time proportional to n squared; the 1000000-item size is left out here
+ * because a single operation would take far longer than a measurement iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ArrayMapBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    public ObjectObjectOrderedMap<String, String> orderedMap;
+    public ArrayMap<String, String> arrayMap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        orderedMap = new ObjectObjectOrderedMap<>(size);
+        arrayMap = new ArrayMap<>(true, size);
+        for (int i = 0; i < size; i++) {
+            String s = Integer.toString(i * 0x9E3779B9, 36);
+            orderedMap.put(s, s);
+        }
+        // Filling the ArrayMap directly avoids the quadratic cost of put() during setup; the keys are already unique.
+        for (int i = 0; i < size; i++) {
+            String s = Integer.toString(i * 0x9E3779B9, 36);
+            arrayMap.keys[i] = s;
+            arrayMap.values[i] = s;
+        }
+        arrayMap.size = size;
+    }
+
+    @Benchmark
+    public Object toArrayMap() {
+        return ConversionToGDX.toArrayMap(orderedMap);
+    }
+
+    @Benchmark
+    public Object toObjectObjectMapFromArrayMap() {
+        return ConversionToJDK.toObjectObjectMap(arrayMap);
+    }
+
+    @Benchmark
+    public Object toObjectObjectOrderedMapFromArrayMap() {
+        return ConversionToJDK.toObjectObjectOrderedMap(arrayMap);
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop.bench;
+
+import com.github.tommyettinger.ds.*;
+import com.github.tommyettinger.ds.interop.ConversionToGDX;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every method in {@link ConversionToGDX} with source collections of 10, 1000, 100000, and 1000000 items.
+ * Run with {@code gradle jmh -PjmhInclude=ConversionToGDXBenchmark}; the GC profiler is always enabled by the jmh
+ * task, so the results include {@code gc.alloc.rate.norm} (bytes allocated per operation) next to ops/s.
+ * <br>
+ * {@link ConversionToGDX#toArrayMap(java.util.Map)} is measured separately in {@link ArrayMapBenchmark}, because
+ * libGDX's ArrayMap does a linear search on every put, and that is quadratic at the larger sizes here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ConversionToGDXBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    public ObjectList<String> objectList;
+    public IntList intList;
+    public LongList longList;
+    public FloatList floatList;
+    public ByteList byteList;
+    public CharList charList;
+    public ShortList shortList;
+    public BooleanList booleanList;
+    public ObjectObjectMap<String, String> objectObjectMap;
+    public ObjectIntMap<String> objectIntMap;
+    public ObjectLongMap<String> objectLongMap;
+    public ObjectFloatMap<String> objectFloatMap;
+    public IntObjectMap<String> intObjectMap;
+    public IntIntMap intIntMap;
+    public IntFloatMap intFloatMap;
+    public LongObjectMap<String> longObjectMap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        objectList = new ObjectList<>(size);
+        intList = new IntList(size);
+        longList = new LongList(size);
+        floatList = new FloatList(size);
+        byteList = new ByteList(size);
+        charList = new CharList(size);
+        shortList = new ShortList(size);
+        booleanList = new BooleanList(size);
+        objectObjectMap = new ObjectObjectMap<>(size);
+        objectIntMap = new ObjectIntMap<>(size);
+        objectLongMap = new ObjectLongMap<>(size);
+        objectFloatMap = new ObjectFloatMap<>(size);
+        intObjectMap = new IntObjectMap<>(size);
+        intIntMap = new IntIntMap(size);
+        intFloatMap = new IntFloatMap(size);
+        longObjectMap = new LongObjectMap<>(size);
+        for (int i = 0; i < size; i++) {
+            // multiplying by an odd constant is a bijection, so every key here is unique
+            int mixed = i * 0x9E3779B9;
+            long wide = i * 0x9E3779B97F4A7C15L;
+            String s = Integer.toString(mixed, 36);
+            objectList.add(s);
+            intList.add(mixed);
+            longList.add(wide);
+            floatList.add(mixed * 0x1p-24f);
+            byteList.add((byte) mixed);
+            charList.add((char) mixed);
+            shortList.add((short) mixed);
+            booleanList.add(mixed < 0);
+            objectObjectMap.put(s, s);
+            objectIntMap.put(s, mixed);
+            objectLongMap.put(s, wide);
+            objectFloatMap.put(s, mixed * 0x1p-24f);
+            intObjectMap.put(mixed, s);
+            intIntMap.put(mixed, i);
+            intFloatMap.put(mixed, i);
+            longObjectMap.put(wide, s);
+        }
+    }
+
+    @Benchmark
+    public Object toArray() {
+        return ConversionToGDX.toArray(objectList);
+    }
+
+    @Benchmark
+    public Object toIntArray() {
+        return ConversionToGDX.toIntArray(intList);
+    }
+
+    @Benchmark
+    public Object toLongArray() {
+        return ConversionToGDX.toLongArray(longList);
+    }
+
+    @Benchmark
+    public Object toFloatArray() {
+        return ConversionToGDX.toFloatArray(floatList);
+    }
+
+    @Benchmark
+    public Object toByteArray() {
+        return ConversionToGDX.toByteArray(byteList);
+    }
+
+    @Benchmark
+    public Object toCharArray() {
+        return ConversionToGDX.toCharArray(charList);
+    }
+
+    @Benchmark
+    public Object toShortArray() {
+        return ConversionToGDX.toShortArray(shortList);
+    }
+
+    @Benchmark
+    public Object toBooleanArray() {
+        return ConversionToGDX.toBooleanArray(booleanList);
+    }
+
+    @Benchmark
+    public Object toObjectSet() {
+        return ConversionToGDX.toObjectSet(objectList);
+    }
+
+    @Benchmark
+    public Object toOrderedSet() {
+        return ConversionToGDX.toOrderedSet(objectList);
+    }
+
+    @Benchmark
+    public Object toIntSet() {
+        return ConversionToGDX.toIntSet(intList);
+    }
+
+    @Benchmark
+    public Object toLongSet() {
+        return ConversionToGDX.toLongSet(longList);
+    }
+
+    @Benchmark
+    public Object toObjectMap() {
+        return ConversionToGDX.toObjectMap(objectObjectMap);
+    }
+
+    @Benchmark
+    public Object toOrderedMap() {
+        return ConversionToGDX.toOrderedMap(objectObjectMap);
+    }
+
+    @Benchmark
+    public Object toObjectIntMap() {
+        return ConversionToGDX.toObjectIntMap(objectIntMap);
+    }
+
+    @Benchmark
+    public Object toObjectLongMap() {
+        return ConversionToGDX.toObjectLongMap(objectLongMap);
+    }
+
+    @Benchmark
+    public Object toObjectFloatMap() {
+        return ConversionToGDX.toObjectFloatMap(objectFloatMap);
+    }
+
+    @Benchmark
+    public Object toIntMap() {
+        return ConversionToGDX.toIntMap(intObjectMap);
+    }
+
+    @Benchmark
+    public Object toIntIntMap() {
+        return ConversionToGDX.toIntIntMap(intIntMap);
+    }
+
+    @Benchmark
+    public Object toIntFloatMap() {
+        return ConversionToGDX.toIntFloatMap(intFloatMap);
+    }
+
+    @Benchmark
+    public Object toLongMap() {
+        return ConversionToGDX.toLongMap(longObjectMap);
+    }
+
+    @Benchmark
+    public Object toIdentityMap() {
+        return ConversionToGDX.toIdentityMap(objectObjectMap);
+    }
+
+    @Benchmark
+    public Object toQueue() {
+        return ConversionToGDX.toQueue(objectList);
+    }
+
+    @Benchmark
+    public Object toLongQueue() {
+        return ConversionToGDX.toLongQueue(longList);
+    }
+}
@@ -0,0 +1,497 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop.bench;
+
+import com.badlogic.gdx.utils.*;
+import com.github.tommyettinger.ds.interop.ConversionToJDK;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every method in {@link ConversionToJDK} with source collections of 10, 1000, 100000, and 1000000 items.
+ * Run with {@code gradle jmh -PjmhInclude=ConversionToJDKBenchmark}; the GC profiler is always enabled by the jmh
+ * task, so the results include {@code gc.alloc.rate.norm} (bytes allocated per operation) next to ops/s.
+ * <br>
+ * The two conversions from libGDX's ArrayMap are measured separately in {@link ArrayMapBenchmark}, because looking up
+ * a key in an ArrayMap is a linear search, and that is quadratic at the larger sizes here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ConversionToJDKBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    public Array<String> array;
+    public Queue<String> queue;
+    public ObjectSet<String> objectSet;
+    public IntArray intArray;
+    public IntSet intSet;
+    public LongArray longArray;
+    public LongQueue longQueue;
+    public LongSet longSet;
+    public FloatArray floatArray;
+    public ByteArray byteArray;
+    public CharArray charArray;
+    public ShortArray shortArray;
+    public BooleanArray booleanArray;
+    public ObjectMap<String, String> objectMap;
+    public ObjectIntMap<String> objectIntMap;
+    public ObjectLongMap<String> objectLongMap;
+    public ObjectFloatMap<String> objectFloatMap;
+    public IntMap<String> intMap;
+    public IntIntMap intIntMap;
+    public IntFloatMap intFloatMap;
+    public LongMap<String> longMap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        array = new Array<>(size);
+        queue = new Queue<>(size);
+        objectSet = new ObjectSet<>(size);
+        intArray = new IntArray(size);
+        intSet = new IntSet(size);
+        longArray = new LongArray(size);
+        longQueue = new LongQueue(size);
+        longSet = new LongSet(size);
+        floatArray = new FloatArray(size);
+        byteArray = new ByteArray(size);
+        charArray = new CharArray(size);
+        shortArray = new ShortArray(size);
+        booleanArray = new BooleanArray(size);
+        objectMap = new ObjectMap<>(size);
+        objectIntMap = new ObjectIntMap<>(size);
+        objectLongMap = new ObjectLongMap<>(size);
+        objectFloatMap = new ObjectFloatMap<>(size);
+        intMap = new IntMap<>(size);
+        intIntMap = new IntIntMap(size);
+        intFloatMap = new IntFloatMap(size);
+        longMap = new LongMap<>(size);
+        for (int i = 0; i < size; i++) {
+            // multiplying by an odd constant is a bijection, so every key here is unique
+            int mixed = i * 0x9E3779B9;
+            long wide = i * 0x9E3779B97F4A7C15L;
+            String s = Integer.toString(mixed, 36);
+            array.add(s);
+            queue.addLast(s);
+            objectSet.add(s);
+            intArray.add(mixed);
+            intSet.add(mixed);
+            longArray.add(wide);
+            longQueue.addLast(wide);
+            longSet.add(wide);
+            floatArray.add(mixed * 0x1p-24f);
+            byteArray.add((byte) mixed);
+            charArray.add((char) mixed);
+            shortArray.add((short) mixed);
+            booleanArray.add(mixed < 0);
+            objectMap.put(s, s);
+            objectIntMap.put(s, mixed);
+            objectLongMap.put(s, wide);
+            objectFloatMap.put(s, mixed * 0x1p-24f);
+            intMap.put(mixed, s);
+            intIntMap.put(mixed, i);
+            intFloatMap.put(mixed, i);
+            longMap.put(wide, s);
+        }
+    }
+
+    @Benchmark
+    public Object toObjectListFromArray() {
+        return ConversionToJDK.toObjectList(array);
+    }
+
+    @Benchmark
+    public Object toObjectBagFromArray() {
+        return ConversionToJDK.toObjectBag(array);
+    }
+
+    @Benchmark
+    public Object toObjectListFromQueue() {
+        return ConversionToJDK.toObjectList(queue);
+    }
+
+    @Benchmark
+    public Object toObjectBagFromQueue() {
+        return ConversionToJDK.toObjectBag(queue);
+    }
+
+    @Benchmark
+    public Object toObjectListFromObjectSet() {
+        return ConversionToJDK.toObjectList(objectSet);
+    }
+
+    @Benchmark
+    public Object toIntListFromIntArray() {
+        return ConversionToJDK.toIntList(intArray);
+    }
+
+    @Benchmark
+    public Object toIntBagFromIntArray() {
+        return ConversionToJDK.toIntBag(intArray);
+    }
+
+    @Benchmark
+    public Object toIntListFromIntSet() {
+        return ConversionToJDK.toIntList(intSet);
+    }
+
+    @Benchmark
+    public Object toIntBagFromIntSet() {
+        return ConversionToJDK.toIntBag(intSet);
+    }
+
+    @Benchmark
+    public Object toLongListFromLongArray() {
+        return ConversionToJDK.toLongList(longArray);
+    }
+
+    @Benchmark
+    public Object toLongBagFromLongArray() {
+        return ConversionToJDK.toLongBag(longArray);
+    }
+
+    @Benchmark
+    public Object toLongListFromLongQueue() {
+        return ConversionToJDK.toLongList(longQueue);
+    }
+
+    @Benchmark
+    public Object toLongBagFromLongQueue() {
+        return ConversionToJDK.toLongBag(longQueue);
+    }
+
+    @Benchmark
+    public Object toLongListFromLongSet() {
+        return ConversionToJDK.toLongList(longSet);
+    }
+
+    @Benchmark
+    public Object toLongBagFromLongSet() {
+        return ConversionToJDK.toLongBag(longSet);
+    }
+
+    @Benchmark
+    public Object toLongSet() {
+        return ConversionToJDK.toLongSet(longSet);
+    }
+
+    @Benchmark
+    public Object toLongOrderedSet() {
+        return ConversionToJDK.toLongOrderedSet(longSet);
+    }
+
+    @Benchmark
+    public Object toFloatList() {
+        return ConversionToJDK.toFloatList(floatArray);
+    }
+
+    @Benchmark
+    public Object toByteList() {
+        return ConversionToJDK.toByteList(byteArray);
+    }
+
+    @Benchmark
+    public Object toCharList() {
+        return ConversionToJDK.toCharList(charArray);
+    }
+
+    @Benchmark
+    public Object toShortList() {
+        return ConversionToJDK.toShortList(shortArray);
+    }
+
+    @Benchmark
+    public Object toBooleanList() {
+        return ConversionToJDK.toBooleanList(booleanArray);
+    }
+
+    @Benchmark
+    public Object toFloatBag() {
+        return ConversionToJDK.toFloatBag(floatArray);
+    }
+
+    @Benchmark
+    public Object toByteBag() {
+        return ConversionToJDK.toByteBag(byteArray);
+    }
+
+    @Benchmark
+    public Object toCharBag() {
+        return ConversionToJDK.toCharBag(charArray);
+    }
+
+    @Benchmark
+    public Object toShortBag() {
+        return ConversionToJDK.toShortBag(shortArray);
+    }
+
+    @Benchmark
+    public Object toBooleanBag() {
+        return ConversionToJDK.toBooleanBag(booleanArray);
+    }
+
+    @Benchmark
+    public Object toObjectSetFromArray() {
+        return ConversionToJDK.toObjectSet(array);
+    }
+
+    @Benchmark
+    public Object toObjectSetFromQueue() {
+        return ConversionToJDK.toObjectSet(queue);
+    }
+
+    @Benchmark
+    public Object toObjectSetFromObjectSet() {
+        return ConversionToJDK.toObjectSet(objectSet);
+    }
+
+    @Benchmark
+    public Object toObjectOrderedSetFromArray() {
+        return ConversionToJDK.toObjectOrderedSet(array);
+    }
+
+    @Benchmark
+    public Object toObjectOrderedSetFromQueue() {
+        return ConversionToJDK.toObjectOrderedSet(queue);
+    }
+
+    @Benchmark
+    public Object toObjectOrderedSetFromObjectSet() {
+        return ConversionToJDK.toObjectOrderedSet(objectSet);
+    }
+
+    @Benchmark
+    public Object toCaseInsensitiveSetFromArray() {
+        return ConversionToJDK.toCaseInsensitiveSet(array);
+    }
+
+    @Benchmark
+    public Object toCaseInsensitiveSetFromObjectSet() {
+        return ConversionToJDK.toCaseInsensitiveSet(objectSet);
+    }
+
+    @Benchmark
+    public Object toCaseInsensitiveOrderedSetFromArray() {
+        return ConversionToJDK.toCaseInsensitiveOrderedSet(array);
+    }
+
+    @Benchmark
+    public Object toCaseInsensitiveOrderedSetFromObjectSet() {
+        return ConversionToJDK.toCaseInsensitiveOrderedSet(objectSet);
+    }
+
+    @Benchmark
+    public Object toIntSetFromIntSet() {
+        return ConversionToJDK.toIntSet(intSet);
+    }
+
+    @Benchmark
+    public Object toIntSetFromIntArray() {
+        return ConversionToJDK.toIntSet(intArray);
+    }
+
+    @Benchmark
+    public Object toIntOrderedSetFromIntSet() {
+        return ConversionToJDK.toIntOrderedSet(intSet);
+    }
+
+    @Benchmark
+    public Object toIntOrderedSetFromIntArray() {
+        return ConversionToJDK.toIntOrderedSet(intArray);
+    }
+
+    @Benchmark
+    public Object toNumberedSetFromObjectSet() {
+        return ConversionToJDK.toNumberedSet(objectSet);
+    }
+
+    @Benchmark
+    public Object toNumberedSetFromArray() {
+        return ConversionToJDK.toNumberedSet(array);
+    }
+
+    @Benchmark
+    public Object toNumberedSetFromQueue() {
+        return ConversionToJDK.toNumberedSet(queue);
+    }
+
+    @Benchmark
+    public Object toObjectObjectMap() {
+        return ConversionToJDK.toObjectObjectMap(objectMap);
+    }
+
+    @Benchmark
+    public Object toObjectObjectOrderedMap() {
+        return ConversionToJDK.toObjectObjectOrderedMap(objectMap);
+    }
+
+    @Benchmark
+    public Object toCaseInsensitiveMap() {
+        return ConversionToJDK.toCaseInsensitiveMap(objectMap);
+    }
+
+    @Benchmark
+    public Object toCaseInsensitiveOrderedMap() {
+        return ConversionToJDK.toCaseInsensitiveOrderedMap(objectMap);
+    }
+
+    @Benchmark
+    public Object toObjectIntMap() {
+        return ConversionToJDK.toObjectIntMap(objectIntMap);
+    }
+
+    @Benchmark
+    public Object toObjectIntOrderedMap() {
+        return ConversionToJDK.toObjectIntOrderedMap(objectIntMap);
+    }
+
+    @Benchmark
+    public Object toObjectLongMap() {
+        return ConversionToJDK.toObjectLongMap(objectLongMap);
+    }
+
+    @Benchmark
+    public Object toObjectLongOrderedMap() {
+        return ConversionToJDK.toObjectLongOrderedMap(objectLongMap);
+    }
+
+    @Benchmark
+    public Object toObjectFloatMap() {
+        return ConversionToJDK.toObjectFloatMap(objectFloatMap);
+    }
+
+    @Benchmark
+    public Object toObjectFloatOrderedMap() {
+        return ConversionToJDK.toObjectFloatOrderedMap(objectFloatMap);
+    }
+
+    @Benchmark
+    public Object toIntObjectMap() {
+        return ConversionToJDK.toIntObjectMap(intMap);
+    }
+
+    @Benchmark
+    public Object toIntObjectOrderedMap() {
+        return ConversionToJDK.toIntObjectOrderedMap(intMap);
+    }
+
+    @Benchmark
+    public Object toIntIntMap() {
+        return ConversionToJDK.toIntIntMap(intIntMap);
+    }
+
+    @Benchmark
+    public Object toIntIntOrderedMap() {
+        return ConversionToJDK.toIntIntOrderedMap(intIntMap);
+    }
+
+    @Benchmark
+    public Object toIntFloatMap() {
+        return ConversionToJDK.toIntFloatMap(intFloatMap);
+    }
+
+    @Benchmark
+    public Object toIntFloatOrderedMap() {
+        return ConversionToJDK.toIntFloatOrderedMap(intFloatMap);
+    }
+
+    @Benchmark
+    public Object toLongObjectMap() {
+        return ConversionToJDK.toLongObjectMap(longMap);
+    }
+
+    @Benchmark
+    public Object toLongObjectOrderedMap() {
+        return ConversionToJDK.toLongObjectOrderedMap(longMap);
+    }
+
+    @Benchmark
+    public Object toIdentityObjectMap() {
+        return ConversionToJDK.toIdentityObjectMap(objectMap);
+    }
+
+    @Benchmark
+    public Object toIdentityObjectOrderedMap() {
+        return ConversionToJDK.toIdentityObjectOrderedMap(objectMap);
+    }
+
+    @Benchmark
+    public Object toObjectDequeFromArray() {
+        return ConversionToJDK.toObjectDeque(array);
+    }
+
+    @Benchmark
+    public Object toObjectDequeFromQueue() {
+        return ConversionToJDK.toObjectDeque(queue);
+    }
+
+    @Benchmark
+    public Object toObjectDequeFromObjectSet() {
+        return ConversionToJDK.toObjectDeque(objectSet);
+    }
+
+    @Benchmark
+    public Object toLongDequeFromLongQueue() {
+        return ConversionToJDK.toLongDeque(longQueue);
+    }
+
+    @Benchmark
+    public Object toLongDequeFromLongArray() {
+        return ConversionToJDK.toLongDeque(longArray);
+    }
+
+    @Benchmark
+    public Object toLongDequeFromLongSet() {
+        return ConversionToJDK.toLongDeque(longSet);
+    }
+
+    @Benchmark
+    public Object toIntDequeFromIntArray() {
+        return ConversionToJDK.toIntDeque(intArray);
+    }
+
+    @Benchmark
+    public Object toIntDequeFromIntSet() {
+        return ConversionToJDK.toIntDeque(intSet);
+    }
+
+    @Benchmark
+    public Object toByteDeque() {
+        return ConversionToJDK.toByteDeque(byteArray);
+    }
+
+    @Benchmark
+    public Object toShortDeque() {
+        return ConversionToJDK.toShortDeque(shortArray);
+    }
+
+    @Benchmark
+    public Object toCharDeque() {
+        return ConversionToJDK.toCharDeque(charArray);
+    }
+
+    @Benchmark
+    public Object toFloatDeque() {
+        return ConversionToJDK.toFloatDeque(floatArray);
+    }
+}
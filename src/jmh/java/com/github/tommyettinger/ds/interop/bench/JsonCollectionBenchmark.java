@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop.bench;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.github.tommyettinger.ds.*;
+import com.github.tommyettinger.ds.EnumMap;
+import com.github.tommyettinger.ds.EnumSet;
+import com.github.tommyettinger.ds.interop.JsonSettings;
+import com.github.tommyettinger.ds.interop.JsonSupport;
+import com.github.tommyettinger.ds.support.util.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Json#toJson(Object, Class)} and {@link Json#fromJson(Class, String)} with {@link JsonSupport}'s
+ * serializers, one collection family at a time. Each family is written as one {@link ObjectList} holding one of each
+ * type in that family, filled with {@link #size} items, so every serializer in the family is used and the element
+ * class of each item is written (as a class tag, if those are enabled).
+ * <br>
+ * Each benchmark runs with {@link JsonSettings#withFloatsLegible(boolean) legible floats} on and off, and with
+ * {@link JsonSettings#withAddClassTags(boolean) class tags} on and off. Run with
+ * {@code gradle jmh -PjmhInclude=JsonCollectionBenchmark}; the GC profiler reports bytes allocated per operation
+ * ({@code gc.alloc.rate.norm}), and the size of the JSON output in UTF-8 bytes is printed once per trial, on a line
+ * starting with {@code [output size]}.
+ * <br>
+ * The enum maps and sets are limited by the number of constants in {@link Character.UnicodeScript}, so they have the
+ * same size regardless of {@link #size}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class JsonCollectionBenchmark {
+
+    @Param({"lists", "bags", "deques", "sets", "orderedSets", "primitiveMaps", "objectMaps", "enumMaps", "bitSets"})
+    public String family;
+
+    @Param({"100", "10000"})
+    public int size;
+
+    @Param({"true", "false"})
+    public boolean legibleFloats;
+
+    @Param({"true", "false"})
+    public boolean classTags;
+
+    public Json json;
+    public ObjectList<Object> payload;
+    public String text;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        JsonSettings settings = JsonSettings.DEFAULT.withFloatsLegible(legibleFloats).withAddClassTags(classTags);
+        json = new Json(JsonWriter.OutputType.minimal);
+        JsonSupport.registerAll(json, settings);
+        payload = makePayload(family, size);
+        text = json.toJson(payload, ObjectList.class);
+        System.out.println("[output size] family=" + family + " size=" + size + " legibleFloats=" + legibleFloats
+                + " classTags=" + classTags + " bytes=" + text.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Benchmark
+    public String write() {
+        return json.toJson(payload, ObjectList.class);
+    }
+
+    @Benchmark
+    public Object read() {
+        return json.fromJson(ObjectList.class, text);
+    }
+
+    /**
+     * Creates one of each data structure in the given family, each holding up to {@code size} items.
+     * @param family one of the names in {@link #family}
+     * @param size how many items to put in each data structure
+     * @return an ObjectList holding one of each data structure in {@code family}
+     */
+    public static ObjectList<Object> makePayload(String family, int size) {
+        ObjectList<Object> payload = new ObjectList<>();
+        switch (family) {
+            case "lists": {
+                ObjectList<String> objects = new ObjectList<>(size);
+                IntList ints = new IntList(size);
+                LongList longs = new LongList(size);
+                FloatList floats = new FloatList(size);
+                DoubleList doubles = new DoubleList(size);
+                ByteList bytes = new ByteList(size);
+                ShortList shorts = new ShortList(size);
+                CharList chars = new CharList(size);
+                BooleanList booleans = new BooleanList(size);
+                for (int i = 0; i < size; i++) {
+                    int mixed = i * 0x9E3779B9;
+                    objects.add(Integer.toString(mixed, 36));
+                    ints.add(mixed);
+                    longs.add(i * 0x9E3779B97F4A7C15L);
+                    floats.add(mixed * 0x1p-24f);
+                    doubles.add(mixed * 0x1p-24);
+                    bytes.add((byte) mixed);
+                    shorts.add((short) mixed);
+                    chars.add((char) ('a' + (mixed >>> 27)));
+                    booleans.add(mixed < 0);
+                }
+                Collections.addAll(payload, objects, ints, longs, floats, doubles, bytes, shorts, chars, booleans);
+                break;
+            }
+            case "bags": {
+                ObjectBag<String> objects = new ObjectBag<>(size);
+                IntBag ints = new IntBag(size);
+                LongBag longs = new LongBag(size);
+                FloatBag floats = new FloatBag(size);
+                DoubleBag doubles = new DoubleBag(size);
+                ByteBag bytes = new ByteBag(size);
+                ShortBag shorts = new ShortBag(size);
+                CharBag chars = new CharBag(size);
+                BooleanBag booleans = new BooleanBag(size);
+                for (int i = 0; i < size; i++) {
+                    int mixed = i * 0x9E3779B9;
+                    objects.add(Integer.toString(mixed, 36));
+                    ints.add(mixed);
+                    longs.add(i * 0x9E3779B97F4A7C15L);
+                    floats.add(mixed * 0x1p-24f);
+                    doubles.add(mixed * 0x1p-24);
+                    bytes.add((byte) mixed);
+                    shorts.add((short) mixed);
+                    chars.add((char) ('a' + (mixed >>> 27)));
+                    booleans.add(mixed < 0);
+                }
+                Collections.addAll(payload, objects, ints, longs, floats, doubles, bytes, shorts, chars, booleans);
+                break;
+            }
+            case "deques": {
+                ObjectDeque<String> objects = new ObjectDeque<>(size);
+                IntDeque ints = new IntDeque(size);
+                LongDeque longs = new LongDeque(size);
+                FloatDeque floats = new FloatDeque(size);
+                DoubleDeque doubles = new DoubleDeque(size);
+                ByteDeque bytes = new ByteDeque(size);
+                ShortDeque shorts = new ShortDeque(size);
+                CharDeque chars = new CharDeque(size);
+                BooleanDeque booleans = new BooleanDeque(size);
+                for (int i = 0; i < size; i++) {
+                    int mixed = i * 0x9E3779B9;
+                    objects.add(Integer.toString(mixed, 36));
+                    ints.add(mixed);
+                    longs.add(i * 0x9E3779B97F4A7C15L);
+                    floats.add(mixed * 0x1p-24f);
+                    doubles.add(mixed * 0x1p-24);
+                    bytes.add((byte) mixed);
+                    shorts.add((short) mixed);
+                    chars.add((char) ('a' + (mixed >>> 27)));
+                    booleans.add(mixed < 0);
+                }
+                Collections.addAll(payload, objects, ints, longs, floats, doubles, bytes, shorts, chars, booleans);
+                break;
+            }
+            case "sets": {
+                ObjectSet<String> objects = new ObjectSet<>(size);
+                IntSet ints = new IntSet(size);
+                LongSet longs = new LongSet(size);
+                CaseInsensitiveSet words = new CaseInsensitiveSet(size);
+                for (int i = 0; i < size; i++) {
+                    int mixed = i * 0x9E3779B9;
+                    String s = Integer.toString(mixed, 36);
+                    objects.add(s);
+                    ints.add(mixed);
+                    longs.add(i * 0x9E3779B97F4A7C15L);
+                    words.add(s);
+                }
+                Collections.addAll(payload, objects, ints, longs, words);
+                break;
+            }
+            case "orderedSets": {
+                ObjectOrderedSet<String> objects = new ObjectOrderedSet<>(size);
+                IntOrderedSet ints = new IntOrderedSet(size);
+                LongOrderedSet longs = new LongOrderedSet(size);
+                CaseInsensitiveOrderedSet words = new CaseInsensitiveOrderedSet(size);
+                NumberedSet<String> numbered = new NumberedSet<>(size);
+                for (int i = 0; i < size; i++) {
+                    int mixed = i * 0x9E3779B9;
+                    String s = Integer.toString(mixed, 36);
+                    objects.add(s);
+                    ints.add(mixed);
+                    longs.add(i * 0x9E3779B97F4A7C15L);
+                    words.add(s);
+                    numbered.add(s);
+                }
+                Collections.addAll(payload, objects, ints, longs, words, numbered);
+                break;
+            }
+            case "primitiveMaps": {
+                IntIntMap intInt = new IntIntMap(size);
+                IntLongMap intLong = new IntLongMap(size);
+                IntFloatMap intFloat = new IntFloatMap(size);
+                IntObjectMap<String> intObject = new IntObjectMap<>(size);
+                LongIntMap longInt = new LongIntMap(size);
+                LongLongMap longLong = new LongLongMap(size);
+                LongFloatMap longFloat = new LongFloatMap(size);
+                LongObjectMap<String> longObject = new LongObjectMap<>(size);
+                ObjectIntMap<String> objectInt = new ObjectIntMap<>(size);
+                ObjectLongMap<String> objectLong = new ObjectLongMap<>(size);
+                ObjectFloatMap<String> objectFloat = new ObjectFloatMap<>(size);
+                IntIntOrderedMap intIntOrdered = new IntIntOrderedMap(size);
+                LongLongOrderedMap longLongOrdered = new LongLongOrderedMap(size);
+                for (int i = 0; i < size; i++) {
+                    int mixed = i * 0x9E3779B9;
+                    long wide = i * 0x9E3779B97F4A7C15L;
+                    String s = Integer.toString(mixed, 36);
+                    intInt.put(mixed, i);
+                    intLong.put(mixed, wide);
+                    intFloat.put(mixed, mixed * 0x1p-24f);
+                    intObject.put(mixed, s);
+                    longInt.put(wide, i);
+                    longLong.put(wide, i);
+                    longFloat.put(wide, mixed * 0x1p-24f);
+                    longObject.put(wide, s);
+                    objectInt.put(s, i);
+                    objectLong.put(s, wide);
+                    objectFloat.put(s, mixed * 0x1p-24f);
+                    intIntOrdered.put(mixed, i);
+                    longLongOrdered.put(wide, i);
+                }
+                Collections.addAll(payload, intInt, intLong, intFloat, intObject, longInt, longLong, longFloat, longObject,
+                        objectInt, objectLong, objectFloat, intIntOrdered, longLongOrdered);
+                break;
+            }
+            case "objectMaps": {
+                ObjectObjectMap<String, String> objects = new ObjectObjectMap<>(size);
+                ObjectObjectOrderedMap<String, String> ordered = new ObjectObjectOrderedMap<>(size);
+                ObjectObjectMap<Integer, String> boxed = new ObjectObjectMap<>(size);
+                CaseInsensitiveMap<String> words = new CaseInsensitiveMap<>(size);
+                CaseInsensitiveOrderedMap<String> orderedWords = new CaseInsensitiveOrderedMap<>(size);
+                for (int i = 0; i < size; i++) {
+                    int mixed = i * 0x9E3779B9;
+                    String s = Integer.toString(mixed, 36);
+                    objects.put(s, s);
+                    ordered.put(s, s);
+                    boxed.put(mixed, s);
+                    words.put(s, s);
+                    orderedWords.put(s, s);
+                }
+                Collections.addAll(payload, objects, ordered, boxed, words, orderedWords);
+                break;
+            }
+            case "enumMaps": {
+                Character.UnicodeScript[] scripts = Character.UnicodeScript.values();
+                EnumMap<String> objects = new EnumMap<>();
+                EnumOrderedMap<String> ordered = new EnumOrderedMap<>();
+                EnumIntMap ints = new EnumIntMap();
+                EnumLongMap longs = new EnumLongMap();
+                EnumFloatMap floats = new EnumFloatMap();
+                EnumSet set = EnumSet.allOf(scripts);
+                EnumOrderedSet orderedSet = new EnumOrderedSet(scripts, OrderType.BAG);
+                orderedSet.addAll(scripts);
+                for (int i = 0; i < scripts.length; i++) {
+                    Character.UnicodeScript script = scripts[i];
+                    objects.put(script, script.name());
+                    ordered.put(script, script.name());
+                    ints.put(script, i);
+                    longs.put(script, i * 0x9E3779B97F4A7C15L);
+                    floats.put(script, i * 0.125f);
+                }
+                Collections.addAll(payload, objects, ordered, ints, longs, floats, set, orderedSet);
+                break;
+            }
+            case "bitSets": {
+                OffsetBitSet offset = new OffsetBitSet(-size, size);
+                for (int i = -size; i < size; i += 3) {
+                    offset.add(i);
+                }
+                Collections.addAll(payload, offset, new CharBitSet(Character::isLetter),
+                        new CharBitSetFixedSize("abcdefghijklmnopqrstuvwxyz".toCharArray()));
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown family: " + family);
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop.bench;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.github.tommyettinger.ds.ObjectList;
+import com.github.tommyettinger.ds.interop.JsonSettings;
+import com.github.tommyettinger.ds.interop.JsonSupport;
+import com.github.tommyettinger.random.*;
+import com.github.tommyettinger.random.distribution.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Json#toJson(Object, Class)} and {@link Json#fromJson(Class, String)} with {@link JsonSupport}'s
+ * serializers for juniper's {@link EnhancedRandom} and {@link Distribution} types. Each family has one instance of each
+ * type in it; every operation writes or reads all of those, one at a time, using the family's interface as the known
+ * type. The serializers for these types write only a String, which includes a tag for the implementing class, so they
+ * can't be read back as items of an ObjectList with no known type.
+ * <br>
+ * Each benchmark runs with {@link JsonSettings#withFloatsLegible(boolean) legible floats} on and off, and with
+ * {@link JsonSettings#withAddClassTags(boolean) class tags} on and off. Run with
+ * {@code gradle jmh -PjmhInclude=JsonRandomBenchmark}; the GC profiler reports bytes allocated per operation
+ * ({@code gc.alloc.rate.norm}), and the size of the JSON output in UTF-8 bytes is printed once per trial, on a line
+ * starting with {@code [output size]}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+public class JsonRandomBenchmark {
+
+    @Param({"randoms", "distributions"})
+    public String family;
+
+    @Param({"true", "false"})
+    public boolean legibleFloats;
+
+    @Param({"true", "false"})
+    public boolean classTags;
+
+    public Json json;
+    public Class<?> knownType;
+    public ObjectList<Object> payload;
+    public String[] texts;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        JsonSettings settings = JsonSettings.DEFAULT.withFloatsLegible(legibleFloats).withAddClassTags(classTags);
+        json = new Json(JsonWriter.OutputType.minimal);
+        JsonSupport.registerAll(json, settings);
+        JsonSupport.registerEnhancedRandom(json, settings);
+        JsonSupport.registerDistribution(json, settings);
+        boolean randoms = "randoms".equals(family);
+        knownType = randoms ? EnhancedRandom.class : Distribution.class;
+        payload = randoms ? makeRandoms() : makeDistributions();
+        texts = new String[payload.size()];
+        int bytes = 0;
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = json.toJson(payload.get(i), knownType);
+            bytes += texts[i].getBytes(StandardCharsets.UTF_8).length;
+        }
+        System.out.println("[output size] family=" + family + " legibleFloats=" + legibleFloats
+                + " classTags=" + classTags + " bytes=" + bytes);
+    }
+
+    @Benchmark
+    public int write() {
+        int length = 0;
+        for (int i = 0, n = payload.size(); i < n; i++) {
+            length += json.toJson(payload.get(i), knownType).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) {
+        for (int i = 0; i < texts.length; i++) {
+            blackhole.consume(json.fromJson(knownType, texts[i]));
+        }
+    }
+
+    /**
+     * Creates one of most EnhancedRandom types in juniper, each with a fixed state.
+     * @return an ObjectList holding many different EnhancedRandom objects
+     */
+    public static ObjectList<Object> makeRandoms() {
+        return ObjectList.with(
+                new AceRandom(123456789, 0xFA7BAB1E5L, 0xB0BAFE77L, 0x1234123412341234L, -1L),
+                new Chip32Random(123456789, 0xBAB1E5, 0xB0BAFE77, 0x12341234),
+                new ChopRandom(123456789, 0xBAB1E5, 0xB0BAFE77, 0x12341234),
+                new Crand64Random(123456789, 0xFA7BAB1E5L, 0xB0BAFE77L, 0x1234123412341234L, -1L),
+                new DistinctRandom(123456789),
+                new ExtendoRandom(123456789, 0xFA7BAB1E5L, 0xB0BAFE77L, 0x1234123412341234L),
+                new FlowRandom(123456789, 0xFA7BAB1E5L),
+                new FourWheelRandom(123456789, 0xFA7BAB1E5L, 0xB0BAFE77L, 0x1234123412341234L),
+                new GoldenQuasiRandom(123456789),
+                new Jsf32Random(123456789, 0xBAB1E5, 0xB0BAFE77, 0x12341234),
+                new KnownSequenceRandom(LongSequence.with(123456789, 0xFA7BAB1E5L, 0xB0BAFE77L, 0x1234123412341234L, -1L)),
+                new Lamb32Random(123456789, 0xBAB1E5),
+                new LaserRandom(123456789, 0xFA7BAB1E5L),
+                new LowChangeQuasiRandom(123456789),
+                new MizuchiRandom(123456789, 0xFA7BAB1E5L),
+                new OrbitalRandom(123456789, 0xFA7BAB1E5L),
+                new PasarRandom(123456789, 0xFA7BAB1E5L, 0xB0BAFE77L, 0x1234123412341234L, -1L),
+                new PouchRandom(123456789, 0xFA7BAB1E5L, 0xB0BAFE77L, 0x1234123412341234L),
+                new Respite32Random(123456789, 0xBAB1E5, 0xB0BAFE77),
+                new RomuTrioRandom(123456789, 0xFA7BAB1E5L, 0xB0BAFE77L),
+                new ScruffRandom(123456789, 0xFA7BAB1E5L, 0xB0BAFE77L, 0x1234123412341234L),
+                new Sfc64Random(123456789, 0xFA7BAB1E5L, 0xB0BAFE77L, 0x1234123412341234L),
+                new SoloRandom(123456789, 0xFA7BAB1E5L, 0xB0BAFE77L),
+                new StrangerRandom(123456789, 0xFA7BAB1E5L, 0xB0BAFE77L, 0x1234123412341234L),
+                new TricycleRandom(123456789, 0xFA7BAB1E5L, 0xB0BAFE77L),
+                new TrimRandom(123456789, 0xFA7BAB1E5L, 0xB0BAFE77L, 0x1234123412341234L),
+                new TupleQuasiRandom(123456789),
+                new VanDerCorputQuasiRandom(123456789),
+                new WhiskerRandom(123456789, 0xFA7BAB1E5L, 0xB0BAFE77L, 0x1234123412341234L),
+                new Xoroshiro128StarStarRandom(123456789, 0xFA7BAB1E5L),
+                new Xoshiro128PlusPlusRandom(123456789, 0xBAB1E5, 0xB0BAFE77, 0x12341234),
+                new Xoshiro256MX3Random(123456789, 0xFA7BAB1E5L, 0xB0BAFE77L, 0x1234123412341234L),
+                new Xoshiro256StarStarRandom(123456789, 0xFA7BAB1E5L, 0xB0BAFE77L, 0x1234123412341234L)
+        );
+    }
+
+    /**
+     * Creates one of each Distribution type in juniper, each using a DistinctRandom with a fixed state.
+     * @return an ObjectList holding every Distribution type
+     */
+    public static ObjectList<Object> makeDistributions() {
+        return ObjectList.with(
+                new ArcsineDistribution(new DistinctRandom(123456789), 0.0, 1.0),
+                new BernoulliDistribution(new DistinctRandom(123456789), 0.5),
+                new BetaDistribution(new DistinctRandom(123456789), 1.0, 1.0),
+                new BetaPrimeDistribution(new DistinctRandom(123456789), 2.0, 2.0),
+                new BinomialDistribution(new DistinctRandom(123456789), 0.5, 1),
+                new CauchyDistribution(new DistinctRandom(123456789), 1.0, 1.0),
+                new ChiDistribution(new DistinctRandom(123456789), 1),
+                new ChiSquareDistribution(new DistinctRandom(123456789), 1),
+                new ContinuousUniformDistribution(new DistinctRandom(123456789), 0.0, 1.0),
+                new DiscreteUniformDistribution(new DistinctRandom(123456789), 0, 1),
+                new ErlangDistribution(new DistinctRandom(123456789), 1, 1.0),
+                new ExponentialDistribution(new DistinctRandom(123456789), 1.0),
+                new FisherSnedecorDistribution(new DistinctRandom(123456789), 1.0, 1.0),
+                new FisherTippettDistribution(new DistinctRandom(123456789), 1.0, 0.0),
+                new GammaDistribution(new DistinctRandom(123456789), 1.0, 1.0),
+                new GeometricDistribution(new DistinctRandom(123456789), 0.5),
+                new KumaraswamyDistribution(new DistinctRandom(123456789), 2.0, 2.0),
+                new LaplaceDistribution(new DistinctRandom(123456789), 1.0, 0.0),
+                new LogCauchyDistribution(new DistinctRandom(123456789), 0.0, 0.625),
+                new LogNormalDistribution(new DistinctRandom(123456789), 0.0, 1.0),
+                new LogisticDistribution(new DistinctRandom(123456789), 1.0, 1.0),
+                new LumpDistribution(new DistinctRandom(123456789), 0.0, 0.25),
+                new NormalDistribution(new DistinctRandom(123456789), 0.0, 1.0),
+                new ParetoDistribution(new DistinctRandom(123456789), 1.0, 1.0),
+                new PoissonDistribution(new DistinctRandom(123456789), 1.0),
+                new PowerDistribution(new DistinctRandom(123456789), 1.0, 1.0),
+                new RayleighDistribution(new DistinctRandom(123456789), 1.0),
+                new StudentsTDistribution(new DistinctRandom(123456789), 1.0),
+                new TriangularDistribution(new DistinctRandom(123456789), 0.0, 1.0, 0.5),
+                new WeibullDistribution(new DistinctRandom(123456789), 1.0, 1.0),
+                new ZipfianDistribution(new DistinctRandom(123456789), 16, 0.625)
+        );
+    }
+}
@@ -0,0 +1,839 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop;
+
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.CharArray;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.ShortArray;
+import com.github.tommyettinger.ds.ByteDeque;
+import com.github.tommyettinger.ds.ByteList;
+import com.github.tommyettinger.ds.CharDeque;
+import com.github.tommyettinger.ds.CharList;
+import com.github.tommyettinger.ds.FloatDeque;
+import com.github.tommyettinger.ds.FloatList;
+import com.github.tommyettinger.ds.IntDeque;
+import com.github.tommyettinger.ds.IntList;
+import com.github.tommyettinger.ds.LongDeque;
+import com.github.tommyettinger.ds.LongList;
+import com.github.tommyettinger.ds.ShortDeque;
+import com.github.tommyettinger.ds.ShortList;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+
+/**
+ * Copies between jdkgdxds primitive lists and deques, libGDX primitive arrays, and {@link java.nio} buffers, such as the
+ * FloatBuffer and ShortBuffer that libGDX meshes upload. Lists and arrays are copied with one bulk
+ * {@code put(array, offset, length)} or {@code get(array, offset, length)} call. A deque is read into with one bulk
+ * {@code get()} into its items array, starting at index 0, and is written from with at most two bulk {@code put()} calls,
+ * one up to the end of its items array and one for any items that wrap around to its start, as
+ * {@link ConversionToGDX} does for its deques.
+ * <br>
+ * The {@code toXBuffer()} methods allocate a new direct buffer in native byte order with {@link BufferUtils}, fill it,
+ * and flip it so it is ready to read. The {@code put()} methods write into any existing buffer, heap or direct, starting
+ * at its current position, and leave its position just after the last item written; this lets several sources be
+ * written one after another into one buffer. Reading from a buffer takes every item from its position to its limit, and
+ * leaves its position unchanged.
+ * <br>
+ * Positions are changed through the {@link Buffer} type, because the covariant overrides of {@code position()} and
+ * {@code flip()} in newer JDKs don't exist on Java 8.
+ */
+public class BufferConversion {
+
+    /**
+     * Writes the items of a jdkgdxds FloatList (or FloatBag) into {@code into}, starting at its current position.
+     * @param from a jdkgdxds FloatList or FloatBag
+     * @param into a FloatBuffer with at least {@code from.size()} items remaining; heap or direct
+     * @return {@code into}, with its position moved past the written items
+     */
+    public static FloatBuffer put(FloatList from, FloatBuffer into) {
+        return into.put(from.items, 0, from.size());
+    }
+
+    /**
+     * Writes the items of a libGDX FloatArray into {@code into}, starting at its current position.
+     * @param from a libGDX FloatArray
+     * @param into a FloatBuffer with at least {@code from.size} items remaining; heap or direct
+     * @return {@code into}, with its position moved past the written items
+     */
+    public static FloatBuffer put(FloatArray from, FloatBuffer into) {
+        return into.put(from.items, 0, from.size);
+    }
+
+    /**
+     * Writes the items of a jdkgdxds FloatDeque into {@code into}, from first to last, starting at its current position.
+     * @param from a jdkgdxds FloatDeque
+     * @param into a FloatBuffer with at least {@code from.size()} items remaining; heap or direct
+     * @return {@code into}, with its position moved past the written items
+     */
+    public static FloatBuffer put(FloatDeque from, FloatBuffer into) {
+        int n = from.size(), first = Math.min(n, from.items.length - from.head);
+        into.put(from.items, from.head, first);
+        return into.put(from.items, 0, n - first);
+    }
+
+    /**
+     * Copies a jdkgdxds FloatList (or FloatBag) into a new direct FloatBuffer, flipped so it is ready to read.
+     * @param from a jdkgdxds FloatList or FloatBag
+     * @return a new direct FloatBuffer holding the items of {@code from}
+     */
+    public static FloatBuffer toFloatBuffer(FloatList from) {
+        FloatBuffer buffer = put(from, BufferUtils.newFloatBuffer(from.size()));
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Copies a libGDX FloatArray into a new direct FloatBuffer, flipped so it is ready to read.
+     * @param from a libGDX FloatArray
+     * @return a new direct FloatBuffer holding the items of {@code from}
+     */
+    public static FloatBuffer toFloatBuffer(FloatArray from) {
+        FloatBuffer buffer = put(from, BufferUtils.newFloatBuffer(from.size));
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Copies a jdkgdxds FloatDeque into a new direct FloatBuffer, flipped so it is ready to read.
+     * @param from a jdkgdxds FloatDeque
+     * @return a new direct FloatBuffer holding the items of {@code from}, from first to last
+     */
+    public static FloatBuffer toFloatBuffer(FloatDeque from) {
+        FloatBuffer buffer = put(from, BufferUtils.newFloatBuffer(from.size()));
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Copies the remaining items of a FloatBuffer into a new jdkgdxds FloatList. The buffer's position is not changed.
+     * @param from a FloatBuffer, heap or direct; items are read from its position to its limit
+     * @return a new FloatList holding the remaining items of {@code from}
+     */
+    public static FloatList toFloatList(FloatBuffer from) {
+        return toFloatList(from, new FloatList(from.remaining()));
+    }
+
+    /**
+     * Clears {@code into} and refills it with the remaining items of a FloatBuffer. The buffer's position is not changed.
+     * @param from a FloatBuffer, heap or direct; items are read from its position to its limit
+     * @param into an existing FloatList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the remaining items of {@code from}
+     */
+    public static FloatList toFloatList(FloatBuffer from, FloatList into) {
+        int position = from.position(), n = from.remaining();
+        into.clear();
+        float[] items = into.setSize(n);
+        from.get(items, 0, n);
+        ((Buffer) from).position(position);
+        return into;
+    }
+
+    /**
+     * Copies the remaining items of a FloatBuffer into a new libGDX FloatArray. The buffer's position is not changed.
+     * @param from a FloatBuffer, heap or direct; items are read from its position to its limit
+     * @return a new FloatArray holding the remaining items of {@code from}
+     */
+    public static FloatArray toFloatArray(FloatBuffer from) {
+        return toFloatArray(from, new FloatArray(from.remaining()));
+    }
+
+    /**
+     * Clears {@code into} and refills it with the remaining items of a FloatBuffer. The buffer's position is not changed.
+     * @param from a FloatBuffer, heap or direct; items are read from its position to its limit
+     * @param into an existing FloatArray that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the remaining items of {@code from}
+     */
+    public static FloatArray toFloatArray(FloatBuffer from, FloatArray into) {
+        int position = from.position(), n = from.remaining();
+        into.clear();
+        float[] items = into.ensureCapacity(n);
+        from.get(items, 0, n);
+        ((Buffer) from).position(position);
+        into.size = n;
+        return into;
+    }
+
+    /**
+     * Copies the remaining items of a FloatBuffer into a new jdkgdxds FloatDeque. The buffer's position is not changed.
+     * @param from a FloatBuffer, heap or direct; items are read from its position to its limit
+     * @return a new FloatDeque holding the remaining items of {@code from}, with the item at the position first
+     */
+    public static FloatDeque toFloatDeque(FloatBuffer from) {
+        int position = from.position(), n = from.remaining();
+        FloatDeque deque = new FloatDeque(n);
+        from.get(deque.items, 0, n);
+        ((Buffer) from).position(position);
+        deque.tail = Math.max(0, n - 1);
+        deque.size = n;
+        return deque;
+    }
+
+    /**
+     * Writes the items of a jdkgdxds IntList (or IntBag) into {@code into}, starting at its current position.
+     * @param from a jdkgdxds IntList or IntBag
+     * @param into a IntBuffer with at least {@code from.size()} items remaining; heap or direct
+     * @return {@code into}, with its position moved past the written items
+     */
+    public static IntBuffer put(IntList from, IntBuffer into) {
+        return into.put(from.items, 0, from.size());
+    }
+
+    /**
+     * Writes the items of a libGDX IntArray into {@code into}, starting at its current position.
+     * @param from a libGDX IntArray
+     * @param into a IntBuffer with at least {@code from.size} items remaining; heap or direct
+     * @return {@code into}, with its position moved past the written items
+     */
+    public static IntBuffer put(IntArray from, IntBuffer into) {
+        return into.put(from.items, 0, from.size);
+    }
+
+    /**
+     * Writes the items of a jdkgdxds IntDeque into {@code into}, from first to last, starting at its current position.
+     * @param from a jdkgdxds IntDeque
+     * @param into a IntBuffer with at least {@code from.size()} items remaining; heap or direct
+     * @return {@code into}, with its position moved past the written items
+     */
+    public static IntBuffer put(IntDeque from, IntBuffer into) {
+        int n = from.size(), first = Math.min(n, from.items.length - from.head);
+        into.put(from.items, from.head, first);
+        return into.put(from.items, 0, n - first);
+    }
+
+    /**
+     * Copies a jdkgdxds IntList (or IntBag) into a new direct IntBuffer, flipped so it is ready to read.
+     * @param from a jdkgdxds IntList or IntBag
+     * @return a new direct IntBuffer holding the items of {@code from}
+     */
+    public static IntBuffer toIntBuffer(IntList from) {
+        IntBuffer buffer = put(from, BufferUtils.newIntBuffer(from.size()));
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Copies a libGDX IntArray into a new direct IntBuffer, flipped so it is ready to read.
+     * @param from a libGDX IntArray
+     * @return a new direct IntBuffer holding the items of {@code from}
+     */
+    public static IntBuffer toIntBuffer(IntArray from) {
+        IntBuffer buffer = put(from, BufferUtils.newIntBuffer(from.size));
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Copies a jdkgdxds IntDeque into a new direct IntBuffer, flipped so it is ready to read.
+     * @param from a jdkgdxds IntDeque
+     * @return a new direct IntBuffer holding the items of {@code from}, from first to last
+     */
+    public static IntBuffer toIntBuffer(IntDeque from) {
+        IntBuffer buffer = put(from, BufferUtils.newIntBuffer(from.size()));
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Copies the remaining items of a IntBuffer into a new jdkgdxds IntList. The buffer's position is not changed.
+     * @param from a IntBuffer, heap or direct; items are read from its position to its limit
+     * @return a new IntList holding the remaining items of {@code from}
+     */
+    public static IntList toIntList(IntBuffer from) {
+        return toIntList(from, new IntList(from.remaining()));
+    }
+
+    /**
+     * Clears {@code into} and refills it with the remaining items of a IntBuffer. The buffer's position is not changed.
+     * @param from a IntBuffer, heap or direct; items are read from its position to its limit
+     * @param into an existing IntList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the remaining items of {@code from}
+     */
+    public static IntList toIntList(IntBuffer from, IntList into) {
+        int position = from.position(), n = from.remaining();
+        into.clear();
+        int[] items = into.setSize(n);
+        from.get(items, 0, n);
+        ((Buffer) from).position(position);
+        return into;
+    }
+
+    /**
+     * Copies the remaining items of a IntBuffer into a new libGDX IntArray. The buffer's position is not changed.
+     * @param from a IntBuffer, heap or direct; items are read from its position to its limit
+     * @return a new IntArray holding the remaining items of {@code from}
+     */
+    public static IntArray toIntArray(IntBuffer from) {
+        return toIntArray(from, new IntArray(from.remaining()));
+    }
+
+    /**
+     * Clears {@code into} and refills it with the remaining items of a IntBuffer. The buffer's position is not changed.
+     * @param from a IntBuffer, heap or direct; items are read from its position to its limit
+     * @param into an existing IntArray that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the remaining items of {@code from}
+     */
+    public static IntArray toIntArray(IntBuffer from, IntArray into) {
+        int position = from.position(), n = from.remaining();
+        into.clear();
+        int[] items = into.ensureCapacity(n);
+        from.get(items, 0, n);
+        ((Buffer) from).position(position);
+        into.size = n;
+        return into;
+    }
+
+    /**
+     * Copies the remaining items of a IntBuffer into a new jdkgdxds IntDeque. The buffer's position is not changed.
+     * @param from a IntBuffer, heap or direct; items are read from its position to its limit
+     * @return a new IntDeque holding the remaining items of {@code from}, with the item at the position first
+     */
+    public static IntDeque toIntDeque(IntBuffer from) {
+        int position = from.position(), n = from.remaining();
+        IntDeque deque = new IntDeque(n);
+        from.get(deque.items, 0, n);
+        ((Buffer) from).position(position);
+        deque.tail = Math.max(0, n - 1);
+        deque.size = n;
+        return deque;
+    }
+
+    /**
+     * Writes the items of a jdkgdxds ShortList (or ShortBag) into {@code into}, starting at its current position.
+     * @param from a jdkgdxds ShortList or ShortBag
+     * @param into a ShortBuffer with at least {@code from.size()} items remaining; heap or direct
+     * @return {@code into}, with its position moved past the written items
+     */
+    public static ShortBuffer put(ShortList from, ShortBuffer into) {
+        return into.put(from.items, 0, from.size());
+    }
+
+    /**
+     * Writes the items of a libGDX ShortArray into {@code into}, starting at its current position.
+     * @param from a libGDX ShortArray
+     * @param into a ShortBuffer with at least {@code from.size} items remaining; heap or direct
+     * @return {@code into}, with its position moved past the written items
+     */
+    public static ShortBuffer put(ShortArray from, ShortBuffer into) {
+        return into.put(from.items, 0, from.size);
+    }
+
+    /**
+     * Writes the items of a jdkgdxds ShortDeque into {@code into}, from first to last, starting at its current position.
+     * @param from a jdkgdxds ShortDeque
+     * @param into a ShortBuffer with at least {@code from.size()} items remaining; heap or direct
+     * @return {@code into}, with its position moved past the written items
+     */
+    public static ShortBuffer put(ShortDeque from, ShortBuffer into) {
+        int n = from.size(), first = Math.min(n, from.items.length - from.head);
+        into.put(from.items, from.head, first);
+        return into.put(from.items, 0, n - first);
+    }
+
+    /**
+     * Copies a jdkgdxds ShortList (or ShortBag) into a new direct ShortBuffer, flipped so it is ready to read.
+     * @param from a jdkgdxds ShortList or ShortBag
+     * @return a new direct ShortBuffer holding the items of {@code from}
+     */
+    public static ShortBuffer toShortBuffer(ShortList from) {
+        ShortBuffer buffer = put(from, BufferUtils.newShortBuffer(from.size()));
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Copies a libGDX ShortArray into a new direct ShortBuffer, flipped so it is ready to read.
+     * @param from a libGDX ShortArray
+     * @return a new direct ShortBuffer holding the items of {@code from}
+     */
+    public static ShortBuffer toShortBuffer(ShortArray from) {
+        ShortBuffer buffer = put(from, BufferUtils.newShortBuffer(from.size));
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Copies a jdkgdxds ShortDeque into a new direct ShortBuffer, flipped so it is ready to read.
+     * @param from a jdkgdxds ShortDeque
+     * @return a new direct ShortBuffer holding the items of {@code from}, from first to last
+     */
+    public static ShortBuffer toShortBuffer(ShortDeque from) {
+        ShortBuffer buffer = put(from, BufferUtils.newShortBuffer(from.size()));
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Copies the remaining items of a ShortBuffer into a new jdkgdxds ShortList. The buffer's position is not changed.
+     * @param from a ShortBuffer, heap or direct; items are read from its position to its limit
+     * @return a new ShortList holding the remaining items of {@code from}
+     */
+    public static ShortList toShortList(ShortBuffer from) {
+        return toShortList(from, new ShortList(from.remaining()));
+    }
+
+    /**
+     * Clears {@code into} and refills it with the remaining items of a ShortBuffer. The buffer's position is not changed.
+     * @param from a ShortBuffer, heap or direct; items are read from its position to its limit
+     * @param into an existing ShortList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the remaining items of {@code from}
+     */
+    public static ShortList toShortList(ShortBuffer from, ShortList into) {
+        int position = from.position(), n = from.remaining();
+        into.clear();
+        short[] items = into.setSize(n);
+        from.get(items, 0, n);
+        ((Buffer) from).position(position);
+        return into;
+    }
+
+    /**
+     * Copies the remaining items of a ShortBuffer into a new libGDX ShortArray. The buffer's position is not changed.
+     * @param from a ShortBuffer, heap or direct; items are read from its position to its limit
+     * @return a new ShortArray holding the remaining items of {@code from}
+     */
+    public static ShortArray toShortArray(ShortBuffer from) {
+        return toShortArray(from, new ShortArray(from.remaining()));
+    }
+
+    /**
+     * Clears {@code into} and refills it with the remaining items of a ShortBuffer. The buffer's position is not changed.
+     * @param from a ShortBuffer, heap or direct; items are read from its position to its limit
+     * @param into an existing ShortArray that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the remaining items of {@code from}
+     */
+    public static ShortArray toShortArray(ShortBuffer from, ShortArray into) {
+        int position = from.position(), n = from.remaining();
+        into.clear();
+        short[] items = into.ensureCapacity(n);
+        from.get(items, 0, n);
+        ((Buffer) from).position(position);
+        into.size = n;
+        return into;
+    }
+
+    /**
+     * Copies the remaining items of a ShortBuffer into a new jdkgdxds ShortDeque. The buffer's position is not changed.
+     * @param from a ShortBuffer, heap or direct; items are read from its position to its limit
+     * @return a new ShortDeque holding the remaining items of {@code from}, with the item at the position first
+     */
+    public static ShortDeque toShortDeque(ShortBuffer from) {
+        int position = from.position(), n = from.remaining();
+        ShortDeque deque = new ShortDeque(n);
+        from.get(deque.items, 0, n);
+        ((Buffer) from).position(position);
+        deque.tail = Math.max(0, n - 1);
+        deque.size = n;
+        return deque;
+    }
+
+    /**
+     * Writes the items of a jdkgdxds LongList (or LongBag) into {@code into}, starting at its current position.
+     * @param from a jdkgdxds LongList or LongBag
+     * @param into a LongBuffer with at least {@code from.size()} items remaining; heap or direct
+     * @return {@code into}, with its position moved past the written items
+     */
+    public static LongBuffer put(LongList from, LongBuffer into) {
+        return into.put(from.items, 0, from.size());
+    }
+
+    /**
+     * Writes the items of a libGDX LongArray into {@code into}, starting at its current position.
+     * @param from a libGDX LongArray
+     * @param into a LongBuffer with at least {@code from.size} items remaining; heap or direct
+     * @return {@code into}, with its position moved past the written items
+     */
+    public static LongBuffer put(LongArray from, LongBuffer into) {
+        return into.put(from.items, 0, from.size);
+    }
+
+    /**
+     * Writes the items of a jdkgdxds LongDeque into {@code into}, from first to last, starting at its current position.
+     * @param from a jdkgdxds LongDeque
+     * @param into a LongBuffer with at least {@code from.size()} items remaining; heap or direct
+     * @return {@code into}, with its position moved past the written items
+     */
+    public static LongBuffer put(LongDeque from, LongBuffer into) {
+        int n = from.size(), first = Math.min(n, from.items.length - from.head);
+        into.put(from.items, from.head, first);
+        return into.put(from.items, 0, n - first);
+    }
+
+    /**
+     * Copies a jdkgdxds LongList (or LongBag) into a new direct LongBuffer, flipped so it is ready to read.
+     * @param from a jdkgdxds LongList or LongBag
+     * @return a new direct LongBuffer holding the items of {@code from}
+     */
+    public static LongBuffer toLongBuffer(LongList from) {
+        LongBuffer buffer = put(from, BufferUtils.newLongBuffer(from.size()));
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Copies a libGDX LongArray into a new direct LongBuffer, flipped so it is ready to read.
+     * @param from a libGDX LongArray
+     * @return a new direct LongBuffer holding the items of {@code from}
+     */
+    public static LongBuffer toLongBuffer(LongArray from) {
+        LongBuffer buffer = put(from, BufferUtils.newLongBuffer(from.size));
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Copies a jdkgdxds LongDeque into a new direct LongBuffer, flipped so it is ready to read.
+     * @param from a jdkgdxds LongDeque
+     * @return a new direct LongBuffer holding the items of {@code from}, from first to last
+     */
+    public static LongBuffer toLongBuffer(LongDeque from) {
+        LongBuffer buffer = put(from, BufferUtils.newLongBuffer(from.size()));
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Copies the remaining items of a LongBuffer into a new jdkgdxds LongList. The buffer's position is not changed.
+     * @param from a LongBuffer, heap or direct; items are read from its position to its limit
+     * @return a new LongList holding the remaining items of {@code from}
+     */
+    public static LongList toLongList(LongBuffer from) {
+        return toLongList(from, new LongList(from.remaining()));
+    }
+
+    /**
+     * Clears {@code into} and refills it with the remaining items of a LongBuffer. The buffer's position is not changed.
+     * @param from a LongBuffer, heap or direct; items are read from its position to its limit
+     * @param into an existing LongList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the remaining items of {@code from}
+     */
+    public static LongList toLongList(LongBuffer from, LongList into) {
+        int position = from.position(), n = from.remaining();
+        into.clear();
+        long[] items = into.setSize(n);
+        from.get(items, 0, n);
+        ((Buffer) from).position(position);
+        return into;
+    }
+
+    /**
+     * Copies the remaining items of a LongBuffer into a new libGDX LongArray. The buffer's position is not changed.
+     * @param from a LongBuffer, heap or direct; items are read from its position to its limit
+     * @return a new LongArray holding the remaining items of {@code from}
+     */
+    public static LongArray toLongArray(LongBuffer from) {
+        return toLongArray(from, new LongArray(from.remaining()));
+    }
+
+    /**
+     * Clears {@code into} and refills it with the remaining items of a LongBuffer. The buffer's position is not changed.
+     * @param from a LongBuffer, heap or direct; items are read from its position to its limit
+     * @param into an existing LongArray that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the remaining items of {@code from}
+     */
+    public static LongArray toLongArray(LongBuffer from, LongArray into) {
+        int position = from.position(), n = from.remaining();
+        into.clear();
+        long[] items = into.ensureCapacity(n);
+        from.get(items, 0, n);
+        ((Buffer) from).position(position);
+        into.size = n;
+        return into;
+    }
+
+    /**
+     * Copies the remaining items of a LongBuffer into a new jdkgdxds LongDeque. The buffer's position is not changed.
+     * @param from a LongBuffer, heap or direct; items are read from its position to its limit
+     * @return a new LongDeque holding the remaining items of {@code from}, with the item at the position first
+     */
+    public static LongDeque toLongDeque(LongBuffer from) {
+        int position = from.position(), n = from.remaining();
+        LongDeque deque = new LongDeque(n);
+        from.get(deque.items, 0, n);
+        ((Buffer) from).position(position);
+        deque.tail = Math.max(0, n - 1);
+        deque.size = n;
+        return deque;
+    }
+
+    /**
+     * Writes the items of a jdkgdxds ByteList (or ByteBag) into {@code into}, starting at its current position.
+     * @param from a jdkgdxds ByteList or ByteBag
+     * @param into a ByteBuffer with at least {@code from.size()} items remaining; heap or direct
+     * @return {@code into}, with its position moved past the written items
+     */
+    public static ByteBuffer put(ByteList from, ByteBuffer into) {
+        return into.put(from.items, 0, from.size());
+    }
+
+    /**
+     * Writes the items of a libGDX ByteArray into {@code into}, starting at its current position.
+     * @param from a libGDX ByteArray
+     * @param into a ByteBuffer with at least {@code from.size} items remaining; heap or direct
+     * @return {@code into}, with its position moved past the written items
+     */
+    public static ByteBuffer put(ByteArray from, ByteBuffer into) {
+        return into.put(from.items, 0, from.size);
+    }
+
+    /**
+     * Writes the items of a jdkgdxds ByteDeque into {@code into}, from first to last, starting at its current position.
+     * @param from a jdkgdxds ByteDeque
+     * @param into a ByteBuffer with at least {@code from.size()} items remaining; heap or direct
+     * @return {@code into}, with its position moved past the written items
+     */
+    public static ByteBuffer put(ByteDeque from, ByteBuffer into) {
+        int n = from.size(), first = Math.min(n, from.items.length - from.head);
+        into.put(from.items, from.head, first);
+        return into.put(from.items, 0, n - first);
+    }
+
+    /**
+     * Copies a jdkgdxds ByteList (or ByteBag) into a new direct ByteBuffer, flipped so it is ready to read.
+     * @param from a jdkgdxds ByteList or ByteBag
+     * @return a new direct ByteBuffer holding the items of {@code from}
+     */
+    public static ByteBuffer toByteBuffer(ByteList from) {
+        ByteBuffer buffer = put(from, BufferUtils.newByteBuffer(from.size()));
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Copies a libGDX ByteArray into a new direct ByteBuffer, flipped so it is ready to read.
+     * @param from a libGDX ByteArray
+     * @return a new direct ByteBuffer holding the items of {@code from}
+     */
+    public static ByteBuffer toByteBuffer(ByteArray from) {
+        ByteBuffer buffer = put(from, BufferUtils.newByteBuffer(from.size));
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Copies a jdkgdxds ByteDeque into a new direct ByteBuffer, flipped so it is ready to read.
+     * @param from a jdkgdxds ByteDeque
+     * @return a new direct ByteBuffer holding the items of {@code from}, from first to last
+     */
+    public static ByteBuffer toByteBuffer(ByteDeque from) {
+        ByteBuffer buffer = put(from, BufferUtils.newByteBuffer(from.size()));
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Copies the remaining items of a ByteBuffer into a new jdkgdxds ByteList. The buffer's position is not changed.
+     * @param from a ByteBuffer, heap or direct; items are read from its position to its limit
+     * @return a new ByteList holding the remaining items of {@code from}
+     */
+    public static ByteList toByteList(ByteBuffer from) {
+        return toByteList(from, new ByteList(from.remaining()));
+    }
+
+    /**
+     * Clears {@code into} and refills it with the remaining items of a ByteBuffer. The buffer's position is not changed.
+     * @param from a ByteBuffer, heap or direct; items are read from its position to its limit
+     * @param into an existing ByteList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the remaining items of {@code from}
+     */
+    public static ByteList toByteList(ByteBuffer from, ByteList into) {
+        int position = from.position(), n = from.remaining();
+        into.clear();
+        byte[] items = into.setSize(n);
+        from.get(items, 0, n);
+        ((Buffer) from).position(position);
+        return into;
+    }
+
+    /**
+     * Copies the remaining items of a ByteBuffer into a new libGDX ByteArray. The buffer's position is not changed.
+     * @param from a ByteBuffer, heap or direct; items are read from its position to its limit
+     * @return a new ByteArray holding the remaining items of {@code from}
+     */
+    public static ByteArray toByteArray(ByteBuffer from) {
+        return toByteArray(from, new ByteArray(from.remaining()));
+    }
+
+    /**
+     * Clears {@code into} and refills it with the remaining items of a ByteBuffer. The buffer's position is not changed.
+     * @param from a ByteBuffer, heap or direct; items are read from its position to its limit
+     * @param into an existing ByteArray that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the remaining items of {@code from}
+     */
+    public static ByteArray toByteArray(ByteBuffer from, ByteArray into) {
+        int position = from.position(), n = from.remaining();
+        into.clear();
+        byte[] items = into.ensureCapacity(n);
+        from.get(items, 0, n);
+        ((Buffer) from).position(position);
+        into.size = n;
+        return into;
+    }
+
+    /**
+     * Copies the remaining items of a ByteBuffer into a new jdkgdxds ByteDeque. The buffer's position is not changed.
+     * @param from a ByteBuffer, heap or direct; items are read from its position to its limit
+     * @return a new ByteDeque holding the remaining items of {@code from}, with the item at the position first
+     */
+    public static ByteDeque toByteDeque(ByteBuffer from) {
+        int position = from.position(), n = from.remaining();
+        ByteDeque deque = new ByteDeque(n);
+        from.get(deque.items, 0, n);
+        ((Buffer) from).position(position);
+        deque.tail = Math.max(0, n - 1);
+        deque.size = n;
+        return deque;
+    }
+
+    /**
+     * Writes the items of a jdkgdxds CharList (or CharBag) into {@code into}, starting at its current position.
+     * @param from a jdkgdxds CharList or CharBag
+     * @param into a CharBuffer with at least {@code from.size()} items remaining; heap or direct
+     * @return {@code into}, with its position moved past the written items
+     */
+    public static CharBuffer put(CharList from, CharBuffer into) {
+        return into.put(from.items, 0, from.size());
+    }
+
+    /**
+     * Writes the items of a libGDX CharArray into {@code into}, starting at its current position.
+     * @param from a libGDX CharArray
+     * @param into a CharBuffer with at least {@code from.size} items remaining; heap or direct
+     * @return {@code into}, with its position moved past the written items
+     */
+    public static CharBuffer put(CharArray from, CharBuffer into) {
+        return into.put(from.items, 0, from.size);
+    }
+
+    /**
+     * Writes the items of a jdkgdxds CharDeque into {@code into}, from first to last, starting at its current position.
+     * @param from a jdkgdxds CharDeque
+     * @param into a CharBuffer with at least {@code from.size()} items remaining; heap or direct
+     * @return {@code into}, with its position moved past the written items
+     */
+    public static CharBuffer put(CharDeque from, CharBuffer into) {
+        int n = from.size(), first = Math.min(n, from.items.length - from.head);
+        into.put(from.items, from.head, first);
+        return into.put(from.items, 0, n - first);
+    }
+
+    /**
+     * Copies a jdkgdxds CharList (or CharBag) into a new direct CharBuffer, flipped so it is ready to read.
+     * @param from a jdkgdxds CharList or CharBag
+     * @return a new direct CharBuffer holding the items of {@code from}
+     */
+    public static CharBuffer toCharBuffer(CharList from) {
+        CharBuffer buffer = put(from, BufferUtils.newCharBuffer(from.size()));
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Copies a libGDX CharArray into a new direct CharBuffer, flipped so it is ready to read.
+     * @param from a libGDX CharArray
+     * @return a new direct CharBuffer holding the items of {@code from}
+     */
+    public static CharBuffer toCharBuffer(CharArray from) {
+        CharBuffer buffer = put(from, BufferUtils.newCharBuffer(from.size));
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Copies a jdkgdxds CharDeque into a new direct CharBuffer, flipped so it is ready to read.
+     * @param from a jdkgdxds CharDeque
+     * @return a new direct CharBuffer holding the items of {@code from}, from first to last
+     */
+    public static CharBuffer toCharBuffer(CharDeque from) {
+        CharBuffer buffer = put(from, BufferUtils.newCharBuffer(from.size()));
+        ((Buffer) buffer).flip();
+        return buffer;
+    }
+
+    /**
+     * Copies the remaining items of a CharBuffer into a new jdkgdxds CharList. The buffer's position is not changed.
+     * @param from a CharBuffer, heap or direct; items are read from its position to its limit
+     * @return a new CharList holding the remaining items of {@code from}
+     */
+    public static CharList toCharList(CharBuffer from) {
+        return toCharList(from, new CharList(from.remaining()));
+    }
+
+    /**
+     * Clears {@code into} and refills it with the remaining items of a CharBuffer. The buffer's position is not changed.
+     * @param from a CharBuffer, heap or direct; items are read from its position to its limit
+     * @param into an existing CharList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the remaining items of {@code from}
+     */
+    public static CharList toCharList(CharBuffer from, CharList into) {
+        int position = from.position(), n = from.remaining();
+        into.clear();
+        char[] items = into.setSize(n);
+        from.get(items, 0, n);
+        ((Buffer) from).position(position);
+        return into;
+    }
+
+    /**
+     * Copies the remaining items of a CharBuffer into a new libGDX CharArray. The buffer's position is not changed.
+     * @param from a CharBuffer, heap or direct; items are read from its position to its limit
+     * @return a new CharArray holding the remaining items of {@code from}
+     */
+    public static CharArray toCharArray(CharBuffer from) {
+        return toCharArray(from, new CharArray(from.remaining()));
+    }
+
+    /**
+     * Clears {@code into} and refills it with the remaining items of a CharBuffer. The buffer's position is not changed.
+     * @param from a CharBuffer, heap or direct; items are read from its position to its limit
+     * @param into an existing CharArray that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the remaining items of {@code from}
+     */
+    public static CharArray toCharArray(CharBuffer from, CharArray into) {
+        int position = from.position(), n = from.remaining();
+        into.clear();
+        char[] items = into.ensureCapacity(n);
+        from.get(items, 0, n);
+        ((Buffer) from).position(position);
+        into.size = n;
+        return into;
+    }
+
+    /**
+     * Copies the remaining items of a CharBuffer into a new jdkgdxds CharDeque. The buffer's position is not changed.
+     * @param from a CharBuffer, heap or direct; items are read from its position to its limit
+     * @return a new CharDeque holding the remaining items of {@code from}, with the item at the position first
+     */
+    public static CharDeque toCharDeque(CharBuffer from) {
+        int position = from.position(), n = from.remaining();
+        CharDeque deque = new CharDeque(n);
+        from.get(deque.items, 0, n);
+        ((Buffer) from).position(position);
+        deque.tail = Math.max(0, n - 1);
+        deque.size = n;
+        return deque;
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ArrayMap;
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.CharArray;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.LongQueue;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.OrderedMap;
+import com.badlogic.gdx.utils.OrderedSet;
+import com.badlogic.gdx.utils.Queue;
+import com.badlogic.gdx.utils.ShortArray;
+import com.github.tommyettinger.ds.BooleanBag;
+import com.github.tommyettinger.ds.BooleanList;
+import com.github.tommyettinger.ds.ByteBag;
+import com.github.tommyettinger.ds.ByteDeque;
+import com.github.tommyettinger.ds.ByteList;
+import com.github.tommyettinger.ds.CaseInsensitiveMap;
+import com.github.tommyettinger.ds.CaseInsensitiveOrderedMap;
+import com.github.tommyettinger.ds.CaseInsensitiveOrderedSet;
+import com.github.tommyettinger.ds.CaseInsensitiveSet;
+import com.github.tommyettinger.ds.CharBag;
+import com.github.tommyettinger.ds.CharDeque;
+import com.github.tommyettinger.ds.CharList;
+import com.github.tommyettinger.ds.FloatBag;
+import com.github.tommyettinger.ds.FloatDeque;
+import com.github.tommyettinger.ds.FloatList;
+import com.github.tommyettinger.ds.IdentityObjectMap;
+import com.github.tommyettinger.ds.IdentityObjectOrderedMap;
+import com.github.tommyettinger.ds.IntBag;
+import com.github.tommyettinger.ds.IntDeque;
+import com.github.tommyettinger.ds.IntFloatOrderedMap;
+import com.github.tommyettinger.ds.IntIntOrderedMap;
+import com.github.tommyettinger.ds.IntList;
+import com.github.tommyettinger.ds.IntObjectMap;
+import com.github.tommyettinger.ds.IntObjectOrderedMap;
+import com.github.tommyettinger.ds.IntOrderedSet;
+import com.github.tommyettinger.ds.LongBag;
+import com.github.tommyettinger.ds.LongDeque;
+import com.github.tommyettinger.ds.LongList;
+import com.github.tommyettinger.ds.LongObjectMap;
+import com.github.tommyettinger.ds.LongObjectOrderedMap;
+import com.github.tommyettinger.ds.LongOrderedSet;
+import com.github.tommyettinger.ds.NumberedSet;
+import com.github.tommyettinger.ds.ObjectBag;
+import com.github.tommyettinger.ds.ObjectDeque;
+import com.github.tommyettinger.ds.ObjectFloatOrderedMap;
+import com.github.tommyettinger.ds.ObjectIntOrderedMap;
+import com.github.tommyettinger.ds.ObjectList;
+import com.github.tommyettinger.ds.ObjectLongOrderedMap;
+import com.github.tommyettinger.ds.ObjectObjectMap;
+import com.github.tommyettinger.ds.ObjectObjectOrderedMap;
+import com.github.tommyettinger.ds.ObjectOrderedSet;
+import com.github.tommyettinger.ds.PrimitiveCollection;
+import com.github.tommyettinger.ds.ShortBag;
+import com.github.tommyettinger.ds.ShortDeque;
+import com.github.tommyettinger.ds.ShortList;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Picks one of the conversions in {@link ConversionToJDK} or {@link ConversionToGDX} at runtime, given only a source
+ * object and the class of data structure it should become. This is meant for generic code that can't know its types at
+ * compile time, and would otherwise need a long chain of {@code instanceof} checks to call the right overload.
+ * <br>
+ * The target class must be exactly the class a conversion returns, such as {@code ObjectList.class} or
+ * {@code com.badlogic.gdx.utils.IntSet.class}. The first time a (source class, target class) pair is seen, the matching
+ * conversion is found and cached in an {@link IdentityObjectMap}; after that, converting the same pair costs one map
+ * lookup per class and a direct call to the conversion.
+ * <br>
+ * A ConversionDispatcher caches into plain maps, so it is not thread-safe; use one per thread.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ConversionDispatcher {
+    /**
+     * One conversion: what it produces, which sources it accepts, and how to run it.
+     */
+    private static final class Route {
+        final Predicate<Object> accepts;
+        final Function<Object, Object> convert;
+
+        Route(Predicate<Object> accepts, Function<Object, Object> convert) {
+            this.accepts = accepts;
+            this.convert = convert;
+        }
+    }
+
+    /**
+     * Every known conversion, grouped by the class it produces, in the order they are declared.
+     */
+    private static final IdentityObjectMap<Class<?>, ObjectList<Route>> ROUTES = new IdentityObjectMap<>(128);
+
+    private static void route(Class<?> target, Predicate<Object> accepts, Function<Object, Object> convert) {
+        ObjectList<Route> routes = ROUTES.get(target);
+        if (routes == null) {
+            routes = new ObjectList<>(4);
+            ROUTES.put(target, routes);
+        }
+        routes.add(new Route(accepts, convert));
+    }
+
+    static {
+        // libGDX to jdkgdxds
+        route(ObjectList.class, from -> from instanceof Array, from -> ConversionToJDK.toObjectList((Array) from));
+        route(ObjectBag.class, from -> from instanceof Array, from -> ConversionToJDK.toObjectBag((Array) from));
+        route(ObjectList.class, from -> from instanceof Queue, from -> ConversionToJDK.toObjectList((Queue) from));
+        route(ObjectBag.class, from -> from instanceof Queue, from -> ConversionToJDK.toObjectBag((Queue) from));
+        route(ObjectList.class, from -> from instanceof com.badlogic.gdx.utils.ObjectSet, from -> ConversionToJDK.toObjectList((com.badlogic.gdx.utils.ObjectSet) from));
+        route(IntList.class, from -> from instanceof IntArray, from -> ConversionToJDK.toIntList((IntArray) from));
+        route(IntBag.class, from -> from instanceof IntArray, from -> ConversionToJDK.toIntBag((IntArray) from));
+        route(IntList.class, from -> from instanceof com.badlogic.gdx.utils.IntSet, from -> ConversionToJDK.toIntList((com.badlogic.gdx.utils.IntSet) from));
+        route(IntBag.class, from -> from instanceof com.badlogic.gdx.utils.IntSet, from -> ConversionToJDK.toIntBag((com.badlogic.gdx.utils.IntSet) from));
+        route(LongList.class, from -> from instanceof LongArray, from -> ConversionToJDK.toLongList((LongArray) from));
+        route(LongBag.class, from -> from instanceof LongArray, from -> ConversionToJDK.toLongBag((LongArray) from));
+        route(LongList.class, from -> from instanceof LongQueue, from -> ConversionToJDK.toLongList((LongQueue) from));
+        route(LongBag.class, from -> from instanceof LongQueue, from -> ConversionToJDK.toLongBag((LongQueue) from));
+        route(LongList.class, from -> from instanceof com.badlogic.gdx.utils.LongSet, from -> ConversionToJDK.toLongList((com.badlogic.gdx.utils.LongSet) from));
+        route(LongBag.class, from -> from instanceof com.badlogic.gdx.utils.LongSet, from -> ConversionToJDK.toLongBag((com.badlogic.gdx.utils.LongSet) from));
+        route(com.github.tommyettinger.ds.LongSet.class, from -> from instanceof com.badlogic.gdx.utils.LongSet, from -> ConversionToJDK.toLongSet((com.badlogic.gdx.utils.LongSet) from));
+        route(LongOrderedSet.class, from -> from instanceof com.badlogic.gdx.utils.LongSet, from -> ConversionToJDK.toLongOrderedSet((com.badlogic.gdx.utils.LongSet) from));
+        route(FloatList.class, from -> from instanceof FloatArray, from -> ConversionToJDK.toFloatList((FloatArray) from));
+        route(ByteList.class, from -> from instanceof ByteArray, from -> ConversionToJDK.toByteList((ByteArray) from));
+        route(CharList.class, from -> from instanceof CharArray, from -> ConversionToJDK.toCharList((CharArray) from));
+        route(ShortList.class, from -> from instanceof ShortArray, from -> ConversionToJDK.toShortList((ShortArray) from));
+        route(BooleanList.class, from -> from instanceof BooleanArray, from -> ConversionToJDK.toBooleanList((BooleanArray) from));
+        route(FloatBag.class, from -> from instanceof FloatArray, from -> ConversionToJDK.toFloatBag((FloatArray) from));
+        route(ByteBag.class, from -> from instanceof ByteArray, from -> ConversionToJDK.toByteBag((ByteArray) from));
+        route(CharBag.class, from -> from instanceof CharArray, from -> ConversionToJDK.toCharBag((CharArray) from));
+        route(ShortBag.class, from -> from instanceof ShortArray, from -> ConversionToJDK.toShortBag((ShortArray) from));
+        route(BooleanBag.class, from -> from instanceof BooleanArray, from -> ConversionToJDK.toBooleanBag((BooleanArray) from));
+        route(com.github.tommyettinger.ds.ObjectSet.class, from -> from instanceof Array, from -> ConversionToJDK.toObjectSet((Array) from));
+        route(com.github.tommyettinger.ds.ObjectSet.class, from -> from instanceof Queue, from -> ConversionToJDK.toObjectSet((Queue) from));
+        route(com.github.tommyettinger.ds.ObjectSet.class, from -> from instanceof com.badlogic.gdx.utils.ObjectSet, from -> ConversionToJDK.toObjectSet((com.badlogic.gdx.utils.ObjectSet) from));
+        route(ObjectOrderedSet.class, from -> from instanceof Array, from -> ConversionToJDK.toObjectOrderedSet((Array) from));
+        route(ObjectOrderedSet.class, from -> from instanceof Queue, from -> ConversionToJDK.toObjectOrderedSet((Queue) from));
+        route(ObjectOrderedSet.class, from -> from instanceof com.badlogic.gdx.utils.ObjectSet, from -> ConversionToJDK.toObjectOrderedSet((com.badlogic.gdx.utils.ObjectSet) from));
+        route(CaseInsensitiveSet.class, from -> from instanceof Array, from -> ConversionToJDK.toCaseInsensitiveSet((Array) from));
+        route(CaseInsensitiveSet.class, from -> from instanceof com.badlogic.gdx.utils.ObjectSet, from -> ConversionToJDK.toCaseInsensitiveSet((com.badlogic.gdx.utils.ObjectSet) from));
+        route(CaseInsensitiveOrderedSet.class, from -> from instanceof Array, from -> ConversionToJDK.toCaseInsensitiveOrderedSet((Array) from));
+        route(CaseInsensitiveOrderedSet.class, from -> from instanceof com.badlogic.gdx.utils.ObjectSet, from -> ConversionToJDK.toCaseInsensitiveOrderedSet((com.badlogic.gdx.utils.ObjectSet) from));
+        route(com.github.tommyettinger.ds.IntSet.class, from -> from instanceof com.badlogic.gdx.utils.IntSet, from -> ConversionToJDK.toIntSet((com.badlogic.gdx.utils.IntSet) from));
+        route(com.github.tommyettinger.ds.IntSet.class, from -> from instanceof IntArray, from -> ConversionToJDK.toIntSet((IntArray) from));
+        route(IntOrderedSet.class, from -> from instanceof com.badlogic.gdx.utils.IntSet, from -> ConversionToJDK.toIntOrderedSet((com.badlogic.gdx.utils.IntSet) from));
+        route(IntOrderedSet.class, from -> from instanceof IntArray, from -> ConversionToJDK.toIntOrderedSet((IntArray) from));
+        route(NumberedSet.class, from -> from instanceof com.badlogic.gdx.utils.ObjectSet, from -> ConversionToJDK.toNumberedSet((com.badlogic.gdx.utils.ObjectSet) from));
+        route(NumberedSet.class, from -> from instanceof Array, from -> ConversionToJDK.toNumberedSet((Array) from));
+        route(NumberedSet.class, from -> from instanceof Queue, from -> ConversionToJDK.toNumberedSet((Queue) from));
+        route(ObjectObjectMap.class, from -> from instanceof ObjectMap, from -> ConversionToJDK.toObjectObjectMap((ObjectMap) from));
+        route(ObjectObjectOrderedMap.class, from -> from instanceof ObjectMap, from -> ConversionToJDK.toObjectObjectOrderedMap((ObjectMap) from));
+        route(ObjectObjectMap.class, from -> from instanceof ArrayMap, from -> ConversionToJDK.toObjectObjectMap((ArrayMap) from));
+        route(ObjectObjectOrderedMap.class, from -> from instanceof ArrayMap, from -> ConversionToJDK.toObjectObjectOrderedMap((ArrayMap) from));
+        route(CaseInsensitiveMap.class, from -> from instanceof ObjectMap, from -> ConversionToJDK.toCaseInsensitiveMap((ObjectMap) from));
+        route(CaseInsensitiveOrderedMap.class, from -> from instanceof ObjectMap, from -> ConversionToJDK.toCaseInsensitiveOrderedMap((ObjectMap) from));
+        route(com.github.tommyettinger.ds.ObjectIntMap.class, from -> from instanceof com.badlogic.gdx.utils.ObjectIntMap, from -> ConversionToJDK.toObjectIntMap((com.badlogic.gdx.utils.ObjectIntMap) from));
+        route(ObjectIntOrderedMap.class, from -> from instanceof com.badlogic.gdx.utils.ObjectIntMap, from -> ConversionToJDK.toObjectIntOrderedMap((com.badlogic.gdx.utils.ObjectIntMap) from));
+        route(com.github.tommyettinger.ds.ObjectLongMap.class, from -> from instanceof com.badlogic.gdx.utils.ObjectLongMap, from -> ConversionToJDK.toObjectLongMap((com.badlogic.gdx.utils.ObjectLongMap) from));
+        route(ObjectLongOrderedMap.class, from -> from instanceof com.badlogic.gdx.utils.ObjectLongMap, from -> ConversionToJDK.toObjectLongOrderedMap((com.badlogic.gdx.utils.ObjectLongMap) from));
+        route(com.github.tommyettinger.ds.ObjectFloatMap.class, from -> from instanceof com.badlogic.gdx.utils.ObjectFloatMap, from -> ConversionToJDK.toObjectFloatMap((com.badlogic.gdx.utils.ObjectFloatMap) from));
+        route(ObjectFloatOrderedMap.class, from -> from instanceof com.badlogic.gdx.utils.ObjectFloatMap, from -> ConversionToJDK.toObjectFloatOrderedMap((com.badlogic.gdx.utils.ObjectFloatMap) from));
+        route(IntObjectMap.class, from -> from instanceof IntMap, from -> ConversionToJDK.toIntObjectMap((IntMap) from));
+        route(IntObjectOrderedMap.class, from -> from instanceof IntMap, from -> ConversionToJDK.toIntObjectOrderedMap((IntMap) from));
+        route(com.github.tommyettinger.ds.IntIntMap.class, from -> from instanceof com.badlogic.gdx.utils.IntIntMap, from -> ConversionToJDK.toIntIntMap((com.badlogic.gdx.utils.IntIntMap) from));
+        route(IntIntOrderedMap.class, from -> from instanceof com.badlogic.gdx.utils.IntIntMap, from -> ConversionToJDK.toIntIntOrderedMap((com.badlogic.gdx.utils.IntIntMap) from));
+        route(OffHeapIntIntMap.class, from -> from instanceof com.badlogic.gdx.utils.IntIntMap, from -> ConversionToJDK.toOffHeapIntIntMap((com.badlogic.gdx.utils.IntIntMap) from));
+        route(OffHeapIntList.class, from -> from instanceof IntArray, from -> ConversionToJDK.toOffHeapIntList((IntArray) from));
+        route(OffHeapLongList.class, from -> from instanceof LongArray, from -> ConversionToJDK.toOffHeapLongList((LongArray) from));
+        route(OffHeapFloatList.class, from -> from instanceof FloatArray, from -> ConversionToJDK.toOffHeapFloatList((FloatArray) from));
+        route(com.github.tommyettinger.ds.IntFloatMap.class, from -> from instanceof com.badlogic.gdx.utils.IntFloatMap, from -> ConversionToJDK.toIntFloatMap((com.badlogic.gdx.utils.IntFloatMap) from));
+        route(IntFloatOrderedMap.class, from -> from instanceof com.badlogic.gdx.utils.IntFloatMap, from -> ConversionToJDK.toIntFloatOrderedMap((com.badlogic.gdx.utils.IntFloatMap) from));
+        route(LongObjectMap.class, from -> from instanceof LongMap, from -> ConversionToJDK.toLongObjectMap((LongMap) from));
+        route(LongObjectOrderedMap.class, from -> from instanceof LongMap, from -> ConversionToJDK.toLongObjectOrderedMap((LongMap) from));
+        route(IdentityObjectMap.class, from -> from instanceof ObjectMap, from -> ConversionToJDK.toIdentityObjectMap((ObjectMap) from));
+        route(IdentityObjectOrderedMap.class, from -> from instanceof ObjectMap, from -> ConversionToJDK.toIdentityObjectOrderedMap((ObjectMap) from));
+        route(ObjectDeque.class, from -> from instanceof Array, from -> ConversionToJDK.toObjectDeque((Array) from));
+        route(ObjectDeque.class, from -> from instanceof Queue, from -> ConversionToJDK.toObjectDeque((Queue) from));
+        route(ObjectDeque.class, from -> from instanceof com.badlogic.gdx.utils.ObjectSet, from -> ConversionToJDK.toObjectDeque((com.badlogic.gdx.utils.ObjectSet) from));
+        route(LongDeque.class, from -> from instanceof LongQueue, from -> ConversionToJDK.toLongDeque((LongQueue) from));
+        route(LongDeque.class, from -> from instanceof LongArray, from -> ConversionToJDK.toLongDeque((LongArray) from));
+        route(LongDeque.class, from -> from instanceof com.badlogic.gdx.utils.LongSet, from -> ConversionToJDK.toLongDeque((com.badlogic.gdx.utils.LongSet) from));
+        route(IntDeque.class, from -> from instanceof IntArray, from -> ConversionToJDK.toIntDeque((IntArray) from));
+        route(IntDeque.class, from -> from instanceof com.badlogic.gdx.utils.IntSet, from -> ConversionToJDK.toIntDeque((com.badlogic.gdx.utils.IntSet) from));
+        route(ByteDeque.class, from -> from instanceof ByteArray, from -> ConversionToJDK.toByteDeque((ByteArray) from));
+        route(ShortDeque.class, from -> from instanceof ShortArray, from -> ConversionToJDK.toShortDeque((ShortArray) from));
+        route(CharDeque.class, from -> from instanceof CharArray, from -> ConversionToJDK.toCharDeque((CharArray) from));
+        route(FloatDeque.class, from -> from instanceof FloatArray, from -> ConversionToJDK.toFloatDeque((FloatArray) from));
+        // jdkgdxds or JDK to libGDX
+        route(Array.class, from -> from instanceof Collection, from -> ConversionToGDX.toArray((Collection) from));
+        route(IntArray.class, from -> from instanceof PrimitiveCollection.OfInt, from -> ConversionToGDX.toIntArray((PrimitiveCollection.OfInt) from));
+        route(LongArray.class, from -> from instanceof PrimitiveCollection.OfLong, from -> ConversionToGDX.toLongArray((PrimitiveCollection.OfLong) from));
+        route(FloatArray.class, from -> from instanceof PrimitiveCollection.OfFloat, from -> ConversionToGDX.toFloatArray((PrimitiveCollection.OfFloat) from));
+        route(ByteArray.class, from -> from instanceof PrimitiveCollection.OfByte, from -> ConversionToGDX.toByteArray((PrimitiveCollection.OfByte) from));
+        route(CharArray.class, from -> from instanceof PrimitiveCollection.OfChar, from -> ConversionToGDX.toCharArray((PrimitiveCollection.OfChar) from));
+        route(ShortArray.class, from -> from instanceof PrimitiveCollection.OfShort, from -> ConversionToGDX.toShortArray((PrimitiveCollection.OfShort) from));
+        route(BooleanArray.class, from -> from instanceof PrimitiveCollection.OfBoolean, from -> ConversionToGDX.toBooleanArray((PrimitiveCollection.OfBoolean) from));
+        route(ArrayMap.class, from -> from instanceof Map, from -> ConversionToGDX.toArrayMap((Map) from));
+        route(com.badlogic.gdx.utils.ObjectSet.class, from -> from instanceof Collection, from -> ConversionToGDX.toObjectSet((Collection) from));
+        route(OrderedSet.class, from -> from instanceof Collection, from -> ConversionToGDX.toOrderedSet((Collection) from));
+        route(com.badlogic.gdx.utils.IntSet.class, from -> from instanceof PrimitiveCollection.OfInt, from -> ConversionToGDX.toIntSet((PrimitiveCollection.OfInt) from));
+        route(com.badlogic.gdx.utils.LongSet.class, from -> from instanceof PrimitiveCollection.OfLong, from -> ConversionToGDX.toLongSet((PrimitiveCollection.OfLong) from));
+        route(ObjectMap.class, from -> from instanceof Map, from -> ConversionToGDX.toObjectMap((Map) from));
+        route(OrderedMap.class, from -> from instanceof Map, from -> ConversionToGDX.toOrderedMap((Map) from));
+        route(com.badlogic.gdx.utils.ObjectIntMap.class, from -> from instanceof com.github.tommyettinger.ds.ObjectIntMap, from -> ConversionToGDX.toObjectIntMap((com.github.tommyettinger.ds.ObjectIntMap) from));
+        route(com.badlogic.gdx.utils.ObjectLongMap.class, from -> from instanceof com.github.tommyettinger.ds.ObjectLongMap, from -> ConversionToGDX.toObjectLongMap((com.github.tommyettinger.ds.ObjectLongMap) from));
+        route(com.badlogic.gdx.utils.ObjectFloatMap.class, from -> from instanceof com.github.tommyettinger.ds.ObjectFloatMap, from -> ConversionToGDX.toObjectFloatMap((com.github.tommyettinger.ds.ObjectFloatMap) from));
+        route(IntMap.class, from -> from instanceof IntObjectMap, from -> ConversionToGDX.toIntMap((IntObjectMap) from));
+        route(com.badlogic.gdx.utils.IntIntMap.class, from -> from instanceof com.github.tommyettinger.ds.IntIntMap, from -> ConversionToGDX.toIntIntMap((com.github.tommyettinger.ds.IntIntMap) from));
+        route(com.badlogic.gdx.utils.IntIntMap.class, from -> from instanceof OffHeapIntIntMap, from -> ConversionToGDX.toIntIntMap((OffHeapIntIntMap) from));
+        route(com.badlogic.gdx.utils.IntFloatMap.class, from -> from instanceof com.github.tommyettinger.ds.IntFloatMap, from -> ConversionToGDX.toIntFloatMap((com.github.tommyettinger.ds.IntFloatMap) from));
+        route(LongMap.class, from -> from instanceof LongObjectMap, from -> ConversionToGDX.toLongMap((LongObjectMap) from));
+        route(IdentityMap.class, from -> from instanceof Map, from -> ConversionToGDX.toIdentityMap((Map) from));
+        route(Queue.class, from -> from instanceof Collection, from -> ConversionToGDX.toQueue((Collection) from));
+        route(LongQueue.class, from -> from instanceof PrimitiveCollection.OfLong, from -> ConversionToGDX.toLongQueue((PrimitiveCollection.OfLong) from));
+    }
+
+    private final IdentityObjectMap<Class<?>, IdentityObjectMap<Class<?>, Function<Object, Object>>> cache =
+            new IdentityObjectMap<>(32);
+
+    /**
+     * Creates a ConversionDispatcher with an empty cache.
+     */
+    public ConversionDispatcher() {
+    }
+
+    /**
+     * Converts {@code source} to a new data structure of class {@code targetType}, using whichever conversion in
+     * {@link ConversionToJDK} or {@link ConversionToGDX} takes the runtime class of {@code source} and returns
+     * {@code targetType}. For example, {@code convert(intArray, IntList.class)} calls
+     * {@link ConversionToJDK#toIntList(IntArray)}.
+     * @param source a data structure to convert; may be null
+     * @param targetType the exact class of data structure to produce
+     * @param <R> the type of data structure to produce
+     * @return a new {@code R} holding the contents of {@code source}, or null if {@code source} is null
+     * @throws IllegalArgumentException if no conversion from the class of {@code source} to {@code targetType} exists
+     */
+    public <R> R convert(Object source, Class<R> targetType) {
+        if (source == null) return null;
+        Class<?> sourceType = source.getClass();
+        IdentityObjectMap<Class<?>, Function<Object, Object>> byTarget = cache.get(sourceType);
+        if (byTarget == null) {
+            byTarget = new IdentityObjectMap<>(8);
+            cache.put(sourceType, byTarget);
+        }
+        Function<Object, Object> converter = byTarget.get(targetType);
+        if (converter == null) {
+            converter = resolve(source, targetType);
+            byTarget.put(targetType, converter);
+        }
+        return (R) converter.apply(source);
+    }
+
+    /**
+     * Returns true if {@link #convert(Object, Class)} can convert {@code source} to {@code targetType}.
+     * @param source a data structure that might be converted; if null, this returns false
+     * @param targetType the exact class of data structure to produce
+     * @return true if a conversion exists from the class of {@code source} to {@code targetType}
+     */
+    public boolean canConvert(Object source, Class<?> targetType) {
+        if (source == null) return false;
+        IdentityObjectMap<Class<?>, Function<Object, Object>> byTarget = cache.get(source.getClass());
+        if (byTarget != null && byTarget.containsKey(targetType)) return true;
+        return find(source, targetType) != null;
+    }
+
+    private static Function<Object, Object> resolve(Object source, Class<?> targetType) {
+        Function<Object, Object> converter = find(source, targetType);
+        if (converter == null)
+            throw new IllegalArgumentException("No conversion from " + source.getClass().getName() + " to " + targetType.getName());
+        return converter;
+    }
+
+    private static Function<Object, Object> find(Object source, Class<?> targetType) {
+        ObjectList<Route> routes = ROUTES.get(targetType);
+        if (routes == null) return null;
+        for (int i = 0, n = routes.size(); i < n; i++) {
+            Route route = routes.get(i);
+            if (route.accepts.test(source))
+                return route.convert;
+        }
+        return null;
+    }
+}
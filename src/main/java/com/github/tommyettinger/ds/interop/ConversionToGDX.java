@@ -36,9 +36,39 @@ import java.util.Map;
  * Converts from arbitrary data structures that implement JDK interfaces to libGDX data structures (which typically
  * implement {@link Iterable} at most). You can send JDK classes like {@link java.util.ArrayList} to methods in this to
  * convert to {@link Array} or {@link ObjectSet}, just as you can send jdkgdxds classes like {@link ObjectList}.
+ * <br>
+ * When converting a jdkgdxds list or bag (such as {@link IntList}, {@link IntBag}, or {@link ObjectList}) to a libGDX
+ * array type, the items are copied in bulk with {@link System#arraycopy(Object, int, Object, int, int)}. Deques are
+ * copied the same way, with a second copy for any items that wrap around to the start of the deque's backing array,
+ * and other sources, such as sets and map keys, are iterated.
+ * <br>
+ * Every conversion also has an overload that takes an existing destination as {@code into}; it is cleared, given
+ * enough capacity for all of {@code from} up-front, refilled, and returned. Reusing one destination avoids allocating
+ * a new data structure (and growing or rehashing it) each time the same conversion runs.
  */
 public class ConversionToGDX {
 
+    /**
+     * Copies {@code length} items from the circular backing array of a jdkgdxds deque, such as {@link IntDeque#items},
+     * starting {@code start} items after {@code head}, into {@code dest} at {@code destStart}. This takes at most two
+     * calls to {@link System#arraycopy(Object, int, Object, int, int)}: one up to the end of {@code items}, and one for
+     * any items that wrap around to its start.
+     * @param items the deque's backing array, such as {@link IntDeque#items}
+     * @param capacity the length of {@code items}
+     * @param head the index in {@code items} of the deque's first item
+     * @param start how many items after the first one to start copying at
+     * @param dest the array to copy into, of the same component type as {@code items}
+     * @param destStart the first index in {@code dest} to copy to
+     * @param length how many items to copy
+     */
+    static void copyDeque(Object items, int capacity, int head, int start, Object dest, int destStart, int length) {
+        int from = head + start;
+        if (from >= capacity) from -= capacity;
+        int first = Math.min(length, capacity - from);
+        System.arraycopy(items, from, dest, destStart, first);
+        System.arraycopy(items, 0, dest, destStart + first, length - first);
+    }
+
     /**
      * Can be used to convert from any Collection to a new Array of the same element type.
      * This can take an {@link ObjectList}, {@link com.github.tommyettinger.ds.ObjectSet},
@@ -48,10 +78,31 @@ public class ConversionToGDX {
      * @return a new Array of type T holding the items of {@code from} (this does not give a Class to the Array constructor)
      */
     public static <T> Array<T> toArray(Collection<? extends T> from) {
-        Array<T> array = new Array<>(from.size());
+        return toArray(from, new Array<>(from.size()));
+    }
+
+    /**
+     * Can be used to convert from any Collection to a new Array of the same element type.
+     * This can take an {@link ObjectList}, {@link com.github.tommyettinger.ds.ObjectSet},
+     * {@link NumberedSet}, or any JDK Collection, to name a few.
+     * This overload clears and reuses {@code into} instead of allocating a new Array.
+     * @param from a Collection from the JDK, jdkgdxds, or some other library
+     * @param into an existing Array that will be cleared and refilled, reusing its backing storage
+     * @param <T> the element type for {@code from} and the result
+     * @return {@code into}, now holding only the items of {@code from} (this does not give a Class to the Array constructor)
+     */
+    public static <T> Array<T> toArray(Collection<? extends T> from, Array<T> into) {
+        int size = from.size();
+        into.clear();
+        T[] items = into.ensureCapacity(size);
+        if (from instanceof ObjectList) {
+            from.toArray(items);
+            into.size = size;
+            return into;
+        }
         for(T t : from)
-            array.add(t);
-        return array;
+            into.add(t);
+        return into;
     }
 
     /**
@@ -61,12 +112,41 @@ public class ConversionToGDX {
      * @return a new IntArray holding the items of {@code from}
      */
     public static IntArray toIntArray(PrimitiveCollection.OfInt from) {
-        IntArray array = new IntArray(from.size());
+        return toIntArray(from, new IntArray(from.size()));
+    }
+
+    /**
+     * Can be used to convert from any jdkgdxds int-based collection (such as {@link IntList},
+     * {@link com.github.tommyettinger.ds.IntSet}, or {@link IntObjectMap.Keys}) to a libGDX IntArray.
+     * This overload clears and reuses {@code into} instead of allocating a new IntArray.
+     * @param from a primitive-int-backed data structure from jdkgdxds
+     * @param into an existing IntArray that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static IntArray toIntArray(PrimitiveCollection.OfInt from, IntArray into) {
+        int size = from.size();
+        into.clear();
+        if (from instanceof IntList) {
+            into.addAll(((IntList) from).items, 0, size);
+            return into;
+        }
+        int[] items = into.ensureCapacity(size);
+        if (from instanceof OffHeapIntList) {
+            ((OffHeapIntList) from).toArray(0, items, 0, size);
+            into.size = size;
+            return into;
+        }
+        if (from instanceof IntDeque) {
+            IntDeque deque = (IntDeque) from;
+            copyDeque(deque.items, deque.items.length, deque.head, 0, items, 0, size);
+            into.size = size;
+            return into;
+        }
         IntIterator it = from.iterator();
         while (it.hasNext()){
-            array.add(it.nextInt());
+            into.add(it.nextInt());
         }
-        return array;
+        return into;
     }
 
     /**
@@ -76,12 +156,41 @@ public class ConversionToGDX {
      * @return a new LongArray holding the items of {@code from}
      */
     public static LongArray toLongArray(PrimitiveCollection.OfLong from) {
-        LongArray array = new LongArray(from.size());
+        return toLongArray(from, new LongArray(from.size()));
+    }
+
+    /**
+     * Can be used to convert from any jdkgdxds long-based collection (such as {@link LongList},
+     * {@link LongSet}, or {@link LongObjectMap.Keys}) to a libGDX LongArray.
+     * This overload clears and reuses {@code into} instead of allocating a new LongArray.
+     * @param from a primitive-long-backed data structure from jdkgdxds
+     * @param into an existing LongArray that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static LongArray toLongArray(PrimitiveCollection.OfLong from, LongArray into) {
+        int size = from.size();
+        into.clear();
+        if (from instanceof LongList) {
+            into.addAll(((LongList) from).items, 0, size);
+            return into;
+        }
+        long[] items = into.ensureCapacity(size);
+        if (from instanceof OffHeapLongList) {
+            ((OffHeapLongList) from).toArray(0, items, 0, size);
+            into.size = size;
+            return into;
+        }
+        if (from instanceof LongDeque) {
+            LongDeque deque = (LongDeque) from;
+            copyDeque(deque.items, deque.items.length, deque.head, 0, items, 0, size);
+            into.size = size;
+            return into;
+        }
         LongIterator it = from.iterator();
         while (it.hasNext()){
-            array.add(it.nextLong());
+            into.add(it.nextLong());
         }
-        return array;
+        return into;
     }
 
     /**
@@ -91,12 +200,41 @@ public class ConversionToGDX {
      * @return a new FloatArray holding the items of {@code from}
      */
     public static FloatArray toFloatArray(PrimitiveCollection.OfFloat from) {
-        FloatArray array = new FloatArray(from.size());
+        return toFloatArray(from, new FloatArray(from.size()));
+    }
+
+    /**
+     * Can be used to convert from any jdkgdxds float-based collection (such as {@link FloatList}
+     * or {@link com.github.tommyettinger.ds.ObjectFloatMap.Values}) to a libGDX FloatArray.
+     * This overload clears and reuses {@code into} instead of allocating a new FloatArray.
+     * @param from a primitive-float-backed data structure from jdkgdxds
+     * @param into an existing FloatArray that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static FloatArray toFloatArray(PrimitiveCollection.OfFloat from, FloatArray into) {
+        int size = from.size();
+        into.clear();
+        if (from instanceof FloatList) {
+            into.addAll(((FloatList) from).items, 0, size);
+            return into;
+        }
+        float[] items = into.ensureCapacity(size);
+        if (from instanceof OffHeapFloatList) {
+            ((OffHeapFloatList) from).toArray(0, items, 0, size);
+            into.size = size;
+            return into;
+        }
+        if (from instanceof FloatDeque) {
+            FloatDeque deque = (FloatDeque) from;
+            copyDeque(deque.items, deque.items.length, deque.head, 0, items, 0, size);
+            into.size = size;
+            return into;
+        }
         FloatIterator it = from.iterator();
         while (it.hasNext()){
-            array.add(it.nextFloat());
+            into.add(it.nextFloat());
         }
-        return array;
+        return into;
     }
 
     /**
@@ -106,12 +244,36 @@ public class ConversionToGDX {
      * @return a new ByteArray holding the items of {@code from}
      */
     public static ByteArray toByteArray(PrimitiveCollection.OfByte from) {
-        ByteArray array = new ByteArray(from.size());
+        return toByteArray(from, new ByteArray(from.size()));
+    }
+
+    /**
+     * Can be used to convert from any jdkgdxds byte-based collection (such as {@link ByteList})
+     * to a libGDX ByteArray.
+     * This overload clears and reuses {@code into} instead of allocating a new ByteArray.
+     * @param from a primitive-float-backed data structure from jdkgdxds
+     * @param into an existing ByteArray that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static ByteArray toByteArray(PrimitiveCollection.OfByte from, ByteArray into) {
+        int size = from.size();
+        into.clear();
+        if (from instanceof ByteList) {
+            into.addAll(((ByteList) from).items, 0, size);
+            return into;
+        }
+        byte[] items = into.ensureCapacity(size);
+        if (from instanceof ByteDeque) {
+            ByteDeque deque = (ByteDeque) from;
+            copyDeque(deque.items, deque.items.length, deque.head, 0, items, 0, size);
+            into.size = size;
+            return into;
+        }
         ByteIterator it = from.iterator();
         while (it.hasNext()){
-            array.add(it.nextByte());
+            into.add(it.nextByte());
         }
-        return array;
+        return into;
     }
 
     /**
@@ -121,12 +283,36 @@ public class ConversionToGDX {
      * @return a new CharArray holding the items of {@code from}
      */
     public static CharArray toCharArray(PrimitiveCollection.OfChar from) {
-        CharArray array = new CharArray(from.size());
+        return toCharArray(from, new CharArray(from.size()));
+    }
+
+    /**
+     * Can be used to convert from any jdkgdxds char-based collection (such as {@link CharList})
+     * to a libGDX CharArray.
+     * This overload clears and reuses {@code into} instead of allocating a new CharArray.
+     * @param from a primitive-float-backed data structure from jdkgdxds
+     * @param into an existing CharArray that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static CharArray toCharArray(PrimitiveCollection.OfChar from, CharArray into) {
+        int size = from.size();
+        into.clear();
+        if (from instanceof CharList) {
+            into.addAll(((CharList) from).items, 0, size);
+            return into;
+        }
+        char[] items = into.ensureCapacity(size);
+        if (from instanceof CharDeque) {
+            CharDeque deque = (CharDeque) from;
+            copyDeque(deque.items, deque.items.length, deque.head, 0, items, 0, size);
+            into.size = size;
+            return into;
+        }
         CharIterator it = from.iterator();
         while (it.hasNext()){
-            array.add(it.nextChar());
+            into.add(it.nextChar());
         }
-        return array;
+        return into;
     }
 
     /**
@@ -136,12 +322,36 @@ public class ConversionToGDX {
      * @return a new ShortArray holding the items of {@code from}
      */
     public static ShortArray toShortArray(PrimitiveCollection.OfShort from) {
-        ShortArray array = new ShortArray(from.size());
+        return toShortArray(from, new ShortArray(from.size()));
+    }
+
+    /**
+     * Can be used to convert from any jdkgdxds short-based collection (such as {@link ShortList})
+     * to a libGDX ShortArray.
+     * This overload clears and reuses {@code into} instead of allocating a new ShortArray.
+     * @param from a primitive-float-backed data structure from jdkgdxds
+     * @param into an existing ShortArray that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static ShortArray toShortArray(PrimitiveCollection.OfShort from, ShortArray into) {
+        int size = from.size();
+        into.clear();
+        if (from instanceof ShortList) {
+            into.addAll(((ShortList) from).items, 0, size);
+            return into;
+        }
+        short[] items = into.ensureCapacity(size);
+        if (from instanceof ShortDeque) {
+            ShortDeque deque = (ShortDeque) from;
+            copyDeque(deque.items, deque.items.length, deque.head, 0, items, 0, size);
+            into.size = size;
+            return into;
+        }
         ShortIterator it = from.iterator();
         while (it.hasNext()){
-            array.add(it.nextShort());
+            into.add(it.nextShort());
         }
-        return array;
+        return into;
     }
 
     /**
@@ -151,12 +361,36 @@ public class ConversionToGDX {
      * @return a new BooleanArray holding the items of {@code from}
      */
     public static BooleanArray toBooleanArray(PrimitiveCollection.OfBoolean from) {
-        BooleanArray array = new BooleanArray(from.size());
+        return toBooleanArray(from, new BooleanArray(from.size()));
+    }
+
+    /**
+     * Can be used to convert from any jdkgdxds boolean-based collection (such as {@link BooleanList})
+     * to a libGDX BooleanArray.
+     * This overload clears and reuses {@code into} instead of allocating a new BooleanArray.
+     * @param from a primitive-float-backed data structure from jdkgdxds
+     * @param into an existing BooleanArray that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static BooleanArray toBooleanArray(PrimitiveCollection.OfBoolean from, BooleanArray into) {
+        int size = from.size();
+        into.clear();
+        if (from instanceof BooleanList) {
+            into.addAll(((BooleanList) from).items, 0, size);
+            return into;
+        }
+        boolean[] items = into.ensureCapacity(size);
+        if (from instanceof BooleanDeque) {
+            BooleanDeque deque = (BooleanDeque) from;
+            copyDeque(deque.items, deque.items.length, deque.head, 0, items, 0, size);
+            into.size = size;
+            return into;
+        }
         BooleanIterator it = from.iterator();
         while (it.hasNext()){
-            array.add(it.nextBoolean());
+            into.add(it.nextBoolean());
         }
-        return array;
+        return into;
     }
 
     // there is no DoubleArray in libGDX... for some reason.
@@ -171,10 +405,26 @@ public class ConversionToGDX {
      * @return a new ArrayMap holding the keys and values of {@code from} (this does not give a Class to the ArrayMap constructor)
      */
     public static <K, V> ArrayMap<K, V> toArrayMap(Map<? extends K, ? extends V> from) {
-        ArrayMap<K, V> arrayMap = new ArrayMap<>(true, from.size());
+        return toArrayMap(from, new ArrayMap<>(true, from.size()));
+    }
+
+    /**
+     * Can be used to convert from any JDK Map to a new libGDX ArrayMap with the same key and value types.
+     * Note that jdkgdxds does not have a direct equivalent to libGDX's ArrayMap, because ArrayMap is only the "right
+     * choice" in some extremely narrow situations, and is only barely used inside libGDX (and only in its 3D code).
+     * This overload clears and reuses {@code into} instead of allocating a new ArrayMap.
+     * @param from a Map from the JDK, jdkgdxds, or some other library
+     * @param into an existing ArrayMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return {@code into}, now holding only the keys and values of {@code from} (this does not give a Class to the ArrayMap constructor)
+     */
+    public static <K, V> ArrayMap<K, V> toArrayMap(Map<? extends K, ? extends V> from, ArrayMap<K, V> into) {
+        into.clear();
+        into.ensureCapacity(from.size());
         for(Map.Entry<? extends K, ? extends V> e : from.entrySet())
-            arrayMap.put(e.getKey(), e.getValue());
-        return arrayMap;
+            into.put(e.getKey(), e.getValue());
+        return into;
     }
 
     /**
@@ -184,12 +434,25 @@ public class ConversionToGDX {
      * @return a new libGDX ObjectSet holding the unique items in {@code from}
      */
     public static <T> ObjectSet<T> toObjectSet(Collection<? extends T> from) {
-        ObjectSet<T> set = new ObjectSet<>(from.size());
+        return toObjectSet(from, new ObjectSet<>(from.size()));
+    }
+
+    /**
+     * Can be used to convert from any JDK Collection, such as a jdkgdxds ObjectSet or ObjectList, or
+     * a JDK ArrayList, to a new libGDX {@link ObjectSet}, using only the unique items in {@code from}.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectSet.
+     * @param from anything that implements the JDK Collection interface
+     * @param into an existing ObjectSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static <T> ObjectSet<T> toObjectSet(Collection<? extends T> from, ObjectSet<T> into) {
+        into.clear();
+        into.ensureCapacity(from.size());
         Iterator<? extends T> it = from.iterator();
         while (it.hasNext()) {
-            set.add(it.next());
+            into.add(it.next());
         }
-        return set;
+        return into;
     }
 
     /**
@@ -199,12 +462,25 @@ public class ConversionToGDX {
      * @return a new libGDX OrderedSet holding the unique items in {@code from}
      */
     public static <T> OrderedSet<T> toOrderedSet(Collection<? extends T> from) {
-        OrderedSet<T> set = new OrderedSet<>(from.size());
+        return toOrderedSet(from, new OrderedSet<>(from.size()));
+    }
+
+    /**
+     * Can be used to convert from any JDK Collection, such as a jdkgdxds ObjectOrderedSet or ObjectList, or
+     * a JDK ArrayList, to a new libGDX {@link OrderedSet}, using only the unique items in {@code from}.
+     * This overload clears and reuses {@code into} instead of allocating a new OrderedSet.
+     * @param from anything that implements the JDK Collection interface
+     * @param into an existing OrderedSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static <T> OrderedSet<T> toOrderedSet(Collection<? extends T> from, OrderedSet<T> into) {
+        into.clear();
+        into.ensureCapacity(from.size());
         Iterator<? extends T> it = from.iterator();
         while (it.hasNext()) {
-            set.add(it.next());
+            into.add(it.next());
         }
-        return set;
+        return into;
     }
 
     /**
@@ -215,12 +491,26 @@ public class ConversionToGDX {
      * @return a new IntSet holding the unique items in {@code from}
      */
     public static IntSet toIntSet(PrimitiveCollection.OfInt from) {
-        IntSet set = new IntSet(from.size());
+        return toIntSet(from, new IntSet(from.size()));
+    }
+
+    /**
+     * Can be used to convert from any int-based PrimitiveCollection, such as an {@link IntList},
+     * {@link com.github.tommyettinger.ds.IntSet}, or {@link com.github.tommyettinger.ds.IntIntMap.Keys},
+     * to a new libGDX IntSet, using only the unique items in {@code from}.
+     * This overload clears and reuses {@code into} instead of allocating a new IntSet.
+     * @param from a primitive-int-backed data structure from jdkgdxds
+     * @param into an existing IntSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static IntSet toIntSet(PrimitiveCollection.OfInt from, IntSet into) {
+        into.clear();
+        into.ensureCapacity(from.size());
         IntIterator it = from.iterator();
         while (it.hasNext()) {
-            set.add(it.nextInt());
+            into.add(it.nextInt());
         }
-        return set;
+        return into;
     }
 
     /**
@@ -231,28 +521,57 @@ public class ConversionToGDX {
      * @return a new LongSet holding the unique items in {@code from}
      */
     public static LongSet toLongSet(PrimitiveCollection.OfLong from) {
-        LongSet set = new LongSet(from.size());
+        return toLongSet(from, new LongSet(from.size()));
+    }
+
+    /**
+     * Can be used to convert from any int-based PrimitiveCollection, such as an {@link LongList},
+     * {@link com.github.tommyettinger.ds.LongSet}, or {@link com.github.tommyettinger.ds.LongLongMap.Keys},
+     * to a new libGDX LongSet, using only the unique items in {@code from}.
+     * This overload clears and reuses {@code into} instead of allocating a new LongSet.
+     * @param from a primitive-int-backed data structure from jdkgdxds
+     * @param into an existing LongSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static LongSet toLongSet(PrimitiveCollection.OfLong from, LongSet into) {
+        into.clear();
+        into.ensureCapacity(from.size());
         LongIterator it = from.iterator();
         while (it.hasNext()) {
-            set.add(it.nextLong());
+            into.add(it.nextLong());
         }
-        return set;
+        return into;
     }
 
     /**
      * Can be used to convert from any JDK Map, such as a {@link java.util.HashMap}, {@link ObjectObjectMap},
      * or {@link CaseInsensitiveOrderedMap}, to a libGDX ObjectMap.
-     * @param from any Map that has a usable {@link Map#keySet()} method
+     * @param from any Map that has a usable {@link Map#entrySet()} method
      * @param <K> the type of keys; the same in {@code from} and the returned ObjectMap
      * @param <V> the type of values; the same in {@code from} and the returned ObjectMap
      * @return a new ObjectMap holding all the key-value pairs in {@code from}
      */
     public static <K, V> ObjectMap<K, V> toObjectMap(Map<? extends K, ? extends V> from){
-        ObjectMap<K, V> map = new ObjectMap<>(from.size());
-        for(K k : from.keySet()) {
-            map.put(k, from.get(k));
+        return toObjectMap(from, new ObjectMap<>(from.size()));
+    }
+
+    /**
+     * Can be used to convert from any JDK Map, such as a {@link java.util.HashMap}, {@link ObjectObjectMap},
+     * or {@link CaseInsensitiveOrderedMap}, to a libGDX ObjectMap.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectMap.
+     * @param from any Map that has a usable {@link Map#entrySet()} method
+     * @param into an existing ObjectMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; the same in {@code from} and the returned ObjectMap
+     * @param <V> the type of values; the same in {@code from} and the returned ObjectMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K, V> ObjectMap<K, V> toObjectMap(Map<? extends K, ? extends V> from, ObjectMap<K, V> into) {
+        into.clear();
+        into.ensureCapacity(from.size());
+        for(Map.Entry<? extends K, ? extends V> e : from.entrySet()) {
+            into.put(e.getKey(), e.getValue());
         }
-        return map;
+        return into;
     }
 
     /**
@@ -260,17 +579,34 @@ public class ConversionToGDX {
      * {@link ObjectObjectOrderedMap}, or {@link CaseInsensitiveMap}, to a libGDX OrderedMap.
      * If {@code from} maintains the order of its keys, then the returned OrderedMap will have
      * the same order.
-     * @param from any Map that has a usable {@link Map#keySet()} method
+     * @param from any Map that has a usable {@link Map#entrySet()} method
      * @param <K> the type of keys; the same in {@code from} and the returned OrderedMap
      * @param <V> the type of values; the same in {@code from} and the returned OrderedMap
      * @return a new OrderedMap holding all the key-value pairs in {@code from}
      */
     public static <K, V> OrderedMap<K, V> toOrderedMap(Map<? extends K, ? extends V> from){
-        OrderedMap<K, V> map = new OrderedMap<>(from.size());
-        for(K k : from.keySet()) {
-            map.put(k, from.get(k));
+        return toOrderedMap(from, new OrderedMap<>(from.size()));
+    }
+
+    /**
+     * Can be used to convert from any JDK Map, such as a {@link java.util.LinkedHashMap},
+     * {@link ObjectObjectOrderedMap}, or {@link CaseInsensitiveMap}, to a libGDX OrderedMap.
+     * If {@code from} maintains the order of its keys, then the returned OrderedMap will have
+     * the same order.
+     * This overload clears and reuses {@code into} instead of allocating a new OrderedMap.
+     * @param from any Map that has a usable {@link Map#entrySet()} method
+     * @param into an existing OrderedMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; the same in {@code from} and the returned OrderedMap
+     * @param <V> the type of values; the same in {@code from} and the returned OrderedMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K, V> OrderedMap<K, V> toOrderedMap(Map<? extends K, ? extends V> from, OrderedMap<K, V> into) {
+        into.clear();
+        into.ensureCapacity(from.size());
+        for(Map.Entry<? extends K, ? extends V> e : from.entrySet()) {
+            into.put(e.getKey(), e.getValue());
         }
-        return map;
+        return into;
     }
 
     /**
@@ -281,11 +617,25 @@ public class ConversionToGDX {
      * @return a new libGDX ObjectIntMap holding all the key-value pairs in {@code from}
      */
     public static <K> ObjectIntMap<K> toObjectIntMap(com.github.tommyettinger.ds.ObjectIntMap<? extends K> from){
-        ObjectIntMap<K> map = new ObjectIntMap<>(from.size());
-        for(K k : from.keySet()) {
-            map.put(k, from.get(k));
+        return toObjectIntMap(from, new ObjectIntMap<>(from.size()));
+    }
+
+    /**
+     * Can be used to convert from a jdkgdxds {@link com.github.tommyettinger.ds.ObjectIntMap} or
+     * {@link ObjectIntOrderedMap} to a libGDX ObjectIntMap.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectIntMap.
+     * @param from a jdkgdxds ObjectIntMap or ObjectIntOrderedMap
+     * @param into an existing ObjectIntMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; the same in {@code from} and the returned ObjectIntMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K> ObjectIntMap<K> toObjectIntMap(com.github.tommyettinger.ds.ObjectIntMap<? extends K> from, ObjectIntMap<K> into) {
+        into.clear();
+        into.ensureCapacity(from.size());
+        for (com.github.tommyettinger.ds.ObjectIntMap.Entry<? extends K> e : new com.github.tommyettinger.ds.ObjectIntMap.Entries<>(from)) {
+            into.put(e.getKey(), e.getValue());
         }
-        return map;
+        return into;
     }
 
     /**
@@ -296,11 +646,25 @@ public class ConversionToGDX {
      * @return a new libGDX ObjectLongMap holding all the key-value pairs in {@code from}
      */
     public static <K> ObjectLongMap<K> toObjectLongMap(com.github.tommyettinger.ds.ObjectLongMap<? extends K> from){
-        ObjectLongMap<K> map = new ObjectLongMap<>(from.size());
-        for(K k : from.keySet()) {
-            map.put(k, from.get(k));
+        return toObjectLongMap(from, new ObjectLongMap<>(from.size()));
+    }
+
+    /**
+     * Can be used to convert from a jdkgdxds {@link com.github.tommyettinger.ds.ObjectLongMap} or
+     * {@link ObjectLongOrderedMap} to a libGDX ObjectLongMap.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectLongMap.
+     * @param from a jdkgdxds ObjectLongMap or ObjectLongOrderedMap
+     * @param into an existing ObjectLongMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; the same in {@code from} and the returned ObjectLongMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K> ObjectLongMap<K> toObjectLongMap(com.github.tommyettinger.ds.ObjectLongMap<? extends K> from, ObjectLongMap<K> into) {
+        into.clear();
+        into.ensureCapacity(from.size());
+        for (com.github.tommyettinger.ds.ObjectLongMap.Entry<? extends K> e : new com.github.tommyettinger.ds.ObjectLongMap.Entries<>(from)) {
+            into.put(e.getKey(), e.getValue());
         }
-        return map;
+        return into;
     }
 
     /**
@@ -311,11 +675,25 @@ public class ConversionToGDX {
      * @return a new libGDX ObjectFloatMap holding all the key-value pairs in {@code from}
      */
     public static <K> ObjectFloatMap<K> toObjectFloatMap(com.github.tommyettinger.ds.ObjectFloatMap<? extends K> from){
-        ObjectFloatMap<K> map = new ObjectFloatMap<>(from.size());
-        for(K k : from.keySet()) {
-            map.put(k, from.get(k));
+        return toObjectFloatMap(from, new ObjectFloatMap<>(from.size()));
+    }
+
+    /**
+     * Can be used to convert from a jdkgdxds {@link com.github.tommyettinger.ds.ObjectFloatMap} or
+     * {@link ObjectFloatOrderedMap} to a libGDX ObjectFloatMap.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectFloatMap.
+     * @param from a jdkgdxds ObjectFloatMap or ObjectFloatOrderedMap
+     * @param into an existing ObjectFloatMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; the same in {@code from} and the returned ObjectFloatMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K> ObjectFloatMap<K> toObjectFloatMap(com.github.tommyettinger.ds.ObjectFloatMap<? extends K> from, ObjectFloatMap<K> into) {
+        into.clear();
+        into.ensureCapacity(from.size());
+        for (com.github.tommyettinger.ds.ObjectFloatMap.Entry<? extends K> e : new com.github.tommyettinger.ds.ObjectFloatMap.Entries<>(from)) {
+            into.put(e.getKey(), e.getValue());
         }
-        return map;
+        return into;
     }
 
     /**
@@ -326,13 +704,25 @@ public class ConversionToGDX {
      * @return a new libGDX IntMap holding all the key-value pairs in {@code from}
      */
     public static <V> IntMap<V> toIntMap(com.github.tommyettinger.ds.IntObjectMap<? extends V> from){
-        IntMap<V> map = new IntMap<>(from.size());
-        IntIterator it = from.keySet().iterator();
-        while (it.hasNext()) {
-            int k = it.nextInt();
-            map.put(k, from.get(k));
+        return toIntMap(from, new IntMap<>(from.size()));
+    }
+
+    /**
+     * Can be used to convert from a jdkgdxds {@link com.github.tommyettinger.ds.IntObjectMap} or
+     * {@link IntObjectOrderedMap} to a libGDX IntMap.
+     * This overload clears and reuses {@code into} instead of allocating a new IntMap.
+     * @param from a jdkgdxds IntObjectMap or IntObjectOrderedMap
+     * @param into an existing IntMap that will be cleared and refilled, reusing its backing storage
+     * @param <V> the type of values; the same in {@code from} and the returned IntMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <V> IntMap<V> toIntMap(com.github.tommyettinger.ds.IntObjectMap<? extends V> from, IntMap<V> into) {
+        into.clear();
+        into.ensureCapacity(from.size());
+        for (com.github.tommyettinger.ds.IntObjectMap.Entry<? extends V> e : new com.github.tommyettinger.ds.IntObjectMap.Entries<>(from)) {
+            into.put(e.key, e.getValue());
         }
-        return map;
+        return into;
     }
     
     /**
@@ -342,13 +732,52 @@ public class ConversionToGDX {
      * @return a new libGDX IntIntMap holding all the key-value pairs in {@code from}
      */
     public static IntIntMap toIntIntMap(com.github.tommyettinger.ds.IntIntMap from){
-        IntIntMap map = new IntIntMap(from.size());
-        IntIterator it = from.keySet().iterator();
-        while (it.hasNext()) {
-            int k = it.nextInt();
-            map.put(k, from.get(k));
+        return toIntIntMap(from, new IntIntMap(from.size()));
+    }
+
+    /**
+     * Can be used to convert from a jdkgdxds {@link com.github.tommyettinger.ds.IntIntMap} or
+     * {@link IntIntOrderedMap} to a libGDX IntIntMap.
+     * This overload clears and reuses {@code into} instead of allocating a new IntIntMap.
+     * @param from a jdkgdxds IntIntMap or IntIntOrderedMap
+     * @param into an existing IntIntMap that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static IntIntMap toIntIntMap(com.github.tommyettinger.ds.IntIntMap from, IntIntMap into) {
+        into.clear();
+        into.ensureCapacity(from.size());
+        for (com.github.tommyettinger.ds.IntIntMap.Entry e : new com.github.tommyettinger.ds.IntIntMap.Entries(from)) {
+            into.put(e.key, e.getValue());
         }
-        return map;
+        return into;
+    }
+
+    /**
+     * Can be used to convert from an {@link OffHeapIntIntMap} to a libGDX IntIntMap.
+     * The default value of {@code from} is not copied.
+     * @param from an OffHeapIntIntMap
+     * @return a new libGDX IntIntMap holding all the key-value pairs in {@code from}
+     */
+    public static IntIntMap toIntIntMap(OffHeapIntIntMap from){
+        return toIntIntMap(from, new IntIntMap(from.size()));
+    }
+
+    /**
+     * Can be used to convert from an {@link OffHeapIntIntMap} to a libGDX IntIntMap.
+     * The default value of {@code from} is not copied.
+     * This overload clears and reuses {@code into} instead of allocating a new IntIntMap.
+     * @param from an OffHeapIntIntMap
+     * @param into an existing IntIntMap that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static IntIntMap toIntIntMap(OffHeapIntIntMap from, IntIntMap into) {
+        into.clear();
+        into.ensureCapacity(from.size());
+        IntIterator keys = from.keys(), values = from.values();
+        while (keys.hasNext()) {
+            into.put(keys.nextInt(), values.nextInt());
+        }
+        return into;
     }
 
     /**
@@ -358,13 +787,24 @@ public class ConversionToGDX {
      * @return a new libGDX IntFloatMap holding all the key-value pairs in {@code from}
      */
     public static IntFloatMap toIntFloatMap(com.github.tommyettinger.ds.IntFloatMap from){
-        IntFloatMap map = new IntFloatMap(from.size());
-        IntIterator it = from.keySet().iterator();
-        while (it.hasNext()) {
-            int k = it.nextInt();
-            map.put(k, from.get(k));
+        return toIntFloatMap(from, new IntFloatMap(from.size()));
+    }
+
+    /**
+     * Can be used to convert from a jdkgdxds {@link com.github.tommyettinger.ds.IntFloatMap} or
+     * {@link IntFloatOrderedMap} to a libGDX IntFloatMap.
+     * This overload clears and reuses {@code into} instead of allocating a new IntFloatMap.
+     * @param from a jdkgdxds IntFloatMap or IntFloatOrderedMap
+     * @param into an existing IntFloatMap that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static IntFloatMap toIntFloatMap(com.github.tommyettinger.ds.IntFloatMap from, IntFloatMap into) {
+        into.clear();
+        into.ensureCapacity(from.size());
+        for (com.github.tommyettinger.ds.IntFloatMap.Entry e : new com.github.tommyettinger.ds.IntFloatMap.Entries(from)) {
+            into.put(e.key, e.getValue());
         }
-        return map;
+        return into;
     }
 
     /**
@@ -375,30 +815,58 @@ public class ConversionToGDX {
      * @return a new libGDX IntMap holding all the key-value pairs in {@code from}
      */
     public static <V> LongMap<V> toLongMap(com.github.tommyettinger.ds.LongObjectMap<? extends V> from){
-        LongMap<V> map = new LongMap<>(from.size());
-        LongIterator it = from.keySet().iterator();
-        while (it.hasNext()) {
-            long k = it.nextLong();
-            map.put(k, from.get(k));
+        return toLongMap(from, new LongMap<>(from.size()));
+    }
+
+    /**
+     * Can be used to convert from a jdkgdxds {@link com.github.tommyettinger.ds.LongObjectMap} or
+     * {@link LongObjectOrderedMap} to a libGDX IntMap.
+     * This overload clears and reuses {@code into} instead of allocating a new LongMap.
+     * @param from a jdkgdxds LongObjectMap or LongObjectOrderedMap
+     * @param into an existing LongMap that will be cleared and refilled, reusing its backing storage
+     * @param <V> the type of values; the same in {@code from} and the returned IntMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <V> LongMap<V> toLongMap(com.github.tommyettinger.ds.LongObjectMap<? extends V> from, LongMap<V> into) {
+        into.clear();
+        into.ensureCapacity(from.size());
+        for (com.github.tommyettinger.ds.LongObjectMap.Entry<? extends V> e : new com.github.tommyettinger.ds.LongObjectMap.Entries<>(from)) {
+            into.put(e.key, e.getValue());
         }
-        return map;
+        return into;
     }
 
     /**
      * Can be used to convert from any JDK Map, such as a {@link java.util.HashMap}, {@link IdentityObjectMap},
      * or {@link CaseInsensitiveOrderedMap}, to a libGDX IdentityMap. In almost all cases, IdentityMap is more
      * permissive about allowing duplicate keys, so converting to an IdentityMap should be lossless.
-     * @param from any Map that has a usable {@link Map#keySet()} method
+     * @param from any Map that has a usable {@link Map#entrySet()} method
      * @param <K> the type of keys; the same in {@code from} and the returned IdentityMap
      * @param <V> the type of values; the same in {@code from} and the returned IdentityMap
      * @return a new IdentityMap holding all the key-value pairs in {@code from}
      */
     public static <K, V> IdentityMap<K, V> toIdentityMap(Map<? extends K, ? extends V> from){
-        IdentityMap<K, V> map = new IdentityMap<>(from.size());
-        for(K k : from.keySet()) {
-            map.put(k, from.get(k));
+        return toIdentityMap(from, new IdentityMap<>(from.size()));
+    }
+
+    /**
+     * Can be used to convert from any JDK Map, such as a {@link java.util.HashMap}, {@link IdentityObjectMap},
+     * or {@link CaseInsensitiveOrderedMap}, to a libGDX IdentityMap. In almost all cases, IdentityMap is more
+     * permissive about allowing duplicate keys, so converting to an IdentityMap should be lossless.
+     * This overload clears and reuses {@code into} instead of allocating a new IdentityMap.
+     * @param from any Map that has a usable {@link Map#entrySet()} method
+     * @param into an existing IdentityMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; the same in {@code from} and the returned IdentityMap
+     * @param <V> the type of values; the same in {@code from} and the returned IdentityMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K, V> IdentityMap<K, V> toIdentityMap(Map<? extends K, ? extends V> from, IdentityMap<K, V> into) {
+        into.clear();
+        into.ensureCapacity(from.size());
+        for(Map.Entry<? extends K, ? extends V> e : from.entrySet()) {
+            into.put(e.getKey(), e.getValue());
         }
-        return map;
+        return into;
     }
 
     /**
@@ -412,10 +880,27 @@ public class ConversionToGDX {
      * @return a new Queue of type T holding the items of {@code from} (this does not give a Class to the Queue constructor)
      */
     public static <T> Queue<T> toQueue(Collection<? extends T> from) {
-        Queue<T> queue = new Queue<>(from.size());
+        return toQueue(from, new Queue<>(from.size()));
+    }
+
+    /**
+     * Can be used to convert from any Collection to a new libGDX Queue of the same element type.
+     * This can take an {@link ObjectList}, {@link com.github.tommyettinger.ds.ObjectSet},
+     * {@link NumberedSet}, or any JDK Collection, to name a few.
+     * <br>
+     * Note that Queue in libGDX corresponds to ObjectDeque in jdkgdxds. Both are double-ended queues.
+     * This overload clears and reuses {@code into} instead of allocating a new Queue.
+     * @param from a Collection from the JDK, jdkgdxds, or some other library
+     * @param into an existing Queue that will be cleared and refilled, reusing its backing storage
+     * @param <T> the element type for {@code from} and the result
+     * @return {@code into}, now holding only the items of {@code from} (this does not give a Class to the Queue constructor)
+     */
+    public static <T> Queue<T> toQueue(Collection<? extends T> from, Queue<T> into) {
+        into.clear();
+        into.ensureCapacity(from.size());
         for(T t : from)
-            queue.addLast(t);
-        return queue;
+            into.addLast(t);
+        return into;
     }
 
     /**
@@ -427,11 +912,26 @@ public class ConversionToGDX {
      * @return a new LongQueue holding the items of {@code from}
      */
     public static LongQueue toLongQueue(PrimitiveCollection.OfLong from) {
-        LongQueue queue = new LongQueue(from.size());
+        return toLongQueue(from, new LongQueue(from.size()));
+    }
+
+    /**
+     * Can be used to convert from any jdkgdxds long-based collection (such as {@link LongList},
+     * {@link LongSet}, or especially a {@link LongDeque}) to a libGDX LongQueue.
+     * <br>
+     * Note that LongQueue in libGDX corresponds to LongDeque in jdkgdxds. Both are double-ended queues.
+     * This overload clears and reuses {@code into} instead of allocating a new LongQueue.
+     * @param from a primitive-long-backed data structure from jdkgdxds
+     * @param into an existing LongQueue that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static LongQueue toLongQueue(PrimitiveCollection.OfLong from, LongQueue into) {
+        into.clear();
+        into.ensureCapacity(from.size());
         LongIterator it = from.iterator();
         while (it.hasNext()){
-            queue.addLast(it.nextLong());
+            into.addLast(it.nextLong());
         }
-        return queue;
+        return into;
     }
 }
@@ -45,6 +45,9 @@ import java.util.Iterator;
  * a perfect fit. If you primarily use jdkgdxds data structures, then most of the APIs should be very similar to JDK
  * data structures, when they aren't identical. There are all sorts of extensions jdkgdxds does, such as for the ordered
  * data structures.
+ * <br>
+ * Every conversion also has an overload that takes an existing destination as {@code into}; it is cleared, given
+ * enough capacity for all of {@code from} up-front (where the jdkgdxds type allows it), refilled, and returned.
  */
 public class ConversionToJDK {
 
@@ -55,10 +58,23 @@ public class ConversionToJDK {
      * @return a new ObjectList of type T holding the items of {@code from}
      */
     public static <T> ObjectList<T> toObjectList(Array<T> from) {
-        ObjectList<T> list = new ObjectList<>(from.size);
+        return toObjectList(from, new ObjectList<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX Array to a jdkgdxds ObjectList of the same element type.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectList.
+     * @param from an Array from libGDX
+     * @param into an existing ObjectList that will be cleared and refilled, reusing its backing storage
+     * @param <T> the element type for {@code from} and the result
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static <T> ObjectList<T> toObjectList(Array<T> from, ObjectList<T> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for(T t : from)
-            list.add(t);
-        return list;
+            into.add(t);
+        return into;
     }
 
     /**
@@ -68,10 +84,23 @@ public class ConversionToJDK {
      * @return a new ObjectBag of type T holding the items of {@code from}
      */
     public static <T> ObjectBag<T> toObjectBag(Array<T> from) {
-        ObjectBag<T> bag = new ObjectBag<>(from.size);
+        return toObjectBag(from, new ObjectBag<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX Array to a jdkgdxds ObjectBag of the same element type.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectBag.
+     * @param from an Array from libGDX; may be ordered or unordered
+     * @param into an existing ObjectBag that will be cleared and refilled, reusing its backing storage
+     * @param <T> the element type for {@code from} and the result
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static <T> ObjectBag<T> toObjectBag(Array<T> from, ObjectBag<T> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for(T t : from)
-            bag.add(t);
-        return bag;
+            into.add(t);
+        return into;
     }
 
     /**
@@ -81,10 +110,23 @@ public class ConversionToJDK {
      * @return a new ObjectList of type T holding the items of {@code from}
      */
     public static <T> ObjectList<T> toObjectList(Queue<T> from) {
-        ObjectList<T> list = new ObjectList<>(from.size);
+        return toObjectList(from, new ObjectList<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX Queue to a jdkgdxds ObjectList of the same element type.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectList.
+     * @param from a Queue from libGDX
+     * @param into an existing ObjectList that will be cleared and refilled, reusing its backing storage
+     * @param <T> the element type for {@code from} and the result
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static <T> ObjectList<T> toObjectList(Queue<T> from, ObjectList<T> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for(T t : from)
-            list.add(t);
-        return list;
+            into.add(t);
+        return into;
     }
 
     /**
@@ -94,10 +136,23 @@ public class ConversionToJDK {
      * @return a new ObjectBag of type T holding the items of {@code from}
      */
     public static <T> ObjectBag<T> toObjectBag(Queue<T> from) {
-        ObjectBag<T> Bag = new ObjectBag<>(from.size);
+        return toObjectBag(from, new ObjectBag<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX Queue to a jdkgdxds ObjectBag of the same element type.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectBag.
+     * @param from a Queue from libGDX
+     * @param into an existing ObjectBag that will be cleared and refilled, reusing its backing storage
+     * @param <T> the element type for {@code from} and the result
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static <T> ObjectBag<T> toObjectBag(Queue<T> from, ObjectBag<T> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for(T t : from)
-            Bag.add(t);
-        return Bag;
+            into.add(t);
+        return into;
     }
 
     /**
@@ -107,10 +162,23 @@ public class ConversionToJDK {
      * @return a new ObjectList of type T holding the unique items of {@code from}
      */
     public static <T> ObjectList<T> toObjectList(com.badlogic.gdx.utils.ObjectSet<T> from) {
-        ObjectList<T> list = new ObjectList<>(from.size);
+        return toObjectList(from, new ObjectList<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX ObjectSet or OrderedSet to a jdkgdxds ObjectList of the same element type.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectList.
+     * @param from an ObjectSet or OrderedSet from libGDX
+     * @param into an existing ObjectList that will be cleared and refilled, reusing its backing storage
+     * @param <T> the element type for {@code from} and the result
+     * @return {@code into}, now holding only the unique items of {@code from}
+     */
+    public static <T> ObjectList<T> toObjectList(com.badlogic.gdx.utils.ObjectSet<T> from, ObjectList<T> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for(T t : from)
-            list.add(t);
-        return list;
+            into.add(t);
+        return into;
     }
 
     /**
@@ -122,6 +190,19 @@ public class ConversionToJDK {
         return new IntList(from.items, 0, from.size);
     }
 
+    /**
+     * Can be used to convert from a libGDX IntArray to a jdkgdxds IntList.
+     * This overload clears and reuses {@code into} instead of allocating a new IntList.
+     * @param from a libGDX IntArray
+     * @param into an existing IntList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static IntList toIntList(IntArray from, IntList into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
     /**
      * Can be used to convert from a libGDX IntArray to a jdkgdxds IntBag.
      * @param from a libGDX IntArray, which may be ordered or unordered
@@ -131,6 +212,19 @@ public class ConversionToJDK {
         return new IntBag(from.items, 0, from.size);
     }
 
+    /**
+     * Can be used to convert from a libGDX IntArray to a jdkgdxds IntBag.
+     * This overload clears and reuses {@code into} instead of allocating a new IntBag.
+     * @param from a libGDX IntArray, which may be ordered or unordered
+     * @param into an existing IntBag that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static IntBag toIntBag(IntArray from, IntBag into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
     /**
      * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.IntSet}
      * to a new jdkgdxds {@link IntList}.
@@ -138,12 +232,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds IntList holding the items in {@code from}
      */
     public static IntList toIntList(com.badlogic.gdx.utils.IntSet from) {
-        IntList set = new IntList(from.size);
+        return toIntList(from, new IntList(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.IntSet}
+     * to a new jdkgdxds {@link IntList}.
+     * This overload clears and reuses {@code into} instead of allocating a new IntList.
+     * @param from a libGDX IntSet
+     * @param into an existing IntList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items in {@code from}
+     */
+    public static IntList toIntList(com.badlogic.gdx.utils.IntSet from, IntList into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         com.badlogic.gdx.utils.IntSet.IntSetIterator it = from.iterator();
         while (it.hasNext) {
-            set.add(it.next());
+            into.add(it.next());
         }
-        return set;
+        return into;
     }
 
     /**
@@ -153,12 +260,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds IntBag holding the items in {@code from}
      */
     public static IntBag toIntBag(com.badlogic.gdx.utils.IntSet from) {
-        IntBag set = new IntBag(from.size);
+        return toIntBag(from, new IntBag(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.IntSet}
+     * to a new jdkgdxds {@link IntBag}.
+     * This overload clears and reuses {@code into} instead of allocating a new IntBag.
+     * @param from a libGDX IntSet
+     * @param into an existing IntBag that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items in {@code from}
+     */
+    public static IntBag toIntBag(com.badlogic.gdx.utils.IntSet from, IntBag into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         com.badlogic.gdx.utils.IntSet.IntSetIterator it = from.iterator();
         while (it.hasNext) {
-            set.add(it.next());
+            into.add(it.next());
         }
-        return set;
+        return into;
     }
 
     /**
@@ -170,6 +290,19 @@ public class ConversionToJDK {
         return new LongList(from.items, 0, from.size);
     }
 
+    /**
+     * Can be used to convert from a libGDX LongArray to a jdkgdxds LongList.
+     * This overload clears and reuses {@code into} instead of allocating a new LongList.
+     * @param from a libGDX LongArray
+     * @param into an existing LongList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static LongList toLongList(LongArray from, LongList into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
     /**
      * Can be used to convert from a libGDX LongArray to a jdkgdxds LongBag.
      * @param from a libGDX LongArray
@@ -179,17 +312,42 @@ public class ConversionToJDK {
         return new LongBag(from.items, 0, from.size);
     }
 
+    /**
+     * Can be used to convert from a libGDX LongArray to a jdkgdxds LongBag.
+     * This overload clears and reuses {@code into} instead of allocating a new LongBag.
+     * @param from a libGDX LongArray
+     * @param into an existing LongBag that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static LongBag toLongBag(LongArray from, LongBag into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
     /**
      * Can be used to convert from a libGDX LongQueue to a jdkgdxds LongList.
      * @param from a libGDX LongQueue
      * @return a new LongList holding the items of {@code from}
      */
     public static LongList toLongList(LongQueue from){
-        LongList list = new LongList(from.size);
+        return toLongList(from, new LongList(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX LongQueue to a jdkgdxds LongList.
+     * This overload clears and reuses {@code into} instead of allocating a new LongList.
+     * @param from a libGDX LongQueue
+     * @param into an existing LongList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static LongList toLongList(LongQueue from, LongList into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for (int i = 0; i < from.size; i++) {
-            list.add(from.get(i));
+            into.add(from.get(i));
         }
-        return list;
+        return into;
     }
 
     /**
@@ -198,11 +356,23 @@ public class ConversionToJDK {
      * @return a new LongBag holding the items of {@code from}
      */
     public static LongBag toLongBag(LongQueue from){
-        LongBag list = new LongBag(from.size);
+        return toLongBag(from, new LongBag(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX LongQueue to a jdkgdxds LongBag.
+     * This overload clears and reuses {@code into} instead of allocating a new LongBag.
+     * @param from a libGDX LongQueue
+     * @param into an existing LongBag that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static LongBag toLongBag(LongQueue from, LongBag into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for (int i = 0; i < from.size; i++) {
-            list.add(from.get(i));
+            into.add(from.get(i));
         }
-        return list;
+        return into;
     }
 
     /**
@@ -212,12 +382,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds LongList holding the items in {@code from}
      */
     public static LongList toLongList(com.badlogic.gdx.utils.LongSet from) {
-        LongList set = new LongList(from.size);
+        return toLongList(from, new LongList(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.LongSet}
+     * to a new jdkgdxds {@link LongList}.
+     * This overload clears and reuses {@code into} instead of allocating a new LongList.
+     * @param from a libGDX LongSet
+     * @param into an existing LongList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items in {@code from}
+     */
+    public static LongList toLongList(com.badlogic.gdx.utils.LongSet from, LongList into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         com.badlogic.gdx.utils.LongSet.LongSetIterator it = from.iterator();
         while (it.hasNext) {
-            set.add(it.next());
+            into.add(it.next());
         }
-        return set;
+        return into;
     }
 
     /**
@@ -227,12 +410,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds LongBag holding the items in {@code from}
      */
     public static LongBag toLongBag(com.badlogic.gdx.utils.LongSet from) {
-        LongBag set = new LongBag(from.size);
+        return toLongBag(from, new LongBag(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.LongSet}
+     * to a new jdkgdxds {@link LongBag}.
+     * This overload clears and reuses {@code into} instead of allocating a new LongBag.
+     * @param from a libGDX LongSet
+     * @param into an existing LongBag that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items in {@code from}
+     */
+    public static LongBag toLongBag(com.badlogic.gdx.utils.LongSet from, LongBag into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         com.badlogic.gdx.utils.LongSet.LongSetIterator it = from.iterator();
         while (it.hasNext) {
-            set.add(it.next());
+            into.add(it.next());
         }
-        return set;
+        return into;
     }
 
     /**
@@ -242,12 +438,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds LongSet holding the unique items in {@code from}
      */
     public static LongSet toLongSet(com.badlogic.gdx.utils.LongSet from) {
-        LongSet set = new LongSet(from.size);
+        return toLongSet(from, new LongSet(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.LongSet}
+     * to a new jdkgdxds {@link LongSet}.
+     * This overload clears and reuses {@code into} instead of allocating a new LongSet.
+     * @param from a libGDX LongSet
+     * @param into an existing LongSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static LongSet toLongSet(com.badlogic.gdx.utils.LongSet from, LongSet into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         com.badlogic.gdx.utils.LongSet.LongSetIterator it = from.iterator();
         while (it.hasNext) {
-            set.add(it.next());
+            into.add(it.next());
         }
-        return set;
+        return into;
     }
 
     /**
@@ -261,12 +470,29 @@ public class ConversionToJDK {
      * @return a new jdkgdxds LongOrderedSet holding the unique items in {@code from}
      */
     public static LongOrderedSet toLongOrderedSet(com.badlogic.gdx.utils.LongSet from) {
-        LongOrderedSet set = new LongOrderedSet(from.size);
+        return toLongOrderedSet(from, new LongOrderedSet(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.LongSet}
+     * to a new jdkgdxds {@link LongSet}. Because a libGDX LongSet is not
+     * meaningfully ordered, the initial order of the LongOrderedSet this returns is
+     * probably not going to match the insertion order for the LongSet. You can sort
+     * an {@link LongOrderedSet} with {@link LongOrderedSet#sort()}.
+
+     * This overload clears and reuses {@code into} instead of allocating a new LongOrderedSet.
+     * @param from a libGDX LongSet
+     * @param into an existing LongOrderedSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static LongOrderedSet toLongOrderedSet(com.badlogic.gdx.utils.LongSet from, LongOrderedSet into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         com.badlogic.gdx.utils.LongSet.LongSetIterator it = from.iterator();
         while (it.hasNext) {
-            set.add(it.next());
+            into.add(it.next());
         }
-        return set;
+        return into;
     }
 
     /**
@@ -278,6 +504,19 @@ public class ConversionToJDK {
         return new FloatList(from.items, 0, from.size);
     }
 
+    /**
+     * Can be used to convert from a libGDX FloatArray to a jdkgdxds FloatList.
+     * This overload clears and reuses {@code into} instead of allocating a new FloatList.
+     * @param from a libGDX FloatArray
+     * @param into an existing FloatList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static FloatList toFloatList(FloatArray from, FloatList into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
     /**
      * Can be used to convert from a libGDX ByteArray to a jdkgdxds ByteList.
      * @param from a libGDX ByteArray
@@ -287,6 +526,19 @@ public class ConversionToJDK {
         return new ByteList(from.items, 0, from.size);
     }
 
+    /**
+     * Can be used to convert from a libGDX ByteArray to a jdkgdxds ByteList.
+     * This overload clears and reuses {@code into} instead of allocating a new ByteList.
+     * @param from a libGDX ByteArray
+     * @param into an existing ByteList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static ByteList toByteList(ByteArray from, ByteList into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
     /**
      * Can be used to convert from a libGDX CharArray to a jdkgdxds CharList.
      * @param from a libGDX CharArray
@@ -296,6 +548,19 @@ public class ConversionToJDK {
         return new CharList(from.items, 0, from.size);
     }
 
+    /**
+     * Can be used to convert from a libGDX CharArray to a jdkgdxds CharList.
+     * This overload clears and reuses {@code into} instead of allocating a new CharList.
+     * @param from a libGDX CharArray
+     * @param into an existing CharList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static CharList toCharList(CharArray from, CharList into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
     /**
      * Can be used to convert from a libGDX ShortArray to a jdkgdxds ShortList.
      * @param from a libGDX ShortArray
@@ -305,6 +570,19 @@ public class ConversionToJDK {
         return new ShortList(from.items, 0, from.size);
     }
 
+    /**
+     * Can be used to convert from a libGDX ShortArray to a jdkgdxds ShortList.
+     * This overload clears and reuses {@code into} instead of allocating a new ShortList.
+     * @param from a libGDX ShortArray
+     * @param into an existing ShortList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static ShortList toShortList(ShortArray from, ShortList into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
     /**
      * Can be used to convert from a libGDX BooleanArray to a jdkgdxds BooleanList.
      * @param from a libGDX BooleanArray
@@ -314,6 +592,19 @@ public class ConversionToJDK {
         return new BooleanList(from.items, 0, from.size);
     }
 
+    /**
+     * Can be used to convert from a libGDX BooleanArray to a jdkgdxds BooleanList.
+     * This overload clears and reuses {@code into} instead of allocating a new BooleanList.
+     * @param from a libGDX BooleanArray
+     * @param into an existing BooleanList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static BooleanList toBooleanList(BooleanArray from, BooleanList into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
     /**
      * Can be used to convert from a libGDX FloatArray to a jdkgdxds FloatBag.
      * @param from a libGDX FloatArray
@@ -323,6 +614,19 @@ public class ConversionToJDK {
         return new FloatBag(from.items, 0, from.size);
     }
 
+    /**
+     * Can be used to convert from a libGDX FloatArray to a jdkgdxds FloatBag.
+     * This overload clears and reuses {@code into} instead of allocating a new FloatBag.
+     * @param from a libGDX FloatArray
+     * @param into an existing FloatBag that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static FloatBag toFloatBag(FloatArray from, FloatBag into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
     /**
      * Can be used to convert from a libGDX ByteArray to a jdkgdxds ByteBag.
      * @param from a libGDX ByteArray
@@ -332,6 +636,19 @@ public class ConversionToJDK {
         return new ByteBag(from.items, 0, from.size);
     }
 
+    /**
+     * Can be used to convert from a libGDX ByteArray to a jdkgdxds ByteBag.
+     * This overload clears and reuses {@code into} instead of allocating a new ByteBag.
+     * @param from a libGDX ByteArray
+     * @param into an existing ByteBag that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static ByteBag toByteBag(ByteArray from, ByteBag into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
     /**
      * Can be used to convert from a libGDX CharArray to a jdkgdxds CharBag.
      * @param from a libGDX CharArray
@@ -341,6 +658,19 @@ public class ConversionToJDK {
         return new CharBag(from.items, 0, from.size);
     }
 
+    /**
+     * Can be used to convert from a libGDX CharArray to a jdkgdxds CharBag.
+     * This overload clears and reuses {@code into} instead of allocating a new CharBag.
+     * @param from a libGDX CharArray
+     * @param into an existing CharBag that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static CharBag toCharBag(CharArray from, CharBag into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
     /**
      * Can be used to convert from a libGDX ShortArray to a jdkgdxds ShortBag.
      * @param from a libGDX ShortArray
@@ -350,6 +680,19 @@ public class ConversionToJDK {
         return new ShortBag(from.items, 0, from.size);
     }
 
+    /**
+     * Can be used to convert from a libGDX ShortArray to a jdkgdxds ShortBag.
+     * This overload clears and reuses {@code into} instead of allocating a new ShortBag.
+     * @param from a libGDX ShortArray
+     * @param into an existing ShortBag that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static ShortBag toShortBag(ShortArray from, ShortBag into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
     /**
      * Can be used to convert from a libGDX BooleanArray to a jdkgdxds BooleanBag.
      * @param from a libGDX BooleanArray
@@ -359,6 +702,19 @@ public class ConversionToJDK {
         return new BooleanBag(from.items, 0, from.size);
     }
 
+    /**
+     * Can be used to convert from a libGDX BooleanArray to a jdkgdxds BooleanBag.
+     * This overload clears and reuses {@code into} instead of allocating a new BooleanBag.
+     * @param from a libGDX BooleanArray
+     * @param into an existing BooleanBag that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static BooleanBag toBooleanBag(BooleanArray from, BooleanBag into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
     /**
      * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.Array}
      * to a new jdkgdxds {@link ObjectSet}. This will not necessarily maintain the order of the
@@ -367,11 +723,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds ObjectSet holding the unique items in {@code from}
      */
     public static <T> ObjectSet<T> toObjectSet(com.badlogic.gdx.utils.Array<T> from) {
-        ObjectSet<T> set = new ObjectSet<>(from.size);
+        return toObjectSet(from, new ObjectSet<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.Array}
+     * to a new jdkgdxds {@link ObjectSet}. This will not necessarily maintain the order of the
+     * items in the Array.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectSet.
+     * @param from a libGDX Array
+     * @param into an existing ObjectSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static <T> ObjectSet<T> toObjectSet(com.badlogic.gdx.utils.Array<T> from, ObjectSet<T> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for (T t : from) {
-            set.add(t);
+            into.add(t);
         }
-        return set;
+        return into;
     }
 
     /**
@@ -382,11 +752,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds ObjectSet holding the unique items in {@code from}
      */
     public static <T> ObjectSet<T> toObjectSet(Queue<T> from) {
-        ObjectSet<T> set = new ObjectSet<>(from.size);
+        return toObjectSet(from, new ObjectSet<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link Queue}
+     * to a new jdkgdxds {@link ObjectSet}. This will not necessarily maintain the order of the
+     * items in the Queue.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectSet.
+     * @param from a libGDX Queue
+     * @param into an existing ObjectSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static <T> ObjectSet<T> toObjectSet(Queue<T> from, ObjectSet<T> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for (T t : from) {
-            set.add(t);
+            into.add(t);
         }
-        return set;
+        return into;
     }
 
     /**
@@ -396,12 +780,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds ObjectSet holding the unique items in {@code from}
      */
     public static <T> ObjectSet<T> toObjectSet(com.badlogic.gdx.utils.ObjectSet<T> from) {
-        ObjectSet<T> set = new ObjectSet<>(from.size);
+        return toObjectSet(from, new ObjectSet<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.ObjectSet}
+     * to a new jdkgdxds {@link ObjectSet}.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectSet.
+     * @param from a libGDX ObjectSet or OrderedSet
+     * @param into an existing ObjectSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static <T> ObjectSet<T> toObjectSet(com.badlogic.gdx.utils.ObjectSet<T> from, ObjectSet<T> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         com.badlogic.gdx.utils.ObjectSet.ObjectSetIterator<T> it = from.iterator();
         while (it.hasNext) {
-            set.add(it.next());
+            into.add(it.next());
         }
-        return set;
+        return into;
     }
 
     /**
@@ -412,11 +809,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds ObjectOrderedSet holding the unique items in {@code from}
      */
     public static <T> ObjectOrderedSet<T> toObjectOrderedSet(com.badlogic.gdx.utils.Array<T> from) {
-        ObjectOrderedSet<T> set = new ObjectOrderedSet<>(from.size);
+        return toObjectOrderedSet(from, new ObjectOrderedSet<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.Array}
+     * to a new jdkgdxds {@link ObjectOrderedSet}. This will maintain the order of the
+     * items in the Array.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectOrderedSet.
+     * @param from a libGDX Array
+     * @param into an existing ObjectOrderedSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static <T> ObjectOrderedSet<T> toObjectOrderedSet(com.badlogic.gdx.utils.Array<T> from, ObjectOrderedSet<T> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for (T t : from) {
-            set.add(t);
+            into.add(t);
         }
-        return set;
+        return into;
     }
 
     /**
@@ -427,11 +838,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds ObjectOrderedSet holding the unique items in {@code from}
      */
     public static <T> ObjectOrderedSet<T> toObjectOrderedSet(Queue<T> from) {
-        ObjectOrderedSet<T> set = new ObjectOrderedSet<>(from.size);
+        return toObjectOrderedSet(from, new ObjectOrderedSet<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link Queue}
+     * to a new jdkgdxds {@link ObjectOrderedSet}. This will maintain the order of the
+     * items in the Queue.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectOrderedSet.
+     * @param from a libGDX Queue
+     * @param into an existing ObjectOrderedSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static <T> ObjectOrderedSet<T> toObjectOrderedSet(Queue<T> from, ObjectOrderedSet<T> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for (T t : from) {
-            set.add(t);
+            into.add(t);
         }
-        return set;
+        return into;
     }
 
     /**
@@ -441,12 +866,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds ObjectOrderedSet holding the unique items in {@code from}
      */
     public static <T> ObjectOrderedSet<T> toObjectOrderedSet(com.badlogic.gdx.utils.ObjectSet<T> from) {
-        ObjectOrderedSet<T> set = new ObjectOrderedSet<>(from.size);
+        return toObjectOrderedSet(from, new ObjectOrderedSet<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.ObjectSet} or
+     * {@link com.badlogic.gdx.utils.OrderedSet} to a new jdkgdxds {@link ObjectOrderedSet}.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectOrderedSet.
+     * @param from a libGDX ObjectSet or OrderedSet
+     * @param into an existing ObjectOrderedSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static <T> ObjectOrderedSet<T> toObjectOrderedSet(com.badlogic.gdx.utils.ObjectSet<T> from, ObjectOrderedSet<T> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         com.badlogic.gdx.utils.ObjectSet.ObjectSetIterator<T> it = from.iterator();
         while (it.hasNext) {
-            set.add(it.next());
+            into.add(it.next());
         }
-        return set;
+        return into;
     }
 
     /**
@@ -457,11 +895,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds CaseInsensitiveSet holding the unique items (case-insensitive) in {@code from}
      */
     public static <T extends CharSequence> CaseInsensitiveSet toCaseInsensitiveSet(com.badlogic.gdx.utils.Array<T> from) {
-        CaseInsensitiveSet set = new CaseInsensitiveSet(from.size);
+        return toCaseInsensitiveSet(from, new CaseInsensitiveSet(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.Array}
+     * to a new jdkgdxds {@link CaseInsensitiveSet}. This will not necessarily maintain the order of the
+     * items in the Array.
+     * This overload clears and reuses {@code into} instead of allocating a new CaseInsensitiveSet.
+     * @param from a libGDX Array
+     * @param into an existing CaseInsensitiveSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items (case-insensitive) in {@code from}
+     */
+    public static <T extends CharSequence> CaseInsensitiveSet toCaseInsensitiveSet(com.badlogic.gdx.utils.Array<T> from, CaseInsensitiveSet into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for (T t : from) {
-            set.add(t);
+            into.add(t);
         }
-        return set;
+        return into;
     }
 
     /**
@@ -471,12 +923,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds CaseInsensitiveSet holding the unique items (case-insensitive) in {@code from}
      */
     public static <T extends CharSequence> CaseInsensitiveSet toCaseInsensitiveSet(com.badlogic.gdx.utils.ObjectSet<T> from) {
-        CaseInsensitiveSet set = new CaseInsensitiveSet(from.size);
+        return toCaseInsensitiveSet(from, new CaseInsensitiveSet(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.ObjectSet} or
+     * {@link com.badlogic.gdx.utils.OrderedSet} to a new jdkgdxds {@link CaseInsensitiveSet}.
+     * This overload clears and reuses {@code into} instead of allocating a new CaseInsensitiveSet.
+     * @param from a libGDX ObjectSet or OrderedSet
+     * @param into an existing CaseInsensitiveSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items (case-insensitive) in {@code from}
+     */
+    public static <T extends CharSequence> CaseInsensitiveSet toCaseInsensitiveSet(com.badlogic.gdx.utils.ObjectSet<T> from, CaseInsensitiveSet into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         com.badlogic.gdx.utils.ObjectSet.ObjectSetIterator<T> it = from.iterator();
         while (it.hasNext) {
-            set.add(it.next());
+            into.add(it.next());
         }
-        return set;
+        return into;
     }
 
     /**
@@ -487,11 +952,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds CaseInsensitiveSet holding the unique items (case-insensitive) in {@code from}
      */
     public static <T extends CharSequence> CaseInsensitiveOrderedSet toCaseInsensitiveOrderedSet(com.badlogic.gdx.utils.Array<T> from) {
-        CaseInsensitiveOrderedSet set = new CaseInsensitiveOrderedSet(from.size);
+        return toCaseInsensitiveOrderedSet(from, new CaseInsensitiveOrderedSet(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.Array}
+     * to a new jdkgdxds {@link CaseInsensitiveSet}. This will maintain the order of the
+     * items in the Array.
+     * This overload clears and reuses {@code into} instead of allocating a new CaseInsensitiveOrderedSet.
+     * @param from a libGDX Array
+     * @param into an existing CaseInsensitiveOrderedSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items (case-insensitive) in {@code from}
+     */
+    public static <T extends CharSequence> CaseInsensitiveOrderedSet toCaseInsensitiveOrderedSet(com.badlogic.gdx.utils.Array<T> from, CaseInsensitiveOrderedSet into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for (T t : from) {
-            set.add(t);
+            into.add(t);
         }
-        return set;
+        return into;
     }
 
     /**
@@ -502,12 +981,26 @@ public class ConversionToJDK {
      * @return a new jdkgdxds ObjectOrderedSet holding the unique items (case-insensitive) in {@code from}
      */
     public static <T extends CharSequence> CaseInsensitiveOrderedSet toCaseInsensitiveOrderedSet(com.badlogic.gdx.utils.ObjectSet<T> from) {
-        CaseInsensitiveOrderedSet set = new CaseInsensitiveOrderedSet(from.size);
+        return toCaseInsensitiveOrderedSet(from, new CaseInsensitiveOrderedSet(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.ObjectSet} or
+     * {@link com.badlogic.gdx.utils.OrderedSet} to a new jdkgdxds {@link ObjectOrderedSet}.
+     * If from is an OrderedSet, this will maintain its order.
+     * This overload clears and reuses {@code into} instead of allocating a new CaseInsensitiveOrderedSet.
+     * @param from a libGDX ObjectSet or OrderedSet
+     * @param into an existing CaseInsensitiveOrderedSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items (case-insensitive) in {@code from}
+     */
+    public static <T extends CharSequence> CaseInsensitiveOrderedSet toCaseInsensitiveOrderedSet(com.badlogic.gdx.utils.ObjectSet<T> from, CaseInsensitiveOrderedSet into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         com.badlogic.gdx.utils.ObjectSet.ObjectSetIterator<T> it = from.iterator();
         while (it.hasNext) {
-            set.add(it.next());
+            into.add(it.next());
         }
-        return set;
+        return into;
     }
 
     /**
@@ -517,12 +1010,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds IntSet holding the unique items in {@code from}
      */
     public static IntSet toIntSet(com.badlogic.gdx.utils.IntSet from) {
-        IntSet set = new IntSet(from.size);
-        com.badlogic.gdx.utils.IntSet.IntSetIterator it = from.iterator();
-        while (it.hasNext) {
-            set.add(it.next());
+        return toIntSet(from, new IntSet(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.IntSet}
+     * to a new jdkgdxds {@link IntSet}.
+     * This overload clears and reuses {@code into} instead of allocating a new IntSet.
+     * @param from a libGDX IntSet
+     * @param into an existing IntSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static IntSet toIntSet(com.badlogic.gdx.utils.IntSet from, IntSet into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        com.badlogic.gdx.utils.IntSet.IntSetIterator it = from.iterator();
+        while (it.hasNext) {
+            into.add(it.next());
         }
-        return set;
+        return into;
     }
 
     /**
@@ -535,6 +1041,20 @@ public class ConversionToJDK {
         return new IntSet(from.items, 0, from.size);
     }
 
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.IntArray}
+     * to a new jdkgdxds {@link IntSet}.
+     * This overload clears and reuses {@code into} instead of allocating a new IntSet.
+     * @param from a libGDX IntArray
+     * @param into an existing IntSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static IntSet toIntSet(com.badlogic.gdx.utils.IntArray from, IntSet into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
     /**
      * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.IntSet}
      * to a new jdkgdxds {@link IntOrderedSet}. Because a libGDX IntSet is not
@@ -545,12 +1065,28 @@ public class ConversionToJDK {
      * @return a new jdkgdxds IntOrderedSet holding the unique items in {@code from}
      */
     public static IntOrderedSet toIntOrderedSet(com.badlogic.gdx.utils.IntSet from) {
-        IntOrderedSet set = new IntOrderedSet(from.size);
+        return toIntOrderedSet(from, new IntOrderedSet(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.IntSet}
+     * to a new jdkgdxds {@link IntOrderedSet}. Because a libGDX IntSet is not
+     * meaningfully ordered, the initial order of the IntOrderedSet this returns is
+     * probably not going to match the insertion order for the IntSet. You can sort
+     * an {@link IntOrderedSet} with {@link IntOrderedSet#sort()}.
+     * This overload clears and reuses {@code into} instead of allocating a new IntOrderedSet.
+     * @param from a libGDX IntSet
+     * @param into an existing IntOrderedSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static IntOrderedSet toIntOrderedSet(com.badlogic.gdx.utils.IntSet from, IntOrderedSet into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         com.badlogic.gdx.utils.IntSet.IntSetIterator it = from.iterator();
         while (it.hasNext) {
-            set.add(it.next());
+            into.add(it.next());
         }
-        return set;
+        return into;
     }
 
     /**
@@ -564,6 +1100,21 @@ public class ConversionToJDK {
         return new IntOrderedSet(from.items, 0, from.size);
     }
 
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.IntArray}
+     * to a new jdkgdxds {@link IntOrderedSet}. This will maintain the order of the
+     * items in the IntArray.
+     * This overload clears and reuses {@code into} instead of allocating a new IntOrderedSet.
+     * @param from a libGDX IntArray
+     * @param into an existing IntOrderedSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static IntOrderedSet toIntOrderedSet(com.badlogic.gdx.utils.IntArray from, IntOrderedSet into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
     /**
      * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.ObjectSet}
      * (or more typically, a libGDX {@link OrderedSet}) to a new jdkgdxds {@link NumberedSet}.
@@ -575,12 +1126,28 @@ public class ConversionToJDK {
      * @return a new jdkgdxds NumberedSet holding the unique items in {@code from}
      */
     public static <T> NumberedSet<T> toNumberedSet(com.badlogic.gdx.utils.ObjectSet<T> from) {
-        NumberedSet<T> set = new NumberedSet<>(from.size);
+        return toNumberedSet(from, new NumberedSet<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.ObjectSet}
+     * (or more typically, a libGDX {@link OrderedSet}) to a new jdkgdxds {@link NumberedSet}.
+     * This will maintain the order in an OrderedSet argument, and because it returns a
+     * NumberedSet, the order can be looked up bidirectionally with
+     * {@link NumberedSet#indexOf(Object)}. If given an ordinary ObjectSet, it will not maintain
+     * any kind of order with the given set.
+     * This overload clears and reuses {@code into} instead of allocating a new NumberedSet.
+     * @param from a libGDX ObjectSet or OrderedSet
+     * @param into an existing NumberedSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static <T> NumberedSet<T> toNumberedSet(com.badlogic.gdx.utils.ObjectSet<T> from, NumberedSet<T> into) {
+        into.clear();
         com.badlogic.gdx.utils.ObjectSet.ObjectSetIterator<T> it = from.iterator();
         while (it.hasNext) {
-            set.add(it.next());
+            into.add(it.next());
         }
-        return set;
+        return into;
     }
 
     /**
@@ -592,12 +1159,26 @@ public class ConversionToJDK {
      * @return a new jdkgdxds NumberedSet holding the unique items in {@code from}
      */
     public static <T> NumberedSet<T> toNumberedSet(Array<T> from) {
-        NumberedSet<T> set = new NumberedSet<>(from.size);
+        return toNumberedSet(from, new NumberedSet<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.Array} to a new
+     * jdkgdxds {@link NumberedSet}, keeping only unique items in the Array. This will
+     * maintain the order in the Array argument, and because it returns a NumberedSet, the order
+     * can be looked up bidirectionally with {@link NumberedSet#indexOf(Object)}.
+     * This overload clears and reuses {@code into} instead of allocating a new NumberedSet.
+     * @param from a libGDX Array
+     * @param into an existing NumberedSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static <T> NumberedSet<T> toNumberedSet(Array<T> from, NumberedSet<T> into) {
+        into.clear();
         Array.ArrayIterator<T> it = from.iterator();
         while (it.hasNext()) {
-            set.add(it.next());
+            into.add(it.next());
         }
-        return set;
+        return into;
     }
 
     /**
@@ -609,12 +1190,26 @@ public class ConversionToJDK {
      * @return a new jdkgdxds NumberedSet holding the unique items in {@code from}
      */
     public static <T> NumberedSet<T> toNumberedSet(Queue<T> from) {
-        NumberedSet<T> set = new NumberedSet<>(from.size);
+        return toNumberedSet(from, new NumberedSet<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link Queue} to a new
+     * jdkgdxds {@link NumberedSet}, keeping only unique items in the Queue. This will
+     * maintain the order in the Queue argument, and because it returns a NumberedSet, the order
+     * can be looked up bidirectionally with {@link NumberedSet#indexOf(Object)}.
+     * This overload clears and reuses {@code into} instead of allocating a new NumberedSet.
+     * @param from a libGDX Queue
+     * @param into an existing NumberedSet that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the unique items in {@code from}
+     */
+    public static <T> NumberedSet<T> toNumberedSet(Queue<T> from, NumberedSet<T> into) {
+        into.clear();
         Iterator<T> it = from.iterator();
         while (it.hasNext()) {
-            set.add(it.next());
+            into.add(it.next());
         }
-        return set;
+        return into;
     }
 
     /**
@@ -626,11 +1221,26 @@ public class ConversionToJDK {
      * @return a new ObjectObjectMap holding all the key-value pairs in {@code from}
      */
     public static <K, V> ObjectObjectMap<K, V> toObjectObjectMap(ObjectMap<K, V> from){
-        ObjectObjectMap<K, V> map = new ObjectObjectMap<>(from.size);
-        for(K k : from.keys()) {
-            map.put(k, from.get(k));
+        return toObjectObjectMap(from, new ObjectObjectMap<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX ObjectMap (or OrderedMap) to a new jdkgdxds
+     * {@link ObjectObjectMap}.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectObjectMap.
+     * @param from a libGDX ObjectMap (or OrderedMap)
+     * @param into an existing ObjectObjectMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; the same in {@code from} and the returned ObjectObjectMap
+     * @param <V> the type of values; the same in {@code from} and the returned ObjectObjectMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K, V> ObjectObjectMap<K, V> toObjectObjectMap(ObjectMap<K, V> from, ObjectObjectMap<K, V> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (ObjectMap.Entry<K, V> e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -643,11 +1253,27 @@ public class ConversionToJDK {
      * @return a new ObjectObjectOrderedMap holding all the key-value pairs in {@code from}
      */
     public static <K, V> ObjectObjectOrderedMap<K, V> toObjectObjectOrderedMap(ObjectMap<K, V> from){
-        ObjectObjectOrderedMap<K, V> map = new ObjectObjectOrderedMap<>(from.size);
-        for(K k : from.keys()) {
-            map.put(k, from.get(k));
+        return toObjectObjectOrderedMap(from, new ObjectObjectOrderedMap<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX ObjectMap (or OrderedMap) to a new jdkgdxds
+     * {@link ObjectObjectOrderedMap}. If {@code from} is an OrderedMap, then this will maintain
+     * its order in the returned ObjectObjectOrderedMap.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectObjectOrderedMap.
+     * @param from a libGDX ObjectMap (or OrderedMap)
+     * @param into an existing ObjectObjectOrderedMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; the same in {@code from} and the returned ObjectObjectOrderedMap
+     * @param <V> the type of values; the same in {@code from} and the returned ObjectObjectOrderedMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K, V> ObjectObjectOrderedMap<K, V> toObjectObjectOrderedMap(ObjectMap<K, V> from, ObjectObjectOrderedMap<K, V> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (ObjectMap.Entry<K, V> e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -658,11 +1284,25 @@ public class ConversionToJDK {
      * @return a new ObjectObjectMap holding all the key-value pairs in {@code from}
      */
     public static <K, V> ObjectObjectMap<K, V> toObjectObjectMap(ArrayMap<K, V> from){
-        ObjectObjectMap<K, V> map = new ObjectObjectMap<>(from.size);
-        for(K k : from.keys()) {
-            map.put(k, from.get(k));
+        return toObjectObjectMap(from, new ObjectObjectMap<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX ArrayMap to a new jdkgdxds {@link ObjectObjectMap}.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectObjectMap.
+     * @param from a libGDX ArrayMap
+     * @param into an existing ObjectObjectMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; the same in {@code from} and the returned ObjectObjectMap
+     * @param <V> the type of values; the same in {@code from} and the returned ObjectObjectMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K, V> ObjectObjectMap<K, V> toObjectObjectMap(ArrayMap<K, V> from, ObjectObjectMap<K, V> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (int i = 0; i < from.size; i++) {
+            into.put(from.keys[i], from.values[i]);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -675,11 +1315,27 @@ public class ConversionToJDK {
      * @return a new ObjectObjectOrderedMap holding all the key-value pairs in {@code from}
      */
     public static <K, V> ObjectObjectOrderedMap<K, V> toObjectObjectOrderedMap(ArrayMap<K, V> from){
-        ObjectObjectOrderedMap<K, V> map = new ObjectObjectOrderedMap<>(from.size);
-        for(K k : from.keys()) {
-            map.put(k, from.get(k));
+        return toObjectObjectOrderedMap(from, new ObjectObjectOrderedMap<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX ArrayMap to a new jdkgdxds
+     * {@link ObjectObjectOrderedMap}. This will maintain the ArrayMap's order in the
+     * returned ObjectObjectOrderedMap.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectObjectOrderedMap.
+     * @param from a libGDX ArrayMap
+     * @param into an existing ObjectObjectOrderedMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; the same in {@code from} and the returned ObjectObjectOrderedMap
+     * @param <V> the type of values; the same in {@code from} and the returned ObjectObjectOrderedMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K, V> ObjectObjectOrderedMap<K, V> toObjectObjectOrderedMap(ArrayMap<K, V> from, ObjectObjectOrderedMap<K, V> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (int i = 0; i < from.size; i++) {
+            into.put(from.keys[i], from.values[i]);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -691,11 +1347,26 @@ public class ConversionToJDK {
      * @return a new CaseInsensitiveMap holding all the key-value pairs in {@code from}
      */
     public static <K extends CharSequence, V> CaseInsensitiveMap<V> toCaseInsensitiveMap(ObjectMap<K, V> from){
-        CaseInsensitiveMap<V> map = new CaseInsensitiveMap<>(from.size);
-        for(K k : from.keys()) {
-            map.put(k, from.get(k));
+        return toCaseInsensitiveMap(from, new CaseInsensitiveMap<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX ObjectMap (or OrderedMap) to a new jdkgdxds
+     * {@link CaseInsensitiveMap}.
+     * This overload clears and reuses {@code into} instead of allocating a new CaseInsensitiveMap.
+     * @param from a libGDX ObjectMap (or OrderedMap)
+     * @param into an existing CaseInsensitiveMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; must extend CharSequence, so this could be String, StringBuilder, etc.
+     * @param <V> the type of values; the same in {@code from} and the returned CaseInsensitiveMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K extends CharSequence, V> CaseInsensitiveMap<V> toCaseInsensitiveMap(ObjectMap<K, V> from, CaseInsensitiveMap<V> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (ObjectMap.Entry<K, V> e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -708,11 +1379,27 @@ public class ConversionToJDK {
      * @return a new CaseInsensitiveOrderedMap holding all the key-value pairs in {@code from}
      */
     public static <K extends CharSequence, V> CaseInsensitiveOrderedMap<V> toCaseInsensitiveOrderedMap(ObjectMap<K, V> from){
-        CaseInsensitiveOrderedMap<V> map = new CaseInsensitiveOrderedMap<>(from.size);
-        for(K k : from.keys()) {
-            map.put(k, from.get(k));
+        return toCaseInsensitiveOrderedMap(from, new CaseInsensitiveOrderedMap<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX ObjectMap (or OrderedMap) to a new jdkgdxds
+     * {@link CaseInsensitiveOrderedMap}. If {@code from} is an OrderedMap, then this will maintain
+     * its order in the returned CaseInsensitiveOrderedMap.
+     * This overload clears and reuses {@code into} instead of allocating a new CaseInsensitiveOrderedMap.
+     * @param from a libGDX ObjectMap (or OrderedMap)
+     * @param into an existing CaseInsensitiveOrderedMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; must extend CharSequence, so this could be String, StringBuilder, etc.
+     * @param <V> the type of values; the same in {@code from} and the returned CaseInsensitiveOrderedMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K extends CharSequence, V> CaseInsensitiveOrderedMap<V> toCaseInsensitiveOrderedMap(ObjectMap<K, V> from, CaseInsensitiveOrderedMap<V> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (ObjectMap.Entry<K, V> e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -723,11 +1410,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds ObjectIntMap holding all the key-value pairs in {@code from}
      */
     public static <K> ObjectIntMap<K> toObjectIntMap(com.badlogic.gdx.utils.ObjectIntMap<K> from){
-        ObjectIntMap<K> map = new ObjectIntMap<>(from.size);
-        for(K k : from.keys()) {
-            map.put(k, from.get(k, 0));
+        return toObjectIntMap(from, new ObjectIntMap<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.ObjectIntMap} to a
+     * jdkgdxds ObjectIntMap.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectIntMap.
+     * @param from a libGDX ObjectIntMap
+     * @param into an existing ObjectIntMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; the same in {@code from} and the returned ObjectIntMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K> ObjectIntMap<K> toObjectIntMap(com.badlogic.gdx.utils.ObjectIntMap<K> from, ObjectIntMap<K> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (com.badlogic.gdx.utils.ObjectIntMap.Entry<K> e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -740,11 +1441,27 @@ public class ConversionToJDK {
      * @return a new jdkgdxds ObjectIntOrderedMap holding all the key-value pairs in {@code from}
      */
     public static <K> ObjectIntOrderedMap<K> toObjectIntOrderedMap(com.badlogic.gdx.utils.ObjectIntMap<K> from){
-        ObjectIntOrderedMap<K> map = new ObjectIntOrderedMap<>(from.size);
-        for(K k : from.keys()) {
-            map.put(k, from.get(k, 0));
+        return toObjectIntOrderedMap(from, new ObjectIntOrderedMap<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.ObjectIntMap} to a
+     * jdkgdxds ObjectIntOrderedMap. Because the given libGDX ObjectIntMap does not maintain order,
+     * the initial ordering of the returned ObjectIntOrderedMap is undefined, but it can be sorted
+     * with {@link ObjectIntOrderedMap#sort()} or {@link ObjectIntOrderedMap#sortByValue(IntComparator)}.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectIntOrderedMap.
+     * @param from a libGDX ObjectIntMap
+     * @param into an existing ObjectIntOrderedMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; the same in {@code from} and the returned ObjectIntOrderedMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K> ObjectIntOrderedMap<K> toObjectIntOrderedMap(com.badlogic.gdx.utils.ObjectIntMap<K> from, ObjectIntOrderedMap<K> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (com.badlogic.gdx.utils.ObjectIntMap.Entry<K> e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -755,11 +1472,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds ObjectLongMap holding all the key-value pairs in {@code from}
      */
     public static <K> ObjectLongMap<K> toObjectLongMap(com.badlogic.gdx.utils.ObjectLongMap<K> from){
-        ObjectLongMap<K> map = new ObjectLongMap<>(from.size);
-        for(K k : from.keys()) {
-            map.put(k, from.get(k, 0));
+        return toObjectLongMap(from, new ObjectLongMap<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.ObjectLongMap} to a
+     * jdkgdxds ObjectLongMap.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectLongMap.
+     * @param from a libGDX ObjectLongMap
+     * @param into an existing ObjectLongMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; the same in {@code from} and the returned ObjectLongMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K> ObjectLongMap<K> toObjectLongMap(com.badlogic.gdx.utils.ObjectLongMap<K> from, ObjectLongMap<K> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (com.badlogic.gdx.utils.ObjectLongMap.Entry<K> e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -772,11 +1503,27 @@ public class ConversionToJDK {
      * @return a new jdkgdxds ObjectLongOrderedMap holding all the key-value pairs in {@code from}
      */
     public static <K> ObjectLongOrderedMap<K> toObjectLongOrderedMap(com.badlogic.gdx.utils.ObjectLongMap<K> from){
-        ObjectLongOrderedMap<K> map = new ObjectLongOrderedMap<>(from.size);
-        for(K k : from.keys()) {
-            map.put(k, from.get(k, 0));
+        return toObjectLongOrderedMap(from, new ObjectLongOrderedMap<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.ObjectLongMap} to a
+     * jdkgdxds ObjectLongOrderedMap. Because the given libGDX ObjectLongMap does not maintain order,
+     * the initial ordering of the returned ObjectLongOrderedMap is undefined, but it can be sorted
+     * with {@link ObjectLongOrderedMap#sort()} or {@link ObjectLongOrderedMap#sortByValue(LongComparator)}.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectLongOrderedMap.
+     * @param from a libGDX ObjectLongMap
+     * @param into an existing ObjectLongOrderedMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; the same in {@code from} and the returned ObjectLongOrderedMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K> ObjectLongOrderedMap<K> toObjectLongOrderedMap(com.badlogic.gdx.utils.ObjectLongMap<K> from, ObjectLongOrderedMap<K> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (com.badlogic.gdx.utils.ObjectLongMap.Entry<K> e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -787,11 +1534,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds ObjectFloatMap holding all the key-value pairs in {@code from}
      */
     public static <K> ObjectFloatMap<K> toObjectFloatMap(com.badlogic.gdx.utils.ObjectFloatMap<K> from){
-        ObjectFloatMap<K> map = new ObjectFloatMap<>(from.size);
-        for(K k : from.keys()) {
-            map.put(k, from.get(k, 0));
+        return toObjectFloatMap(from, new ObjectFloatMap<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.ObjectFloatMap} to a
+     * jdkgdxds ObjectFloatMap.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectFloatMap.
+     * @param from a libGDX ObjectFloatMap
+     * @param into an existing ObjectFloatMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; the same in {@code from} and the returned ObjectFloatMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K> ObjectFloatMap<K> toObjectFloatMap(com.badlogic.gdx.utils.ObjectFloatMap<K> from, ObjectFloatMap<K> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (com.badlogic.gdx.utils.ObjectFloatMap.Entry<K> e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -804,11 +1565,27 @@ public class ConversionToJDK {
      * @return a new jdkgdxds ObjectFloatOrderedMap holding all the key-value pairs in {@code from}
      */
     public static <K> ObjectFloatOrderedMap<K> toObjectFloatOrderedMap(com.badlogic.gdx.utils.ObjectFloatMap<K> from){
-        ObjectFloatOrderedMap<K> map = new ObjectFloatOrderedMap<>(from.size);
-        for(K k : from.keys()) {
-            map.put(k, from.get(k, 0));
+        return toObjectFloatOrderedMap(from, new ObjectFloatOrderedMap<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.ObjectFloatMap} to a
+     * jdkgdxds ObjectFloatOrderedMap. Because the given libGDX ObjectFloatMap does not maintain order,
+     * the initial ordering of the returned ObjectFloatOrderedMap is undefined, but it can be sorted
+     * with {@link ObjectFloatOrderedMap#sort()} or {@link ObjectFloatOrderedMap#sortByValue(FloatComparator)}.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectFloatOrderedMap.
+     * @param from a libGDX ObjectFloatMap
+     * @param into an existing ObjectFloatOrderedMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; the same in {@code from} and the returned ObjectFloatOrderedMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K> ObjectFloatOrderedMap<K> toObjectFloatOrderedMap(com.badlogic.gdx.utils.ObjectFloatMap<K> from, ObjectFloatOrderedMap<K> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (com.badlogic.gdx.utils.ObjectFloatMap.Entry<K> e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -819,13 +1596,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds IntObjectMap holding all the key-value pairs in {@code from}
      */
     public static <V> IntObjectMap<V> toIntObjectMap(com.badlogic.gdx.utils.IntMap<V> from){
-        IntObjectMap<V> map = new IntObjectMap<>(from.size);
-        IntMap.Keys it = from.keys();
-        while (it.hasNext){
-            int k = it.next();
-            map.put(k, from.get(k));
+        return toIntObjectMap(from, new IntObjectMap<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.IntMap} to a
+     * jdkgdxds IntObjectMap.
+     * This overload clears and reuses {@code into} instead of allocating a new IntObjectMap.
+     * @param from a libGDX IntMap
+     * @param into an existing IntObjectMap that will be cleared and refilled, reusing its backing storage
+     * @param <V> the type of values; the same in {@code from} and the returned IntObjectMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <V> IntObjectMap<V> toIntObjectMap(com.badlogic.gdx.utils.IntMap<V> from, IntObjectMap<V> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (IntMap.Entry<V> e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -838,13 +1627,27 @@ public class ConversionToJDK {
      * @return a new jdkgdxds IntObjectOrderedMap holding all the key-value pairs in {@code from}
      */
     public static <V> IntObjectOrderedMap<V> toIntObjectOrderedMap(com.badlogic.gdx.utils.IntMap<V> from){
-        IntObjectOrderedMap<V> map = new IntObjectOrderedMap<>(from.size);
-        IntMap.Keys it = from.keys();
-        while (it.hasNext){
-            int k = it.next();
-            map.put(k, from.get(k));
+        return toIntObjectOrderedMap(from, new IntObjectOrderedMap<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.IntMap} to a
+     * jdkgdxds IntObjectOrderedMap. Because the given libGDX IntMap does not maintain order,
+     * the initial ordering of the returned IntObjectOrderedMap is undefined, but it can be sorted
+     * with {@link IntObjectOrderedMap#sort()} or {@link IntObjectOrderedMap#sortByValue(Comparator)}.
+     * This overload clears and reuses {@code into} instead of allocating a new IntObjectOrderedMap.
+     * @param from a libGDX IntMap
+     * @param into an existing IntObjectOrderedMap that will be cleared and refilled, reusing its backing storage
+     * @param <V> the type of values; the same in {@code from} and the returned IntObjectOrderedMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <V> IntObjectOrderedMap<V> toIntObjectOrderedMap(com.badlogic.gdx.utils.IntMap<V> from, IntObjectOrderedMap<V> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (IntMap.Entry<V> e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -854,13 +1657,24 @@ public class ConversionToJDK {
      * @return a new jdkgdxds IntIntMap holding all the key-value pairs in {@code from}
      */
     public static IntIntMap toIntIntMap(com.badlogic.gdx.utils.IntIntMap from){
-        IntIntMap map = new IntIntMap(from.size);
-        com.badlogic.gdx.utils.IntIntMap.Keys it = from.keys();
-        while (it.hasNext){
-            int k = it.next();
-            map.put(k, from.get(k, 0));
+        return toIntIntMap(from, new IntIntMap(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.IntIntMap} to a
+     * jdkgdxds IntIntMap.
+     * This overload clears and reuses {@code into} instead of allocating a new IntIntMap.
+     * @param from a libGDX IntIntMap
+     * @param into an existing IntIntMap that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static IntIntMap toIntIntMap(com.badlogic.gdx.utils.IntIntMap from, IntIntMap into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (com.badlogic.gdx.utils.IntIntMap.Entry e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -872,13 +1686,26 @@ public class ConversionToJDK {
      * @return a new jdkgdxds IntIntOrderedMap holding all the key-value pairs in {@code from}
      */
     public static IntIntOrderedMap toIntIntOrderedMap(com.badlogic.gdx.utils.IntIntMap from){
-        IntIntOrderedMap map = new IntIntOrderedMap(from.size);
-        com.badlogic.gdx.utils.IntIntMap.Keys it = from.keys();
-        while (it.hasNext){
-            int k = it.next();
-            map.put(k, from.get(k, 0));
+        return toIntIntOrderedMap(from, new IntIntOrderedMap(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.IntIntMap} to a
+     * jdkgdxds IntIntOrderedMap. Because the given libGDX IntIntMap does not maintain order,
+     * the initial ordering of the returned IntIntOrderedMap is undefined, but it can be sorted
+     * with {@link IntIntOrderedMap#sort()} or {@link IntIntOrderedMap#sortByValue(IntComparator)}.
+     * This overload clears and reuses {@code into} instead of allocating a new IntIntOrderedMap.
+     * @param from a libGDX IntIntMap
+     * @param into an existing IntIntOrderedMap that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static IntIntOrderedMap toIntIntOrderedMap(com.badlogic.gdx.utils.IntIntMap from, IntIntOrderedMap into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (com.badlogic.gdx.utils.IntIntMap.Entry e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -888,13 +1715,24 @@ public class ConversionToJDK {
      * @return a new jdkgdxds IntFloatMap holding all the key-value pairs in {@code from}
      */
     public static IntFloatMap toIntFloatMap(com.badlogic.gdx.utils.IntFloatMap from){
-        IntFloatMap map = new IntFloatMap(from.size);
-        com.badlogic.gdx.utils.IntFloatMap.Keys it = from.keys();
-        while (it.hasNext){
-            int k = it.next();
-            map.put(k, from.get(k, 0));
+        return toIntFloatMap(from, new IntFloatMap(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.IntFloatMap} to a
+     * jdkgdxds IntFloatMap.
+     * This overload clears and reuses {@code into} instead of allocating a new IntFloatMap.
+     * @param from a libGDX IntFloatMap
+     * @param into an existing IntFloatMap that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static IntFloatMap toIntFloatMap(com.badlogic.gdx.utils.IntFloatMap from, IntFloatMap into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (com.badlogic.gdx.utils.IntFloatMap.Entry e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -906,13 +1744,26 @@ public class ConversionToJDK {
      * @return a new jdkgdxds IntFloatOrderedMap holding all the key-value pairs in {@code from}
      */
     public static IntFloatOrderedMap toIntFloatOrderedMap(com.badlogic.gdx.utils.IntFloatMap from){
-        IntFloatOrderedMap map = new IntFloatOrderedMap(from.size);
-        com.badlogic.gdx.utils.IntFloatMap.Keys it = from.keys();
-        while (it.hasNext){
-            int k = it.next();
-            map.put(k, from.get(k, 0));
+        return toIntFloatOrderedMap(from, new IntFloatOrderedMap(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.IntFloatMap} to a
+     * jdkgdxds IntFloatOrderedMap. Because the given libGDX IntFloatMap does not maintain order,
+     * the initial ordering of the returned IntFloatOrderedMap is undefined, but it can be sorted
+     * with {@link IntFloatOrderedMap#sort()} or {@link IntFloatOrderedMap#sortByValue(FloatComparator)}.
+     * This overload clears and reuses {@code into} instead of allocating a new IntFloatOrderedMap.
+     * @param from a libGDX IntFloatMap
+     * @param into an existing IntFloatOrderedMap that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static IntFloatOrderedMap toIntFloatOrderedMap(com.badlogic.gdx.utils.IntFloatMap from, IntFloatOrderedMap into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (com.badlogic.gdx.utils.IntFloatMap.Entry e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -923,13 +1774,25 @@ public class ConversionToJDK {
      * @return a new jdkgdxds LongObjectMap holding all the key-value pairs in {@code from}
      */
     public static <V> LongObjectMap<V> toLongObjectMap(com.badlogic.gdx.utils.LongMap<V> from){
-        LongObjectMap<V> map = new LongObjectMap<>(from.size);
-        LongMap.Keys it = from.keys();
-        while (it.hasNext){
-            long k = it.next();
-            map.put(k, from.get(k));
+        return toLongObjectMap(from, new LongObjectMap<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.LongMap} to a
+     * jdkgdxds LongObjectMap.
+     * This overload clears and reuses {@code into} instead of allocating a new LongObjectMap.
+     * @param from a libGDX LongMap
+     * @param into an existing LongObjectMap that will be cleared and refilled, reusing its backing storage
+     * @param <V> the type of values; the same in {@code from} and the returned LongObjectMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <V> LongObjectMap<V> toLongObjectMap(com.badlogic.gdx.utils.LongMap<V> from, LongObjectMap<V> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (LongMap.Entry<V> e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -942,13 +1805,27 @@ public class ConversionToJDK {
      * @return a new jdkgdxds LongObjectOrderedMap holding all the key-value pairs in {@code from}
      */
     public static <V> LongObjectOrderedMap<V> toLongObjectOrderedMap(com.badlogic.gdx.utils.LongMap<V> from){
-        LongObjectOrderedMap<V> map = new LongObjectOrderedMap<>(from.size);
-        LongMap.Keys it = from.keys();
-        while (it.hasNext){
-            long k = it.next();
-            map.put(k, from.get(k));
+        return toLongObjectOrderedMap(from, new LongObjectOrderedMap<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.LongMap} to a
+     * jdkgdxds LongObjectOrderedMap. Because the given libGDX LongMap does not maintain order,
+     * the initial ordering of the returned LongObjectOrderedMap is undefined, but it can be sorted
+     * with {@link LongObjectOrderedMap#sort()} or {@link LongObjectOrderedMap#sortByValue(Comparator)}.
+     * This overload clears and reuses {@code into} instead of allocating a new LongObjectOrderedMap.
+     * @param from a libGDX LongMap
+     * @param into an existing LongObjectOrderedMap that will be cleared and refilled, reusing its backing storage
+     * @param <V> the type of values; the same in {@code from} and the returned LongObjectOrderedMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <V> LongObjectOrderedMap<V> toLongObjectOrderedMap(com.badlogic.gdx.utils.LongMap<V> from, LongObjectOrderedMap<V> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (LongMap.Entry<V> e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -960,11 +1837,26 @@ public class ConversionToJDK {
      * @return a new IdentityObjectMap holding all the key-value pairs in {@code from}
      */
     public static <K, V> IdentityObjectMap<K, V> toIdentityObjectMap(ObjectMap<K, V> from){
-        IdentityObjectMap<K, V> map = new IdentityObjectMap<>(from.size);
-        for(K k : from.keys()) {
-            map.put(k, from.get(k));
+        return toIdentityObjectMap(from, new IdentityObjectMap<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX IdentityMap, ObjectMap, or OrderedMap to a new
+     * jdkgdxds {@link IdentityObjectMap}.
+     * This overload clears and reuses {@code into} instead of allocating a new IdentityObjectMap.
+     * @param from a libGDX IdentityMap, ObjectMap, or OrderedMap
+     * @param into an existing IdentityObjectMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; the same in {@code from} and the returned IdentityObjectMap
+     * @param <V> the type of values; the same in {@code from} and the returned IdentityObjectMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K, V> IdentityObjectMap<K, V> toIdentityObjectMap(ObjectMap<K, V> from, IdentityObjectMap<K, V> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (ObjectMap.Entry<K, V> e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -977,11 +1869,27 @@ public class ConversionToJDK {
      * @return a new IdentityObjectOrderedMap holding all the key-value pairs in {@code from}
      */
     public static <K, V> IdentityObjectOrderedMap<K, V> toIdentityObjectOrderedMap(ObjectMap<K, V> from){
-        IdentityObjectOrderedMap<K, V> map = new IdentityObjectOrderedMap<>(from.size);
-        for(K k : from.keys()) {
-            map.put(k, from.get(k));
+        return toIdentityObjectOrderedMap(from, new IdentityObjectOrderedMap<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX IdentityMap, ObjectMap, or OrderedMap to a new jdkgdxds
+     * {@link IdentityObjectOrderedMap}. If {@code from} is an OrderedMap, then this will maintain
+     * its order in the returned IdentityObjectOrderedMap.
+     * This overload clears and reuses {@code into} instead of allocating a new IdentityObjectOrderedMap.
+     * @param from a libGDX IdentityMap, ObjectMap, or OrderedMap
+     * @param into an existing IdentityObjectOrderedMap that will be cleared and refilled, reusing its backing storage
+     * @param <K> the type of keys; the same in {@code from} and the returned IdentityObjectOrderedMap
+     * @param <V> the type of values; the same in {@code from} and the returned IdentityObjectOrderedMap
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static <K, V> IdentityObjectOrderedMap<K, V> toIdentityObjectOrderedMap(ObjectMap<K, V> from, IdentityObjectOrderedMap<K, V> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (ObjectMap.Entry<K, V> e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return map;
+        return into;
     }
 
     /**
@@ -991,10 +1899,23 @@ public class ConversionToJDK {
      * @return a new ObjectDeque of type T holding the items of {@code from}
      */
     public static <T> ObjectDeque<T> toObjectDeque(Array<T> from) {
-        ObjectDeque<T> deque = new ObjectDeque<>(from.size);
+        return toObjectDeque(from, new ObjectDeque<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX Array to a jdkgdxds ObjectDeque of the same element type.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectDeque.
+     * @param from an Array from libGDX
+     * @param into an existing ObjectDeque that will be cleared and refilled, reusing its backing storage
+     * @param <T> the element type for {@code from} and the result
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static <T> ObjectDeque<T> toObjectDeque(Array<T> from, ObjectDeque<T> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for(T t : from)
-            deque.add(t);
-        return deque;
+            into.add(t);
+        return into;
     }
 
     /**
@@ -1004,10 +1925,23 @@ public class ConversionToJDK {
      * @return a new ObjectDeque of type T holding the items of {@code from}
      */
     public static <T> ObjectDeque<T> toObjectDeque(Queue<T> from) {
-        ObjectDeque<T> deque = new ObjectDeque<>(from.size);
+        return toObjectDeque(from, new ObjectDeque<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX Queue to a jdkgdxds ObjectDeque of the same element type.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectDeque.
+     * @param from a Queue from libGDX
+     * @param into an existing ObjectDeque that will be cleared and refilled, reusing its backing storage
+     * @param <T> the element type for {@code from} and the result
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static <T> ObjectDeque<T> toObjectDeque(Queue<T> from, ObjectDeque<T> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for(T t : from)
-            deque.add(t);
-        return deque;
+            into.add(t);
+        return into;
     }
 
     /**
@@ -1017,10 +1951,23 @@ public class ConversionToJDK {
      * @return a new ObjectDeque of type T holding the unique items of {@code from}
      */
     public static <T> ObjectDeque<T> toObjectDeque(com.badlogic.gdx.utils.ObjectSet<T> from) {
-        ObjectDeque<T> deque = new ObjectDeque<>(from.size);
+        return toObjectDeque(from, new ObjectDeque<>(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX ObjectSet or OrderedSet to a jdkgdxds ObjectDeque of the same element type.
+     * This overload clears and reuses {@code into} instead of allocating a new ObjectDeque.
+     * @param from an ObjectSet or OrderedSet from libGDX
+     * @param into an existing ObjectDeque that will be cleared and refilled, reusing its backing storage
+     * @param <T> the element type for {@code from} and the result
+     * @return {@code into}, now holding only the unique items of {@code from}
+     */
+    public static <T> ObjectDeque<T> toObjectDeque(com.badlogic.gdx.utils.ObjectSet<T> from, ObjectDeque<T> into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for(T t : from)
-            deque.add(t);
-        return deque;
+            into.add(t);
+        return into;
     }
 
     /**
@@ -1029,11 +1976,23 @@ public class ConversionToJDK {
      * @return a new LongDeque holding the items of {@code from}
      */
     public static LongDeque toLongDeque(LongQueue from){
-        LongDeque deque = new LongDeque(from.size);
+        return toLongDeque(from, new LongDeque(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX LongQueue to a jdkgdxds LongDeque.
+     * This overload clears and reuses {@code into} instead of allocating a new LongDeque.
+     * @param from a libGDX LongQueue
+     * @param into an existing LongDeque that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static LongDeque toLongDeque(LongQueue from, LongDeque into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for (int i = 0; i < from.size; i++) {
-            deque.add(from.get(i));
+            into.add(from.get(i));
         }
-        return deque;
+        return into;
     }
 
     /**
@@ -1042,11 +2001,23 @@ public class ConversionToJDK {
      * @return a new LongDeque holding the items of {@code from}
      */
     public static LongDeque toLongDeque(LongArray from){
-        LongDeque deque = new LongDeque(from.size);
+        return toLongDeque(from, new LongDeque(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX LongArray to a jdkgdxds LongDeque.
+     * This overload clears and reuses {@code into} instead of allocating a new LongDeque.
+     * @param from a libGDX LongArray
+     * @param into an existing LongDeque that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static LongDeque toLongDeque(LongArray from, LongDeque into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for (int i = 0; i < from.size; i++) {
-            deque.add(from.get(i));
+            into.add(from.get(i));
         }
-        return deque;
+        return into;
     }
 
     /**
@@ -1055,12 +2026,24 @@ public class ConversionToJDK {
      * @return a new LongDeque holding the items of {@code from}
      */
     public static LongDeque toLongDeque(com.badlogic.gdx.utils.LongSet from){
-        LongDeque deque = new LongDeque(from.size);
+        return toLongDeque(from, new LongDeque(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX LongSet to a jdkgdxds LongDeque.
+     * This overload clears and reuses {@code into} instead of allocating a new LongDeque.
+     * @param from a libGDX LongSet
+     * @param into an existing LongDeque that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static LongDeque toLongDeque(com.badlogic.gdx.utils.LongSet from, LongDeque into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         com.badlogic.gdx.utils.LongSet.LongSetIterator it = from.iterator();
         while (it.hasNext) {
-            deque.add(it.next());
+            into.add(it.next());
         }
-        return deque;
+        return into;
     }
 
     /**
@@ -1069,11 +2052,23 @@ public class ConversionToJDK {
      * @return a new IntDeque holding the items of {@code from}
      */
     public static IntDeque toIntDeque(IntArray from){
-        IntDeque deque = new IntDeque(from.size);
+        return toIntDeque(from, new IntDeque(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX IntArray to a jdkgdxds IntDeque.
+     * This overload clears and reuses {@code into} instead of allocating a new IntDeque.
+     * @param from a libGDX IntArray
+     * @param into an existing IntDeque that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static IntDeque toIntDeque(IntArray from, IntDeque into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for (int i = 0; i < from.size; i++) {
-            deque.add(from.get(i));
+            into.add(from.get(i));
         }
-        return deque;
+        return into;
     }
 
     /**
@@ -1082,12 +2077,24 @@ public class ConversionToJDK {
      * @return a new IntDeque holding the items of {@code from}
      */
     public static IntDeque toIntDeque(com.badlogic.gdx.utils.IntSet from){
-        IntDeque deque = new IntDeque(from.size);
+        return toIntDeque(from, new IntDeque(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX IntSet to a jdkgdxds IntDeque.
+     * This overload clears and reuses {@code into} instead of allocating a new IntDeque.
+     * @param from a libGDX IntSet
+     * @param into an existing IntDeque that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static IntDeque toIntDeque(com.badlogic.gdx.utils.IntSet from, IntDeque into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         com.badlogic.gdx.utils.IntSet.IntSetIterator it = from.iterator();
         while (it.hasNext) {
-            deque.add(it.next());
+            into.add(it.next());
         }
-        return deque;
+        return into;
     }
 
     /**
@@ -1096,11 +2103,23 @@ public class ConversionToJDK {
      * @return a new ByteDeque holding the items of {@code from}
      */
     public static ByteDeque toByteDeque(ByteArray from){
-        ByteDeque deque = new ByteDeque(from.size);
+        return toByteDeque(from, new ByteDeque(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX ByteArray to a jdkgdxds ByteDeque.
+     * This overload clears and reuses {@code into} instead of allocating a new ByteDeque.
+     * @param from a libGDX ByteArray
+     * @param into an existing ByteDeque that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static ByteDeque toByteDeque(ByteArray from, ByteDeque into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for (int i = 0; i < from.size; i++) {
-            deque.add(from.get(i));
+            into.add(from.get(i));
         }
-        return deque;
+        return into;
     }
     /**
      * Can be used to convert from a libGDX ShortArray to a jdkgdxds ShortDeque.
@@ -1108,11 +2127,23 @@ public class ConversionToJDK {
      * @return a new ShortDeque holding the items of {@code from}
      */
     public static ShortDeque toShortDeque(ShortArray from){
-        ShortDeque deque = new ShortDeque(from.size);
+        return toShortDeque(from, new ShortDeque(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX ShortArray to a jdkgdxds ShortDeque.
+     * This overload clears and reuses {@code into} instead of allocating a new ShortDeque.
+     * @param from a libGDX ShortArray
+     * @param into an existing ShortDeque that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static ShortDeque toShortDeque(ShortArray from, ShortDeque into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for (int i = 0; i < from.size; i++) {
-            deque.add(from.get(i));
+            into.add(from.get(i));
         }
-        return deque;
+        return into;
     }
 
     /**
@@ -1121,11 +2152,23 @@ public class ConversionToJDK {
      * @return a new CharDeque holding the items of {@code from}
      */
     public static CharDeque toCharDeque(CharArray from){
-        CharDeque deque = new CharDeque(from.size);
+        return toCharDeque(from, new CharDeque(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX CharArray to a jdkgdxds CharDeque.
+     * This overload clears and reuses {@code into} instead of allocating a new CharDeque.
+     * @param from a libGDX CharArray
+     * @param into an existing CharDeque that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static CharDeque toCharDeque(CharArray from, CharDeque into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for (int i = 0; i < from.size; i++) {
-            deque.add(from.get(i));
+            into.add(from.get(i));
         }
-        return deque;
+        return into;
     }
 
     /**
@@ -1134,10 +2177,121 @@ public class ConversionToJDK {
      * @return a new FloatDeque holding the items of {@code from}
      */
     public static FloatDeque toFloatDeque(FloatArray from){
-        FloatDeque deque = new FloatDeque(from.size);
+        return toFloatDeque(from, new FloatDeque(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX FloatArray to a jdkgdxds FloatDeque.
+     * This overload clears and reuses {@code into} instead of allocating a new FloatDeque.
+     * @param from a libGDX FloatArray
+     * @param into an existing FloatDeque that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static FloatDeque toFloatDeque(FloatArray from, FloatDeque into) {
+        into.clear();
+        into.ensureCapacity(from.size);
         for (int i = 0; i < from.size; i++) {
-            deque.add(from.get(i));
+            into.add(from.get(i));
+        }
+        return into;
+    }
+
+    /**
+     * Can be used to convert from a libGDX IntArray to an {@link OffHeapIntList}, which keeps its items outside the
+     * Java heap.
+     * @param from a libGDX IntArray
+     * @return a new OffHeapIntList holding the items of {@code from}
+     */
+    public static OffHeapIntList toOffHeapIntList(IntArray from){
+        return toOffHeapIntList(from, new OffHeapIntList(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX IntArray to an {@link OffHeapIntList}, which keeps its items outside the
+     * Java heap.
+     * This overload clears and reuses {@code into} instead of allocating a new OffHeapIntList.
+     * @param from a libGDX IntArray
+     * @param into an existing OffHeapIntList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static OffHeapIntList toOffHeapIntList(IntArray from, OffHeapIntList into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
+    /**
+     * Can be used to convert from a libGDX LongArray to an {@link OffHeapLongList}, which keeps its items outside the
+     * Java heap.
+     * @param from a libGDX LongArray
+     * @return a new OffHeapLongList holding the items of {@code from}
+     */
+    public static OffHeapLongList toOffHeapLongList(LongArray from){
+        return toOffHeapLongList(from, new OffHeapLongList(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX LongArray to an {@link OffHeapLongList}, which keeps its items outside the
+     * Java heap.
+     * This overload clears and reuses {@code into} instead of allocating a new OffHeapLongList.
+     * @param from a libGDX LongArray
+     * @param into an existing OffHeapLongList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static OffHeapLongList toOffHeapLongList(LongArray from, OffHeapLongList into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
+    /**
+     * Can be used to convert from a libGDX FloatArray to an {@link OffHeapFloatList}, which keeps its items outside the
+     * Java heap.
+     * @param from a libGDX FloatArray
+     * @return a new OffHeapFloatList holding the items of {@code from}
+     */
+    public static OffHeapFloatList toOffHeapFloatList(FloatArray from){
+        return toOffHeapFloatList(from, new OffHeapFloatList(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX FloatArray to an {@link OffHeapFloatList}, which keeps its items outside the
+     * Java heap.
+     * This overload clears and reuses {@code into} instead of allocating a new OffHeapFloatList.
+     * @param from a libGDX FloatArray
+     * @param into an existing OffHeapFloatList that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only the items of {@code from}
+     */
+    public static OffHeapFloatList toOffHeapFloatList(FloatArray from, OffHeapFloatList into) {
+        into.clear();
+        into.addAll(from.items, 0, from.size);
+        return into;
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.IntIntMap} to an {@link OffHeapIntIntMap},
+     * which keeps its keys and values outside the Java heap.
+     * @param from a libGDX IntIntMap
+     * @return a new OffHeapIntIntMap holding all the key-value pairs in {@code from}
+     */
+    public static OffHeapIntIntMap toOffHeapIntIntMap(com.badlogic.gdx.utils.IntIntMap from){
+        return toOffHeapIntIntMap(from, new OffHeapIntIntMap(from.size));
+    }
+
+    /**
+     * Can be used to convert from a libGDX {@link com.badlogic.gdx.utils.IntIntMap} to an {@link OffHeapIntIntMap},
+     * which keeps its keys and values outside the Java heap.
+     * This overload clears and reuses {@code into} instead of allocating a new OffHeapIntIntMap.
+     * @param from a libGDX IntIntMap
+     * @param into an existing OffHeapIntIntMap that will be cleared and refilled, reusing its backing storage
+     * @return {@code into}, now holding only all the key-value pairs in {@code from}
+     */
+    public static OffHeapIntIntMap toOffHeapIntIntMap(com.badlogic.gdx.utils.IntIntMap from, OffHeapIntIntMap into) {
+        into.clear();
+        into.ensureCapacity(from.size);
+        for (com.badlogic.gdx.utils.IntIntMap.Entry e : from.entries()) {
+            into.put(e.key, e.value);
         }
-        return deque;
+        return into;
     }
 }
@@ -0,0 +1,473 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ArrayMap;
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.CharArray;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.LongQueue;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.OrderedMap;
+import com.badlogic.gdx.utils.OrderedSet;
+import com.badlogic.gdx.utils.Queue;
+import com.badlogic.gdx.utils.ShortArray;
+import com.github.tommyettinger.ds.IdentityObjectMap;
+import com.github.tommyettinger.ds.IntObjectMap;
+import com.github.tommyettinger.ds.LongDeque;
+import com.github.tommyettinger.ds.LongObjectMap;
+import com.github.tommyettinger.ds.NumberedSet;
+import com.github.tommyettinger.ds.ObjectDeque;
+import com.github.tommyettinger.ds.ObjectList;
+import com.github.tommyettinger.ds.ObjectObjectMap;
+import com.github.tommyettinger.ds.ObjectObjectOrderedMap;
+import com.github.tommyettinger.ds.ObjectOrderedSet;
+import com.github.tommyettinger.ds.PrimitiveCollection;
+
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Converts a whole tree of nested data structures in one call, replacing every libGDX data structure with its jdkgdxds
+ * counterpart using {@link #toJDK(Object)}, or every jdkgdxds (or JDK) data structure with its libGDX counterpart using
+ * {@link #toGDX(Object)}. Items, keys, and values are converted recursively, so an
+ * {@code ObjectMap<String, Array<ObjectMap<String, IntArray>>>} becomes an
+ * {@code ObjectObjectMap<String, ObjectList<ObjectObjectMap<String, IntList>>>}. Anything that isn't a data structure
+ * this knows about, such as a String or a Vector2, is kept as-is rather than copied.
+ * <br>
+ * Each runtime class is only looked up once; the way to convert it is cached, so the rest of the items of that class
+ * are dispatched with one map lookup and no reflection. If the same data structure is reachable more than once in the
+ * tree, including from inside itself, it is converted once and every reference to it gets the same converted result.
+ * <br>
+ * A DeepConversion reuses its caches between calls, so it is not thread-safe; use one per thread, as with {@code Json}.
+ */
+@SuppressWarnings("unchecked")
+public class DeepConversion {
+    /**
+     * Converts one data structure whose runtime class was already looked up. Implementations must call
+     * {@link #seen(Object, Object)} before converting anything inside {@code from}, so shared and cyclic references
+     * resolve to the result.
+     */
+    private interface Converter {
+        Object convert(Object from);
+    }
+
+    /**
+     * Used for any runtime class that isn't a data structure this converts.
+     */
+    private static final Converter KEEP = from -> from;
+
+    private final IdentityObjectMap<Class<?>, Converter> jdkConverters = new IdentityObjectMap<>(32);
+    private final IdentityObjectMap<Class<?>, Converter> gdxConverters = new IdentityObjectMap<>(32);
+    private final IdentityObjectMap<Object, Object> converted = new IdentityObjectMap<>(32);
+
+    /**
+     * Creates a DeepConversion with empty caches.
+     */
+    public DeepConversion() {
+    }
+
+    /**
+     * Converts {@code from} and everything it contains, replacing each libGDX data structure with the jdkgdxds data
+     * structure that {@link ConversionToJDK} would produce for it: Array becomes ObjectList, Queue becomes ObjectDeque,
+     * ObjectMap becomes ObjectObjectMap, IntArray becomes IntList, and so on. Ordered libGDX types (OrderedSet,
+     * OrderedMap, and ArrayMap) become ordered jdkgdxds types.
+     * @param from a libGDX data structure, possibly containing more libGDX data structures; may be null
+     * @return the converted data structure, or {@code from} itself if it isn't a libGDX data structure
+     */
+    public Object toJDK(Object from) {
+        try {
+            return jdk(from);
+        } finally {
+            converted.clear();
+        }
+    }
+
+    /**
+     * Converts {@code from} and everything it contains, replacing each jdkgdxds (or JDK) data structure with the libGDX
+     * data structure that {@link ConversionToGDX} would produce for it: any List becomes an Array, any Deque becomes a
+     * Queue, any Map becomes an ObjectMap, IntList becomes IntArray, and so on. Ordered sets and maps (including
+     * LinkedHashSet and LinkedHashMap) become OrderedSet and OrderedMap.
+     * @param from a jdkgdxds or JDK data structure, possibly containing more data structures; may be null
+     * @return the converted data structure, or {@code from} itself if it isn't a jdkgdxds or JDK data structure
+     */
+    public Object toGDX(Object from) {
+        try {
+            return gdx(from);
+        } finally {
+            converted.clear();
+        }
+    }
+
+    /**
+     * Records that {@code from} has been (or is being) converted to {@code to}, and returns {@code to}.
+     */
+    private <T> T seen(Object from, T to) {
+        converted.put(from, to);
+        return to;
+    }
+
+    private Object jdk(Object from) {
+        if (from == null) return null;
+        Class<?> c = from.getClass();
+        Converter converter = jdkConverters.get(c);
+        if (converter == null) {
+            converter = resolveJDK(from);
+            jdkConverters.put(c, converter);
+        }
+        if (converter == KEEP) return from;
+        Object done = converted.get(from);
+        return done != null ? done : converter.convert(from);
+    }
+
+    private Object gdx(Object from) {
+        if (from == null) return null;
+        Class<?> c = from.getClass();
+        Converter converter = gdxConverters.get(c);
+        if (converter == null) {
+            converter = resolveGDX(from);
+            gdxConverters.put(c, converter);
+        }
+        if (converter == KEEP) return from;
+        Object done = converted.get(from);
+        return done != null ? done : converter.convert(from);
+    }
+
+    /**
+     * Picks how to convert a libGDX data structure with the same runtime class as {@code from}. Subclasses are checked
+     * before the classes they extend.
+     */
+    private Converter resolveJDK(Object from) {
+        if (from instanceof Array) return this::arrayToJDK;
+        if (from instanceof Queue) return this::queueToJDK;
+        if (from instanceof OrderedSet) return this::orderedSetToJDK;
+        if (from instanceof com.badlogic.gdx.utils.ObjectSet) return this::objectSetToJDK;
+        if (from instanceof OrderedMap) return this::orderedMapToJDK;
+        if (from instanceof IdentityMap) return this::identityMapToJDK;
+        if (from instanceof ObjectMap) return this::objectMapToJDK;
+        if (from instanceof ArrayMap) return this::arrayMapToJDK;
+        if (from instanceof IntMap) return this::intMapToJDK;
+        if (from instanceof LongMap) return this::longMapToJDK;
+        if (from instanceof com.badlogic.gdx.utils.ObjectIntMap) return this::objectIntMapToJDK;
+        if (from instanceof com.badlogic.gdx.utils.ObjectLongMap) return this::objectLongMapToJDK;
+        if (from instanceof com.badlogic.gdx.utils.ObjectFloatMap) return this::objectFloatMapToJDK;
+        if (from instanceof com.badlogic.gdx.utils.IntIntMap)
+            return f -> seen(f, ConversionToJDK.toIntIntMap((com.badlogic.gdx.utils.IntIntMap) f));
+        if (from instanceof com.badlogic.gdx.utils.IntFloatMap)
+            return f -> seen(f, ConversionToJDK.toIntFloatMap((com.badlogic.gdx.utils.IntFloatMap) f));
+        if (from instanceof com.badlogic.gdx.utils.IntSet)
+            return f -> seen(f, ConversionToJDK.toIntSet((com.badlogic.gdx.utils.IntSet) f));
+        if (from instanceof com.badlogic.gdx.utils.LongSet)
+            return f -> seen(f, ConversionToJDK.toLongSet((com.badlogic.gdx.utils.LongSet) f));
+        if (from instanceof LongQueue)
+            return f -> seen(f, ConversionToJDK.toLongDeque((LongQueue) f));
+        if (from instanceof IntArray)
+            return f -> seen(f, ConversionToJDK.toIntList((IntArray) f));
+        if (from instanceof LongArray)
+            return f -> seen(f, ConversionToJDK.toLongList((LongArray) f));
+        if (from instanceof FloatArray)
+            return f -> seen(f, ConversionToJDK.toFloatList((FloatArray) f));
+        if (from instanceof ByteArray)
+            return f -> seen(f, ConversionToJDK.toByteList((ByteArray) f));
+        if (from instanceof CharArray)
+            return f -> seen(f, ConversionToJDK.toCharList((CharArray) f));
+        if (from instanceof ShortArray)
+            return f -> seen(f, ConversionToJDK.toShortList((ShortArray) f));
+        if (from instanceof BooleanArray)
+            return f -> seen(f, ConversionToJDK.toBooleanList((BooleanArray) f));
+        return KEEP;
+    }
+
+    /**
+     * Picks how to convert a jdkgdxds or JDK data structure with the same runtime class as {@code from}. Subclasses and
+     * more specific interfaces are checked before the types they extend.
+     */
+    private Converter resolveGDX(Object from) {
+        if (from instanceof Deque) return this::dequeToGDX;
+        if (from instanceof List) return this::listToGDX;
+        if (from instanceof ObjectOrderedSet || from instanceof NumberedSet || from instanceof LinkedHashSet)
+            return this::orderedSetToGDX;
+        if (from instanceof Set) return this::setToGDX;
+        if (from instanceof IdentityObjectMap) return this::identityMapToGDX;
+        if (from instanceof ObjectObjectOrderedMap || from instanceof LinkedHashMap) return this::orderedMapToGDX;
+        if (from instanceof Map) return this::mapToGDX;
+        if (from instanceof IntObjectMap) return this::intObjectMapToGDX;
+        if (from instanceof LongObjectMap) return this::longObjectMapToGDX;
+        if (from instanceof com.github.tommyettinger.ds.ObjectIntMap) return this::objectIntMapToGDX;
+        if (from instanceof com.github.tommyettinger.ds.ObjectLongMap) return this::objectLongMapToGDX;
+        if (from instanceof com.github.tommyettinger.ds.ObjectFloatMap) return this::objectFloatMapToGDX;
+        if (from instanceof com.github.tommyettinger.ds.IntIntMap)
+            return f -> seen(f, ConversionToGDX.toIntIntMap((com.github.tommyettinger.ds.IntIntMap) f));
+        if (from instanceof com.github.tommyettinger.ds.IntFloatMap)
+            return f -> seen(f, ConversionToGDX.toIntFloatMap((com.github.tommyettinger.ds.IntFloatMap) f));
+        if (from instanceof com.github.tommyettinger.ds.IntSet)
+            return f -> seen(f, ConversionToGDX.toIntSet((PrimitiveCollection.OfInt) f));
+        if (from instanceof com.github.tommyettinger.ds.LongSet)
+            return f -> seen(f, ConversionToGDX.toLongSet((PrimitiveCollection.OfLong) f));
+        if (from instanceof LongDeque)
+            return f -> seen(f, ConversionToGDX.toLongQueue((LongDeque) f));
+        if (from instanceof PrimitiveCollection.OfInt)
+            return f -> seen(f, ConversionToGDX.toIntArray((PrimitiveCollection.OfInt) f));
+        if (from instanceof PrimitiveCollection.OfLong)
+            return f -> seen(f, ConversionToGDX.toLongArray((PrimitiveCollection.OfLong) f));
+        if (from instanceof PrimitiveCollection.OfFloat)
+            return f -> seen(f, ConversionToGDX.toFloatArray((PrimitiveCollection.OfFloat) f));
+        if (from instanceof PrimitiveCollection.OfByte)
+            return f -> seen(f, ConversionToGDX.toByteArray((PrimitiveCollection.OfByte) f));
+        if (from instanceof PrimitiveCollection.OfChar)
+            return f -> seen(f, ConversionToGDX.toCharArray((PrimitiveCollection.OfChar) f));
+        if (from instanceof PrimitiveCollection.OfShort)
+            return f -> seen(f, ConversionToGDX.toShortArray((PrimitiveCollection.OfShort) f));
+        if (from instanceof PrimitiveCollection.OfBoolean)
+            return f -> seen(f, ConversionToGDX.toBooleanArray((PrimitiveCollection.OfBoolean) f));
+        return KEEP;
+    }
+
+    private Object arrayToJDK(Object f) {
+        Array<?> from = (Array<?>) f;
+        ObjectList<Object> to = seen(from, new ObjectList<>(from.size));
+        for (int i = 0; i < from.size; i++) {
+            to.add(jdk(from.get(i)));
+        }
+        return to;
+    }
+
+    private Object queueToJDK(Object f) {
+        Queue<?> from = (Queue<?>) f;
+        ObjectDeque<Object> to = seen(from, new ObjectDeque<>(from.size));
+        for (int i = 0; i < from.size; i++) {
+            to.addLast(jdk(from.get(i)));
+        }
+        return to;
+    }
+
+    private Object orderedSetToJDK(Object f) {
+        OrderedSet<?> from = (OrderedSet<?>) f;
+        ObjectOrderedSet<Object> to = seen(from, new ObjectOrderedSet<>(from.size));
+        Array<?> items = from.orderedItems();
+        for (int i = 0; i < items.size; i++) {
+            to.add(jdk(items.get(i)));
+        }
+        return to;
+    }
+
+    private Object objectSetToJDK(Object f) {
+        com.badlogic.gdx.utils.ObjectSet<Object> from = (com.badlogic.gdx.utils.ObjectSet<Object>) f;
+        com.github.tommyettinger.ds.ObjectSet<Object> to = seen(from, new com.github.tommyettinger.ds.ObjectSet<>(from.size));
+        for (Object item : new com.badlogic.gdx.utils.ObjectSet.ObjectSetIterator<>(from)) {
+            to.add(jdk(item));
+        }
+        return to;
+    }
+
+    private Object orderedMapToJDK(Object f) {
+        OrderedMap<Object, Object> from = (OrderedMap<Object, Object>) f;
+        ObjectObjectOrderedMap<Object, Object> to = seen(from, new ObjectObjectOrderedMap<>(from.size));
+        Array<Object> keys = from.orderedKeys();
+        for (int i = 0; i < keys.size; i++) {
+            Object k = keys.get(i);
+            to.put(jdk(k), jdk(from.get(k)));
+        }
+        return to;
+    }
+
+    private Object identityMapToJDK(Object f) {
+        IdentityMap<Object, Object> from = (IdentityMap<Object, Object>) f;
+        return fillJDK(from, seen(from, new IdentityObjectMap<>(from.size)));
+    }
+
+    private Object objectMapToJDK(Object f) {
+        ObjectMap<Object, Object> from = (ObjectMap<Object, Object>) f;
+        return fillJDK(from, seen(from, new ObjectObjectMap<>(from.size)));
+    }
+
+    private Object fillJDK(ObjectMap<Object, Object> from, ObjectObjectMap<Object, Object> to) {
+        for (ObjectMap.Entry<Object, Object> e : new ObjectMap.Entries<>(from)) {
+            to.put(jdk(e.key), jdk(e.value));
+        }
+        return to;
+    }
+
+    private Object arrayMapToJDK(Object f) {
+        ArrayMap<?, ?> from = (ArrayMap<?, ?>) f;
+        ObjectObjectOrderedMap<Object, Object> to = seen(from, new ObjectObjectOrderedMap<>(from.size));
+        for (int i = 0; i < from.size; i++) {
+            to.put(jdk(from.keys[i]), jdk(from.values[i]));
+        }
+        return to;
+    }
+
+    private Object intMapToJDK(Object f) {
+        IntMap<Object> from = (IntMap<Object>) f;
+        IntObjectMap<Object> to = seen(from, new IntObjectMap<>(from.size));
+        for (IntMap.Entry<Object> e : new IntMap.Entries<>(from)) {
+            to.put(e.key, jdk(e.value));
+        }
+        return to;
+    }
+
+    private Object longMapToJDK(Object f) {
+        LongMap<Object> from = (LongMap<Object>) f;
+        LongObjectMap<Object> to = seen(from, new LongObjectMap<>(from.size));
+        for (LongMap.Entry<Object> e : new LongMap.Entries<>(from)) {
+            to.put(e.key, jdk(e.value));
+        }
+        return to;
+    }
+
+    private Object objectIntMapToJDK(Object f) {
+        com.badlogic.gdx.utils.ObjectIntMap<Object> from = (com.badlogic.gdx.utils.ObjectIntMap<Object>) f;
+        com.github.tommyettinger.ds.ObjectIntMap<Object> to = seen(from, new com.github.tommyettinger.ds.ObjectIntMap<>(from.size));
+        for (com.badlogic.gdx.utils.ObjectIntMap.Entry<Object> e : new com.badlogic.gdx.utils.ObjectIntMap.Entries<>(from)) {
+            to.put(jdk(e.key), e.value);
+        }
+        return to;
+    }
+
+    private Object objectLongMapToJDK(Object f) {
+        com.badlogic.gdx.utils.ObjectLongMap<Object> from = (com.badlogic.gdx.utils.ObjectLongMap<Object>) f;
+        com.github.tommyettinger.ds.ObjectLongMap<Object> to = seen(from, new com.github.tommyettinger.ds.ObjectLongMap<>(from.size));
+        for (com.badlogic.gdx.utils.ObjectLongMap.Entry<Object> e : new com.badlogic.gdx.utils.ObjectLongMap.Entries<>(from)) {
+            to.put(jdk(e.key), e.value);
+        }
+        return to;
+    }
+
+    private Object objectFloatMapToJDK(Object f) {
+        com.badlogic.gdx.utils.ObjectFloatMap<Object> from = (com.badlogic.gdx.utils.ObjectFloatMap<Object>) f;
+        com.github.tommyettinger.ds.ObjectFloatMap<Object> to = seen(from, new com.github.tommyettinger.ds.ObjectFloatMap<>(from.size));
+        for (com.badlogic.gdx.utils.ObjectFloatMap.Entry<Object> e : new com.badlogic.gdx.utils.ObjectFloatMap.Entries<>(from)) {
+            to.put(jdk(e.key), e.value);
+        }
+        return to;
+    }
+
+    private Object dequeToGDX(Object f) {
+        Deque<?> from = (Deque<?>) f;
+        Queue<Object> to = seen(from, new Queue<>(from.size()));
+        for (Object item : from) {
+            to.addLast(gdx(item));
+        }
+        return to;
+    }
+
+    private Object listToGDX(Object f) {
+        List<?> from = (List<?>) f;
+        Array<Object> to = seen(from, new Array<>(from.size()));
+        for (Object item : from) {
+            to.add(gdx(item));
+        }
+        return to;
+    }
+
+    private Object orderedSetToGDX(Object f) {
+        Collection<?> from = (Collection<?>) f;
+        OrderedSet<Object> to = seen(from, new OrderedSet<>(from.size()));
+        for (Object item : from) {
+            to.add(gdx(item));
+        }
+        return to;
+    }
+
+    private Object setToGDX(Object f) {
+        Collection<?> from = (Collection<?>) f;
+        com.badlogic.gdx.utils.ObjectSet<Object> to = seen(from, new com.badlogic.gdx.utils.ObjectSet<>(from.size()));
+        for (Object item : from) {
+            to.add(gdx(item));
+        }
+        return to;
+    }
+
+    private Object identityMapToGDX(Object f) {
+        Map<?, ?> from = (Map<?, ?>) f;
+        return fillGDX(from, seen(from, new IdentityMap<>(from.size())));
+    }
+
+    private Object orderedMapToGDX(Object f) {
+        Map<?, ?> from = (Map<?, ?>) f;
+        return fillGDX(from, seen(from, new OrderedMap<>(from.size())));
+    }
+
+    private Object mapToGDX(Object f) {
+        Map<?, ?> from = (Map<?, ?>) f;
+        return fillGDX(from, seen(from, new ObjectMap<>(from.size())));
+    }
+
+    private Object fillGDX(Map<?, ?> from, ObjectMap<Object, Object> to) {
+        for (Map.Entry<?, ?> e : from.entrySet()) {
+            to.put(gdx(e.getKey()), gdx(e.getValue()));
+        }
+        return to;
+    }
+
+    private Object intObjectMapToGDX(Object f) {
+        IntObjectMap<?> from = (IntObjectMap<?>) f;
+        IntMap<Object> to = seen(from, new IntMap<>(from.size()));
+        for (IntObjectMap.Entry<?> e : new IntObjectMap.Entries<>(from)) {
+            to.put(e.key, gdx(e.getValue()));
+        }
+        return to;
+    }
+
+    private Object longObjectMapToGDX(Object f) {
+        LongObjectMap<?> from = (LongObjectMap<?>) f;
+        LongMap<Object> to = seen(from, new LongMap<>(from.size()));
+        for (LongObjectMap.Entry<?> e : new LongObjectMap.Entries<>(from)) {
+            to.put(e.key, gdx(e.getValue()));
+        }
+        return to;
+    }
+
+    private Object objectIntMapToGDX(Object f) {
+        com.github.tommyettinger.ds.ObjectIntMap<?> from = (com.github.tommyettinger.ds.ObjectIntMap<?>) f;
+        com.badlogic.gdx.utils.ObjectIntMap<Object> to = seen(from, new com.badlogic.gdx.utils.ObjectIntMap<>(from.size()));
+        for (com.github.tommyettinger.ds.ObjectIntMap.Entry<?> e : new com.github.tommyettinger.ds.ObjectIntMap.Entries<>(from)) {
+            to.put(gdx(e.getKey()), e.getValue());
+        }
+        return to;
+    }
+
+    private Object objectLongMapToGDX(Object f) {
+        com.github.tommyettinger.ds.ObjectLongMap<?> from = (com.github.tommyettinger.ds.ObjectLongMap<?>) f;
+        com.badlogic.gdx.utils.ObjectLongMap<Object> to = seen(from, new com.badlogic.gdx.utils.ObjectLongMap<>(from.size()));
+        for (com.github.tommyettinger.ds.ObjectLongMap.Entry<?> e : new com.github.tommyettinger.ds.ObjectLongMap.Entries<>(from)) {
+            to.put(gdx(e.getKey()), e.getValue());
+        }
+        return to;
+    }
+
+    private Object objectFloatMapToGDX(Object f) {
+        com.github.tommyettinger.ds.ObjectFloatMap<?> from = (com.github.tommyettinger.ds.ObjectFloatMap<?>) f;
+        com.badlogic.gdx.utils.ObjectFloatMap<Object> to = seen(from, new com.badlogic.gdx.utils.ObjectFloatMap<>(from.size()));
+        for (com.github.tommyettinger.ds.ObjectFloatMap.Entry<?> e : new com.github.tommyettinger.ds.ObjectFloatMap.Entries<>(from)) {
+            to.put(gdx(e.getKey()), e.getValue());
+        }
+        return to;
+    }
+}
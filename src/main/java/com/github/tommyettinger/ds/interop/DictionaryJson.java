@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.SerializationException;
+import com.github.tommyettinger.ds.IdentityObjectMap;
+import com.github.tommyettinger.ds.IntObjectMap;
+import com.github.tommyettinger.ds.ObjectIntMap;
+import com.github.tommyettinger.ds.ObjectList;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+/**
+ * A {@link Json} that writes each distinct String only once per document, in a string table at the start, and refers to
+ * it by index everywhere else. This is opt-in; just use a DictionaryJson instead of a Json, and register serializers on
+ * it with {@link JsonSupport} as usual. A document written by {@link #toJson(Object)} or any other toJson overload looks
+ * like {@code {strings:[alpha,beta],data:...}}, where the data uses {@code 0} in place of "alpha" and {@code 1} in place
+ * of "beta". Map keys are written as the index in base 36, so a key that refers to "beta" is just {@code 1}. Reading a
+ * document like that with {@link #fromJson(Class, String)} or any other fromJson overload resolves the indices again,
+ * and {@link String#intern() interns} every String in the table, so the same String is shared by every collection that
+ * was read, and with any other interned String that has the same contents.
+ * <br>
+ * This can make documents much smaller when they repeat the same String many times, such as when many maps have the
+ * same keys. Only Strings that JsonSupport's serializers write themselves are put in the table; that means items in
+ * ObjectList, ObjectSet, and the other Object-based collections, values in maps with Object values, and keys in maps
+ * with Object keys. Strings in fields of other classes are written normally by libGDX, and still read back correctly.
+ * Everything written by a DictionaryJson needs to be read by a DictionaryJson, and something written by a plain Json
+ * can also be read by a DictionaryJson. If the Writer given to toJson is a {@link JsonWriter}, such as a
+ * {@link UBJsonAdapter}, nothing is put in a string table, and output is the same as a plain Json would write.
+ * <br>
+ * Calling {@link #setShareReferences(boolean) setShareReferences(true)} also makes each object in those same places be
+ * written only once per document, even if it is in several collections, or is the value for many keys in a map. The
+ * first time an object is written, it is wrapped as {@code {"@id":0,v:...}}, and every later time the same object (by
+ * identity) is written, just {@code {"@ref":0}} is written. Reading that back gives the same object everywhere it was
+ * referenced, instead of a separate copy for each time it was written. Strings are already shared by the string table,
+ * and boxed numbers, Booleans, Characters, and enum constants are always written normally. Objects that refer back to
+ * themselves still can't be written, just as with a plain Json.
+ * <br>
+ * A DictionaryJson is no more thread-safe than a Json; the string table and shared objects are only kept while writing
+ * or reading one document, and are cleared afterward.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class DictionaryJson extends Json {
+    private JsonWriter.OutputType outputType;
+    private final ObjectIntMap<String> ids = new ObjectIntMap<>(64);
+    private final ObjectList<String> written = new ObjectList<>(64);
+    private boolean writing;
+    private String[] table;
+    private boolean shareReferences;
+    private final IdentityObjectMap<Object, Integer> refs = new IdentityObjectMap<>(64);
+    private int nextRef;
+    private final IntObjectMap<Object> resolved = new IntObjectMap<>(64);
+
+    /**
+     * Creates a DictionaryJson using {@link JsonWriter.OutputType#minimal}.
+     */
+    public DictionaryJson() {
+        this(JsonWriter.OutputType.minimal);
+    }
+
+    /**
+     * Creates a DictionaryJson using the given OutputType.
+     * @param outputType the OutputType to use, such as {@link JsonWriter.OutputType#minimal}
+     */
+    public DictionaryJson(JsonWriter.OutputType outputType) {
+        super(outputType);
+        this.outputType = outputType;
+    }
+
+    /**
+     * Returns true if objects written more than once in a document are written once and referenced afterward.
+     * @return true if shared references are written and read; false by default
+     */
+    public boolean isShareReferences() {
+        return shareReferences;
+    }
+
+    /**
+     * If true, each object that JsonSupport's serializers write more than once in a document, such as an item in
+     * several ObjectLists or the value for many keys in a map, will be written once and referenced afterward, and read
+     * back as one object. Reading documents with references works either way.
+     * @param shareReferences true to write shared objects only once; false by default
+     */
+    public void setShareReferences(boolean shareReferences) {
+        this.shareReferences = shareReferences;
+    }
+
+    @Override
+    public void setOutputType(JsonWriter.OutputType outputType) {
+        super.setOutputType(outputType);
+        this.outputType = outputType;
+    }
+
+    @Override
+    public void toJson(Object object, Class knownType, Class elementType, Writer writer) {
+        // a Json that already has a writer is inside another document, such as when a serializer writes a key
+        if (writing || writer instanceof JsonWriter || getWriter() != null) {
+            super.toJson(object, knownType, elementType, writer);
+            return;
+        }
+        StringWriter body = new StringWriter();
+        writing = true;
+        try {
+            super.toJson(object, knownType, elementType, body);
+            JsonWriter out = new JsonWriter(writer);
+            out.setOutputType(outputType);
+            out.object().name("strings").array();
+            for (int i = 0, n = written.size(); i < n; i++) {
+                out.value(written.get(i));
+            }
+            out.pop().name("data").json(body.toString()).pop();
+            out.close();
+        } catch (IOException ex) {
+            throw new SerializationException(ex);
+        } finally {
+            writing = false;
+            ids.clear();
+            written.clear();
+            refs.clear();
+            nextRef = 0;
+        }
+    }
+
+    @Override
+    public <T> T readValue(Class<T> type, Class elementType, JsonValue jsonData) {
+        if (table != null || jsonData == null || jsonData.parent != null || !jsonData.isObject() || jsonData.size != 2)
+            return super.readValue(type, elementType, jsonData);
+        JsonValue strings = jsonData.get("strings"), data = jsonData.get("data");
+        if (strings == null || data == null || !strings.isArray())
+            return super.readValue(type, elementType, jsonData);
+        String[] t = new String[strings.size];
+        int i = 0;
+        for (JsonValue s = strings.child; s != null; s = s.next) {
+            t[i++] = s.asString().intern();
+        }
+        table = t;
+        try {
+            return super.readValue(type, elementType, data);
+        } finally {
+            table = null;
+            resolved.clear();
+        }
+    }
+
+    /**
+     * Gets the index of {@code s} in the string table being written, adding it to the end if it isn't present yet.
+     */
+    private int index(String s) {
+        int i = ids.getOrDefault(s, -1);
+        if (i < 0) {
+            ids.put(s, i = written.size());
+            written.add(s);
+        }
+        return i;
+    }
+
+    /**
+     * Checks if item should be written with {@link #writeShared(String, Object, Class)}; values that are immutable and
+     * cheap to write again are not.
+     */
+    private boolean shares(Object item) {
+        return shareReferences && item != null && !(item instanceof String || item instanceof Number
+                || item instanceof Boolean || item instanceof Character || item instanceof Enum);
+    }
+
+    /**
+     * Writes item wrapped with a new id if it hasn't been written in this document yet, or just a reference to its id
+     * if it has. If name is null, this writes an array item, otherwise it writes the value for name in an object.
+     */
+    private void writeShared(String name, Object item, Class knownType) {
+        Integer ref = refs.get(item);
+        if (name == null) writeObjectStart();
+        else writeObjectStart(name);
+        if (ref != null) {
+            writeValue("@ref", ref, int.class);
+        } else {
+            int id = nextRef++;
+            writeValue("@id", id, int.class);
+            writeValue("v", item, knownType);
+            // only referenced once it has been written entirely, so every reference can be resolved while reading
+            refs.put(item, id);
+        }
+        writeObjectEnd();
+    }
+
+    private static boolean holdsString(Class type) {
+        return type == null || type == String.class || type == Object.class || type == CharSequence.class;
+    }
+
+    private static DictionaryJson writingTable(Json json) {
+        return json instanceof DictionaryJson && ((DictionaryJson) json).writing ? (DictionaryJson) json : null;
+    }
+
+    private static String[] readingTable(Json json) {
+        return json instanceof DictionaryJson ? ((DictionaryJson) json).table : null;
+    }
+
+    /**
+     * Used by serializers in place of {@link Json#writeValue(Object, Class)}; if {@code json} is a DictionaryJson that
+     * is writing a string table, and item is a String where a String could be read back, this writes its index instead.
+     * If that DictionaryJson {@link #isShareReferences() shares references}, other objects are written with their id.
+     * Either way, an item that doesn't have the class knownType is written with its class; see
+     * {@link JsonSupport#knownType(Object, Class)}.
+     */
+    static void writeItem(Json json, Object item, Class knownType) {
+        DictionaryJson dj = writingTable(json);
+        Class exact = JsonSupport.knownType(item, knownType);
+        if (dj == null)
+            json.writeValue(item, exact);
+        else if (item instanceof String && holdsString(knownType))
+            json.writeValue((Object) dj.index((String) item), int.class);
+        else if (dj.shares(item))
+            dj.writeShared(null, item, exact);
+        else
+            json.writeValue(item, exact);
+    }
+
+    /**
+     * Like {@link #writeItem(Json, Object, Class)}, but writes item as the value for {@code name} in a JSON object.
+     */
+    static void writeItem(Json json, String name, Object item, Class knownType) {
+        DictionaryJson dj = writingTable(json);
+        Class exact = JsonSupport.knownType(item, knownType);
+        if (dj == null)
+            json.writeValue(name, item, exact);
+        else if (item instanceof String && holdsString(knownType))
+            json.writeValue(name, (Object) dj.index((String) item), int.class);
+        else if (dj.shares(item))
+            dj.writeShared(name, item, exact);
+        else
+            json.writeValue(name, item, exact);
+    }
+
+    /**
+     * Used by serializers in place of {@link Json#writeValue(Object)} for items that are always CharSequences; if
+     * {@code json} is a DictionaryJson that is writing a string table, this writes the index of item's String form.
+     */
+    static void writeString(Json json, Object item) {
+        DictionaryJson dj = writingTable(json);
+        if (dj != null && item != null)
+            json.writeValue((Object) dj.index(item.toString()), int.class);
+        else
+            json.writeValue(item);
+    }
+
+    /**
+     * Used by serializers to turn a String key into a JSON field name; if {@code json} is a DictionaryJson that is
+     * writing a string table, this returns the key's index in base 36, otherwise it returns key unchanged.
+     */
+    static String name(Json json, String key) {
+        DictionaryJson dj = writingTable(json);
+        return dj == null ? key : Integer.toString(dj.index(key), 36);
+    }
+
+    /**
+     * Used by serializers in place of {@link Json#readValue(Class, JsonValue)}; this undoes
+     * {@link #writeItem(Json, Object, Class)}.
+     */
+    static <T> T readItem(Json json, Class<T> type, JsonValue value) {
+        String[] t;
+        if (value == null || (t = readingTable(json)) == null)
+            return json.readValue(type, value);
+        if (value.isLong() && holdsString(type))
+            return (T) t[value.asInt()];
+        JsonValue first = value.child;
+        if (value.isObject() && first != null) {
+            DictionaryJson dj = (DictionaryJson) json;
+            if ("@ref".equals(first.name)) {
+                Object item = dj.resolved.get(first.asInt());
+                if (item == null) throw new SerializationException("Reference to an object that wasn't read: " + first.asInt());
+                return (T) item;
+            }
+            if ("@id".equals(first.name) && first.next != null) {
+                T item = json.readValue(type, first.next);
+                dj.resolved.put(first.asInt(), item);
+                return item;
+            }
+        }
+        return json.readValue(type, value);
+    }
+
+    /**
+     * Used by serializers in place of {@link JsonValue#asString()} for items that are always CharSequences; this undoes
+     * {@link #writeString(Json, CharSequence)}.
+     */
+    static String readString(Json json, JsonValue value) {
+        String[] t;
+        if (value.isLong() && (t = readingTable(json)) != null)
+            return t[value.asInt()];
+        return value.asString();
+    }
+
+    /**
+     * Used by serializers to get a String key back from a JSON field name; this undoes {@link #name(Json, String)}.
+     */
+    static String key(Json json, String name) {
+        String[] t = readingTable(json);
+        return t == null ? name : t[Integer.parseInt(name, 36)];
+    }
+
+    /**
+     * Used by serializers to read a key of the given type from a JSON field name, undoing {@link #name(Json, String)}
+     * first if needed. A key that is read as a String will be the same instance as the one in the string table.
+     */
+    static Object readKey(Json json, Class type, String name) {
+        String[] t = readingTable(json);
+        if (t == null) return type == String.class ? name : json.fromJson(type, name);
+        name = t[Integer.parseInt(name, 36)];
+        if (type == String.class) return name;
+        Object k = json.fromJson(type, name);
+        return k instanceof String ? ((String) k).intern() : k;
+    }
+}
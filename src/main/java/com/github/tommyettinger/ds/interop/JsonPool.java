@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.github.tommyettinger.ds.ObjectList;
+
+import java.util.function.Consumer;
+
+/**
+ * A thread-safe source of {@link Json} objects that already have {@link JsonSupport}'s serializers registered. Json is
+ * not thread-safe, so each thread needs its own Json object, but running {@link JsonSupport#registerAll(Json)} on every
+ * new Json creates well over a hundred serializer objects and adds as many class tags. A JsonPool does that work once,
+ * records every serializer and class tag that was registered, and then copies those same serializer instances into each
+ * new Json it creates. This is safe because every serializer in JsonSupport is stateless other than the immutable
+ * {@link JsonSettings} it was registered with.
+ * <br>
+ * There are two ways to get a Json from here. {@link #get()} returns a Json that belongs to the current thread, and is
+ * reused every time that thread calls get(). {@link #obtain()} borrows a Json that any thread can use, and
+ * {@link #free(Json)} returns it so it can be borrowed again; this is a better fit when many short-lived threads would
+ * each create a Json they only use once. A Json must not be used by more than one thread at a time either way.
+ * <br>
+ * This class is not available on GWT, which has no threads anyway; use {@link JsonSupport#registerAll(Json)} there.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class JsonPool {
+    private final JsonWriter.OutputType outputType;
+    private final JsonSettings settings;
+    private final Class[] types;
+    private final Json.Serializer[] serializers;
+    private final String[] tags;
+    private final Class[] taggedTypes;
+    private final ObjectList<Json> free;
+    private final int maxFree;
+    private final ThreadLocal<Json> local;
+
+    /**
+     * Creates a JsonPool that hands out Json objects using {@link JsonWriter.OutputType#minimal}, with everything in
+     * {@link JsonSupport#registerAll(Json, JsonSettings)} registered using {@link JsonSupport#getSettings()}.
+     * At most 16 freed Json objects will be kept for reuse by {@link #obtain()}.
+     */
+    public JsonPool() {
+        this(JsonWriter.OutputType.minimal, JsonSupport.getSettings(), 16);
+    }
+
+    /**
+     * Creates a JsonPool that hands out Json objects using the given OutputType, with everything in
+     * {@link JsonSupport#registerAll(Json, JsonSettings)} registered using the given JsonSettings.
+     * @param outputType the OutputType each Json object will use, such as {@link JsonWriter.OutputType#minimal}
+     * @param settings the JsonSettings every registered serializer will use
+     * @param maxFree how many Json objects given to {@link #free(Json)} can be kept for reuse at most
+     */
+    public JsonPool(JsonWriter.OutputType outputType, JsonSettings settings, int maxFree) {
+        this(outputType, settings, maxFree, null);
+    }
+
+    /**
+     * Creates a JsonPool that hands out Json objects using the given OutputType, with everything in
+     * {@link JsonSupport#registerAll(Json, JsonSettings)} registered using the given JsonSettings, and then anything
+     * else that {@code extraRegistration} registers. The extra registration is only run once, on a Json object that
+     * records what is registered; any serializers it sets are shared between threads, so they must be stateless.
+     * @param outputType the OutputType each Json object will use, such as {@link JsonWriter.OutputType#minimal}
+     * @param settings the JsonSettings every registered serializer will use
+     * @param maxFree how many Json objects given to {@link #free(Json)} can be kept for reuse at most
+     * @param extraRegistration if non-null, will be run once to register more serializers or class tags
+     */
+    public JsonPool(JsonWriter.OutputType outputType, JsonSettings settings, int maxFree,
+                    Consumer<? super Json> extraRegistration) {
+        this.outputType = outputType == null ? JsonWriter.OutputType.minimal : outputType;
+        this.settings = settings == null ? JsonSupport.getSettings() : settings;
+        this.maxFree = Math.max(0, maxFree);
+        RecordingJson recorder = new RecordingJson();
+        JsonSupport.registerAll(recorder, this.settings);
+        if (extraRegistration != null)
+            extraRegistration.accept(recorder);
+        types = recorder.types.toArray(new Class[0]);
+        serializers = recorder.serializers.toArray(new Json.Serializer[0]);
+        tags = recorder.tags.toArray(new String[0]);
+        taggedTypes = recorder.taggedTypes.toArray(new Class[0]);
+        free = new ObjectList<>(this.maxFree);
+        local = new ThreadLocal<Json>() {
+            @Override
+            protected Json initialValue() {
+                return newJson();
+            }
+        };
+    }
+
+    /**
+     * Gets the JsonSettings that every serializer in this pool's Json objects uses.
+     * @return the JsonSettings this was created with
+     */
+    public JsonSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Creates a new Json object with every recorded class tag and serializer already registered. This does not create
+     * any new serializers; they are shared with every other Json this pool creates.
+     * @return a new Json, ready to read and write jdkgdxds types
+     */
+    public Json newJson() {
+        Json json = new Json(outputType);
+        for (int i = 0; i < tags.length; i++) {
+            json.addClassTag(tags[i], taggedTypes[i]);
+        }
+        for (int i = 0; i < types.length; i++) {
+            json.setSerializer(types[i], serializers[i]);
+        }
+        return json;
+    }
+
+    /**
+     * Gets the Json object that belongs to the current thread, creating it the first time this is called on a thread.
+     * The returned Json must not be passed to another thread or to {@link #free(Json)}.
+     * @return the Json object for the current thread
+     */
+    public Json get() {
+        return local.get();
+    }
+
+    /**
+     * Borrows a Json object, reusing one that was {@link #free(Json) freed} if possible, or creating a new one
+     * otherwise. The caller has exclusive use of it until it is passed to {@link #free(Json)}.
+     * @return a Json object with everything this pool registers
+     */
+    public Json obtain() {
+        synchronized (free) {
+            int size = free.size();
+            if (size > 0)
+                return free.remove(size - 1);
+        }
+        return newJson();
+    }
+
+    /**
+     * Returns a Json object that was borrowed with {@link #obtain()}, so it can be borrowed again. If this pool is
+     * already holding its maximum number of free Json objects, the given one is simply dropped.
+     * @param json a Json object from {@link #obtain()} that the caller will no longer use; may be null
+     */
+    public void free(Json json) {
+        if (json == null) return;
+        synchronized (free) {
+            if (free.size() < maxFree)
+                free.add(json);
+        }
+    }
+
+    /**
+     * A Json that remembers every class tag and serializer registered on it, in order.
+     */
+    private static final class RecordingJson extends Json {
+        final ObjectList<Class> types = new ObjectList<>(256);
+        final ObjectList<Json.Serializer> serializers = new ObjectList<>(256);
+        final ObjectList<String> tags = new ObjectList<>(256);
+        final ObjectList<Class> taggedTypes = new ObjectList<>(256);
+
+        @Override
+        public void addClassTag(String tag, Class type) {
+            super.addClassTag(tag, type);
+            tags.add(tag);
+            taggedTypes.add(type);
+        }
+
+        @Override
+        public <T> void setSerializer(Class<T> type, Json.Serializer<T> serializer) {
+            super.setSerializer(type, serializer);
+            types.add(type);
+            serializers.add(serializer);
+        }
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop;
+
+import com.badlogic.gdx.utils.Json;
+import com.github.tommyettinger.digital.Base;
+
+/**
+ * An immutable group of the options that change how {@link JsonSupport}'s serializers write and read data: the
+ * {@link Base} used to write numbers, whether floats and doubles are written in a legible or compact way, whether
+ * short class tags are added when registering, whether maps with int or long keys are written in a packed form, and
+ * whether maps with Object keys are written as entry arrays. Every {@code register} method in JsonSupport has an overload
+ * that takes a JsonSettings; the serializers registered by that call keep that JsonSettings, and never look at any static state
+ * when writing or reading. This means different {@link Json} objects can use different settings, even when they are
+ * used at the same time on different threads. The overloads that don't take a JsonSettings use
+ * {@link JsonSupport#getSettings()}, which can be changed with the static setters in JsonSupport, but changing those
+ * only affects serializers registered afterward.
+ * <br>
+ * You can create a JsonSettings with its constructor, or start from {@link #DEFAULT} and change one option at a time
+ * with {@link #withNumeralBase(Base)}, {@link #withFloatsLegible(boolean)}, {@link #withAddClassTags(boolean)}, or
+ * {@link #withPackMaps(boolean)}, or {@link #withEntryArrays(boolean)}.
+ * Each of those returns a new JsonSettings and leaves the original unchanged.
+ */
+public final class JsonSettings {
+    /**
+     * The settings JsonSupport uses if nothing has been changed: {@link Base#BASE10}, legible floats, short class
+     * tags added, maps not packed, and no entry arrays.
+     */
+    public static final JsonSettings DEFAULT = new JsonSettings(Base.BASE10, true, true, false, false);
+
+    final Base base;
+
+    final boolean legibleFloats;
+
+    final boolean addClassTags;
+
+    final boolean packMaps;
+
+    final boolean entryArrays;
+
+    /**
+     * Creates a JsonSettings with the given options, maps not packed, and no entry arrays.
+     * @param base the numeral system used to write numbers; if null, this uses {@link Base#BASE10}
+     * @param legibleFloats true to write floats and doubles in a human-readable way, or false to write them compactly
+     * @param addClassTags true to add short class tags when registering, or false to use package-qualified names
+     */
+    public JsonSettings(Base base, boolean legibleFloats, boolean addClassTags) {
+        this(base, legibleFloats, addClassTags, false);
+    }
+
+    /**
+     * Creates a JsonSettings with the given options, and no entry arrays.
+     * @param base the numeral system used to write numbers; if null, this uses {@link Base#BASE10}
+     * @param legibleFloats true to write floats and doubles in a human-readable way, or false to write them compactly
+     * @param addClassTags true to add short class tags when registering, or false to use package-qualified names
+     * @param packMaps true to write maps with int or long keys as packed columns, or false to write a field per entry
+     */
+    public JsonSettings(Base base, boolean legibleFloats, boolean addClassTags, boolean packMaps) {
+        this(base, legibleFloats, addClassTags, packMaps, false);
+    }
+
+    /**
+     * Creates a JsonSettings with the given options.
+     * @param base the numeral system used to write numbers; if null, this uses {@link Base#BASE10}
+     * @param legibleFloats true to write floats and doubles in a human-readable way, or false to write them compactly
+     * @param addClassTags true to add short class tags when registering, or false to use package-qualified names
+     * @param packMaps true to write maps with int or long keys as packed columns, or false to write a field per entry
+     * @param entryArrays true to write maps with Object keys as one array of keys and values, or false to write a field
+     *                    per entry
+     */
+    public JsonSettings(Base base, boolean legibleFloats, boolean addClassTags, boolean packMaps, boolean entryArrays) {
+        this.base = base == null ? Base.BASE10 : base;
+        this.legibleFloats = legibleFloats;
+        this.addClassTags = addClassTags;
+        this.packMaps = packMaps;
+        this.entryArrays = entryArrays;
+    }
+
+    /**
+     * Gets the numeral system, also called radix or base, used to encode numbers.
+     * @return the Base system this uses, which is always non-null
+     */
+    public Base getNumeralBase() {
+        return base;
+    }
+
+    /**
+     * Gets whether float and double items are written using {@link Base#general(float)} (when true)
+     * or {@link Base#signed(float)} (when false).
+     * @return true if this writes floats in a human-readable way, or false if this writes floats in a compact way
+     */
+    public boolean areFloatsLegible() {
+        return legibleFloats;
+    }
+
+    /**
+     * Gets whether short class tags are added when registering classes.
+     * @return true if this adds short class tags when registering classes, or false otherwise
+     */
+    public boolean isAddClassTags() {
+        return addClassTags;
+    }
+
+    /**
+     * Gets whether maps with int or long keys, such as IntIntMap or LongFloatOrderedMap, are written as two packed
+     * columns, one of every key and one of every value, instead of as one JSON field per entry. The keys and any
+     * primitive values are each written as one String of space-separated numbers in the {@link #getNumeralBase() Base},
+     * which is much faster to read back than a field name per key. Either form can be read no matter what this is set
+     * to.
+     * @return true if this writes maps with int or long keys as packed columns
+     */
+    public boolean isPackMaps() {
+        return packMaps;
+    }
+
+    /**
+     * Gets whether ObjectObjectMap and ObjectObjectOrderedMap are written as one flat JSON array,
+     * {@code [key0, value0, key1, value1, ...]}, instead of as one JSON field per entry. A field name must be a String,
+     * so when keys aren't CharSequences, the field-per-entry form writes each key as a nested JSON String and parses it
+     * again when reading; the array form writes each key as an ordinary JSON value. Either form can be read no matter
+     * what this is set to.
+     * @return true if this writes maps with Object keys as entry arrays
+     */
+    public boolean isEntryArrays() {
+        return entryArrays;
+    }
+
+    /**
+     * Returns a JsonSettings that is the same as this one, but uses the given Base.
+     * @param base the numeral system used to write numbers; if null, this uses {@link Base#BASE10}
+     * @return a new JsonSettings, or this if nothing would change
+     */
+    public JsonSettings withNumeralBase(Base base) {
+        if(base == null) base = Base.BASE10;
+        return base.equals(this.base) ? this : new JsonSettings(base, legibleFloats, addClassTags, packMaps, entryArrays);
+    }
+
+    /**
+     * Returns a JsonSettings that is the same as this one, but writes floats legibly or compactly as given.
+     * @param legibleFloats true to write floats and doubles in a human-readable way, or false to write them compactly
+     * @return a new JsonSettings, or this if nothing would change
+     */
+    public JsonSettings withFloatsLegible(boolean legibleFloats) {
+        return legibleFloats == this.legibleFloats ? this : new JsonSettings(base, legibleFloats, addClassTags, packMaps, entryArrays);
+    }
+
+    /**
+     * Returns a JsonSettings that is the same as this one, but adds class tags or doesn't as given.
+     * @param addClassTags true to add short class tags when registering, or false to use package-qualified names
+     * @return a new JsonSettings, or this if nothing would change
+     */
+    public JsonSettings withAddClassTags(boolean addClassTags) {
+        return addClassTags == this.addClassTags ? this : new JsonSettings(base, legibleFloats, addClassTags, packMaps, entryArrays);
+    }
+
+    /**
+     * Returns a JsonSettings that is the same as this one, but packs maps with int or long keys or doesn't as given.
+     * @param packMaps true to write maps with int or long keys as packed columns, or false to write a field per entry
+     * @return a new JsonSettings, or this if nothing would change
+     * @see #isPackMaps()
+     */
+    public JsonSettings withPackMaps(boolean packMaps) {
+        return packMaps == this.packMaps ? this : new JsonSettings(base, legibleFloats, addClassTags, packMaps, entryArrays);
+    }
+
+    /**
+     * Returns a JsonSettings that is the same as this one, but writes maps with Object keys as entry arrays or doesn't
+     * as given.
+     * @param entryArrays true to write maps with Object keys as one array of keys and values, or false to write a field
+     *                    per entry
+     * @return a new JsonSettings, or this if nothing would change
+     * @see #isEntryArrays()
+     */
+    public JsonSettings withEntryArrays(boolean entryArrays) {
+        return entryArrays == this.entryArrays ? this : new JsonSettings(base, legibleFloats, addClassTags, packMaps, entryArrays);
+    }
+
+    String str(float data) {
+        return legibleFloats ? base.general(data) : base.signed(data);
+    }
+
+    String str(double data) {
+        return legibleFloats ? base.general(data) : base.signed(data);
+    }
+
+    StringBuilder append(StringBuilder sb, float data) {
+        return legibleFloats ? base.appendGeneral(sb, data) : base.appendSigned(sb, data);
+    }
+
+    StringBuilder append(StringBuilder sb, double data) {
+        return legibleFloats ? base.appendGeneral(sb, data) : base.appendSigned(sb, data);
+    }
+
+    String join(float[] data) {
+        return legibleFloats ? base.join(" ", data) : base.joinExact(" ", data);
+    }
+
+    String join(double[] data) {
+        return legibleFloats ? base.join(" ", data) : base.joinExact(" ", data);
+    }
+
+    StringBuilder appendJoined(StringBuilder sb, float[] data) {
+        return legibleFloats ? base.appendJoined(sb, " ", data) : base.appendJoinedExact(sb, " ", data);
+    }
+
+    StringBuilder appendJoined(StringBuilder sb, double[] data) {
+        return legibleFloats ? base.appendJoined(sb, " ", data) : base.appendJoinedExact(sb, " ", data);
+    }
+
+    String join(float[] data, int start, int length) {
+        return legibleFloats ? base.join(" ", data, start, length) : base.joinExact(" ", data, start, length);
+    }
+
+    String join(double[] data, int start, int length) {
+        return legibleFloats ? base.join(" ", data, start, length) : base.joinExact(" ", data, start, length);
+    }
+
+    StringBuilder appendJoined(StringBuilder sb, float[] data, int start, int length) {
+        return legibleFloats ? base.appendJoined(sb, " ", data, start, length) : base.appendJoinedExact(sb, " ", data, start, length);
+    }
+
+    StringBuilder appendJoined(StringBuilder sb, double[] data, int start, int length) {
+        return legibleFloats ? base.appendJoined(sb, " ", data, start, length) : base.appendJoinedExact(sb, " ", data, start, length);
+    }
+
+    float floatRead(String data) {
+        return legibleFloats ? base.readFloat(data) : base.readFloatExact(data);
+    }
+
+    double doubleRead(String data) {
+        return legibleFloats ? base.readDouble(data) : base.readDoubleExact(data);
+    }
+
+    float floatRead(String data, int start, int end) {
+        return legibleFloats ? base.readFloat(data, start, end) : base.readFloatExact(data, start, end);
+    }
+
+    double doubleRead(String data, int start, int end) {
+        return legibleFloats ? base.readDouble(data, start, end) : base.readDoubleExact(data, start, end);
+    }
+
+    float[] floatSplit(String data) {
+        return legibleFloats ? base.floatSplit(data, " ") : base.floatSplitExact(data, " ");
+    }
+
+    double[] doubleSplit(String data) {
+        return legibleFloats ? base.doubleSplit(data, " ") : base.doubleSplitExact(data, " ");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        JsonSettings that = (JsonSettings) o;
+        return legibleFloats == that.legibleFloats && addClassTags == that.addClassTags && packMaps == that.packMaps
+                && entryArrays == that.entryArrays && base.equals(that.base);
+    }
+
+    @Override
+    public int hashCode() {
+        return (((base.hashCode() * 31 + (legibleFloats ? 1 : 0)) * 31 + (addClassTags ? 1 : 0)) * 31 + (packMaps ? 1 : 0)) * 31 + (entryArrays ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return "JsonSettings{base=" + base + ", legibleFloats=" + legibleFloats + ", addClassTags=" + addClassTags + ", packMaps=" + packMaps + ", entryArrays=" + entryArrays + '}';
+    }
+}
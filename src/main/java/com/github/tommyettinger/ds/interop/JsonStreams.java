@@ -0,0 +1,807 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.SerializationException;
+import com.github.tommyettinger.digital.Base;
+import com.github.tommyettinger.digital.TextTools;
+import com.github.tommyettinger.ds.PrimitiveCollection;
+import com.github.tommyettinger.ds.support.util.*;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes the items of primitive collections straight to the {@link Writer} underneath a {@link Json}'s
+ * {@link JsonWriter}, without first joining every item into one String. Items are appended to a small scratch buffer,
+ * and that buffer is written out and reused each time it fills up, so writing a collection with millions of items
+ * needs the same small amount of extra memory as writing one with ten items. The text written uses the same formats
+ * as the joining methods in {@link Base} and {@link JsonSettings}, so the serializers in {@link JsonSupport} can read
+ * it the same way they always have.
+ * <br>
+ * Each write method here writes one named value in the JSON object currently being written, so it must be called
+ * between {@link Json#writeObjectStart(Class, Class)} and {@link Json#writeObjectEnd()}.
+ * <br>
+ * When the Json is writing to a {@link UBJsonAdapter}, the write methods for numbers, chars, and booleans write a typed
+ * UBJSON array instead of a String, and the read methods here accept either form.
+ * <br>
+ * The read methods go the other way, parsing each item where it is in the String or JSON array and adding it to a
+ * collection that was already given the right capacity, usually using {@link #count(String)}. This avoids creating a
+ * temporary primitive array of every item that would then be copied into the collection.
+ */
+final class JsonStreams {
+    /**
+     * How many chars can be appended to the scratch buffer before it is written to the Writer.
+     */
+    static final int CHUNK = 4096;
+
+    /**
+     * The size of the scratch buffers; this leaves room past {@link #CHUNK} for any one item, even a long in binary.
+     */
+    static final int CAPACITY = CHUNK + 128;
+
+    private JsonStreams() {
+    }
+
+    /**
+     * Starts a quoted String value with the given name, and returns the Writer that the contents should go to.
+     */
+    private static Writer open(Json json, String name) throws IOException {
+        JsonWriter writer = json.getWriter();
+        writer.name(name);
+        writer.json("\"");
+        return writer.getWriter();
+    }
+
+    /**
+     * Writes the contents of {@code sb} to {@code out}, escaping any chars that can't appear as-is in a quoted JSON
+     * String, then empties {@code sb}. The digits a {@link Base} uses are normally all safe, but a scrambled Base could
+     * use quotes or backslashes.
+     */
+    private static void flush(Writer out, StringBuilder sb, char[] buffer) throws IOException {
+        final int length = sb.length();
+        sb.getChars(0, length, buffer, 0);
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            char c = buffer[i];
+            String escaped;
+            switch (c) {
+                case '"': escaped = "\\\""; break;
+                case '\\': escaped = "\\\\"; break;
+                case '\r': escaped = "\\r"; break;
+                case '\n': escaped = "\\n"; break;
+                case '\t': escaped = "\\t"; break;
+                default: continue;
+            }
+            out.write(buffer, start, i - start);
+            out.write(escaped);
+            start = i + 1;
+        }
+        out.write(buffer, start, length - start);
+        sb.setLength(0);
+    }
+
+    private static void close(Writer out, StringBuilder sb, char[] buffer) throws IOException {
+        flush(out, sb, buffer);
+        out.write('"');
+    }
+
+    /**
+     * Writes the same String as {@code base.join(" ", items, start, length)}, with the given name.
+     */
+    static void writeJoined(Json json, String name, int[] items, int start, int length, Base base) {
+        try {
+            if (json.getWriter() instanceof UBJsonAdapter) {
+                ((UBJsonAdapter) json.getWriter()).pack(name, items, start, length);
+                return;
+            }
+            Writer out = open(json, name);
+            StringBuilder sb = new StringBuilder(CAPACITY);
+            char[] buffer = new char[CAPACITY];
+            for (int i = start, n = start + length; i < n; i++) {
+                if (i != start) sb.append(' ');
+                base.appendSigned(sb, items[i]);
+                if (sb.length() >= CHUNK) flush(out, sb, buffer);
+            }
+            close(out, sb, buffer);
+        } catch (IOException ex) {
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Writes the same String as {@code base.join(" ", items, start, length)}, with the given name.
+     */
+    static void writeJoined(Json json, String name, long[] items, int start, int length, Base base) {
+        try {
+            if (json.getWriter() instanceof UBJsonAdapter) {
+                ((UBJsonAdapter) json.getWriter()).pack(name, items, start, length);
+                return;
+            }
+            Writer out = open(json, name);
+            StringBuilder sb = new StringBuilder(CAPACITY);
+            char[] buffer = new char[CAPACITY];
+            for (int i = start, n = start + length; i < n; i++) {
+                if (i != start) sb.append(' ');
+                base.appendSigned(sb, items[i]);
+                if (sb.length() >= CHUNK) flush(out, sb, buffer);
+            }
+            close(out, sb, buffer);
+        } catch (IOException ex) {
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Writes the same String as {@code base.join(" ", items, start, length)}, with the given name.
+     */
+    static void writeJoined(Json json, String name, short[] items, int start, int length, Base base) {
+        try {
+            if (json.getWriter() instanceof UBJsonAdapter) {
+                ((UBJsonAdapter) json.getWriter()).pack(name, items, start, length);
+                return;
+            }
+            Writer out = open(json, name);
+            StringBuilder sb = new StringBuilder(CAPACITY);
+            char[] buffer = new char[CAPACITY];
+            for (int i = start, n = start + length; i < n; i++) {
+                if (i != start) sb.append(' ');
+                base.appendSigned(sb, items[i]);
+                if (sb.length() >= CHUNK) flush(out, sb, buffer);
+            }
+            close(out, sb, buffer);
+        } catch (IOException ex) {
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Writes the same String as {@code base.join(" ", items, start, length)}, with the given name.
+     */
+    static void writeJoined(Json json, String name, byte[] items, int start, int length, Base base) {
+        try {
+            if (json.getWriter() instanceof UBJsonAdapter) {
+                ((UBJsonAdapter) json.getWriter()).pack(name, items, start, length);
+                return;
+            }
+            Writer out = open(json, name);
+            StringBuilder sb = new StringBuilder(CAPACITY);
+            char[] buffer = new char[CAPACITY];
+            for (int i = start, n = start + length; i < n; i++) {
+                if (i != start) sb.append(' ');
+                base.appendSigned(sb, items[i]);
+                if (sb.length() >= CHUNK) flush(out, sb, buffer);
+            }
+            close(out, sb, buffer);
+        } catch (IOException ex) {
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Writes the items separated by spaces, in the format {@code settings.floatSplit()} reads, with the given name.
+     */
+    static void writeJoined(Json json, String name, float[] items, int start, int length, JsonSettings settings) {
+        try {
+            if (json.getWriter() instanceof UBJsonAdapter) {
+                ((UBJsonAdapter) json.getWriter()).pack(name, items, start, length);
+                return;
+            }
+            Writer out = open(json, name);
+            StringBuilder sb = new StringBuilder(CAPACITY);
+            char[] buffer = new char[CAPACITY];
+            for (int i = start, n = start + length; i < n; i++) {
+                if (i != start) sb.append(' ');
+                settings.append(sb, items[i]);
+                if (sb.length() >= CHUNK) flush(out, sb, buffer);
+            }
+            close(out, sb, buffer);
+        } catch (IOException ex) {
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Writes the items separated by spaces, in the format {@code settings.doubleSplit()} reads, with the given name.
+     */
+    static void writeJoined(Json json, String name, double[] items, int start, int length, JsonSettings settings) {
+        try {
+            if (json.getWriter() instanceof UBJsonAdapter) {
+                ((UBJsonAdapter) json.getWriter()).pack(name, items, start, length);
+                return;
+            }
+            Writer out = open(json, name);
+            StringBuilder sb = new StringBuilder(CAPACITY);
+            char[] buffer = new char[CAPACITY];
+            for (int i = start, n = start + length; i < n; i++) {
+                if (i != start) sb.append(' ');
+                settings.append(sb, items[i]);
+                if (sb.length() >= CHUNK) flush(out, sb, buffer);
+            }
+            close(out, sb, buffer);
+        } catch (IOException ex) {
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Writes the next {@code size} items in {@code it}, separated by spaces, with the given name. This is used for the
+     * keys and values of maps.
+     */
+    static void writeJoined(Json json, String name, IntIterator it, int size, Base base) {
+        try {
+            if (json.getWriter() instanceof UBJsonAdapter) {
+                ((UBJsonAdapter) json.getWriter()).pack(name, it, size);
+                return;
+            }
+            Writer out = open(json, name);
+            StringBuilder sb = new StringBuilder(CAPACITY);
+            char[] buffer = new char[CAPACITY];
+            for (int i = 0; i < size; i++) {
+                if (i != 0) sb.append(' ');
+                base.appendSigned(sb, it.nextInt());
+                if (sb.length() >= CHUNK) flush(out, sb, buffer);
+            }
+            close(out, sb, buffer);
+        } catch (IOException ex) {
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Writes the next {@code size} items in {@code it}, separated by spaces, with the given name. This is used for the
+     * keys and values of maps.
+     */
+    static void writeJoined(Json json, String name, LongIterator it, int size, Base base) {
+        try {
+            if (json.getWriter() instanceof UBJsonAdapter) {
+                ((UBJsonAdapter) json.getWriter()).pack(name, it, size);
+                return;
+            }
+            Writer out = open(json, name);
+            StringBuilder sb = new StringBuilder(CAPACITY);
+            char[] buffer = new char[CAPACITY];
+            for (int i = 0; i < size; i++) {
+                if (i != 0) sb.append(' ');
+                base.appendSigned(sb, it.nextLong());
+                if (sb.length() >= CHUNK) flush(out, sb, buffer);
+            }
+            close(out, sb, buffer);
+        } catch (IOException ex) {
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Writes the next {@code size} items in {@code it}, separated by spaces, with the given name. This is used for
+     * deques, which may not store their items contiguously, and the values of maps.
+     */
+    static void writeJoined(Json json, String name, FloatIterator it, int size, JsonSettings settings) {
+        try {
+            if (json.getWriter() instanceof UBJsonAdapter) {
+                ((UBJsonAdapter) json.getWriter()).pack(name, it, size);
+                return;
+            }
+            Writer out = open(json, name);
+            StringBuilder sb = new StringBuilder(CAPACITY);
+            char[] buffer = new char[CAPACITY];
+            for (int i = 0; i < size; i++) {
+                if (i != 0) sb.append(' ');
+                settings.append(sb, it.nextFloat());
+                if (sb.length() >= CHUNK) flush(out, sb, buffer);
+            }
+            close(out, sb, buffer);
+        } catch (IOException ex) {
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Writes the next {@code size} items in {@code it}, separated by spaces, with the given name. This is used for
+     * deques, which may not store their items contiguously, and the values of maps.
+     */
+    static void writeJoined(Json json, String name, DoubleIterator it, int size, JsonSettings settings) {
+        try {
+            if (json.getWriter() instanceof UBJsonAdapter) {
+                ((UBJsonAdapter) json.getWriter()).pack(name, it, size);
+                return;
+            }
+            Writer out = open(json, name);
+            StringBuilder sb = new StringBuilder(CAPACITY);
+            char[] buffer = new char[CAPACITY];
+            for (int i = 0; i < size; i++) {
+                if (i != 0) sb.append(' ');
+                settings.append(sb, it.nextDouble());
+                if (sb.length() >= CHUNK) flush(out, sb, buffer);
+            }
+            close(out, sb, buffer);
+        } catch (IOException ex) {
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Writes the same String as {@code TextTools.joinDense(items, start, length)}, with the given name.
+     */
+    static void writeDense(Json json, String name, boolean[] items, int start, int length) {
+        try {
+            if (json.getWriter() instanceof UBJsonAdapter) {
+                ((UBJsonAdapter) json.getWriter()).pack(name, items, start, length);
+                return;
+            }
+            Writer out = open(json, name);
+            StringBuilder sb = new StringBuilder(CAPACITY);
+            char[] buffer = new char[CAPACITY];
+            for (int i = start, n = start + length; i < n; i++) {
+                sb.append(items[i] ? '1' : '0');
+                if (sb.length() >= CHUNK) flush(out, sb, buffer);
+            }
+            close(out, sb, buffer);
+        } catch (IOException ex) {
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Writes the next {@code size} items in {@code it} as {@code '1'} or {@code '0'}, with the given name.
+     */
+    static void writeDense(Json json, String name, BooleanIterator it, int size) {
+        try {
+            if (json.getWriter() instanceof UBJsonAdapter) {
+                ((UBJsonAdapter) json.getWriter()).pack(name, it, size);
+                return;
+            }
+            Writer out = open(json, name);
+            StringBuilder sb = new StringBuilder(CAPACITY);
+            char[] buffer = new char[CAPACITY];
+            for (int i = 0; i < size; i++) {
+                sb.append(it.nextBoolean() ? '1' : '0');
+                if (sb.length() >= CHUNK) flush(out, sb, buffer);
+            }
+            close(out, sb, buffer);
+        } catch (IOException ex) {
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Writes the same String as {@code String.valueOf(items, start, length)}, with the given name.
+     */
+    static void writeDense(Json json, String name, char[] items, int start, int length) {
+        try {
+            if (json.getWriter() instanceof UBJsonAdapter) {
+                ((UBJsonAdapter) json.getWriter()).pack(name, items, start, length);
+                return;
+            }
+            Writer out = open(json, name);
+            StringBuilder sb = new StringBuilder(CAPACITY);
+            char[] buffer = new char[CAPACITY];
+            for (int i = start, n = start + length; i < n; i += CHUNK) {
+                sb.append(items, i, Math.min(CHUNK, n - i));
+                flush(out, sb, buffer);
+            }
+            close(out, sb, buffer);
+        } catch (IOException ex) {
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Writes the next {@code size} items in {@code it} as a JSON array with the given name. Unlike
+     * {@link Json#writeValue(Object)}, this doesn't box each item.
+     */
+    static void writeArray(Json json, String name, IntIterator it, int size) {
+        try {
+            if (json.getWriter() instanceof UBJsonAdapter) {
+                ((UBJsonAdapter) json.getWriter()).pack(name, it, size);
+                return;
+            }
+            JsonWriter writer = json.getWriter();
+            writer.array(name);
+            for (int i = 0; i < size; i++) {
+                writer.value(it.nextInt());
+            }
+            writer.pop();
+        } catch (IOException ex) {
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Writes the next {@code size} items in {@code it} as a JSON array with the given name. Unlike
+     * {@link Json#writeValue(Object)}, this doesn't box each item.
+     */
+    static void writeArray(Json json, String name, LongIterator it, int size) {
+        try {
+            if (json.getWriter() instanceof UBJsonAdapter) {
+                ((UBJsonAdapter) json.getWriter()).pack(name, it, size);
+                return;
+            }
+            JsonWriter writer = json.getWriter();
+            writer.array(name);
+            for (int i = 0; i < size; i++) {
+                writer.value(it.nextLong());
+            }
+            writer.pop();
+        } catch (IOException ex) {
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Writes the next {@code size} items in {@code it} as a JSON array with the given name. Unlike
+     * {@link Json#writeValue(Object)}, this doesn't box each item.
+     */
+    static void writeArray(Json json, String name, ShortIterator it, int size) {
+        try {
+            if (json.getWriter() instanceof UBJsonAdapter) {
+                ((UBJsonAdapter) json.getWriter()).pack(name, it, size);
+                return;
+            }
+            JsonWriter writer = json.getWriter();
+            writer.array(name);
+            for (int i = 0; i < size; i++) {
+                writer.value(it.nextShort());
+            }
+            writer.pop();
+        } catch (IOException ex) {
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Writes the next {@code size} items in {@code it} as a JSON array with the given name. Unlike
+     * {@link Json#writeValue(Object)}, this doesn't box each item.
+     */
+    static void writeArray(Json json, String name, ByteIterator it, int size) {
+        try {
+            if (json.getWriter() instanceof UBJsonAdapter) {
+                ((UBJsonAdapter) json.getWriter()).pack(name, it, size);
+                return;
+            }
+            JsonWriter writer = json.getWriter();
+            writer.array(name);
+            for (int i = 0; i < size; i++) {
+                writer.value(it.nextByte());
+            }
+            writer.pop();
+        } catch (IOException ex) {
+            throw new SerializationException(ex);
+        }
+    }
+
+    /**
+     * Counts how many space-separated items are in {@code data}, as written by the joining methods here.
+     * @param data a String of items separated by single spaces; may be empty
+     * @return how many items are in data
+     */
+    static int count(String data) {
+        if (data.isEmpty()) return 0;
+        int n = 1;
+        for (int i = data.indexOf(' '); i >= 0; i = data.indexOf(' ', i + 1)) {
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Counts how many items are in {@code data}, which can be a String as written by the joining methods here or an
+     * array as written to a {@link UBJsonAdapter}.
+     * @param data a JsonValue holding a String or an array
+     * @return how many items are in data
+     */
+    static int count(JsonValue data) {
+        return data.isArray() ? data.size : count(data.asString());
+    }
+
+    /**
+     * Reads each space-separated item in {@code data} using {@link Base#readInt(CharSequence, int, int)}, and adds it
+     * to {@code into}.
+     */
+    static <C extends PrimitiveCollection.OfInt> C readInts(String data, Base base, C into) {
+        for (int start = 0, n = data.length(), end; start < n; start = end + 1) {
+            if ((end = data.indexOf(' ', start)) < 0) end = n;
+            into.add(base.readInt(data, start, end));
+        }
+        return into;
+    }
+
+    /**
+     * Reads each space-separated item in {@code data} using {@link Base#readLong(CharSequence, int, int)}, and adds it
+     * to {@code into}.
+     */
+    static <C extends PrimitiveCollection.OfLong> C readLongs(String data, Base base, C into) {
+        for (int start = 0, n = data.length(), end; start < n; start = end + 1) {
+            if ((end = data.indexOf(' ', start)) < 0) end = n;
+            into.add(base.readLong(data, start, end));
+        }
+        return into;
+    }
+
+    /**
+     * Reads each space-separated item in {@code data} using {@link Base#readInt(CharSequence, int, int)}, and adds it
+     * to {@code into} as a short. Shorts are written with a sign, not in two's complement, so this is lossless.
+     */
+    static <C extends PrimitiveCollection.OfShort> C readShorts(String data, Base base, C into) {
+        for (int start = 0, n = data.length(), end; start < n; start = end + 1) {
+            if ((end = data.indexOf(' ', start)) < 0) end = n;
+            into.add((short) base.readInt(data, start, end));
+        }
+        return into;
+    }
+
+    /**
+     * Reads each space-separated item in {@code data} using {@link Base#readInt(CharSequence, int, int)}, and adds it
+     * to {@code into} as a byte. Bytes are written with a sign, not in two's complement, so this is lossless.
+     */
+    static <C extends PrimitiveCollection.OfByte> C readBytes(String data, Base base, C into) {
+        for (int start = 0, n = data.length(), end; start < n; start = end + 1) {
+            if ((end = data.indexOf(' ', start)) < 0) end = n;
+            into.add((byte) base.readInt(data, start, end));
+        }
+        return into;
+    }
+
+    /**
+     * Reads each space-separated item in {@code data} the way {@link JsonSettings#floatSplit(String)} would, and adds
+     * it to {@code into}.
+     */
+    static <C extends PrimitiveCollection.OfFloat> C readFloats(String data, JsonSettings settings, C into) {
+        for (int start = 0, n = data.length(), end; start < n; start = end + 1) {
+            if ((end = data.indexOf(' ', start)) < 0) end = n;
+            into.add(settings.floatRead(data, start, end));
+        }
+        return into;
+    }
+
+    /**
+     * Reads each space-separated item in {@code data} the way {@link JsonSettings#doubleSplit(String)} would, and adds
+     * it to {@code into}.
+     */
+    static <C extends PrimitiveCollection.OfDouble> C readDoubles(String data, JsonSettings settings, C into) {
+        for (int start = 0, n = data.length(), end; start < n; start = end + 1) {
+            if ((end = data.indexOf(' ', start)) < 0) end = n;
+            into.add(settings.doubleRead(data, start, end));
+        }
+        return into;
+    }
+
+    /**
+     * Reads every item in {@code data} into a new int array of exactly the right size. The data can be a String of
+     * space-separated items in the given Base, or an array of numbers.
+     */
+    static int[] readIntArray(JsonValue data, Base base) {
+        Tokens tokens = new Tokens(data);
+        int[] items = new int[tokens.size()];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = tokens.nextInt(base);
+        }
+        return items;
+    }
+
+    /**
+     * Adds each char in {@code data} to {@code into}.
+     */
+    static <C extends PrimitiveCollection.OfChar> C readChars(String data, C into) {
+        for (int i = 0, n = data.length(); i < n; i++) {
+            into.add(data.charAt(i));
+        }
+        return into;
+    }
+
+    /**
+     * Adds each item in the JSON array {@code array} to {@code into}, as an int.
+     */
+    static <C extends PrimitiveCollection.OfInt> C readInts(JsonValue array, C into) {
+        for (JsonValue item = array.child; item != null; item = item.next) {
+            into.add(item.asInt());
+        }
+        return into;
+    }
+
+    /**
+     * Adds each item in the JSON array {@code array} to {@code into}, as a long.
+     */
+    static <C extends PrimitiveCollection.OfLong> C readLongs(JsonValue array, C into) {
+        for (JsonValue item = array.child; item != null; item = item.next) {
+            into.add(item.asLong());
+        }
+        return into;
+    }
+
+    /**
+     * Adds each item in the JSON array {@code array} to {@code into}, as a short.
+     */
+    static <C extends PrimitiveCollection.OfShort> C readShorts(JsonValue array, C into) {
+        for (JsonValue item = array.child; item != null; item = item.next) {
+            into.add(item.asShort());
+        }
+        return into;
+    }
+
+    /**
+     * Adds each item in the JSON array {@code array} to {@code into}, as a byte.
+     */
+    static <C extends PrimitiveCollection.OfByte> C readBytes(JsonValue array, C into) {
+        for (JsonValue item = array.child; item != null; item = item.next) {
+            into.add(item.asByte());
+        }
+        return into;
+    }
+
+    /**
+     * Adds each item in the JSON array {@code array} to {@code into}, as a char.
+     */
+    static <C extends PrimitiveCollection.OfChar> C readChars(JsonValue array, C into) {
+        for (JsonValue item = array.child; item != null; item = item.next) {
+            into.add(item.asChar());
+        }
+        return into;
+    }
+
+    /**
+     * Gets the booleans in {@code data}, whether data is an array of 0 and 1 numbers or a String of {@code '0'} and
+     * {@code '1'} chars.
+     */
+    static boolean[] readBooleans(JsonValue data) {
+        if (!data.isArray()) return TextTools.booleanSplitDense(data.asString());
+        boolean[] items = new boolean[data.size];
+        int i = 0;
+        for (JsonValue item = data.child; item != null; item = item.next) {
+            items[i++] = item.asInt() != 0;
+        }
+        return items;
+    }
+
+    /**
+     * Adds each item in {@code data} to {@code into}, whether data is an array of numbers or a String of
+     * space-separated items.
+     */
+    static <C extends PrimitiveCollection.OfInt> C readInts(JsonValue data, Base base, C into) {
+        return data.isArray() ? readInts(data, into) : readInts(data.asString(), base, into);
+    }
+
+    /**
+     * Adds each item in {@code data} to {@code into}, whether data is an array of numbers or a String of
+     * space-separated items.
+     */
+    static <C extends PrimitiveCollection.OfLong> C readLongs(JsonValue data, Base base, C into) {
+        return data.isArray() ? readLongs(data, into) : readLongs(data.asString(), base, into);
+    }
+
+    /**
+     * Adds each item in {@code data} to {@code into}, whether data is an array of numbers or a String of
+     * space-separated items.
+     */
+    static <C extends PrimitiveCollection.OfShort> C readShorts(JsonValue data, Base base, C into) {
+        return data.isArray() ? readShorts(data, into) : readShorts(data.asString(), base, into);
+    }
+
+    /**
+     * Adds each item in {@code data} to {@code into}, whether data is an array of numbers or a String of
+     * space-separated items.
+     */
+    static <C extends PrimitiveCollection.OfByte> C readBytes(JsonValue data, Base base, C into) {
+        return data.isArray() ? readBytes(data, into) : readBytes(data.asString(), base, into);
+    }
+
+    /**
+     * Adds each item in {@code data} to {@code into}, whether data is an array of numbers or a String of
+     * space-separated items.
+     */
+    static <C extends PrimitiveCollection.OfFloat> C readFloats(JsonValue data, JsonSettings settings, C into) {
+        return data.isArray() ? readFloats(data, into) : readFloats(data.asString(), settings, into);
+    }
+
+    /**
+     * Adds each item in {@code data} to {@code into}, whether data is an array of numbers or a String of
+     * space-separated items.
+     */
+    static <C extends PrimitiveCollection.OfDouble> C readDoubles(JsonValue data, JsonSettings settings, C into) {
+        return data.isArray() ? readDoubles(data, into) : readDoubles(data.asString(), settings, into);
+    }
+
+    /**
+     * Reads items one at a time from a JsonValue that is either a String of space-separated items, as written by the
+     * joining methods here, or an array of numbers, as written to a {@link UBJsonAdapter}. This lets two columns, such
+     * as the keys and values of a map, be read side by side in one pass.
+     */
+    static final class Tokens {
+        private final String text;
+        private final int size;
+        private JsonValue item;
+        private int start;
+
+        Tokens(JsonValue data) {
+            if (data.isArray()) {
+                text = null;
+                size = data.size;
+                item = data.child;
+            } else {
+                text = data.asString();
+                size = count(text);
+            }
+        }
+
+        /**
+         * @return how many items there are in total
+         */
+        int size() {
+            return size;
+        }
+
+        boolean hasNext() {
+            return text == null ? item != null : start < text.length();
+        }
+
+        private int end() {
+            int end = text.indexOf(' ', start);
+            return end < 0 ? text.length() : end;
+        }
+
+        int nextInt(Base base) {
+            if (text == null) {
+                int n = item.asInt();
+                item = item.next;
+                return n;
+            }
+            int end = end();
+            int n = base.readInt(text, start, end);
+            start = end + 1;
+            return n;
+        }
+
+        long nextLong(Base base) {
+            if (text == null) {
+                long n = item.asLong();
+                item = item.next;
+                return n;
+            }
+            int end = end();
+            long n = base.readLong(text, start, end);
+            start = end + 1;
+            return n;
+        }
+
+        float nextFloat(JsonSettings settings) {
+            if (text == null) {
+                float n = item.asFloat();
+                item = item.next;
+                return n;
+            }
+            int end = end();
+            float n = settings.floatRead(text, start, end);
+            start = end + 1;
+            return n;
+        }
+
+        double nextDouble(JsonSettings settings) {
+            if (text == null) {
+                double n = item.asDouble();
+                item = item.next;
+                return n;
+            }
+            int end = end();
+            double n = settings.doubleRead(text, start, end);
+            start = end + 1;
+            return n;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.SerializationException;
 import com.badlogic.gdx.utils.reflect.ClassReflection;
 import com.badlogic.gdx.utils.reflect.ReflectionException;
 import com.github.tommyettinger.digital.*;
@@ -41,11 +42,39 @@ public final class JsonSupport {
     private JsonSupport() {
     }
 
-    private static Base BASE = Base.BASE10;
+    /**
+     * The JsonSettings used by every {@code register} method that doesn't take a JsonSettings. This is only read when a
+     * serializer is registered; each serializer keeps the JsonSettings it was registered with. This is volatile so a
+     * change made by a static setter on one thread is seen by registrations on any other thread.
+     */
+    private static volatile JsonSettings SETTINGS = JsonSettings.DEFAULT;
 
-    private static boolean LEGIBLE_FLOATS = true;
+    /**
+     * Gets the known type to give libGDX when writing {@code item} where a serializer expects the class {@code expected}.
+     * libGDX writes a String or boxed primitive with no class at all when its class is the known type, so if expected is
+     * one of those classes and item has some other class, this returns null so libGDX writes item's class. Otherwise,
+     * this returns expected, because libGDX already writes the class of any item that doesn't match it.
+     */
+    static Class knownType(Object item, Class expected) {
+        if (expected == null || item == null || item.getClass() == expected) return expected;
+        return expected == String.class || expected == Integer.class || expected == Boolean.class
+                || expected == Float.class || expected == Long.class || expected == Double.class || expected == Short.class
+                || expected == Byte.class || expected == Character.class ? null : expected;
+    }
 
-    private static boolean ADD_CLASS_TAGS = true;
+    /**
+     * Gets the JSON field name that a typed map serializer writes for {@code key}. Keys are used as the name directly
+     * if they are CharSequences that can be read back as-is; any other key is written as JSON, with its class if it
+     * doesn't have exactly the class {@code keyType}.
+     */
+    private static String fieldName(Json json, Object key, Class keyType) {
+        boolean named = keyType == null || keyType == String.class || keyType == CharSequence.class;
+        if (key instanceof CharSequence && named) return key.toString();
+        if (keyType != null && named)
+            throw new SerializationException("Key " + key + " can't be written as a field name for a map of "
+                    + keyType.getSimpleName() + " keys; use JsonSettings.withEntryArrays(true) instead.");
+        return json.toJson(key, knownType(key, keyType));
+    }
 
     /**
      * Registers JDKGDXDS' classes with the given Json object, allowing it to read and write JDKGDXDS types.
@@ -53,120 +82,135 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have serializers registered for all JDKGDXDS types.
      */
     public static void registerAll(Json json) {
-        registerObjectList(json);
-        registerIntList(json);
-        registerLongList(json);
-        registerFloatList(json);
-        registerByteList(json);
-        registerShortList(json);
-        registerCharList(json);
-        registerDoubleList(json);
-        registerBooleanList(json);
-
-        registerObjectBag(json);
-        registerIntBag(json);
-        registerLongBag(json);
-        registerFloatBag(json);
-        registerByteBag(json);
-        registerShortBag(json);
-        registerCharBag(json);
-        registerDoubleBag(json);
-        registerBooleanBag(json);
-
-        registerObjectDeque(json);
-        registerLongDeque(json);
-        registerIntDeque(json);
-        registerShortDeque(json);
-        registerByteDeque(json);
-        registerDoubleDeque(json);
-        registerFloatDeque(json);
-        registerCharDeque(json);
-        registerBooleanDeque(json);
-
-        registerObjectSet(json);
-        registerObjectOrderedSet(json);
-        registerIntSet(json);
-        registerIntOrderedSet(json);
-        registerLongSet(json);
-        registerLongOrderedSet(json);
-        registerOffsetBitSet(json);
-        registerCharBitSet(json);
-        registerCharBitSetFixedSize(json);
-        registerEnumSet(json);
-        registerEnumOrderedSet(json);
-
-        registerObjectObjectMap(json);
-        registerObjectObjectOrderedMap(json);
-        registerObjectIntMap(json);
-        registerObjectIntOrderedMap(json);
-        registerObjectLongMap(json);
-        registerObjectLongOrderedMap(json);
-        registerObjectFloatMap(json);
-        registerObjectFloatOrderedMap(json);
-
-        registerIntObjectMap(json);
-        registerIntObjectOrderedMap(json);
-        registerIntIntMap(json);
-        registerIntIntOrderedMap(json);
-        registerIntLongMap(json);
-        registerIntLongOrderedMap(json);
-        registerIntFloatMap(json);
-        registerIntFloatOrderedMap(json);
-
-        registerLongObjectMap(json);
-        registerLongObjectOrderedMap(json);
-        registerLongIntMap(json);
-        registerLongIntOrderedMap(json);
-        registerLongLongMap(json);
-        registerLongLongOrderedMap(json);
-        registerLongFloatMap(json);
-        registerLongFloatOrderedMap(json);
-
-        registerEnumMap(json);
-        registerEnumOrderedMap(json);
-        registerEnumIntMap(json);
-        registerEnumIntOrderedMap(json);
-        registerEnumLongMap(json);
-        registerEnumLongOrderedMap(json);
-        registerEnumFloatMap(json);
-        registerEnumFloatOrderedMap(json);
-
-        registerCaseInsensitiveSet(json);
-        registerCaseInsensitiveOrderedSet(json);
-        registerCaseInsensitiveMap(json);
-        registerCaseInsensitiveOrderedMap(json);
-
-        registerFilteredStringSet(json);
-        registerFilteredStringOrderedSet(json);
-        registerFilteredStringMap(json);
-        registerFilteredStringOrderedMap(json);
-
-        registerNumberedSet(json);
-
-        registerBinaryHeap(json);
-
-        registerJunction(json);
-        registerStringJunction(json);
+        registerAll(json, SETTINGS);
+    }
+
+    /**
+     * Registers JDKGDXDS' classes with the given Json object, allowing it to read and write JDKGDXDS types.
+     *
+     * @param json a libGDX Json object that will have serializers registered for all JDKGDXDS types.
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerAll(Json json, JsonSettings settings) {
+        registerObjectList(json, settings);
+        registerIntList(json, settings);
+        registerLongList(json, settings);
+        registerFloatList(json, settings);
+        registerByteList(json, settings);
+        registerShortList(json, settings);
+        registerCharList(json, settings);
+        registerDoubleList(json, settings);
+        registerBooleanList(json, settings);
+
+        registerObjectBag(json, settings);
+        registerIntBag(json, settings);
+        registerLongBag(json, settings);
+        registerFloatBag(json, settings);
+        registerByteBag(json, settings);
+        registerShortBag(json, settings);
+        registerCharBag(json, settings);
+        registerDoubleBag(json, settings);
+        registerBooleanBag(json, settings);
+
+        registerObjectDeque(json, settings);
+        registerLongDeque(json, settings);
+        registerIntDeque(json, settings);
+        registerShortDeque(json, settings);
+        registerByteDeque(json, settings);
+        registerDoubleDeque(json, settings);
+        registerFloatDeque(json, settings);
+        registerCharDeque(json, settings);
+        registerBooleanDeque(json, settings);
+
+        registerObjectSet(json, settings);
+        registerObjectOrderedSet(json, settings);
+        registerIntSet(json, settings);
+        registerIntOrderedSet(json, settings);
+        registerLongSet(json, settings);
+        registerLongOrderedSet(json, settings);
+        registerOffsetBitSet(json, settings);
+        registerCharBitSet(json, settings);
+        registerCharBitSetFixedSize(json, settings);
+        registerEnumSet(json, settings);
+        registerEnumOrderedSet(json, settings);
+
+        registerObjectObjectMap(json, settings);
+        registerObjectObjectOrderedMap(json, settings);
+        registerObjectIntMap(json, settings);
+        registerObjectIntOrderedMap(json, settings);
+        registerObjectLongMap(json, settings);
+        registerObjectLongOrderedMap(json, settings);
+        registerObjectFloatMap(json, settings);
+        registerObjectFloatOrderedMap(json, settings);
+
+        registerIntObjectMap(json, settings);
+        registerIntObjectOrderedMap(json, settings);
+        registerIntIntMap(json, settings);
+        registerIntIntOrderedMap(json, settings);
+        registerIntLongMap(json, settings);
+        registerIntLongOrderedMap(json, settings);
+        registerIntFloatMap(json, settings);
+        registerIntFloatOrderedMap(json, settings);
+
+        registerLongObjectMap(json, settings);
+        registerLongObjectOrderedMap(json, settings);
+        registerLongIntMap(json, settings);
+        registerLongIntOrderedMap(json, settings);
+        registerLongLongMap(json, settings);
+        registerLongLongOrderedMap(json, settings);
+        registerLongFloatMap(json, settings);
+        registerLongFloatOrderedMap(json, settings);
+
+        registerEnumMap(json, settings);
+        registerEnumOrderedMap(json, settings);
+        registerEnumIntMap(json, settings);
+        registerEnumIntOrderedMap(json, settings);
+        registerEnumLongMap(json, settings);
+        registerEnumLongOrderedMap(json, settings);
+        registerEnumFloatMap(json, settings);
+        registerEnumFloatOrderedMap(json, settings);
+
+        registerCaseInsensitiveSet(json, settings);
+        registerCaseInsensitiveOrderedSet(json, settings);
+        registerCaseInsensitiveMap(json, settings);
+        registerCaseInsensitiveOrderedMap(json, settings);
+
+        registerFilteredStringSet(json, settings);
+        registerFilteredStringOrderedSet(json, settings);
+        registerFilteredStringMap(json, settings);
+        registerFilteredStringOrderedMap(json, settings);
+
+        registerNumberedSet(json, settings);
+
+        registerBinaryHeap(json, settings);
+
+        registerJunction(json, settings);
+        registerStringJunction(json, settings);
+
+        registerOffHeapIntList(json, settings);
+        registerOffHeapLongList(json, settings);
+        registerOffHeapFloatList(json, settings);
+        registerOffHeapIntIntMap(json, settings);
 
         // from digital.
-        registerBase(json);
-        registerHasher(json);
-        registerAlternateRandom(json);
-        registerInterpolator(json);
+        registerBase(json, settings);
+        registerHasher(json, settings);
+        registerAlternateRandom(json, settings);
+        registerInterpolator(json, settings);
 
         // from juniper. these register many others.
-        registerDistributionWrapper(json);
-        registerInterpolatorWrapper(json);
-        registerReverseWrapper(json);
-        registerArchivalWrapper(json);
-        registerDeckWrapper(json);
-        registerCompositeWrapper(json);
+        registerDistributionWrapper(json, settings);
+        registerInterpolatorWrapper(json, settings);
+        registerReverseWrapper(json, settings);
+        registerArchivalWrapper(json, settings);
+        registerDeckWrapper(json, settings);
+        registerCompositeWrapper(json, settings);
 
         // from libGDX.
-        registerRandomXS128(json);
+        registerRandomXS128(json, settings);
 
         // from the JDK.
-        registerClass(json);
+        registerClass(json, settings);
     }
 
 
@@ -176,7 +220,7 @@ public final class JsonSupport {
      * @return the Base system this uses, which is always non-null.
      */
     public static Base getNumeralBase() {
-        return BASE;
+        return SETTINGS.base;
     }
     /**
      * Sets the numeral system, also called radix or base, used by some methods here to encode numbers.
@@ -184,11 +228,12 @@ public final class JsonSupport {
      * such as random seeds, put into readable JSON files. The methods this affects are mostly related to registering
      * {@link EnhancedRandom} and its implementations, {@link RandomXS128}, and {@link AtomicLong}. If this hasn't been
      * called, the default this uses is {@link Base#BASE10}, because it is the most human-readable.
+     * This only affects serializers registered after this is called.
      * @param base a non-null Base system
      */
     public static void setNumeralBase(Base base){
         if(base != null)
-            BASE = base;
+            SETTINGS = SETTINGS.withNumeralBase(base);
     }
 
     /**
@@ -200,7 +245,7 @@ public final class JsonSupport {
      * @return true if this is writing floats in a human-readable way, or false if writing floats in a compact way
      */
     public static boolean areFloatsLegible() {
-        return LEGIBLE_FLOATS;
+        return SETTINGS.legibleFloats;
     }
 
     /**
@@ -209,10 +254,11 @@ public final class JsonSupport {
      * other will. If this is false, then there is a maximum length a float or double will use (in chars). If this is
      * true, then floats and doubles will always print in base-10, and only use scientific notation for very large or
      * very small numbers (determined by distance from 0.0), but the maximum length is larger.
+     * This only affects serializers registered after this is called.
      * @param legibleFloats true to write floats in a human-readable way, or false to write floats in a compact way
      */
     public static void setFloatsLegible(boolean legibleFloats) {
-        LEGIBLE_FLOATS = legibleFloats;
+        SETTINGS = SETTINGS.withFloatsLegible(legibleFloats);
     }
 
     /**
@@ -222,7 +268,7 @@ public final class JsonSupport {
      * @return true if this is currently set to add class tags when registering classes, or false otherwise
      */
     public static boolean isAddClassTags() {
-        return ADD_CLASS_TAGS;
+        return SETTINGS.addClassTags;
     }
 
     /**
@@ -231,90 +277,136 @@ public final class JsonSupport {
      * impede readability, but if users are expected to either not see raw JSON files or not care about {@code class}
      * entries in them, then using short tags saves a lot of file size. This is especially useful for games that
      * transmit JSON over a network. The default for this, if not yet called, is true (it will use short tags).
+     * This only affects classes registered after this is called.
      * @param addClassTags if true, this will use short class tags instead of long names with packages for classes
      */
     public static void setAddClassTags(boolean addClassTags) {
-        ADD_CLASS_TAGS = addClassTags;
-    }
-
-    private static String str(float data) {
-        return LEGIBLE_FLOATS ? BASE.general(data) : BASE.signed(data);
-    }
-
-    private static String str(double data) {
-        return LEGIBLE_FLOATS ? BASE.general(data) : BASE.signed(data);
-    }
-
-    private static StringBuilder append(StringBuilder sb, float data) {
-        return LEGIBLE_FLOATS ? BASE.appendGeneral(sb, data) : BASE.appendSigned(sb, data);
-    }
-
-    private static StringBuilder append(StringBuilder sb, double data) {
-        return LEGIBLE_FLOATS ? BASE.appendGeneral(sb, data) : BASE.appendSigned(sb, data);
-    }
-
-    private static String join(float[] data) {
-        return LEGIBLE_FLOATS ? BASE.join(" ", data) : BASE.joinExact(" ", data);
+        SETTINGS = SETTINGS.withAddClassTags(addClassTags);
     }
 
-    private static String join(double[] data) {
-        return LEGIBLE_FLOATS ? BASE.join(" ", data) : BASE.joinExact(" ", data);
-    }
-
-    private static StringBuilder appendJoined(StringBuilder sb, float[] data) {
-        return LEGIBLE_FLOATS ? BASE.appendJoined(sb, " ", data) : BASE.appendJoinedExact(sb, " ", data);
-    }
-
-    private static StringBuilder appendJoined(StringBuilder sb, double[] data) {
-        return LEGIBLE_FLOATS ? BASE.appendJoined(sb, " ", data) : BASE.appendJoinedExact(sb, " ", data);
+    /**
+     * Gets whether maps with int or long keys will be written as two packed columns, one of keys and one of values,
+     * instead of as one JSON field per entry. The default is false.
+     * @return true if this is currently set to pack maps with int or long keys
+     * @see JsonSettings#isPackMaps()
+     */
+    public static boolean isPackMaps() {
+        return SETTINGS.packMaps;
     }
 
-    private static String join(float[] data, int start, int length) {
-        return LEGIBLE_FLOATS ? BASE.join(" ", data, start, length) : BASE.joinExact(" ", data, start, length);
+    /**
+     * If true, maps with int or long keys, such as IntIntMap or LongObjectOrderedMap, will be written as two packed
+     * columns; the keys, and the values if they are primitive, are each written as one String of numbers in the
+     * current numeral base. This is much faster to read back for large maps, since no JSON field is created per key.
+     * Maps can be read back in either form regardless of this setting. The default for this, if not yet called, is
+     * false. This only affects classes registered after this is called.
+     * @param packMaps if true, this will write maps with int or long keys as packed columns
+     */
+    public static void setPackMaps(boolean packMaps) {
+        SETTINGS = SETTINGS.withPackMaps(packMaps);
     }
 
-    private static String join(double[] data, int start, int length) {
-        return LEGIBLE_FLOATS ? BASE.join(" ", data, start, length) : BASE.joinExact(" ", data, start, length);
+    /**
+     * Gets whether ObjectObjectMap and ObjectObjectOrderedMap will be written as one flat array of keys and values,
+     * instead of as one JSON field per entry. The default is false.
+     * @return true if this is currently set to write maps with Object keys as entry arrays
+     * @see JsonSettings#isEntryArrays()
+     */
+    public static boolean isEntryArrays() {
+        return SETTINGS.entryArrays;
     }
 
-    private static StringBuilder appendJoined(StringBuilder sb, float[] data, int start, int length) {
-        return LEGIBLE_FLOATS ? BASE.appendJoined(sb, " ", data, start, length) : BASE.appendJoinedExact(sb, " ", data, start, length);
+    /**
+     * If true, ObjectObjectMap and ObjectObjectOrderedMap will be written as one flat JSON array,
+     * {@code [key0, value0, key1, value1, ...]}, where every key is an ordinary JSON value. This avoids writing each
+     * non-String key as a nested JSON String and parsing it a second time when reading, which matters for maps with
+     * keys like {@code GridPoint2} or {@code Vector2}. Maps can be read back in either form regardless of this setting.
+     * The default for this, if not yet called, is false. This only affects classes registered after this is called.
+     * @param entryArrays if true, this will write maps with Object keys as entry arrays
+     */
+    public static void setEntryArrays(boolean entryArrays) {
+        SETTINGS = SETTINGS.withEntryArrays(entryArrays);
     }
 
-    private static StringBuilder appendJoined(StringBuilder sb, double[] data, int start, int length) {
-        return LEGIBLE_FLOATS ? BASE.appendJoined(sb, " ", data, start, length) : BASE.appendJoinedExact(sb, " ", data, start, length);
+    /**
+     * Gets the JsonSettings used by every {@code register} method that doesn't take a JsonSettings. This holds the
+     * values set by {@link #setNumeralBase(Base)}, {@link #setFloatsLegible(boolean)},
+     * {@link #setAddClassTags(boolean)}, {@link #setPackMaps(boolean)}, and {@link #setEntryArrays(boolean)}, and is
+     * {@link JsonSettings#DEFAULT} if none of those have been called.
+     * @return the current default JsonSettings, which is always non-null
+     */
+    public static JsonSettings getSettings() {
+        return SETTINGS;
     }
 
-    private static float floatRead(String data) {
-        return LEGIBLE_FLOATS ? BASE.readFloat(data) : BASE.readFloatExact(data);
+    /**
+     * Sets the JsonSettings used by every {@code register} method that doesn't take a JsonSettings, replacing the
+     * numeral base, float legibility, class tag, and map layout options all at once. This only affects serializers
+     * registered after this is called. If you use several Json objects with different settings, especially on different
+     * threads, you should prefer passing a JsonSettings to the {@code register} methods, such as
+     * {@link #registerAll(Json, JsonSettings)}, instead of changing this shared default.
+     * @param settings a non-null JsonSettings; if null, this does nothing
+     */
+    public static void setSettings(JsonSettings settings) {
+        if(settings != null)
+            SETTINGS = settings;
     }
 
-    private static double doubleRead(String data) {
-        return LEGIBLE_FLOATS ? BASE.readDouble(data) : BASE.readDoubleExact(data);
+    /**
+     * Registers ObjectList with the given Json object, so ObjectList can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     */
+    public static void registerObjectList(Json json) {
+        registerObjectList(json, SETTINGS);
     }
 
-    private static float[] floatSplit(String data) {
-        return LEGIBLE_FLOATS ? BASE.floatSplit(data, " ") : BASE.floatSplitExact(data, " ");
+    /**
+     * Registers ObjectList with the given Json object, so ObjectList can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerObjectList(Json json, JsonSettings settings) {
+        registerObjectList(json, settings, null);
     }
 
-    private static double[] doubleSplit(String data) {
-        return LEGIBLE_FLOATS ? BASE.doubleSplit(data, " ") : BASE.doubleSplitExact(data, " ");
+    /**
+     * Registers ObjectList with the given Json object, so ObjectList can be written to and read from JSON, expecting its items
+     * to be instances of {@code elementType}. Items with exactly that class are written without a {@code class} field
+     * and read using {@code elementType} directly, instead of looking up a class for each item; any other items are
+     * still written with their class, so they can be read back correctly, even Strings or boxed numbers that libGDX
+     * would otherwise write without a class. This affects every ObjectList that {@code json}
+     * writes or reads, so it suits a Json object that only handles one kind of ObjectList.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param elementType the class that items are expected to have; if null, every item is written with its class
+     */
+    public static void registerObjectList(Json json, Class<?> elementType) {
+        registerObjectList(json, SETTINGS, elementType);
     }
 
     /**
-     * Registers ObjectList with the given Json object, so ObjectList can be written to and read from JSON.
+     * Registers ObjectList with the given Json object, so ObjectList can be written to and read from JSON, expecting its items
+     * to be instances of {@code elementType}. Items with exactly that class are written without a {@code class} field
+     * and read using {@code elementType} directly, instead of looking up a class for each item; any other items are
+     * still written with their class, so they can be read back correctly, even Strings or boxed numbers that libGDX
+     * would otherwise write without a class. This affects every ObjectList that {@code json}
+     * writes or reads, so it suits a Json object that only handles one kind of ObjectList.
      *
      * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     * @param elementType the class that items are expected to have; if null, every item is written with its class
      */
-    public static void registerObjectList(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("oL", ObjectList.class);
+    public static void registerObjectList(Json json, JsonSettings settings, Class<?> elementType) {
+        if(settings.addClassTags) json.addClassTag("oL", ObjectList.class);
         json.setSerializer(ObjectList.class, new Json.Serializer<ObjectList>() {
             @Override
             public void write(Json json, ObjectList object, Class knownType) {
                 json.writeObjectStart(ObjectList.class, knownType);
                 json.writeArrayStart("items");
                 for (Object o : object) {
-                    json.writeValue(o, null);
+                    DictionaryJson.writeItem(json, o, elementType);
                 }
                 json.writeArrayEnd();
                 json.writeObjectEnd();
@@ -325,7 +417,7 @@ public final class JsonSupport {
                 if (jsonData == null || jsonData.isNull()) return null;
                 ObjectList<?> data = new ObjectList<>(jsonData.size);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.add(json.readValue(null, value));
+                    data.add(DictionaryJson.readItem(json, elementType, value));
                 }
                 return data;
             }
@@ -338,19 +430,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerIntList(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("iL", IntList.class);
+        registerIntList(json, SETTINGS);
+    }
+
+    /**
+     * Registers IntList with the given Json object, so IntList can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerIntList(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("iL", IntList.class);
         json.setSerializer(IntList.class, new Json.Serializer<IntList>() {
             @Override
             public void write(Json json, IntList object, Class knownType) {
                 json.writeObjectStart(IntList.class, knownType);
-                json.writeValue("items", BASE.join(" ", object.items, 0, object.size()));
+                JsonStreams.writeJoined(json, "items", object.items, 0, object.size(), settings.base);
                 json.writeObjectEnd();
             }
 
             @Override
             public IntList read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
-                return IntList.with(BASE.intSplit(jsonData.asString(), " "));
+                return JsonStreams.readInts(jsonData, settings.base, new IntList(JsonStreams.count(jsonData)));
             }
         });
 
@@ -362,19 +464,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLongList(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("lL", LongList.class);
+        registerLongList(json, SETTINGS);
+    }
+
+    /**
+     * Registers LongList with the given Json object, so LongList can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLongList(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("lL", LongList.class);
         json.setSerializer(LongList.class, new Json.Serializer<LongList>() {
             @Override
             public void write(Json json, LongList object, Class knownType) {
                 json.writeObjectStart(LongList.class, knownType);
-                json.writeValue("items", BASE.join(" ", object.items, 0, object.size()));
+                JsonStreams.writeJoined(json, "items", object.items, 0, object.size(), settings.base);
                 json.writeObjectEnd();
             }
 
             @Override
             public LongList read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
-                return LongList.with(BASE.longSplit(jsonData.asString(), " "));
+                return JsonStreams.readLongs(jsonData, settings.base, new LongList(JsonStreams.count(jsonData)));
             }
         });
     }
@@ -385,19 +497,131 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerFloatList(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("fL", FloatList.class);
+        registerFloatList(json, SETTINGS);
+    }
+
+    /**
+     * Registers FloatList with the given Json object, so FloatList can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerFloatList(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("fL", FloatList.class);
         json.setSerializer(FloatList.class, new Json.Serializer<FloatList>() {
             @Override
             public void write(Json json, FloatList object, Class knownType) {
                 json.writeObjectStart(FloatList.class, knownType);
-                json.writeValue("items", join(object.items, 0, object.size()));
+                JsonStreams.writeJoined(json, "items", object.items, 0, object.size(), settings);
                 json.writeObjectEnd();
             }
 
             @Override
             public FloatList read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
-                return FloatList.with(floatSplit(jsonData.asString()));
+                return JsonStreams.readFloats(jsonData, settings, new FloatList(JsonStreams.count(jsonData)));
+            }
+        });
+    }
+
+    /**
+     * Registers OffHeapIntList with the given Json object, so OffHeapIntList can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     */
+    public static void registerOffHeapIntList(Json json) {
+        registerOffHeapIntList(json, SETTINGS);
+    }
+
+    /**
+     * Registers OffHeapIntList with the given Json object, so OffHeapIntList can be written to and read from JSON.
+     * It is written the same way as a IntList, and items are streamed to and from the buffer without a heap array.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerOffHeapIntList(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("ohiL", OffHeapIntList.class);
+        json.setSerializer(OffHeapIntList.class, new Json.Serializer<OffHeapIntList>() {
+            @Override
+            public void write(Json json, OffHeapIntList object, Class knownType) {
+                json.writeObjectStart(OffHeapIntList.class, knownType);
+                JsonStreams.writeJoined(json, "items", object.iterator(), object.size(), settings.base);
+                json.writeObjectEnd();
+            }
+
+            @Override
+            public OffHeapIntList read(Json json, JsonValue jsonData, Class type) {
+                if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
+                return JsonStreams.readInts(jsonData, settings.base, new OffHeapIntList(JsonStreams.count(jsonData)));
+            }
+        });
+    }
+
+    /**
+     * Registers OffHeapLongList with the given Json object, so OffHeapLongList can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     */
+    public static void registerOffHeapLongList(Json json) {
+        registerOffHeapLongList(json, SETTINGS);
+    }
+
+    /**
+     * Registers OffHeapLongList with the given Json object, so OffHeapLongList can be written to and read from JSON.
+     * It is written the same way as a LongList, and items are streamed to and from the buffer without a heap array.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerOffHeapLongList(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("ohlL", OffHeapLongList.class);
+        json.setSerializer(OffHeapLongList.class, new Json.Serializer<OffHeapLongList>() {
+            @Override
+            public void write(Json json, OffHeapLongList object, Class knownType) {
+                json.writeObjectStart(OffHeapLongList.class, knownType);
+                JsonStreams.writeJoined(json, "items", object.iterator(), object.size(), settings.base);
+                json.writeObjectEnd();
+            }
+
+            @Override
+            public OffHeapLongList read(Json json, JsonValue jsonData, Class type) {
+                if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
+                return JsonStreams.readLongs(jsonData, settings.base, new OffHeapLongList(JsonStreams.count(jsonData)));
+            }
+        });
+    }
+
+    /**
+     * Registers OffHeapFloatList with the given Json object, so OffHeapFloatList can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     */
+    public static void registerOffHeapFloatList(Json json) {
+        registerOffHeapFloatList(json, SETTINGS);
+    }
+
+    /**
+     * Registers OffHeapFloatList with the given Json object, so OffHeapFloatList can be written to and read from JSON.
+     * It is written the same way as a FloatList, and items are streamed to and from the buffer without a heap array.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerOffHeapFloatList(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("ohfL", OffHeapFloatList.class);
+        json.setSerializer(OffHeapFloatList.class, new Json.Serializer<OffHeapFloatList>() {
+            @Override
+            public void write(Json json, OffHeapFloatList object, Class knownType) {
+                json.writeObjectStart(OffHeapFloatList.class, knownType);
+                JsonStreams.writeJoined(json, "items", object.iterator(), object.size(), settings);
+                json.writeObjectEnd();
+            }
+
+            @Override
+            public OffHeapFloatList read(Json json, JsonValue jsonData, Class type) {
+                if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
+                return JsonStreams.readFloats(jsonData, settings, new OffHeapFloatList(JsonStreams.count(jsonData)));
             }
         });
     }
@@ -408,19 +632,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerByteList(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("bL", ByteList.class);
+        registerByteList(json, SETTINGS);
+    }
+
+    /**
+     * Registers ByteList with the given Json object, so ByteList can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerByteList(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("bL", ByteList.class);
         json.setSerializer(ByteList.class, new Json.Serializer<ByteList>() {
             @Override
             public void write(Json json, ByteList object, Class knownType) {
                 json.writeObjectStart(ByteList.class, knownType);
-                json.writeValue("items", BASE.join(" ", object.items, 0, object.size()));
+                JsonStreams.writeJoined(json, "items", object.items, 0, object.size(), settings.base);
                 json.writeObjectEnd();
             }
 
             @Override
             public ByteList read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
-                return ByteList.with(BASE.byteSplit(jsonData.asString(), " "));
+                return JsonStreams.readBytes(jsonData, settings.base, new ByteList(JsonStreams.count(jsonData)));
             }
         });
     }
@@ -431,19 +665,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerShortList(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("sL", ShortList.class);
+        registerShortList(json, SETTINGS);
+    }
+
+    /**
+     * Registers ShortList with the given Json object, so ShortList can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerShortList(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("sL", ShortList.class);
         json.setSerializer(ShortList.class, new Json.Serializer<ShortList>() {
             @Override
             public void write(Json json, ShortList object, Class knownType) {
                 json.writeObjectStart(ShortList.class, knownType);
-                json.writeValue("items", BASE.join(" ", object.items, 0, object.size()));
+                JsonStreams.writeJoined(json, "items", object.items, 0, object.size(), settings.base);
                 json.writeObjectEnd();
             }
 
             @Override
             public ShortList read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
-                return ShortList.with(BASE.shortSplit(jsonData.asString(), " "));
+                return JsonStreams.readShorts(jsonData, settings.base, new ShortList(JsonStreams.count(jsonData)));
             }
         });
     }
@@ -454,19 +698,31 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerCharList(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("cL", CharList.class);
+        registerCharList(json, SETTINGS);
+    }
+
+    /**
+     * Registers CharList with the given Json object, so CharList can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerCharList(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("cL", CharList.class);
         json.setSerializer(CharList.class, new Json.Serializer<CharList>() {
             @Override
             public void write(Json json, CharList object, Class knownType) {
                 json.writeObjectStart(CharList.class, knownType);
-                json.writeValue("data", object.toDenseString(), String.class);
+                JsonStreams.writeDense(json, "data", object.items, 0, object.size());
                 json.writeObjectEnd();
             }
 
             @Override
             public CharList read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("data")) == null) return null;
-                return CharList.with(jsonData.asString().toCharArray());
+                if (jsonData.isArray()) return JsonStreams.readChars(jsonData, new CharList(jsonData.size));
+                String text = jsonData.asString();
+                return JsonStreams.readChars(text, new CharList(text.length()));
             }
         });
     }
@@ -477,19 +733,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerDoubleList(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("dL", DoubleList.class);
+        registerDoubleList(json, SETTINGS);
+    }
+
+    /**
+     * Registers DoubleList with the given Json object, so DoubleList can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerDoubleList(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("dL", DoubleList.class);
         json.setSerializer(DoubleList.class, new Json.Serializer<DoubleList>() {
             @Override
             public void write(Json json, DoubleList object, Class knownType) {
                 json.writeObjectStart(DoubleList.class, knownType);
-                json.writeValue("items", join(object.items, 0, object.size()));
+                JsonStreams.writeJoined(json, "items", object.items, 0, object.size(), settings);
                 json.writeObjectEnd();
             }
 
             @Override
             public DoubleList read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
-                return DoubleList.with(doubleSplit(jsonData.asString()));
+                return JsonStreams.readDoubles(jsonData, settings, new DoubleList(JsonStreams.count(jsonData)));
             }
         });
     }
@@ -500,19 +766,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerBooleanList(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("tL", BooleanList.class); // t for truth; represents boolean
+        registerBooleanList(json, SETTINGS);
+    }
+
+    /**
+     * Registers BooleanList with the given Json object, so BooleanList can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerBooleanList(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("tL", BooleanList.class); // t for truth; represents boolean
         json.setSerializer(BooleanList.class, new Json.Serializer<BooleanList>() {
             @Override
             public void write(Json json, BooleanList object, Class knownType) {
                 json.writeObjectStart(BooleanList.class, knownType);
-                json.writeValue("items", TextTools.joinDense(object.items, 0, object.size()));
+                JsonStreams.writeDense(json, "items", object.items, 0, object.size());
                 json.writeObjectEnd();
             }
 
             @Override
             public BooleanList read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
-                return BooleanList.with(TextTools.booleanSplitDense(jsonData.asString()));
+                return BooleanList.with(JsonStreams.readBooleans(jsonData));
             }
         });
     }
@@ -523,14 +799,24 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerObjectBag(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("oB", ObjectBag.class);
+        registerObjectBag(json, SETTINGS);
+    }
+
+    /**
+     * Registers ObjectBag with the given Json object, so ObjectBag can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerObjectBag(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("oB", ObjectBag.class);
         json.setSerializer(ObjectBag.class, new Json.Serializer<ObjectBag>() {
             @Override
             public void write(Json json, ObjectBag object, Class knownType) {
                 json.writeObjectStart(ObjectBag.class, knownType);
                 json.writeArrayStart("items");
                 for (Object o : object) {
-                    json.writeValue(o, null);
+                    DictionaryJson.writeItem(json, o, null);
                 }
                 json.writeArrayEnd();
                 json.writeObjectEnd();
@@ -541,7 +827,7 @@ public final class JsonSupport {
                 if (jsonData == null || jsonData.isNull()) return null;
                 ObjectBag<?> data = new ObjectBag<>(jsonData.size);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.add(json.readValue(null, value));
+                    data.add(DictionaryJson.readItem(json, null, value));
                 }
                 return data;
             }
@@ -554,24 +840,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerIntBag(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("iB", IntBag.class);
+        registerIntBag(json, SETTINGS);
+    }
+
+    /**
+     * Registers IntBag with the given Json object, so IntBag can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerIntBag(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("iB", IntBag.class);
         json.setSerializer(IntBag.class, new Json.Serializer<IntBag>() {
             @Override
             public void write(Json json, IntBag object, Class knownType) {
                 json.writeObjectStart(IntBag.class, knownType);
-                json.writeArrayStart("items");
-                IntIterator it = object.iterator();
-                while (it.hasNext()) {
-                    json.writeValue(it.nextInt());
-                }
-                json.writeArrayEnd();
+                JsonStreams.writeArray(json, "items", object.iterator(), object.size());
                 json.writeObjectEnd();
             }
 
             @Override
             public IntBag read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
-                return IntBag.with(jsonData.asIntArray());
+                return JsonStreams.readInts(jsonData, new IntBag(jsonData.size));
             }
         });
 
@@ -583,24 +874,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLongBag(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("lB", LongBag.class);
+        registerLongBag(json, SETTINGS);
+    }
+
+    /**
+     * Registers LongBag with the given Json object, so LongBag can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLongBag(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("lB", LongBag.class);
         json.setSerializer(LongBag.class, new Json.Serializer<LongBag>() {
             @Override
             public void write(Json json, LongBag object, Class knownType) {
                 json.writeObjectStart(LongBag.class, knownType);
-                json.writeArrayStart("items");
-                LongIterator it = object.iterator();
-                while (it.hasNext()) {
-                    json.writeValue(it.nextLong());
-                }
-                json.writeArrayEnd();
+                JsonStreams.writeArray(json, "items", object.iterator(), object.size());
                 json.writeObjectEnd();
             }
 
             @Override
             public LongBag read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
-                return LongBag.with(jsonData.asLongArray());
+                return JsonStreams.readLongs(jsonData, new LongBag(jsonData.size));
             }
         });
     }
@@ -611,19 +907,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerFloatBag(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("fB", FloatBag.class);
+        registerFloatBag(json, SETTINGS);
+    }
+
+    /**
+     * Registers FloatBag with the given Json object, so FloatBag can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerFloatBag(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("fB", FloatBag.class);
         json.setSerializer(FloatBag.class, new Json.Serializer<FloatBag>() {
             @Override
             public void write(Json json, FloatBag object, Class knownType) {
                 json.writeObjectStart(FloatBag.class, knownType);
-                json.writeValue("items", join(object.items, 0, object.size()));
+                JsonStreams.writeJoined(json, "items", object.items, 0, object.size(), settings);
                 json.writeObjectEnd();
             }
 
             @Override
             public FloatBag read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
-                return FloatBag.with(floatSplit(jsonData.asString()));
+                return JsonStreams.readFloats(jsonData, settings, new FloatBag(JsonStreams.count(jsonData)));
             }
         });
     }
@@ -634,24 +940,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerByteBag(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("bB", ByteBag.class);
+        registerByteBag(json, SETTINGS);
+    }
+
+    /**
+     * Registers ByteBag with the given Json object, so ByteBag can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerByteBag(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("bB", ByteBag.class);
         json.setSerializer(ByteBag.class, new Json.Serializer<ByteBag>() {
             @Override
             public void write(Json json, ByteBag object, Class knownType) {
                 json.writeObjectStart(ByteBag.class, knownType);
-                json.writeArrayStart("items");
-                ByteIterator it = object.iterator();
-                while (it.hasNext()) {
-                    json.writeValue(it.nextByte());
-                }
-                json.writeArrayEnd();
+                JsonStreams.writeArray(json, "items", object.iterator(), object.size());
                 json.writeObjectEnd();
             }
 
             @Override
             public ByteBag read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
-                return ByteBag.with(jsonData.asByteArray());
+                return JsonStreams.readBytes(jsonData, new ByteBag(jsonData.size));
             }
         });
     }
@@ -662,24 +973,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerShortBag(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("sB", ShortBag.class);
+        registerShortBag(json, SETTINGS);
+    }
+
+    /**
+     * Registers ShortBag with the given Json object, so ShortBag can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerShortBag(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("sB", ShortBag.class);
         json.setSerializer(ShortBag.class, new Json.Serializer<ShortBag>() {
             @Override
             public void write(Json json, ShortBag object, Class knownType) {
                 json.writeObjectStart(ShortBag.class, knownType);
-                json.writeArrayStart("items");
-                ShortIterator it = object.iterator();
-                while (it.hasNext()) {
-                    json.writeValue(it.nextShort());
-                }
-                json.writeArrayEnd();
+                JsonStreams.writeArray(json, "items", object.iterator(), object.size());
                 json.writeObjectEnd();
             }
 
             @Override
             public ShortBag read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
-                return ShortBag.with(jsonData.asShortArray());
+                return JsonStreams.readShorts(jsonData, new ShortBag(jsonData.size));
             }
         });
     }
@@ -690,7 +1006,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerCharBag(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("cB", CharBag.class);
+        registerCharBag(json, SETTINGS);
+    }
+
+    /**
+     * Registers CharBag with the given Json object, so CharBag can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerCharBag(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("cB", CharBag.class);
         json.setSerializer(CharBag.class, new Json.Serializer<CharBag>() {
             @Override
             public void write(Json json, CharBag object, Class knownType) {
@@ -707,7 +1033,7 @@ public final class JsonSupport {
             @Override
             public CharBag read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
-                return CharBag.with(jsonData.asCharArray());
+                return JsonStreams.readChars(jsonData, new CharBag(jsonData.size));
             }
         });
     }
@@ -718,19 +1044,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerDoubleBag(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("dB", DoubleBag.class);
+        registerDoubleBag(json, SETTINGS);
+    }
+
+    /**
+     * Registers DoubleBag with the given Json object, so DoubleBag can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerDoubleBag(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("dB", DoubleBag.class);
         json.setSerializer(DoubleBag.class, new Json.Serializer<DoubleBag>() {
             @Override
             public void write(Json json, DoubleBag object, Class knownType) {
                 json.writeObjectStart(DoubleBag.class, knownType);
-                json.writeValue("items", join(object.items, 0, object.size()));
+                JsonStreams.writeJoined(json, "items", object.items, 0, object.size(), settings);
                 json.writeObjectEnd();
             }
 
             @Override
             public DoubleBag read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
-                return DoubleBag.with(doubleSplit(jsonData.asString()));
+                return JsonStreams.readDoubles(jsonData, settings, new DoubleBag(JsonStreams.count(jsonData)));
             }
         });
     }
@@ -741,19 +1077,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerBooleanBag(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("tB", BooleanBag.class); // t for truth; represents boolean
+        registerBooleanBag(json, SETTINGS);
+    }
+
+    /**
+     * Registers BooleanBag with the given Json object, so BooleanBag can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerBooleanBag(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("tB", BooleanBag.class); // t for truth; represents boolean
         json.setSerializer(BooleanBag.class, new Json.Serializer<BooleanBag>() {
             @Override
             public void write(Json json, BooleanBag object, Class knownType) {
                 json.writeObjectStart(BooleanBag.class, knownType);
-                json.writeValue("items", TextTools.joinDense(object.items, 0, object.size()));
+                JsonStreams.writeDense(json, "items", object.items, 0, object.size());
                 json.writeObjectEnd();
             }
 
             @Override
             public BooleanBag read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
-                return BooleanBag.with(TextTools.booleanSplitDense(jsonData.asString()));
+                return BooleanBag.with(JsonStreams.readBooleans(jsonData));
             }
         });
     }
@@ -764,15 +1110,25 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerObjectDeque(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("oQ", ObjectDeque.class);
+        registerObjectDeque(json, SETTINGS);
+    }
+
+    /**
+     * Registers ObjectDeque with the given Json object, so ObjectDeque can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerObjectDeque(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("oQ", ObjectDeque.class);
         json.setSerializer(ObjectDeque.class, new Json.Serializer<ObjectDeque>() {
             @Override
             public void write(Json json, ObjectDeque object, Class knownType) {
                 json.writeObjectStart(ObjectDeque.class, knownType);
-                json.writeValue("d", object.getDefaultValue(), null);
+                DictionaryJson.writeItem(json, "d", object.getDefaultValue(), null);
                 json.writeArrayStart("items");
                 for (Object o : object) {
-                    json.writeValue(o, null);
+                    DictionaryJson.writeItem(json, o, null);
                 }
                 json.writeArrayEnd();
                 json.writeObjectEnd();
@@ -782,9 +1138,9 @@ public final class JsonSupport {
             public ObjectDeque<?> read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
                 ObjectDeque<?> data = new ObjectDeque<>(jsonData.size);
-                data.setDefaultValue(json.readValue("d", null, jsonData));
+                data.setDefaultValue(DictionaryJson.readItem(json, null, jsonData.get("d")));
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.add(json.readValue(null, value));
+                    data.add(DictionaryJson.readItem(json, null, value));
                 }
                 return data;
             }
@@ -797,18 +1153,23 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLongDeque(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("lQ", LongDeque.class);
+        registerLongDeque(json, SETTINGS);
+    }
+
+    /**
+     * Registers LongDeque with the given Json object, so LongDeque can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLongDeque(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("lQ", LongDeque.class);
         json.setSerializer(LongDeque.class, new Json.Serializer<LongDeque>() {
             @Override
             public void write(Json json, LongDeque object, Class knownType) {
                 json.writeObjectStart(LongDeque.class, knownType);
                 json.writeValue("d", object.getDefaultValue(), long.class);
-                json.writeArrayStart("items");
-                LongIterator it = object.iterator();
-                while (it.hasNext()) {
-                    json.writeValue(it.nextLong());
-                }
-                json.writeArrayEnd();
+                JsonStreams.writeArray(json, "items", object.iterator(), object.size());
                 json.writeObjectEnd();
             }
 
@@ -817,7 +1178,7 @@ public final class JsonSupport {
                 if (jsonData == null || jsonData.isNull()) return null;
                 long d = json.readValue("d", long.class, 0L, jsonData);
                 if((jsonData = jsonData.get("items")) == null) return null;
-                LongDeque data = LongDeque.with(jsonData.asLongArray());
+                LongDeque data = JsonStreams.readLongs(jsonData, new LongDeque(jsonData.size));
                 data.setDefaultValue(d);
                 return data;
             }
@@ -830,18 +1191,23 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerIntDeque(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("iQ", IntDeque.class);
+        registerIntDeque(json, SETTINGS);
+    }
+
+    /**
+     * Registers IntDeque with the given Json object, so IntDeque can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerIntDeque(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("iQ", IntDeque.class);
         json.setSerializer(IntDeque.class, new Json.Serializer<IntDeque>() {
             @Override
             public void write(Json json, IntDeque object, Class knownType) {
                 json.writeObjectStart(IntDeque.class, knownType);
                 json.writeValue("d", object.getDefaultValue(), int.class);
-                json.writeArrayStart("items");
-                IntIterator it = object.iterator();
-                while (it.hasNext()) {
-                    json.writeValue(it.nextInt());
-                }
-                json.writeArrayEnd();
+                JsonStreams.writeArray(json, "items", object.iterator(), object.size());
                 json.writeObjectEnd();
             }
 
@@ -850,7 +1216,7 @@ public final class JsonSupport {
                 if (jsonData == null || jsonData.isNull()) return null;
                 int d = json.readValue("d", int.class, 0, jsonData);
                 if((jsonData = jsonData.get("items")) == null) return null;
-                IntDeque data = IntDeque.with(jsonData.asIntArray());
+                IntDeque data = JsonStreams.readInts(jsonData, new IntDeque(jsonData.size));
                 data.setDefaultValue(d);
                 return data;
             }
@@ -863,7 +1229,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerCharDeque(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("cQ", CharDeque.class);
+        registerCharDeque(json, SETTINGS);
+    }
+
+    /**
+     * Registers CharDeque with the given Json object, so CharDeque can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerCharDeque(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("cQ", CharDeque.class);
         json.setSerializer(CharDeque.class, new Json.Serializer<CharDeque>() {
             @Override
             public void write(Json json, CharDeque object, Class knownType) {
@@ -883,7 +1259,7 @@ public final class JsonSupport {
                 if (jsonData == null || jsonData.isNull()) return null;
                 char d = json.readValue("d", char.class, '\u0000', jsonData);
                 if((jsonData = jsonData.get("items")) == null) return null;
-                CharDeque data = CharDeque.with(jsonData.asCharArray());
+                CharDeque data = JsonStreams.readChars(jsonData, new CharDeque(jsonData.size));
                 data.setDefaultValue(d);
                 return data;
             }
@@ -896,18 +1272,23 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerShortDeque(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("sQ", ShortDeque.class);
+        registerShortDeque(json, SETTINGS);
+    }
+
+    /**
+     * Registers ShortDeque with the given Json object, so ShortDeque can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerShortDeque(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("sQ", ShortDeque.class);
         json.setSerializer(ShortDeque.class, new Json.Serializer<ShortDeque>() {
             @Override
             public void write(Json json, ShortDeque object, Class knownType) {
                 json.writeObjectStart(ShortDeque.class, knownType);
                 json.writeValue("d", object.getDefaultValue(), short.class);
-                json.writeArrayStart("items");
-                ShortIterator it = object.iterator();
-                while (it.hasNext()) {
-                    json.writeValue(it.nextShort());
-                }
-                json.writeArrayEnd();
+                JsonStreams.writeArray(json, "items", object.iterator(), object.size());
                 json.writeObjectEnd();
             }
 
@@ -916,7 +1297,7 @@ public final class JsonSupport {
                 if (jsonData == null || jsonData.isNull()) return null;
                 short d = json.readValue("d", short.class, (short)0, jsonData);
                 if((jsonData = jsonData.get("items")) == null) return null;
-                ShortDeque data = ShortDeque.with(jsonData.asShortArray());
+                ShortDeque data = JsonStreams.readShorts(jsonData, new ShortDeque(jsonData.size));
                 data.setDefaultValue(d);
                 return data;
             }
@@ -929,18 +1310,23 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerByteDeque(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("bQ", ByteDeque.class);
+        registerByteDeque(json, SETTINGS);
+    }
+
+    /**
+     * Registers ByteDeque with the given Json object, so ByteDeque can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerByteDeque(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("bQ", ByteDeque.class);
         json.setSerializer(ByteDeque.class, new Json.Serializer<ByteDeque>() {
             @Override
             public void write(Json json, ByteDeque object, Class knownType) {
                 json.writeObjectStart(ByteDeque.class, knownType);
                 json.writeValue("d", object.getDefaultValue(), byte.class);
-                json.writeArrayStart("items");
-                ByteIterator it = object.iterator();
-                while (it.hasNext()) {
-                    json.writeValue(it.nextByte());
-                }
-                json.writeArrayEnd();
+                JsonStreams.writeArray(json, "items", object.iterator(), object.size());
                 json.writeObjectEnd();
             }
 
@@ -949,7 +1335,7 @@ public final class JsonSupport {
                 if (jsonData == null || jsonData.isNull()) return null;
                 byte d = json.readValue("d", byte.class, (byte)0, jsonData);
                 if((jsonData = jsonData.get("items")) == null) return null;
-                ByteDeque data = ByteDeque.with(jsonData.asByteArray());
+                ByteDeque data = JsonStreams.readBytes(jsonData, new ByteDeque(jsonData.size));
                 data.setDefaultValue(d);
                 return data;
             }
@@ -962,19 +1348,23 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerFloatDeque(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("fQ", FloatDeque.class);
+        registerFloatDeque(json, SETTINGS);
+    }
+
+    /**
+     * Registers FloatDeque with the given Json object, so FloatDeque can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerFloatDeque(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("fQ", FloatDeque.class);
         json.setSerializer(FloatDeque.class, new Json.Serializer<FloatDeque>() {
             @Override
             public void write(Json json, FloatDeque object, Class knownType) {
                 json.writeObjectStart(FloatDeque.class, knownType);
                 json.writeValue("d", object.getDefaultValue(), float.class);
-                StringBuilder sb = new StringBuilder(object.size());
-                FloatIterator it = object.iterator();
-                while (it.hasNext()) {
-                    sb.append(' ');
-                    append(sb, it.nextFloat());
-                }
-                json.writeValue("items", sb.substring(1));
+                JsonStreams.writeJoined(json, "items", object.iterator(), object.size(), settings);
                 json.writeObjectEnd();
             }
 
@@ -983,7 +1373,7 @@ public final class JsonSupport {
                 if (jsonData == null || jsonData.isNull()) return null;
                 float d = json.readValue("d", float.class, 0f, jsonData);
                 if((jsonData = jsonData.get("items")) == null) return null;
-                FloatDeque data = FloatDeque.with(floatSplit(jsonData.asString()));
+                FloatDeque data = JsonStreams.readFloats(jsonData, settings, new FloatDeque(JsonStreams.count(jsonData)));
                 data.setDefaultValue(d);
                 return data;
             }
@@ -996,19 +1386,23 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerDoubleDeque(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("dQ", DoubleDeque.class);
+        registerDoubleDeque(json, SETTINGS);
+    }
+
+    /**
+     * Registers DoubleDeque with the given Json object, so DoubleDeque can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerDoubleDeque(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("dQ", DoubleDeque.class);
         json.setSerializer(DoubleDeque.class, new Json.Serializer<DoubleDeque>() {
             @Override
             public void write(Json json, DoubleDeque object, Class knownType) {
                 json.writeObjectStart(DoubleDeque.class, knownType);
                 json.writeValue("d", object.getDefaultValue(), double.class);
-                StringBuilder sb = new StringBuilder(object.size());
-                DoubleIterator it = object.iterator();
-                while (it.hasNext()) {
-                    sb.append(' ');
-                    append(sb, it.nextDouble());
-                }
-                json.writeValue("items", sb.substring(1));
+                JsonStreams.writeJoined(json, "items", object.iterator(), object.size(), settings);
                 json.writeObjectEnd();
             }
 
@@ -1017,7 +1411,7 @@ public final class JsonSupport {
                 if (jsonData == null || jsonData.isNull()) return null;
                 double d = json.readValue("d", double.class, 0.0, jsonData);
                 if((jsonData = jsonData.get("items")) == null) return null;
-                DoubleDeque data = DoubleDeque.with(doubleSplit(jsonData.asString()));
+                DoubleDeque data = JsonStreams.readDoubles(jsonData, settings, new DoubleDeque(JsonStreams.count(jsonData)));
                 data.setDefaultValue(d);
                 return data;
             }
@@ -1029,19 +1423,24 @@ public final class JsonSupport {
      *
      * @param json a libGDX Json object that will have a serializer registered
      */
-    public static void registerBooleanDeque(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("tQ", ObjectDeque.class); // t for truth (boolean)
+    public static void registerBooleanDeque(Json json) {
+        registerBooleanDeque(json, SETTINGS);
+    }
+
+    /**
+     * Registers BooleanDeque with the given Json object, so BooleanDeque can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerBooleanDeque(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("tQ", ObjectDeque.class); // t for truth (boolean)
         json.setSerializer(BooleanDeque.class, new Json.Serializer<BooleanDeque>() {
             @Override
             public void write(Json json, BooleanDeque object, Class knownType) {
                 json.writeObjectStart(BooleanDeque.class, knownType);
                 json.writeValue("d", object.getDefaultValue(), boolean.class);
-                StringBuilder sb = new StringBuilder(object.size());
-                BooleanIterator it = object.iterator();
-                while (it.hasNext()) {
-                    sb.append(it.nextBoolean() ? '1' : '0');
-                }
-                json.writeValue("items", sb.toString());
+                JsonStreams.writeDense(json, "items", object.iterator(), object.size());
                 json.writeObjectEnd();
             }
 
@@ -1050,7 +1449,7 @@ public final class JsonSupport {
                 if (jsonData == null || jsonData.isNull()) return null;
                 boolean d = json.readValue("d", boolean.class, false, jsonData);
                 if((jsonData = jsonData.get("items")) == null) return null;
-                BooleanDeque data = BooleanDeque.with(TextTools.booleanSplitDense(jsonData.asString()));
+                BooleanDeque data = BooleanDeque.with(JsonStreams.readBooleans(jsonData));
                 data.setDefaultValue(d);
                 return data;
             }
@@ -1063,7 +1462,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerEnumSet(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("eS", EnumSet.class);
+        registerEnumSet(json, SETTINGS);
+    }
+
+    /**
+     * Registers EnumSet with the given Json object, so EnumSet can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerEnumSet(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("eS", EnumSet.class);
         json.setSerializer(EnumSet.class, new Json.Serializer<EnumSet>() {
             @Override
             public void write(Json json, EnumSet object, Class knownType) {
@@ -1094,7 +1503,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerEnumOrderedSet(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("eOS", EnumOrderedSet.class);
+        registerEnumOrderedSet(json, SETTINGS);
+    }
+
+    /**
+     * Registers EnumOrderedSet with the given Json object, so EnumOrderedSet can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerEnumOrderedSet(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("eOS", EnumOrderedSet.class);
         json.setSerializer(EnumOrderedSet.class, new Json.Serializer<EnumOrderedSet>() {
             @Override
             public void write(Json json, EnumOrderedSet object, Class knownType) {
@@ -1128,14 +1547,55 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerObjectSet(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("oS", ObjectSet.class);
+        registerObjectSet(json, SETTINGS);
+    }
+
+    /**
+     * Registers ObjectSet with the given Json object, so ObjectSet can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerObjectSet(Json json, JsonSettings settings) {
+        registerObjectSet(json, settings, null);
+    }
+
+    /**
+     * Registers ObjectSet with the given Json object, so ObjectSet can be written to and read from JSON, expecting its items
+     * to be instances of {@code elementType}. Items with exactly that class are written without a {@code class} field
+     * and read using {@code elementType} directly, instead of looking up a class for each item; any other items are
+     * still written with their class, so they can be read back correctly, even Strings or boxed numbers that libGDX
+     * would otherwise write without a class. This affects every ObjectSet that {@code json}
+     * writes or reads, so it suits a Json object that only handles one kind of ObjectSet.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param elementType the class that items are expected to have; if null, every item is written with its class
+     */
+    public static void registerObjectSet(Json json, Class<?> elementType) {
+        registerObjectSet(json, SETTINGS, elementType);
+    }
+
+    /**
+     * Registers ObjectSet with the given Json object, so ObjectSet can be written to and read from JSON, expecting its items
+     * to be instances of {@code elementType}. Items with exactly that class are written without a {@code class} field
+     * and read using {@code elementType} directly, instead of looking up a class for each item; any other items are
+     * still written with their class, so they can be read back correctly, even Strings or boxed numbers that libGDX
+     * would otherwise write without a class. This affects every ObjectSet that {@code json}
+     * writes or reads, so it suits a Json object that only handles one kind of ObjectSet.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     * @param elementType the class that items are expected to have; if null, every item is written with its class
+     */
+    public static void registerObjectSet(Json json, JsonSettings settings, Class<?> elementType) {
+        if(settings.addClassTags) json.addClassTag("oS", ObjectSet.class);
         json.setSerializer(ObjectSet.class, new Json.Serializer<ObjectSet>() {
             @Override
             public void write(Json json, ObjectSet object, Class knownType) {
                 json.writeObjectStart(ObjectSet.class, knownType);
                 json.writeArrayStart("items"); // This name is special.
                 for (Object o : object) {
-                    json.writeValue(o, null);
+                    DictionaryJson.writeItem(json, o, elementType);
                 }
                 json.writeArrayEnd();
                 json.writeObjectEnd();
@@ -1146,7 +1606,7 @@ public final class JsonSupport {
                 if (jsonData == null || jsonData.isNull()) return null;
                 ObjectSet<?> data = new ObjectSet<>(jsonData.size);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.add(json.readValue(null, value));
+                    data.add(DictionaryJson.readItem(json, elementType, value));
                 }
                 return data;
             }
@@ -1159,7 +1619,48 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerObjectOrderedSet(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("oOS", ObjectOrderedSet.class);
+        registerObjectOrderedSet(json, SETTINGS);
+    }
+
+    /**
+     * Registers ObjectOrderedSet with the given Json object, so ObjectOrderedSet can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerObjectOrderedSet(Json json, JsonSettings settings) {
+        registerObjectOrderedSet(json, settings, null);
+    }
+
+    /**
+     * Registers ObjectOrderedSet with the given Json object, so ObjectOrderedSet can be written to and read from JSON, expecting its items
+     * to be instances of {@code elementType}. Items with exactly that class are written without a {@code class} field
+     * and read using {@code elementType} directly, instead of looking up a class for each item; any other items are
+     * still written with their class, so they can be read back correctly, even Strings or boxed numbers that libGDX
+     * would otherwise write without a class. This affects every ObjectOrderedSet that {@code json}
+     * writes or reads, so it suits a Json object that only handles one kind of ObjectOrderedSet.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param elementType the class that items are expected to have; if null, every item is written with its class
+     */
+    public static void registerObjectOrderedSet(Json json, Class<?> elementType) {
+        registerObjectOrderedSet(json, SETTINGS, elementType);
+    }
+
+    /**
+     * Registers ObjectOrderedSet with the given Json object, so ObjectOrderedSet can be written to and read from JSON, expecting its items
+     * to be instances of {@code elementType}. Items with exactly that class are written without a {@code class} field
+     * and read using {@code elementType} directly, instead of looking up a class for each item; any other items are
+     * still written with their class, so they can be read back correctly, even Strings or boxed numbers that libGDX
+     * would otherwise write without a class. This affects every ObjectOrderedSet that {@code json}
+     * writes or reads, so it suits a Json object that only handles one kind of ObjectOrderedSet.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     * @param elementType the class that items are expected to have; if null, every item is written with its class
+     */
+    public static void registerObjectOrderedSet(Json json, JsonSettings settings, Class<?> elementType) {
+        if(settings.addClassTags) json.addClassTag("oOS", ObjectOrderedSet.class);
         json.setSerializer(ObjectOrderedSet.class, new Json.Serializer<ObjectOrderedSet>() {
             @Override
             public void write(Json json, ObjectOrderedSet object, Class knownType) {
@@ -1167,7 +1668,7 @@ public final class JsonSupport {
                 json.writeValue("o", object.getOrderType().name(), String.class);
                 json.writeArrayStart("items"); // This name is special.
                 for (Object o : object) {
-                    json.writeValue(o, null);
+                    DictionaryJson.writeItem(json, o, elementType);
                 }
                 json.writeArrayEnd();
                 json.writeObjectEnd();
@@ -1180,7 +1681,7 @@ public final class JsonSupport {
                 jsonData.remove("o");
                 ObjectOrderedSet<?> data = new ObjectOrderedSet<>(jsonData.size, order);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.add(json.readValue(null, value));
+                    data.add(DictionaryJson.readItem(json, elementType, value));
                 }
                 return data;
             }
@@ -1193,24 +1694,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerIntSet(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("iS", IntSet.class);
+        registerIntSet(json, SETTINGS);
+    }
+
+    /**
+     * Registers IntSet with the given Json object, so IntSet can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerIntSet(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("iS", IntSet.class);
         json.setSerializer(IntSet.class, new Json.Serializer<IntSet>() {
             @Override
             public void write(Json json, IntSet object, Class knownType) {
                 json.writeObjectStart(IntSet.class, knownType);
-                json.writeArrayStart("items");
-                IntIterator it = object.iterator();
-                while (it.hasNext()) {
-                    json.writeValue(it.nextInt());
-                }
-                json.writeArrayEnd();
+                JsonStreams.writeArray(json, "items", object.iterator(), object.size());
                 json.writeObjectEnd();
             }
 
             @Override
             public IntSet read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
-                return IntSet.with(jsonData.asIntArray());
+                return JsonStreams.readInts(jsonData, new IntSet(jsonData.size));
             }
         });
     }
@@ -1221,18 +1727,23 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerIntOrderedSet(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("iOS", IntOrderedSet.class);
+        registerIntOrderedSet(json, SETTINGS);
+    }
+
+    /**
+     * Registers IntOrderedSet with the given Json object, so IntOrderedSet can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerIntOrderedSet(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("iOS", IntOrderedSet.class);
         json.setSerializer(IntOrderedSet.class, new Json.Serializer<IntOrderedSet>() {
             @Override
             public void write(Json json, IntOrderedSet object, Class knownType) {
                 json.writeObjectStart(IntOrderedSet.class, knownType);
                 json.writeValue("o", object.getOrderType().name(), String.class);
-                json.writeArrayStart("items");
-                IntIterator it = object.iterator();
-                while (it.hasNext()) {
-                    json.writeValue(it.nextInt());
-                }
-                json.writeArrayEnd();
+                JsonStreams.writeArray(json, "items", object.iterator(), object.size());
                 json.writeObjectEnd();
             }
 
@@ -1253,24 +1764,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLongSet(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("lS", LongSet.class);
+        registerLongSet(json, SETTINGS);
+    }
+
+    /**
+     * Registers LongSet with the given Json object, so LongSet can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLongSet(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("lS", LongSet.class);
         json.setSerializer(LongSet.class, new Json.Serializer<LongSet>() {
             @Override
             public void write(Json json, LongSet object, Class knownType) {
                 json.writeObjectStart(LongSet.class, knownType);
-                json.writeArrayStart("items");
-                LongIterator it = object.iterator();
-                while (it.hasNext()) {
-                    json.writeValue(it.nextLong());
-                }
-                json.writeArrayEnd();
+                JsonStreams.writeArray(json, "items", object.iterator(), object.size());
                 json.writeObjectEnd();
             }
 
             @Override
             public LongSet read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull() || (jsonData = jsonData.get("items")) == null) return null;
-                return LongSet.with(jsonData.asLongArray());
+                return JsonStreams.readLongs(jsonData, new LongSet(jsonData.size));
             }
         });
     }
@@ -1281,18 +1797,23 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLongOrderedSet(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("lOS", LongOrderedSet.class);
+        registerLongOrderedSet(json, SETTINGS);
+    }
+
+    /**
+     * Registers LongOrderedSet with the given Json object, so LongOrderedSet can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLongOrderedSet(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("lOS", LongOrderedSet.class);
         json.setSerializer(LongOrderedSet.class, new Json.Serializer<LongOrderedSet>() {
             @Override
             public void write(Json json, LongOrderedSet object, Class knownType) {
                 json.writeObjectStart(LongOrderedSet.class, knownType);
                 json.writeValue("o", object.getOrderType().name(), String.class);
-                json.writeArrayStart("items");
-                LongIterator it = object.iterator();
-                while (it.hasNext()) {
-                    json.writeValue(it.nextLong());
-                }
-                json.writeArrayEnd();
+                JsonStreams.writeArray(json, "items", object.iterator(), object.size());
                 json.writeObjectEnd();
             }
 
@@ -1313,7 +1834,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerEnumMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("eoM", EnumMap.class);
+        registerEnumMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers EnumMap with the given Json object, so EnumMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerEnumMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("eoM", EnumMap.class);
         json.setSerializer(EnumMap.class, new Json.Serializer<EnumMap>() {
             @Override
             public void write(Json json, EnumMap object, Class knownType) {
@@ -1324,7 +1855,7 @@ public final class JsonSupport {
                 while (es.hasNext()) {
                     Map.Entry<Enum<?>, ?> e = es.next();
                     json.writeValue(e.getKey(), Enum.class);
-                    json.writeValue(e.getValue(), null);
+                    DictionaryJson.writeItem(json, e.getValue(), null);
                 }
                 json.writeArrayEnd();
                 json.writeObjectEnd();
@@ -1339,7 +1870,7 @@ public final class JsonSupport {
                 EnumMap data = new EnumMap<>();
                 data.setDefaultValue(d);
                 for (JsonValue value = jsonData.getChild("parts"); value != null; value = value.next) {
-                    data.put(json.readValue(Enum.class, value), json.readValue(null, value = value.next));
+                    data.put(json.readValue(Enum.class, value), DictionaryJson.readItem(json, null, value = value.next));
                 }
                 return data;
             }
@@ -1352,7 +1883,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerEnumOrderedMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("eoOM", EnumOrderedMap.class);
+        registerEnumOrderedMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers EnumOrderedMap with the given Json object, so EnumOrderedMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerEnumOrderedMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("eoOM", EnumOrderedMap.class);
         json.setSerializer(EnumOrderedMap.class, new Json.Serializer<EnumOrderedMap>() {
             @Override
             public void write(Json json, EnumOrderedMap object, Class knownType) {
@@ -1364,7 +1905,7 @@ public final class JsonSupport {
                 while (es.hasNext()) {
                     Map.Entry<Enum<?>, ?> e = es.next();
                     json.writeValue(e.getKey(), Enum.class);
-                    json.writeValue(e.getValue(), null);
+                    DictionaryJson.writeItem(json, e.getValue(), null);
                 }
                 json.writeArrayEnd();
                 json.writeObjectEnd();
@@ -1381,7 +1922,7 @@ public final class JsonSupport {
                 EnumOrderedMap data = new EnumOrderedMap<>(order);
                 data.setDefaultValue(d);
                 for (JsonValue value = jsonData.getChild("parts"); value != null; value = value.next) {
-                    data.put(json.readValue(Enum.class, value), json.readValue(null, value = value.next));
+                    data.put(json.readValue(Enum.class, value), DictionaryJson.readItem(json, null, value = value.next));
                 }
                 return data;
             }
@@ -1394,7 +1935,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerEnumIntMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("elM", EnumIntMap.class);
+        registerEnumIntMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers EnumIntMap with the given Json object, so EnumIntMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerEnumIntMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("elM", EnumIntMap.class);
         json.setSerializer(EnumIntMap.class, new Json.Serializer<EnumIntMap>() {
             @Override
             public void write(Json json, EnumIntMap object, Class knownType) {
@@ -1429,7 +1980,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerEnumIntOrderedMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("elOM", EnumIntOrderedMap.class);
+        registerEnumIntOrderedMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers EnumIntOrderedMap with the given Json object, so EnumIntOrderedMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerEnumIntOrderedMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("elOM", EnumIntOrderedMap.class);
         json.setSerializer(EnumIntOrderedMap.class, new Json.Serializer<EnumIntOrderedMap>() {
             @Override
             public void write(Json json, EnumIntOrderedMap object, Class knownType) {
@@ -1467,7 +2028,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerEnumLongMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("elM", EnumLongMap.class);
+        registerEnumLongMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers EnumLongMap with the given Json object, so EnumLongMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerEnumLongMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("elM", EnumLongMap.class);
         json.setSerializer(EnumLongMap.class, new Json.Serializer<EnumLongMap>() {
             @Override
             public void write(Json json, EnumLongMap object, Class knownType) {
@@ -1502,7 +2073,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerEnumLongOrderedMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("elOM", EnumLongOrderedMap.class);
+        registerEnumLongOrderedMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers EnumLongOrderedMap with the given Json object, so EnumLongOrderedMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerEnumLongOrderedMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("elOM", EnumLongOrderedMap.class);
         json.setSerializer(EnumLongOrderedMap.class, new Json.Serializer<EnumLongOrderedMap>() {
             @Override
             public void write(Json json, EnumLongOrderedMap object, Class knownType) {
@@ -1540,7 +2121,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerEnumFloatMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("elM", EnumFloatMap.class);
+        registerEnumFloatMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers EnumFloatMap with the given Json object, so EnumFloatMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerEnumFloatMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("elM", EnumFloatMap.class);
         json.setSerializer(EnumFloatMap.class, new Json.Serializer<EnumFloatMap>() {
             @Override
             public void write(Json json, EnumFloatMap object, Class knownType) {
@@ -1575,7 +2166,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerEnumFloatOrderedMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("elOM", EnumFloatOrderedMap.class);
+        registerEnumFloatOrderedMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers EnumFloatOrderedMap with the given Json object, so EnumFloatOrderedMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerEnumFloatOrderedMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("elOM", EnumFloatOrderedMap.class);
         json.setSerializer(EnumFloatOrderedMap.class, new Json.Serializer<EnumFloatOrderedMap>() {
             @Override
             public void write(Json json, EnumFloatOrderedMap object, Class knownType) {
@@ -1613,20 +2214,80 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerObjectObjectMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("ooM", ObjectObjectMap.class);
+        registerObjectObjectMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers ObjectObjectMap with the given Json object, so ObjectObjectMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerObjectObjectMap(Json json, JsonSettings settings) {
+        registerObjectObjectMap(json, settings, null, null);
+    }
+
+    /**
+     * Registers ObjectObjectMap with the given Json object, so ObjectObjectMap can be written to and read from JSON, expecting its
+     * keys to be instances of {@code keyType} and its values to be instances of {@code valueType}. Keys and values with
+     * exactly those classes are written without a {@code class} field and read using the given class directly, instead
+     * of looking up a class for each one; anything else is still written with its class, even Strings or boxed numbers
+     * that libGDX would otherwise write without a class. Unless {@link JsonSettings#withEntryArrays(boolean)} is on, keys are
+     * written as field names, so if keyType is String or CharSequence, every key must be a CharSequence; other keys
+     * throw a SerializationException when written. This affects every ObjectObjectMap that {@code json} writes or
+     * reads, so it suits a Json object that only handles one kind of ObjectObjectMap.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param keyType the class that keys are expected to have; if null, every key is written with its class
+     * @param valueType the class that values are expected to have; if null, every value is written with its class
+     */
+    public static void registerObjectObjectMap(Json json, Class<?> keyType, Class<?> valueType) {
+        registerObjectObjectMap(json, SETTINGS, keyType, valueType);
+    }
+
+    /**
+     * Registers ObjectObjectMap with the given Json object, so ObjectObjectMap can be written to and read from JSON, expecting its
+     * keys to be instances of {@code keyType} and its values to be instances of {@code valueType}. Keys and values with
+     * exactly those classes are written without a {@code class} field and read using the given class directly, instead
+     * of looking up a class for each one; anything else is still written with its class, even Strings or boxed numbers
+     * that libGDX would otherwise write without a class. Unless {@link JsonSettings#withEntryArrays(boolean)} is on, keys are
+     * written as field names, so if keyType is String or CharSequence, every key must be a CharSequence; other keys
+     * throw a SerializationException when written. This affects every ObjectObjectMap that {@code json} writes or
+     * reads, so it suits a Json object that only handles one kind of ObjectObjectMap.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     * @param keyType the class that keys are expected to have; if null, every key is written with its class
+     * @param valueType the class that values are expected to have; if null, every value is written with its class
+     */
+    public static void registerObjectObjectMap(Json json, JsonSettings settings, Class<?> keyType, Class<?> valueType) {
+        if(settings.addClassTags) json.addClassTag("ooM", ObjectObjectMap.class);
         json.setSerializer(ObjectObjectMap.class, new Json.Serializer<ObjectObjectMap>() {
             @Override
             public void write(Json json, ObjectObjectMap object, Class knownType) {
                 JsonWriter writer = json.getWriter();
                 json.writeObjectStart(ObjectObjectMap.class, knownType);
-                json.writeValue("d", object.getDefaultValue(), null);
-                json.writeObjectStart("m");
+                DictionaryJson.writeItem(json, "d", object.getDefaultValue(), valueType);
                 Iterator<Map.Entry<Object, Object>> es = new ObjectObjectMap.Entries<Object, Object>(object).iterator();
+                if (settings.entryArrays) {
+                    json.writeArrayStart("e");
+                    while (es.hasNext()) {
+                        Map.Entry<?, ?> e = es.next();
+                        // Strings are written bare; anything else needs its class to be read back
+                        Object k = e.getKey(), v = e.getValue();
+                        DictionaryJson.writeItem(json, k, keyType == null && k instanceof String ? String.class : keyType);
+                        DictionaryJson.writeItem(json, v, valueType == null && v instanceof String ? String.class : valueType);
+                    }
+                    json.writeArrayEnd();
+                    json.writeObjectEnd();
+                    return;
+                }
+                json.writeObjectStart("m");
                 while (es.hasNext()) {
                     Map.Entry<?, ?> e = es.next();
-                    String k = e.getKey() instanceof CharSequence ? e.getKey().toString() : json.toJson(e.getKey(), (Class) null);
+                    String k = DictionaryJson.name(json, fieldName(json, e.getKey(), keyType));
                     json.setWriter(writer);
-                    json.writeValue(k, e.getValue(), null);
+                    DictionaryJson.writeItem(json, k, e.getValue(), valueType);
                 }
                 json.writeObjectEnd();
                 json.writeObjectEnd();
@@ -1635,12 +2296,21 @@ public final class JsonSupport {
             @Override
             public ObjectObjectMap<?, ?> read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
-                Object d = json.readValue("d", null, jsonData);
+                Object d = DictionaryJson.readItem(json, valueType, jsonData.get("d"));
+                JsonValue entries = jsonData.get("e");
+                if (entries != null) {
+                    ObjectObjectMap data = new ObjectObjectMap<>(entries.size >>> 1);
+                    data.setDefaultValue(d);
+                    for (JsonValue key = entries.child; key != null && key.next != null; key = key.next.next) {
+                        data.put(DictionaryJson.readItem(json, keyType, key), DictionaryJson.readItem(json, valueType, key.next));
+                    }
+                    return data;
+                }
                 jsonData = jsonData.get("m");
                 ObjectObjectMap data = new ObjectObjectMap<>(jsonData.size);
                 data.setDefaultValue(d);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.put(json.fromJson(null, value.name), json.readValue(null, value));
+                    data.put(DictionaryJson.readKey(json, keyType, value.name), DictionaryJson.readItem(json, valueType, value));
                 }
                 return data;
             }
@@ -1653,21 +2323,81 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerObjectObjectOrderedMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("ooOM", ObjectObjectOrderedMap.class);
+        registerObjectObjectOrderedMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers ObjectObjectOrderedMap with the given Json object, so ObjectObjectOrderedMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerObjectObjectOrderedMap(Json json, JsonSettings settings) {
+        registerObjectObjectOrderedMap(json, settings, null, null);
+    }
+
+    /**
+     * Registers ObjectObjectOrderedMap with the given Json object, so ObjectObjectOrderedMap can be written to and read from JSON, expecting its
+     * keys to be instances of {@code keyType} and its values to be instances of {@code valueType}. Keys and values with
+     * exactly those classes are written without a {@code class} field and read using the given class directly, instead
+     * of looking up a class for each one; anything else is still written with its class, even Strings or boxed numbers
+     * that libGDX would otherwise write without a class. Unless {@link JsonSettings#withEntryArrays(boolean)} is on, keys are
+     * written as field names, so if keyType is String or CharSequence, every key must be a CharSequence; other keys
+     * throw a SerializationException when written. This affects every ObjectObjectOrderedMap that {@code json} writes or
+     * reads, so it suits a Json object that only handles one kind of ObjectObjectOrderedMap.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param keyType the class that keys are expected to have; if null, every key is written with its class
+     * @param valueType the class that values are expected to have; if null, every value is written with its class
+     */
+    public static void registerObjectObjectOrderedMap(Json json, Class<?> keyType, Class<?> valueType) {
+        registerObjectObjectOrderedMap(json, SETTINGS, keyType, valueType);
+    }
+
+    /**
+     * Registers ObjectObjectOrderedMap with the given Json object, so ObjectObjectOrderedMap can be written to and read from JSON, expecting its
+     * keys to be instances of {@code keyType} and its values to be instances of {@code valueType}. Keys and values with
+     * exactly those classes are written without a {@code class} field and read using the given class directly, instead
+     * of looking up a class for each one; anything else is still written with its class, even Strings or boxed numbers
+     * that libGDX would otherwise write without a class. Unless {@link JsonSettings#withEntryArrays(boolean)} is on, keys are
+     * written as field names, so if keyType is String or CharSequence, every key must be a CharSequence; other keys
+     * throw a SerializationException when written. This affects every ObjectObjectOrderedMap that {@code json} writes or
+     * reads, so it suits a Json object that only handles one kind of ObjectObjectOrderedMap.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     * @param keyType the class that keys are expected to have; if null, every key is written with its class
+     * @param valueType the class that values are expected to have; if null, every value is written with its class
+     */
+    public static void registerObjectObjectOrderedMap(Json json, JsonSettings settings, Class<?> keyType, Class<?> valueType) {
+        if(settings.addClassTags) json.addClassTag("ooOM", ObjectObjectOrderedMap.class);
         json.setSerializer(ObjectObjectOrderedMap.class, new Json.Serializer<ObjectObjectOrderedMap>() {
             @Override
             public void write(Json json, ObjectObjectOrderedMap object, Class knownType) {
                 JsonWriter writer = json.getWriter();
                 json.writeObjectStart(ObjectObjectOrderedMap.class, knownType);
-                json.writeValue("d", object.getDefaultValue(), null);
+                DictionaryJson.writeItem(json, "d", object.getDefaultValue(), valueType);
                 json.writeValue("o", object.getOrderType().name(), String.class);
-                json.writeObjectStart("m");
                 Iterator<Map.Entry<Object, Object>> es = new ObjectObjectOrderedMap.OrderedMapEntries<Object, Object>(object).iterator();
+                if (settings.entryArrays) {
+                    json.writeArrayStart("e");
+                    while (es.hasNext()) {
+                        Map.Entry<?, ?> e = es.next();
+                        // Strings are written bare; anything else needs its class to be read back
+                        Object k = e.getKey(), v = e.getValue();
+                        DictionaryJson.writeItem(json, k, keyType == null && k instanceof String ? String.class : keyType);
+                        DictionaryJson.writeItem(json, v, valueType == null && v instanceof String ? String.class : valueType);
+                    }
+                    json.writeArrayEnd();
+                    json.writeObjectEnd();
+                    return;
+                }
+                json.writeObjectStart("m");
                 while (es.hasNext()) {
                     Map.Entry<?, ?> e = es.next();
-                    String k = e.getKey() instanceof CharSequence ? e.getKey().toString() : json.toJson(e.getKey(), (Class) null);
+                    String k = DictionaryJson.name(json, fieldName(json, e.getKey(), keyType));
                     json.setWriter(writer);
-                    json.writeValue(k, e.getValue(), null);
+                    DictionaryJson.writeItem(json, k, e.getValue(), valueType);
                 }
                 json.writeObjectEnd();
                 json.writeObjectEnd();
@@ -1676,14 +2406,23 @@ public final class JsonSupport {
             @Override
             public ObjectObjectOrderedMap<?, ?> read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
-                Object d = json.readValue("d", null, jsonData);
+                Object d = DictionaryJson.readItem(json, valueType, jsonData.get("d"));
                 OrderType order = OrderType.valueOf(jsonData.getString("o", "LIST"));
                 jsonData.remove("o");
+                JsonValue entries = jsonData.get("e");
+                if (entries != null) {
+                    ObjectObjectOrderedMap data = new ObjectObjectOrderedMap<>(entries.size >>> 1, order);
+                    data.setDefaultValue(d);
+                    for (JsonValue key = entries.child; key != null && key.next != null; key = key.next.next) {
+                        data.put(DictionaryJson.readItem(json, keyType, key), DictionaryJson.readItem(json, valueType, key.next));
+                    }
+                    return data;
+                }
                 jsonData = jsonData.get("m");
                 ObjectObjectOrderedMap data = new ObjectObjectOrderedMap<>(jsonData.size, order);
                 data.setDefaultValue(d);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.put(json.fromJson(null, value.name), json.readValue(null, value));
+                    data.put(DictionaryJson.readKey(json, keyType, value.name), DictionaryJson.readItem(json, valueType, value));
                 }
                 return data;
             }
@@ -1696,7 +2435,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerObjectLongMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("olM", ObjectLongMap.class);
+        registerObjectLongMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers ObjectLongMap with the given Json object, so ObjectLongMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerObjectLongMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("olM", ObjectLongMap.class);
         json.setSerializer(ObjectLongMap.class, new Json.Serializer<ObjectLongMap>() {
             @Override
             public void write(Json json, ObjectLongMap object, Class knownType) {
@@ -1707,9 +2456,9 @@ public final class JsonSupport {
                 Iterator<ObjectLongMap.Entry<Object>> es = new ObjectLongMap.Entries<Object>(object).iterator();
                 while (es.hasNext()) {
                     ObjectLongMap.Entry<?> e = es.next();
-                    String k = e.getKey() instanceof CharSequence ? e.getKey().toString() : json.toJson(e.getKey(), (Class) null);
+                    String k = DictionaryJson.name(json, e.getKey() instanceof CharSequence ? e.getKey().toString() : json.toJson(e.getKey(), (Class) null));
                     json.setWriter(writer);
-                    json.writeValue(k, BASE.signed(e.getValue()), String.class);
+                    json.writeValue(k, settings.base.signed(e.getValue()), String.class);
                 }
                 json.writeObjectEnd();
                 json.writeObjectEnd();
@@ -1723,7 +2472,7 @@ public final class JsonSupport {
                 ObjectLongMap<?> data = new ObjectLongMap<>(jsonData.size);
                 data.setDefaultValue(d);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.put(json.fromJson(null, value.name), BASE.readLong(value.asString()));
+                    data.put(DictionaryJson.readKey(json, null, value.name), settings.base.readLong(value.asString()));
                 }
                 return data;
             }
@@ -1736,7 +2485,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerObjectLongOrderedMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("olOM", ObjectLongOrderedMap.class);
+        registerObjectLongOrderedMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers ObjectLongOrderedMap with the given Json object, so ObjectLongOrderedMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerObjectLongOrderedMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("olOM", ObjectLongOrderedMap.class);
         json.setSerializer(ObjectLongOrderedMap.class, new Json.Serializer<ObjectLongOrderedMap>() {
             @Override
             public void write(Json json, ObjectLongOrderedMap object, Class knownType) {
@@ -1748,9 +2507,9 @@ public final class JsonSupport {
                 Iterator<ObjectLongMap.Entry<Object>> es = new ObjectLongOrderedMap.OrderedMapEntries<Object>(object).iterator();
                 while (es.hasNext()) {
                     ObjectLongMap.Entry<?> e = es.next();
-                    String k = e.getKey() instanceof CharSequence ? e.getKey().toString() : json.toJson(e.getKey(), (Class) null);
+                    String k = DictionaryJson.name(json, e.getKey() instanceof CharSequence ? e.getKey().toString() : json.toJson(e.getKey(), (Class) null));
                     json.setWriter(writer);
-                    json.writeValue(k, BASE.signed(e.getValue()), String.class);
+                    json.writeValue(k, settings.base.signed(e.getValue()), String.class);
                 }
                 json.writeObjectEnd();
                 json.writeObjectEnd();
@@ -1766,7 +2525,7 @@ public final class JsonSupport {
                 ObjectLongOrderedMap<?> data = new ObjectLongOrderedMap<>(jsonData.size, order);
                 data.setDefaultValue(d);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.put(json.fromJson(null, value.name), BASE.readLong(value.asString()));
+                    data.put(DictionaryJson.readKey(json, null, value.name), settings.base.readLong(value.asString()));
                 }
                 return data;
             }
@@ -1779,7 +2538,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerObjectIntMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("oiM", ObjectIntMap.class);
+        registerObjectIntMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers ObjectIntMap with the given Json object, so ObjectIntMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerObjectIntMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("oiM", ObjectIntMap.class);
         json.setSerializer(ObjectIntMap.class, new Json.Serializer<ObjectIntMap>() {
             @Override
             public void write(Json json, ObjectIntMap object, Class knownType) {
@@ -1790,7 +2559,7 @@ public final class JsonSupport {
                 Iterator<ObjectIntMap.Entry<Object>> es = new ObjectIntMap.Entries<Object>(object).iterator();
                 while (es.hasNext()) {
                     ObjectIntMap.Entry<?> e = es.next();
-                    String k = e.getKey() instanceof CharSequence ? e.getKey().toString() : json.toJson(e.getKey(), (Class) null);
+                    String k = DictionaryJson.name(json, e.getKey() instanceof CharSequence ? e.getKey().toString() : json.toJson(e.getKey(), (Class) null));
                     json.setWriter(writer);
                     json.writeValue(k, e.getValue(), int.class);
                 }
@@ -1806,7 +2575,7 @@ public final class JsonSupport {
                 ObjectIntMap<?> data = new ObjectIntMap<>(jsonData.size);
                 data.setDefaultValue(d);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.put(json.fromJson(null, value.name), value.asInt());
+                    data.put(DictionaryJson.readKey(json, null, value.name), value.asInt());
                 }
                 return data;
             }
@@ -1819,7 +2588,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerObjectIntOrderedMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("oiOM", ObjectIntOrderedMap.class);
+        registerObjectIntOrderedMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers ObjectIntOrderedMap with the given Json object, so ObjectIntOrderedMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerObjectIntOrderedMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("oiOM", ObjectIntOrderedMap.class);
         json.setSerializer(ObjectIntOrderedMap.class, new Json.Serializer<ObjectIntOrderedMap>() {
             @Override
             public void write(Json json, ObjectIntOrderedMap object, Class knownType) {
@@ -1831,7 +2610,7 @@ public final class JsonSupport {
                 Iterator<ObjectIntMap.Entry<Object>> es = new ObjectIntOrderedMap.OrderedMapEntries<Object>(object).iterator();
                 while (es.hasNext()) {
                     ObjectIntMap.Entry<?> e = es.next();
-                    String k = e.getKey() instanceof CharSequence ? e.getKey().toString() : json.toJson(e.getKey(), (Class) null);
+                    String k = DictionaryJson.name(json, e.getKey() instanceof CharSequence ? e.getKey().toString() : json.toJson(e.getKey(), (Class) null));
                     json.setWriter(writer);
                     json.writeValue(k, e.getValue(), int.class);
                 }
@@ -1849,7 +2628,7 @@ public final class JsonSupport {
                 ObjectIntOrderedMap<?> data = new ObjectIntOrderedMap<>(jsonData.size, order);
                 data.setDefaultValue(d);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.put(json.fromJson(null, value.name), value.asInt());
+                    data.put(DictionaryJson.readKey(json, null, value.name), value.asInt());
                 }
                 return data;
             }
@@ -1862,7 +2641,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerObjectFloatMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("ofM", ObjectFloatMap.class);
+        registerObjectFloatMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers ObjectFloatMap with the given Json object, so ObjectFloatMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerObjectFloatMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("ofM", ObjectFloatMap.class);
         json.setSerializer(ObjectFloatMap.class, new Json.Serializer<ObjectFloatMap>() {
             @Override
             public void write(Json json, ObjectFloatMap object, Class knownType) {
@@ -1873,7 +2662,7 @@ public final class JsonSupport {
                 Iterator<ObjectFloatMap.Entry<Object>> es = new ObjectFloatMap.Entries<Object>(object).iterator();
                 while (es.hasNext()) {
                     ObjectFloatMap.Entry<?> e = es.next();
-                    String k = e.getKey() instanceof CharSequence ? e.getKey().toString() : json.toJson(e.getKey(), (Class) null);
+                    String k = DictionaryJson.name(json, e.getKey() instanceof CharSequence ? e.getKey().toString() : json.toJson(e.getKey(), (Class) null));
                     json.setWriter(writer);
                     json.writeValue(k, e.getValue(), float.class);
                 }
@@ -1889,7 +2678,7 @@ public final class JsonSupport {
                 ObjectFloatMap<?> data = new ObjectFloatMap<>(jsonData.size);
                 data.setDefaultValue(d);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.put(json.fromJson(null, value.name), value.asFloat());
+                    data.put(DictionaryJson.readKey(json, null, value.name), value.asFloat());
                 }
                 return data;
             }
@@ -1902,7 +2691,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerObjectFloatOrderedMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("ofOM", ObjectFloatOrderedMap.class);
+        registerObjectFloatOrderedMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers ObjectFloatOrderedMap with the given Json object, so ObjectFloatOrderedMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerObjectFloatOrderedMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("ofOM", ObjectFloatOrderedMap.class);
         json.setSerializer(ObjectFloatOrderedMap.class, new Json.Serializer<ObjectFloatOrderedMap>() {
             @Override
             public void write(Json json, ObjectFloatOrderedMap object, Class knownType) {
@@ -1914,7 +2713,7 @@ public final class JsonSupport {
                 Iterator<ObjectFloatMap.Entry<Object>> es = new ObjectFloatOrderedMap.OrderedMapEntries<Object>(object).iterator();
                 while (es.hasNext()) {
                     ObjectFloatMap.Entry<?> e = es.next();
-                    String k = e.getKey() instanceof CharSequence ? e.getKey().toString() : json.toJson(e.getKey(), (Class) null);
+                    String k = DictionaryJson.name(json, e.getKey() instanceof CharSequence ? e.getKey().toString() : json.toJson(e.getKey(), (Class) null));
                     json.setWriter(writer);
                     json.writeValue(k, e.getValue(), float.class);
                 }
@@ -1932,7 +2731,7 @@ public final class JsonSupport {
                 ObjectFloatOrderedMap<?> data = new ObjectFloatOrderedMap<>(jsonData.size, order);
                 data.setDefaultValue(d);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.put(json.fromJson(null, value.name), value.asFloat());
+                    data.put(DictionaryJson.readKey(json, null, value.name), value.asFloat());
                 }
                 return data;
             }
@@ -1944,15 +2743,34 @@ public final class JsonSupport {
      *
      * @param json a libGDX Json object that will have a serializer registered
      */
-    public static void registerIntObjectMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("ioM", IntObjectMap.class);
+    public static void registerIntObjectMap(Json json) {
+        registerIntObjectMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers IntObjectMap with the given Json object, so IntObjectMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerIntObjectMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("ioM", IntObjectMap.class);
         json.setSerializer(IntObjectMap.class, new Json.Serializer<IntObjectMap>() {
             @Override
             public void write(Json json, IntObjectMap object, Class knownType) {
                 json.writeObjectStart(IntObjectMap.class, knownType);
-                json.writeValue("d", object.getDefaultValue(), null);
-                for (IntObjectMap.Entry<Object> e : new IntObjectMap.Entries<Object>(object)) {
-                    json.writeValue(Integer.toString(e.key), e.getValue(), null);
+                DictionaryJson.writeItem(json, "d", object.getDefaultValue(), null);
+                if (settings.packMaps) {
+                    JsonStreams.writeJoined(json, "k", object.keySet().iterator(), object.size(), settings.base);
+                    json.writeArrayStart("v");
+                    for (Object v : object.values()) {
+                        DictionaryJson.writeItem(json, v, null);
+                    }
+                    json.writeArrayEnd();
+                } else {
+                    for (IntObjectMap.Entry<Object> e : new IntObjectMap.Entries<Object>(object)) {
+                        DictionaryJson.writeItem(json, Integer.toString(e.key), e.getValue(), null);
+                    }
                 }
                 json.writeObjectEnd();
             }
@@ -1960,13 +2778,23 @@ public final class JsonSupport {
             @Override
             public IntObjectMap<?> read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
+                JsonValue keys = jsonData.get("k");
+                if (keys != null) {
+                    JsonStreams.Tokens ks = new JsonStreams.Tokens(keys);
+                    IntObjectMap data = new IntObjectMap<>(ks.size());
+                    data.setDefaultValue(DictionaryJson.readItem(json, null, jsonData.get("d")));
+                    for (JsonValue value = jsonData.get("v").child; value != null; value = value.next) {
+                        data.put(ks.nextInt(settings.base), DictionaryJson.readItem(json, null, value));
+                    }
+                    return data;
+                }
                 jsonData.remove("class");
                 IntObjectMap data = new IntObjectMap<>(jsonData.size);
-                Object d = json.readValue("d", null, jsonData);
+                Object d = DictionaryJson.readItem(json, null, jsonData.get("d"));
                 jsonData.remove("d");
                 data.setDefaultValue(d);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.put(Integer.parseInt(value.name), json.readValue(null, value));
+                    data.put(Integer.parseInt(value.name), DictionaryJson.readItem(json, null, value));
                 }
                 return data;
             }
@@ -1979,16 +2807,35 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerIntObjectOrderedMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("ioOM", IntObjectOrderedMap.class);
+        registerIntObjectOrderedMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers IntObjectOrderedMap with the given Json object, so IntObjectOrderedMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerIntObjectOrderedMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("ioOM", IntObjectOrderedMap.class);
         json.setSerializer(IntObjectOrderedMap.class, new Json.Serializer<IntObjectOrderedMap>() {
             @Override
             public void write(Json json, IntObjectOrderedMap object, Class knownType) {
                 json.writeObjectStart(IntObjectOrderedMap.class, knownType);
                 // will never overlap with an int key
                 json.writeValue("o", object.getOrderType().name(), String.class);
-                json.writeValue("d", object.getDefaultValue(), null);
-                for (IntObjectOrderedMap.Entry<Object> e : new IntObjectOrderedMap.OrderedMapEntries<Object>(object)) {
-                    json.writeValue(Integer.toString(e.key), e.getValue(), null);
+                DictionaryJson.writeItem(json, "d", object.getDefaultValue(), null);
+                if (settings.packMaps) {
+                    JsonStreams.writeJoined(json, "k", object.keySet().iterator(), object.size(), settings.base);
+                    json.writeArrayStart("v");
+                    for (Object v : object.values()) {
+                        DictionaryJson.writeItem(json, v, null);
+                    }
+                    json.writeArrayEnd();
+                } else {
+                    for (IntObjectOrderedMap.Entry<Object> e : new IntObjectOrderedMap.OrderedMapEntries<Object>(object)) {
+                        DictionaryJson.writeItem(json, Integer.toString(e.key), e.getValue(), null);
+                    }
                 }
                 json.writeObjectEnd();
             }
@@ -1996,15 +2843,25 @@ public final class JsonSupport {
             @Override
             public IntObjectOrderedMap<?> read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
+                JsonValue keys = jsonData.get("k");
+                if (keys != null) {
+                    JsonStreams.Tokens ks = new JsonStreams.Tokens(keys);
+                    IntObjectOrderedMap data = new IntObjectOrderedMap<>(ks.size(), OrderType.valueOf(jsonData.getString("o", "LIST")));
+                    data.setDefaultValue(DictionaryJson.readItem(json, null, jsonData.get("d")));
+                    for (JsonValue value = jsonData.get("v").child; value != null; value = value.next) {
+                        data.put(ks.nextInt(settings.base), DictionaryJson.readItem(json, null, value));
+                    }
+                    return data;
+                }
                 jsonData.remove("class");
                 OrderType order = OrderType.valueOf(jsonData.getString("o", "LIST"));
                 jsonData.remove("o");
-                Object d = json.readValue("d", null, jsonData);
+                Object d = DictionaryJson.readItem(json, null, jsonData.get("d"));
                 jsonData.remove("d");
                 IntObjectOrderedMap data = new IntObjectOrderedMap<>(jsonData.size, order);
                 data.setDefaultValue(d);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.put(Integer.parseInt(value.name), json.readValue(null, value));
+                    data.put(Integer.parseInt(value.name), DictionaryJson.readItem(json, null, value));
                 }
                 return data;
             }
@@ -2017,14 +2874,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerIntIntMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("iiM", IntIntMap.class);
+        registerIntIntMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers IntIntMap with the given Json object, so IntIntMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerIntIntMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("iiM", IntIntMap.class);
         json.setSerializer(IntIntMap.class, new Json.Serializer<IntIntMap>() {
             @Override
             public void write(Json json, IntIntMap object, Class knownType) {
                 json.writeObjectStart(IntIntMap.class, knownType);
                 json.writeValue("d", object.getDefaultValue(), int.class);
-                for (IntIntMap.Entry e : new IntIntMap.Entries(object)) {
-                    json.writeValue(Integer.toString(e.key), e.getValue());
+                if (settings.packMaps) {
+                    JsonStreams.writeJoined(json, "k", object.keySet().iterator(), object.size(), settings.base);
+                    JsonStreams.writeJoined(json, "v", object.values().iterator(), object.size(), settings.base);
+                } else {
+                    for (IntIntMap.Entry e : new IntIntMap.Entries(object)) {
+                        json.writeValue(Integer.toString(e.key), e.getValue());
+                    }
                 }
                 json.writeObjectEnd();
             }
@@ -2032,6 +2904,17 @@ public final class JsonSupport {
             @Override
             public IntIntMap read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
+                JsonValue keys = jsonData.get("k");
+                if (keys != null) {
+                    JsonStreams.Tokens ks = new JsonStreams.Tokens(keys);
+                    IntIntMap data = new IntIntMap(ks.size());
+                    data.setDefaultValue(jsonData.getInt("d", 0));
+                    JsonStreams.Tokens vs = new JsonStreams.Tokens(jsonData.get("v"));
+                    while (ks.hasNext()) {
+                        data.put(ks.nextInt(settings.base), vs.nextInt(settings.base));
+                    }
+                    return data;
+                }
                 jsonData.remove("class");
                 IntIntMap data = new IntIntMap(jsonData.size - 1);
                 int d = jsonData.getInt("d", 0);
@@ -2045,13 +2928,85 @@ public final class JsonSupport {
         });
     }
 
+    /**
+     * Registers OffHeapIntIntMap with the given Json object, so OffHeapIntIntMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     */
+    public static void registerOffHeapIntIntMap(Json json) {
+        registerOffHeapIntIntMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers OffHeapIntIntMap with the given Json object, so OffHeapIntIntMap can be written to and read from JSON.
+     * It is written the same way as an IntIntMap, so either can read what the other wrote.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerOffHeapIntIntMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("ohiiM", OffHeapIntIntMap.class);
+        json.setSerializer(OffHeapIntIntMap.class, new Json.Serializer<OffHeapIntIntMap>() {
+            @Override
+            public void write(Json json, OffHeapIntIntMap object, Class knownType) {
+                json.writeObjectStart(OffHeapIntIntMap.class, knownType);
+                json.writeValue("d", object.getDefaultValue(), int.class);
+                if (settings.packMaps) {
+                    JsonStreams.writeJoined(json, "k", object.keys(), object.size(), settings.base);
+                    JsonStreams.writeJoined(json, "v", object.values(), object.size(), settings.base);
+                } else {
+                    IntIterator keys = object.keys(), values = object.values();
+                    while (keys.hasNext()) {
+                        json.writeValue(Integer.toString(keys.nextInt()), values.nextInt());
+                    }
+                }
+                json.writeObjectEnd();
+            }
+
+            @Override
+            public OffHeapIntIntMap read(Json json, JsonValue jsonData, Class type) {
+                if (jsonData == null || jsonData.isNull()) return null;
+                JsonValue keys = jsonData.get("k");
+                if (keys != null) {
+                    JsonStreams.Tokens ks = new JsonStreams.Tokens(keys);
+                    OffHeapIntIntMap data = new OffHeapIntIntMap(ks.size());
+                    data.setDefaultValue(jsonData.getInt("d", 0));
+                    JsonStreams.Tokens vs = new JsonStreams.Tokens(jsonData.get("v"));
+                    while (ks.hasNext()) {
+                        data.put(ks.nextInt(settings.base), vs.nextInt(settings.base));
+                    }
+                    return data;
+                }
+                jsonData.remove("class");
+                OffHeapIntIntMap data = new OffHeapIntIntMap(jsonData.size - 1);
+                int d = jsonData.getInt("d", 0);
+                jsonData.remove("d");
+                data.setDefaultValue(d);
+                for (JsonValue value = jsonData.child; value != null; value = value.next) {
+                    data.put(Integer.parseInt(value.name), value.asInt());
+                }
+                return data;
+            }
+        });
+    }
+
     /**
      * Registers IntIntOrderedMap with the given Json object, so IntIntOrderedMap can be written to and read from JSON.
      *
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerIntIntOrderedMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("iiOM", IntIntOrderedMap.class);
+        registerIntIntOrderedMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers IntIntOrderedMap with the given Json object, so IntIntOrderedMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerIntIntOrderedMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("iiOM", IntIntOrderedMap.class);
         json.setSerializer(IntIntOrderedMap.class, new Json.Serializer<IntIntOrderedMap>() {
             @Override
             public void write(Json json, IntIntOrderedMap object, Class knownType) {
@@ -2059,8 +3014,13 @@ public final class JsonSupport {
                 // will never overlap with an int key
                 json.writeValue("o", object.getOrderType().name(), String.class);
                 json.writeValue("d", object.getDefaultValue(), int.class);
-                for (IntIntOrderedMap.Entry e : new IntIntOrderedMap.OrderedMapEntries(object)) {
-                    json.writeValue(Integer.toString(e.key), e.getValue());
+                if (settings.packMaps) {
+                    JsonStreams.writeJoined(json, "k", object.keySet().iterator(), object.size(), settings.base);
+                    JsonStreams.writeJoined(json, "v", object.values().iterator(), object.size(), settings.base);
+                } else {
+                    for (IntIntOrderedMap.Entry e : new IntIntOrderedMap.OrderedMapEntries(object)) {
+                        json.writeValue(Integer.toString(e.key), e.getValue());
+                    }
                 }
                 json.writeObjectEnd();
             }
@@ -2068,6 +3028,17 @@ public final class JsonSupport {
             @Override
             public IntIntOrderedMap read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
+                JsonValue keys = jsonData.get("k");
+                if (keys != null) {
+                    JsonStreams.Tokens ks = new JsonStreams.Tokens(keys);
+                    IntIntOrderedMap data = new IntIntOrderedMap(ks.size(), OrderType.valueOf(jsonData.getString("o", "LIST")));
+                    data.setDefaultValue(jsonData.getInt("d", 0));
+                    JsonStreams.Tokens vs = new JsonStreams.Tokens(jsonData.get("v"));
+                    while (ks.hasNext()) {
+                        data.put(ks.nextInt(settings.base), vs.nextInt(settings.base));
+                    }
+                    return data;
+                }
                 jsonData.remove("class");
                 OrderType order = OrderType.valueOf(jsonData.getString("o", "LIST"));
                 jsonData.remove("o");
@@ -2089,14 +3060,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerIntLongMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("ilM", IntLongMap.class);
+        registerIntLongMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers IntLongMap with the given Json object, so IntLongMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerIntLongMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("ilM", IntLongMap.class);
         json.setSerializer(IntLongMap.class, new Json.Serializer<IntLongMap>() {
             @Override
             public void write(Json json, IntLongMap object, Class knownType) {
                 json.writeObjectStart(IntLongMap.class, knownType);
                 json.writeValue("d", object.getDefaultValue(), long.class);
-                for (IntLongMap.Entry e : new IntLongMap.Entries(object)) {
-                    json.writeValue(Integer.toString(e.key), e.getValue());
+                if (settings.packMaps) {
+                    JsonStreams.writeJoined(json, "k", object.keySet().iterator(), object.size(), settings.base);
+                    JsonStreams.writeJoined(json, "v", object.values().iterator(), object.size(), settings.base);
+                } else {
+                    for (IntLongMap.Entry e : new IntLongMap.Entries(object)) {
+                        json.writeValue(Integer.toString(e.key), e.getValue());
+                    }
                 }
                 json.writeObjectEnd();
             }
@@ -2104,6 +3090,17 @@ public final class JsonSupport {
             @Override
             public IntLongMap read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
+                JsonValue keys = jsonData.get("k");
+                if (keys != null) {
+                    JsonStreams.Tokens ks = new JsonStreams.Tokens(keys);
+                    IntLongMap data = new IntLongMap(ks.size());
+                    data.setDefaultValue(jsonData.getLong("d", 0));
+                    JsonStreams.Tokens vs = new JsonStreams.Tokens(jsonData.get("v"));
+                    while (ks.hasNext()) {
+                        data.put(ks.nextInt(settings.base), vs.nextLong(settings.base));
+                    }
+                    return data;
+                }
                 jsonData.remove("class");
                 IntLongMap data = new IntLongMap(jsonData.size - 1);
                 long d = jsonData.getLong("d", 0);
@@ -2123,7 +3120,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerIntLongOrderedMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("ilOM", IntLongOrderedMap.class);
+        registerIntLongOrderedMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers IntLongOrderedMap with the given Json object, so IntLongOrderedMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerIntLongOrderedMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("ilOM", IntLongOrderedMap.class);
         json.setSerializer(IntLongOrderedMap.class, new Json.Serializer<IntLongOrderedMap>() {
             @Override
             public void write(Json json, IntLongOrderedMap object, Class knownType) {
@@ -2131,8 +3138,13 @@ public final class JsonSupport {
                 // will never overlap with an int key
                 json.writeValue("o", object.getOrderType().name(), String.class);
                 json.writeValue("d", object.getDefaultValue(), long.class);
-                for (IntLongOrderedMap.Entry e : new IntLongOrderedMap.OrderedMapEntries(object)) {
-                    json.writeValue(Integer.toString(e.key), e.getValue());
+                if (settings.packMaps) {
+                    JsonStreams.writeJoined(json, "k", object.keySet().iterator(), object.size(), settings.base);
+                    JsonStreams.writeJoined(json, "v", object.values().iterator(), object.size(), settings.base);
+                } else {
+                    for (IntLongOrderedMap.Entry e : new IntLongOrderedMap.OrderedMapEntries(object)) {
+                        json.writeValue(Integer.toString(e.key), e.getValue());
+                    }
                 }
                 json.writeObjectEnd();
             }
@@ -2140,6 +3152,17 @@ public final class JsonSupport {
             @Override
             public IntLongOrderedMap read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
+                JsonValue keys = jsonData.get("k");
+                if (keys != null) {
+                    JsonStreams.Tokens ks = new JsonStreams.Tokens(keys);
+                    IntLongOrderedMap data = new IntLongOrderedMap(ks.size(), OrderType.valueOf(jsonData.getString("o", "LIST")));
+                    data.setDefaultValue(jsonData.getLong("d", 0));
+                    JsonStreams.Tokens vs = new JsonStreams.Tokens(jsonData.get("v"));
+                    while (ks.hasNext()) {
+                        data.put(ks.nextInt(settings.base), vs.nextLong(settings.base));
+                    }
+                    return data;
+                }
                 jsonData.remove("class");
                 OrderType order = OrderType.valueOf(jsonData.getString("o", "LIST"));
                 jsonData.remove("o");
@@ -2161,14 +3184,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerIntFloatMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("ifM", IntFloatMap.class);
+        registerIntFloatMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers IntFloatMap with the given Json object, so IntFloatMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerIntFloatMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("ifM", IntFloatMap.class);
         json.setSerializer(IntFloatMap.class, new Json.Serializer<IntFloatMap>() {
             @Override
             public void write(Json json, IntFloatMap object, Class knownType) {
                 json.writeObjectStart(IntFloatMap.class, knownType);
                 json.writeValue("d", object.getDefaultValue(), long.class);
-                for (IntFloatMap.Entry e : new IntFloatMap.Entries(object)) {
-                    json.writeValue(Integer.toString(e.key), e.getValue());
+                if (settings.packMaps) {
+                    JsonStreams.writeJoined(json, "k", object.keySet().iterator(), object.size(), settings.base);
+                    JsonStreams.writeJoined(json, "v", object.values().iterator(), object.size(), settings);
+                } else {
+                    for (IntFloatMap.Entry e : new IntFloatMap.Entries(object)) {
+                        json.writeValue(Integer.toString(e.key), e.getValue());
+                    }
                 }
                 json.writeObjectEnd();
             }
@@ -2176,6 +3214,17 @@ public final class JsonSupport {
             @Override
             public IntFloatMap read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
+                JsonValue keys = jsonData.get("k");
+                if (keys != null) {
+                    JsonStreams.Tokens ks = new JsonStreams.Tokens(keys);
+                    IntFloatMap data = new IntFloatMap(ks.size());
+                    data.setDefaultValue(jsonData.getFloat("d", 0));
+                    JsonStreams.Tokens vs = new JsonStreams.Tokens(jsonData.get("v"));
+                    while (ks.hasNext()) {
+                        data.put(ks.nextInt(settings.base), vs.nextFloat(settings));
+                    }
+                    return data;
+                }
                 jsonData.remove("class");
                 IntFloatMap data = new IntFloatMap(jsonData.size - 1);
                 float d = jsonData.getFloat("d", 0);
@@ -2195,7 +3244,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerIntFloatOrderedMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("ifOM", IntFloatOrderedMap.class);
+        registerIntFloatOrderedMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers IntFloatOrderedMap with the given Json object, so IntFloatOrderedMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerIntFloatOrderedMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("ifOM", IntFloatOrderedMap.class);
         json.setSerializer(IntFloatOrderedMap.class, new Json.Serializer<IntFloatOrderedMap>() {
             @Override
             public void write(Json json, IntFloatOrderedMap object, Class knownType) {
@@ -2203,8 +3262,13 @@ public final class JsonSupport {
                 // will never overlap with an int key
                 json.writeValue("o", object.getOrderType().name(), String.class);
                 json.writeValue("d", object.getDefaultValue(), long.class);
-                for (IntFloatOrderedMap.Entry e : new IntFloatOrderedMap.OrderedMapEntries(object)) {
-                    json.writeValue(Integer.toString(e.key), e.getValue());
+                if (settings.packMaps) {
+                    JsonStreams.writeJoined(json, "k", object.keySet().iterator(), object.size(), settings.base);
+                    JsonStreams.writeJoined(json, "v", object.values().iterator(), object.size(), settings);
+                } else {
+                    for (IntFloatOrderedMap.Entry e : new IntFloatOrderedMap.OrderedMapEntries(object)) {
+                        json.writeValue(Integer.toString(e.key), e.getValue());
+                    }
                 }
                 json.writeObjectEnd();
             }
@@ -2212,6 +3276,17 @@ public final class JsonSupport {
             @Override
             public IntFloatOrderedMap read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
+                JsonValue keys = jsonData.get("k");
+                if (keys != null) {
+                    JsonStreams.Tokens ks = new JsonStreams.Tokens(keys);
+                    IntFloatOrderedMap data = new IntFloatOrderedMap(ks.size(), OrderType.valueOf(jsonData.getString("o", "LIST")));
+                    data.setDefaultValue(jsonData.getFloat("d", 0));
+                    JsonStreams.Tokens vs = new JsonStreams.Tokens(jsonData.get("v"));
+                    while (ks.hasNext()) {
+                        data.put(ks.nextInt(settings.base), vs.nextFloat(settings));
+                    }
+                    return data;
+                }
                 jsonData.remove("class");
                 OrderType order = OrderType.valueOf(jsonData.getString("o", "LIST"));
                 jsonData.remove("o");
@@ -2233,14 +3308,33 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLongObjectMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("loM", LongObjectMap.class);
+        registerLongObjectMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers LongObjectMap with the given Json object, so LongObjectMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLongObjectMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("loM", LongObjectMap.class);
         json.setSerializer(LongObjectMap.class, new Json.Serializer<LongObjectMap>() {
             @Override
             public void write(Json json, LongObjectMap object, Class knownType) {
                 json.writeObjectStart(LongObjectMap.class, knownType);
-                json.writeValue("d", object.getDefaultValue(), null);
-                for (LongObjectMap.Entry<Object> e : new LongObjectMap.Entries<Object>(object)) {
-                    json.writeValue(Long.toString(e.key), e.getValue(), null);
+                DictionaryJson.writeItem(json, "d", object.getDefaultValue(), null);
+                if (settings.packMaps) {
+                    JsonStreams.writeJoined(json, "k", object.keySet().iterator(), object.size(), settings.base);
+                    json.writeArrayStart("v");
+                    for (Object v : object.values()) {
+                        DictionaryJson.writeItem(json, v, null);
+                    }
+                    json.writeArrayEnd();
+                } else {
+                    for (LongObjectMap.Entry<Object> e : new LongObjectMap.Entries<Object>(object)) {
+                        DictionaryJson.writeItem(json, Long.toString(e.key), e.getValue(), null);
+                    }
                 }
                 json.writeObjectEnd();
             }
@@ -2248,13 +3342,23 @@ public final class JsonSupport {
             @Override
             public LongObjectMap<?> read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
+                JsonValue keys = jsonData.get("k");
+                if (keys != null) {
+                    JsonStreams.Tokens ks = new JsonStreams.Tokens(keys);
+                    LongObjectMap data = new LongObjectMap<>(ks.size());
+                    data.setDefaultValue(DictionaryJson.readItem(json, null, jsonData.get("d")));
+                    for (JsonValue value = jsonData.get("v").child; value != null; value = value.next) {
+                        data.put(ks.nextLong(settings.base), DictionaryJson.readItem(json, null, value));
+                    }
+                    return data;
+                }
                 jsonData.remove("class");
                 LongObjectMap data = new LongObjectMap<>(jsonData.size);
-                Object d = json.readValue("d", null, jsonData);
+                Object d = DictionaryJson.readItem(json, null, jsonData.get("d"));
                 jsonData.remove("d");
                 data.setDefaultValue(d);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.put(Long.parseLong(value.name), json.readValue(null, value));
+                    data.put(Long.parseLong(value.name), DictionaryJson.readItem(json, null, value));
                 }
                 return data;
             }
@@ -2267,16 +3371,35 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLongObjectOrderedMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("loOM", LongObjectOrderedMap.class);
+        registerLongObjectOrderedMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers LongObjectOrderedMap with the given Json object, so LongObjectOrderedMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLongObjectOrderedMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("loOM", LongObjectOrderedMap.class);
         json.setSerializer(LongObjectOrderedMap.class, new Json.Serializer<LongObjectOrderedMap>() {
             @Override
             public void write(Json json, LongObjectOrderedMap object, Class knownType) {
                 json.writeObjectStart(LongObjectOrderedMap.class, knownType);
                 // will never overlap with a key
                 json.writeValue("o", object.getOrderType().name(), String.class);
-                json.writeValue("d", object.getDefaultValue(), null);
-                for (LongObjectOrderedMap.Entry<Object> e : new LongObjectOrderedMap.OrderedMapEntries<Object>(object)) {
-                    json.writeValue(Long.toString(e.key), e.getValue(), null);
+                DictionaryJson.writeItem(json, "d", object.getDefaultValue(), null);
+                if (settings.packMaps) {
+                    JsonStreams.writeJoined(json, "k", object.keySet().iterator(), object.size(), settings.base);
+                    json.writeArrayStart("v");
+                    for (Object v : object.values()) {
+                        DictionaryJson.writeItem(json, v, null);
+                    }
+                    json.writeArrayEnd();
+                } else {
+                    for (LongObjectOrderedMap.Entry<Object> e : new LongObjectOrderedMap.OrderedMapEntries<Object>(object)) {
+                        DictionaryJson.writeItem(json, Long.toString(e.key), e.getValue(), null);
+                    }
                 }
                 json.writeObjectEnd();
             }
@@ -2284,15 +3407,25 @@ public final class JsonSupport {
             @Override
             public LongObjectOrderedMap<?> read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
+                JsonValue keys = jsonData.get("k");
+                if (keys != null) {
+                    JsonStreams.Tokens ks = new JsonStreams.Tokens(keys);
+                    LongObjectOrderedMap data = new LongObjectOrderedMap<>(ks.size(), OrderType.valueOf(jsonData.getString("o", "LIST")));
+                    data.setDefaultValue(DictionaryJson.readItem(json, null, jsonData.get("d")));
+                    for (JsonValue value = jsonData.get("v").child; value != null; value = value.next) {
+                        data.put(ks.nextLong(settings.base), DictionaryJson.readItem(json, null, value));
+                    }
+                    return data;
+                }
                 jsonData.remove("class");
                 OrderType order = OrderType.valueOf(jsonData.getString("o", "LIST"));
                 jsonData.remove("o");
-                Object d = json.readValue("d", null, jsonData);
+                Object d = DictionaryJson.readItem(json, null, jsonData.get("d"));
                 jsonData.remove("d");
                 LongObjectOrderedMap data = new LongObjectOrderedMap<>(jsonData.size, order);
                 data.setDefaultValue(d);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.put(Long.parseLong(value.name), json.readValue(null, value));
+                    data.put(Long.parseLong(value.name), DictionaryJson.readItem(json, null, value));
                 }
                 return data;
             }
@@ -2305,14 +3438,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLongIntMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("liM", LongIntMap.class);
+        registerLongIntMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers LongIntMap with the given Json object, so LongIntMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLongIntMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("liM", LongIntMap.class);
         json.setSerializer(LongIntMap.class, new Json.Serializer<LongIntMap>() {
             @Override
             public void write(Json json, LongIntMap object, Class knownType) {
                 json.writeObjectStart(LongIntMap.class, knownType);
                 json.writeValue("d", object.getDefaultValue(), int.class);
-                for (LongIntMap.Entry e : new LongIntMap.Entries(object)) {
-                    json.writeValue(Long.toString(e.key), e.getValue());
+                if (settings.packMaps) {
+                    JsonStreams.writeJoined(json, "k", object.keySet().iterator(), object.size(), settings.base);
+                    JsonStreams.writeJoined(json, "v", object.values().iterator(), object.size(), settings.base);
+                } else {
+                    for (LongIntMap.Entry e : new LongIntMap.Entries(object)) {
+                        json.writeValue(Long.toString(e.key), e.getValue());
+                    }
                 }
                 json.writeObjectEnd();
             }
@@ -2320,6 +3468,17 @@ public final class JsonSupport {
             @Override
             public LongIntMap read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
+                JsonValue keys = jsonData.get("k");
+                if (keys != null) {
+                    JsonStreams.Tokens ks = new JsonStreams.Tokens(keys);
+                    LongIntMap data = new LongIntMap(ks.size());
+                    data.setDefaultValue(jsonData.getInt("d", 0));
+                    JsonStreams.Tokens vs = new JsonStreams.Tokens(jsonData.get("v"));
+                    while (ks.hasNext()) {
+                        data.put(ks.nextLong(settings.base), vs.nextInt(settings.base));
+                    }
+                    return data;
+                }
                 jsonData.remove("class");
                 LongIntMap data = new LongIntMap(jsonData.size - 1);
                 int d = jsonData.getInt("d", 0);
@@ -2339,7 +3498,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLongIntOrderedMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("liOM", LongIntOrderedMap.class);
+        registerLongIntOrderedMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers LongIntOrderedMap with the given Json object, so LongIntOrderedMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLongIntOrderedMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("liOM", LongIntOrderedMap.class);
         json.setSerializer(LongIntOrderedMap.class, new Json.Serializer<LongIntOrderedMap>() {
             @Override
             public void write(Json json, LongIntOrderedMap object, Class knownType) {
@@ -2347,8 +3516,13 @@ public final class JsonSupport {
                 // will never overlap with a key
                 json.writeValue("o", object.getOrderType().name(), String.class);
                 json.writeValue("d", object.getDefaultValue(), int.class);
-                for (LongIntOrderedMap.Entry e : new LongIntOrderedMap.OrderedMapEntries(object)) {
-                    json.writeValue(Long.toString(e.key), e.getValue());
+                if (settings.packMaps) {
+                    JsonStreams.writeJoined(json, "k", object.keySet().iterator(), object.size(), settings.base);
+                    JsonStreams.writeJoined(json, "v", object.values().iterator(), object.size(), settings.base);
+                } else {
+                    for (LongIntOrderedMap.Entry e : new LongIntOrderedMap.OrderedMapEntries(object)) {
+                        json.writeValue(Long.toString(e.key), e.getValue());
+                    }
                 }
                 json.writeObjectEnd();
             }
@@ -2356,6 +3530,17 @@ public final class JsonSupport {
             @Override
             public LongIntOrderedMap read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
+                JsonValue keys = jsonData.get("k");
+                if (keys != null) {
+                    JsonStreams.Tokens ks = new JsonStreams.Tokens(keys);
+                    LongIntOrderedMap data = new LongIntOrderedMap(ks.size(), OrderType.valueOf(jsonData.getString("o", "LIST")));
+                    data.setDefaultValue(jsonData.getInt("d", 0));
+                    JsonStreams.Tokens vs = new JsonStreams.Tokens(jsonData.get("v"));
+                    while (ks.hasNext()) {
+                        data.put(ks.nextLong(settings.base), vs.nextInt(settings.base));
+                    }
+                    return data;
+                }
                 jsonData.remove("class");
                 OrderType order = OrderType.valueOf(jsonData.getString("o", "LIST"));
                 jsonData.remove("o");
@@ -2377,14 +3562,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLongLongMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("llM", LongLongMap.class);
+        registerLongLongMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers LongLongMap with the given Json object, so LongLongMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLongLongMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("llM", LongLongMap.class);
         json.setSerializer(LongLongMap.class, new Json.Serializer<LongLongMap>() {
             @Override
             public void write(Json json, LongLongMap object, Class knownType) {
                 json.writeObjectStart(LongLongMap.class, knownType);
                 json.writeValue("d", object.getDefaultValue(), long.class);
-                for (LongLongMap.Entry e : new LongLongMap.Entries(object)) {
-                    json.writeValue(Long.toString(e.key), e.getValue());
+                if (settings.packMaps) {
+                    JsonStreams.writeJoined(json, "k", object.keySet().iterator(), object.size(), settings.base);
+                    JsonStreams.writeJoined(json, "v", object.values().iterator(), object.size(), settings.base);
+                } else {
+                    for (LongLongMap.Entry e : new LongLongMap.Entries(object)) {
+                        json.writeValue(Long.toString(e.key), e.getValue());
+                    }
                 }
                 json.writeObjectEnd();
             }
@@ -2392,6 +3592,17 @@ public final class JsonSupport {
             @Override
             public LongLongMap read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
+                JsonValue keys = jsonData.get("k");
+                if (keys != null) {
+                    JsonStreams.Tokens ks = new JsonStreams.Tokens(keys);
+                    LongLongMap data = new LongLongMap(ks.size());
+                    data.setDefaultValue(jsonData.getLong("d", 0));
+                    JsonStreams.Tokens vs = new JsonStreams.Tokens(jsonData.get("v"));
+                    while (ks.hasNext()) {
+                        data.put(ks.nextLong(settings.base), vs.nextLong(settings.base));
+                    }
+                    return data;
+                }
                 jsonData.remove("class");
                 LongLongMap data = new LongLongMap(jsonData.size - 1);
                 long d = jsonData.getLong("d", 0);
@@ -2411,7 +3622,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLongLongOrderedMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("llOM", LongLongOrderedMap.class);
+        registerLongLongOrderedMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers LongLongOrderedMap with the given Json object, so LongLongOrderedMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLongLongOrderedMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("llOM", LongLongOrderedMap.class);
         json.setSerializer(LongLongOrderedMap.class, new Json.Serializer<LongLongOrderedMap>() {
             @Override
             public void write(Json json, LongLongOrderedMap object, Class knownType) {
@@ -2419,8 +3640,13 @@ public final class JsonSupport {
                 // will never overlap with a key
                 json.writeValue("o", object.getOrderType().name(), String.class);
                 json.writeValue("d", object.getDefaultValue(), long.class);
-                for (LongLongOrderedMap.Entry e : new LongLongOrderedMap.OrderedMapEntries(object)) {
-                    json.writeValue(Long.toString(e.key), e.getValue());
+                if (settings.packMaps) {
+                    JsonStreams.writeJoined(json, "k", object.keySet().iterator(), object.size(), settings.base);
+                    JsonStreams.writeJoined(json, "v", object.values().iterator(), object.size(), settings.base);
+                } else {
+                    for (LongLongOrderedMap.Entry e : new LongLongOrderedMap.OrderedMapEntries(object)) {
+                        json.writeValue(Long.toString(e.key), e.getValue());
+                    }
                 }
                 json.writeObjectEnd();
             }
@@ -2428,6 +3654,17 @@ public final class JsonSupport {
             @Override
             public LongLongOrderedMap read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
+                JsonValue keys = jsonData.get("k");
+                if (keys != null) {
+                    JsonStreams.Tokens ks = new JsonStreams.Tokens(keys);
+                    LongLongOrderedMap data = new LongLongOrderedMap(ks.size(), OrderType.valueOf(jsonData.getString("o", "LIST")));
+                    data.setDefaultValue(jsonData.getLong("d", 0));
+                    JsonStreams.Tokens vs = new JsonStreams.Tokens(jsonData.get("v"));
+                    while (ks.hasNext()) {
+                        data.put(ks.nextLong(settings.base), vs.nextLong(settings.base));
+                    }
+                    return data;
+                }
                 jsonData.remove("class");
                 OrderType order = OrderType.valueOf(jsonData.getString("o", "LIST"));
                 jsonData.remove("o");
@@ -2449,14 +3686,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLongFloatMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("lfM", LongFloatMap.class);
+        registerLongFloatMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers LongFloatMap with the given Json object, so LongFloatMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLongFloatMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("lfM", LongFloatMap.class);
         json.setSerializer(LongFloatMap.class, new Json.Serializer<LongFloatMap>() {
             @Override
             public void write(Json json, LongFloatMap object, Class knownType) {
                 json.writeObjectStart(LongFloatMap.class, knownType);
                 json.writeValue("d", object.getDefaultValue(), float.class);
-                for (LongFloatMap.Entry e : new LongFloatMap.Entries(object)) {
-                    json.writeValue(Long.toString(e.key), e.getValue());
+                if (settings.packMaps) {
+                    JsonStreams.writeJoined(json, "k", object.keySet().iterator(), object.size(), settings.base);
+                    JsonStreams.writeJoined(json, "v", object.values().iterator(), object.size(), settings);
+                } else {
+                    for (LongFloatMap.Entry e : new LongFloatMap.Entries(object)) {
+                        json.writeValue(Long.toString(e.key), e.getValue());
+                    }
                 }
                 json.writeObjectEnd();
             }
@@ -2464,6 +3716,17 @@ public final class JsonSupport {
             @Override
             public LongFloatMap read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
+                JsonValue keys = jsonData.get("k");
+                if (keys != null) {
+                    JsonStreams.Tokens ks = new JsonStreams.Tokens(keys);
+                    LongFloatMap data = new LongFloatMap(ks.size());
+                    data.setDefaultValue(jsonData.getFloat("d", 0));
+                    JsonStreams.Tokens vs = new JsonStreams.Tokens(jsonData.get("v"));
+                    while (ks.hasNext()) {
+                        data.put(ks.nextLong(settings.base), vs.nextFloat(settings));
+                    }
+                    return data;
+                }
                 jsonData.remove("class");
                 LongFloatMap data = new LongFloatMap(jsonData.size - 1);
                 float d = jsonData.getFloat("d", 0);
@@ -2483,7 +3746,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLongFloatOrderedMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("lfOM", LongFloatOrderedMap.class);
+        registerLongFloatOrderedMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers LongFloatOrderedMap with the given Json object, so LongFloatOrderedMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLongFloatOrderedMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("lfOM", LongFloatOrderedMap.class);
         json.setSerializer(LongFloatOrderedMap.class, new Json.Serializer<LongFloatOrderedMap>() {
             @Override
             public void write(Json json, LongFloatOrderedMap object, Class knownType) {
@@ -2491,8 +3764,13 @@ public final class JsonSupport {
                 // will never overlap with a key
                 json.writeValue("o", object.getOrderType().name(), String.class);
                 json.writeValue("d", object.getDefaultValue(), float.class);
-                for (LongFloatOrderedMap.Entry e : new LongFloatOrderedMap.OrderedMapEntries(object)) {
-                    json.writeValue(Long.toString(e.key), e.getValue());
+                if (settings.packMaps) {
+                    JsonStreams.writeJoined(json, "k", object.keySet().iterator(), object.size(), settings.base);
+                    JsonStreams.writeJoined(json, "v", object.values().iterator(), object.size(), settings);
+                } else {
+                    for (LongFloatOrderedMap.Entry e : new LongFloatOrderedMap.OrderedMapEntries(object)) {
+                        json.writeValue(Long.toString(e.key), e.getValue());
+                    }
                 }
                 json.writeObjectEnd();
             }
@@ -2500,6 +3778,17 @@ public final class JsonSupport {
             @Override
             public LongFloatOrderedMap read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
+                JsonValue keys = jsonData.get("k");
+                if (keys != null) {
+                    JsonStreams.Tokens ks = new JsonStreams.Tokens(keys);
+                    LongFloatOrderedMap data = new LongFloatOrderedMap(ks.size(), OrderType.valueOf(jsonData.getString("o", "LIST")));
+                    data.setDefaultValue(jsonData.getFloat("d", 0));
+                    JsonStreams.Tokens vs = new JsonStreams.Tokens(jsonData.get("v"));
+                    while (ks.hasNext()) {
+                        data.put(ks.nextLong(settings.base), vs.nextFloat(settings));
+                    }
+                    return data;
+                }
                 jsonData.remove("class");
                 OrderType order = OrderType.valueOf(jsonData.getString("o", "LIST"));
                 jsonData.remove("o");
@@ -2523,7 +3812,19 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerBinaryHeap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("oBQ", BinaryHeap.class); // object items, Bit kind, Queue type
+        registerBinaryHeap(json, SETTINGS);
+    }
+
+    /**
+     * Registers BinaryHeap with the given Json object, so BinaryHeap can be written to and read from JSON.
+     * It may be problematic to register a custom serializer for the Node items of the BinaryHeap, so it's
+     * recommended that you don't; the output is more verbose with the default serialization, but it works.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerBinaryHeap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("oBQ", BinaryHeap.class); // object items, Bit kind, Queue type
         json.setSerializer(BinaryHeap.class, new Json.Serializer<BinaryHeap>() {
             @Override
             public void write(Json json, BinaryHeap object, Class knownType) {
@@ -2531,7 +3832,7 @@ public final class JsonSupport {
                 json.writeValue("max", object.isMaxHeap());
                 json.writeArrayStart("items");
                 for (Object o : object) {
-                    json.writeValue(o, null);
+                    DictionaryJson.writeItem(json, o, null);
                 }
                 json.writeArrayEnd();
                 json.writeObjectEnd();
@@ -2542,7 +3843,7 @@ public final class JsonSupport {
                 if (jsonData == null || jsonData.isNull()) return null;
                 BinaryHeap<?> data = new BinaryHeap<>(jsonData.size, jsonData.parent.getBoolean("max"));
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.add(json.readValue(null, value));
+                    data.add(DictionaryJson.readItem(json, null, value));
                 }
                 return data;
             }
@@ -2556,14 +3857,25 @@ public final class JsonSupport {
      */
     
     public static void registerNumberedSet(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("oNS", NumberedSet.class); // object items, Numbered kind, Set type
+        registerNumberedSet(json, SETTINGS);
+    }
+
+    /**
+     * Registers NumberedSet with the given Json object, so NumberedSet can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    
+    public static void registerNumberedSet(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("oNS", NumberedSet.class); // object items, Numbered kind, Set type
         json.setSerializer(NumberedSet.class, new Json.Serializer<NumberedSet>() {
             @Override
             public void write(Json json, NumberedSet object, Class knownType) {
                 json.writeObjectStart(NumberedSet.class, knownType);
                 json.writeArrayStart("items"); // This name is special.
                 for (Object o : object) {
-                    json.writeValue(o, null);
+                    DictionaryJson.writeItem(json, o, null);
                 }
                 json.writeArrayEnd();
                 json.writeObjectEnd();
@@ -2574,7 +3886,7 @@ public final class JsonSupport {
                 if (jsonData == null || jsonData.isNull()) return null;
                 NumberedSet<?> data = new NumberedSet<>(jsonData.size);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.add(json.readValue(null, value));
+                    data.add(DictionaryJson.readItem(json, null, value));
                 }
                 return data;
             }
@@ -2587,14 +3899,24 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerCaseInsensitiveSet(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("oCS", CaseInsensitiveSet.class); // object items, Case-insensitive kind, Set type
+        registerCaseInsensitiveSet(json, SETTINGS);
+    }
+
+    /**
+     * Registers CaseInsensitiveSet with the given Json object, so CaseInsensitiveSet can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerCaseInsensitiveSet(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("oCS", CaseInsensitiveSet.class); // object items, Case-insensitive kind, Set type
         json.setSerializer(CaseInsensitiveSet.class, new Json.Serializer<CaseInsensitiveSet>() {
             @Override
             public void write(Json json, CaseInsensitiveSet object, Class knownType) {
                 json.writeObjectStart(CaseInsensitiveSet.class, knownType);
                 json.writeArrayStart("items"); // This name is special.
                 for (Object o : object) {
-                    json.writeValue(o);
+                    DictionaryJson.writeString(json, o);
                 }
                 json.writeArrayEnd();
                 json.writeObjectEnd();
@@ -2605,7 +3927,7 @@ public final class JsonSupport {
                 if (jsonData == null || jsonData.isNull()) return null;
                 CaseInsensitiveSet data = new CaseInsensitiveSet(jsonData.size);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.add(value.asString());
+                    data.add(DictionaryJson.readString(json, value));
                 }
                 return data;
             }
@@ -2618,7 +3940,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerCaseInsensitiveOrderedSet(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("oCOS", CaseInsensitiveOrderedSet.class); // object items, Case-insensitive+Ordered kind, Set type
+        registerCaseInsensitiveOrderedSet(json, SETTINGS);
+    }
+
+    /**
+     * Registers CaseInsensitiveOrderedSet with the given Json object, so CaseInsensitiveOrderedSet can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerCaseInsensitiveOrderedSet(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("oCOS", CaseInsensitiveOrderedSet.class); // object items, Case-insensitive+Ordered kind, Set type
         json.setSerializer(CaseInsensitiveOrderedSet.class, new Json.Serializer<CaseInsensitiveOrderedSet>() {
             @Override
             public void write(Json json, CaseInsensitiveOrderedSet object, Class knownType) {
@@ -2626,7 +3958,7 @@ public final class JsonSupport {
                 json.writeValue("o", object.getOrderType().name(), String.class);
                 json.writeArrayStart("items"); // This name is special.
                 for (Object o : object) {
-                    json.writeValue(o);
+                    DictionaryJson.writeString(json, o);
                 }
                 json.writeArrayEnd();
                 json.writeObjectEnd();
@@ -2639,7 +3971,7 @@ public final class JsonSupport {
                 jsonData.remove("o");
                 CaseInsensitiveOrderedSet data = new CaseInsensitiveOrderedSet(jsonData.size, order);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.add(value.asString());
+                    data.add(DictionaryJson.readString(json, value));
                 }
                 return data;
             }
@@ -2652,17 +3984,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerCaseInsensitiveMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("ooCM", CaseInsensitiveSet.class); // object keys, object values, Case-insensitive kind, Map type
+        registerCaseInsensitiveMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers CaseInsensitiveMap with the given Json object, so CaseInsensitiveMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerCaseInsensitiveMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("ooCM", CaseInsensitiveSet.class); // object keys, object values, Case-insensitive kind, Map type
         json.setSerializer(CaseInsensitiveMap.class, new Json.Serializer<CaseInsensitiveMap>() {
             @Override
             public void write(Json json, CaseInsensitiveMap object, Class knownType) {
                 json.writeObjectStart(CaseInsensitiveMap.class, knownType);
-                json.writeValue("d", object.getDefaultValue(), null);
+                DictionaryJson.writeItem(json, "d", object.getDefaultValue(), null);
                 json.writeObjectStart("m");
                 Iterator<Map.Entry<CharSequence, Object>> es = new CaseInsensitiveMap.Entries<CharSequence, Object>(object).iterator();
                 while (es.hasNext()) {
                     Map.Entry<CharSequence, ?> e = es.next();
-                    json.writeValue(e.getKey().toString(), e.getValue(), null);
+                    DictionaryJson.writeItem(json, DictionaryJson.name(json, e.getKey().toString()), e.getValue(), null);
                 }
                 json.writeObjectEnd();
                 json.writeObjectEnd();
@@ -2672,12 +4014,12 @@ public final class JsonSupport {
             public CaseInsensitiveMap<?> read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
                 jsonData.remove("class");
-                Object d = json.readValue("d", null, jsonData);
+                Object d = DictionaryJson.readItem(json, null, jsonData.get("d"));
                 jsonData = jsonData.get("m");
                 CaseInsensitiveMap data = new CaseInsensitiveMap<>(jsonData.size);
                 data.setDefaultValue(d);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.put(value.name, json.readValue(null, value));
+                    data.put(DictionaryJson.key(json, value.name), DictionaryJson.readItem(json, null, value));
                 }
                 return data;
             }
@@ -2690,18 +4032,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerCaseInsensitiveOrderedMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("ooCOM", CaseInsensitiveSet.class); // object keys, object values, Case-insensitive+Ordered kind, Map type
+        registerCaseInsensitiveOrderedMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers CaseInsensitiveOrderedMap with the given Json object, so CaseInsensitiveOrderedMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerCaseInsensitiveOrderedMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("ooCOM", CaseInsensitiveSet.class); // object keys, object values, Case-insensitive+Ordered kind, Map type
         json.setSerializer(CaseInsensitiveOrderedMap.class, new Json.Serializer<CaseInsensitiveOrderedMap>() {
             @Override
             public void write(Json json, CaseInsensitiveOrderedMap object, Class knownType) {
                 json.writeObjectStart(CaseInsensitiveOrderedMap.class, knownType);
                 json.writeValue("o", object.getOrderType().name(), String.class);
-                json.writeValue("d", object.getDefaultValue(), null);
+                DictionaryJson.writeItem(json, "d", object.getDefaultValue(), null);
                 json.writeObjectStart("m");
                 Iterator<Map.Entry<CharSequence, Object>> es = object.iterator();
                 while (es.hasNext()) {
                     Map.Entry<CharSequence, Object> e = es.next();
-                    json.writeValue(e.getKey().toString(), e.getValue(), null);
+                    DictionaryJson.writeItem(json, DictionaryJson.name(json, e.getKey().toString()), e.getValue(), null);
                 }
                 json.writeObjectEnd();
                 json.writeObjectEnd();
@@ -2712,12 +4064,12 @@ public final class JsonSupport {
                 if (jsonData == null || jsonData.isNull()) return null;
                 jsonData.remove("class");
                 OrderType order = OrderType.valueOf(jsonData.getString("o", "LIST"));
-                Object d = json.readValue("d", null, jsonData);
+                Object d = DictionaryJson.readItem(json, null, jsonData.get("d"));
                 jsonData = jsonData.get("m");
                 CaseInsensitiveOrderedMap data = new CaseInsensitiveOrderedMap<>(jsonData.size, order);
                 data.setDefaultValue(d);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.put(value.name, json.readValue(null, value));
+                    data.put(DictionaryJson.key(json, value.name), DictionaryJson.readItem(json, null, value));
                 }
                 return data;
             }
@@ -2730,7 +4082,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerFilteredStringSet(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("oFSS", FilteredStringSet.class); // object items, Filtered String kind, Set type
+        registerFilteredStringSet(json, SETTINGS);
+    }
+
+    /**
+     * Registers FilteredStringSet with the given Json object, so FilteredStringSet can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerFilteredStringSet(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("oFSS", FilteredStringSet.class); // object items, Filtered String kind, Set type
         json.setSerializer(FilteredStringSet.class, new Json.Serializer<FilteredStringSet>() {
             @Override
             public void write(Json json, FilteredStringSet object, Class knownType) {
@@ -2738,7 +4100,7 @@ public final class JsonSupport {
                 json.writeValue("filtering", object.getFilter().getName());
                 json.writeArrayStart("items"); // This name is special.
                 for (Object o : object) {
-                    json.writeValue(o);
+                    DictionaryJson.writeString(json, o);
                 }
                 json.writeArrayEnd();
                 json.writeObjectEnd();
@@ -2750,7 +4112,7 @@ public final class JsonSupport {
                 CharFilter filter = CharFilter.get(jsonData.parent.getString("filtering"));
                 FilteredStringSet data = new FilteredStringSet(filter, jsonData.size, Utilities.getDefaultLoadFactor());
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.add(value.asString());
+                    data.add(DictionaryJson.readString(json, value));
                 }
                 return data;
             }
@@ -2764,7 +4126,17 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerFilteredStringOrderedSet(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("oFSOS", FilteredStringOrderedSet.class); // object items, Filtered String kind, Ordered kind, Set type
+        registerFilteredStringOrderedSet(json, SETTINGS);
+    }
+
+    /**
+     * Registers FilteredStringOrderedSet with the given Json object, so FilteredStringOrderedSet can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerFilteredStringOrderedSet(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("oFSOS", FilteredStringOrderedSet.class); // object items, Filtered String kind, Ordered kind, Set type
         json.setSerializer(FilteredStringOrderedSet.class, new Json.Serializer<FilteredStringOrderedSet>() {
             @Override
             public void write(Json json, FilteredStringOrderedSet object, Class knownType) {
@@ -2773,7 +4145,7 @@ public final class JsonSupport {
                 json.writeValue("o", object.getOrderType().name(), String.class);
                 json.writeArrayStart("items"); // This name is special.
                 for (Object o : object) {
-                    json.writeValue(o);
+                    DictionaryJson.writeString(json, o);
                 }
                 json.writeArrayEnd();
                 json.writeObjectEnd();
@@ -2787,7 +4159,7 @@ public final class JsonSupport {
                 CharFilter filter = CharFilter.get(jsonData.parent.getString("filtering"));
                 FilteredStringOrderedSet data = new FilteredStringOrderedSet(filter, jsonData.size, Utilities.getDefaultLoadFactor(), order);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.add(value.asString());
+                    data.add(DictionaryJson.readString(json, value));
                 }
                 return data;
             }
@@ -2799,19 +4171,29 @@ public final class JsonSupport {
      *
      * @param json a libGDX Json object that will have a serializer registered
      */
-    public static void registerFilteredStringMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("ooFSM", FilteredStringSet.class); // object keys, object values, Filtered String kind, Map type
+    public static void registerFilteredStringMap(Json json) {
+        registerFilteredStringMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers FilteredStringMap with the given Json object, so FilteredStringMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerFilteredStringMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("ooFSM", FilteredStringSet.class); // object keys, object values, Filtered String kind, Map type
         json.setSerializer(FilteredStringMap.class, new Json.Serializer<FilteredStringMap>() {
             @Override
             public void write(Json json, FilteredStringMap object, Class knownType) {
                 json.writeObjectStart(FilteredStringMap.class, knownType);
                 json.writeValue("filtering", object.getFilter().getName());
-                json.writeValue("d", object.getDefaultValue(), null);
+                DictionaryJson.writeItem(json, "d", object.getDefaultValue(), null);
                 json.writeObjectStart("data");
                 Iterator<Map.Entry<String, Object>> es = new FilteredStringMap.Entries<String, Object>(object).iterator();
                 while (es.hasNext()) {
                     Map.Entry<String, ?> e = es.next();
-                    json.writeValue(e.getKey(), e.getValue(), null);
+                    DictionaryJson.writeItem(json, DictionaryJson.name(json, e.getKey()), e.getValue(), null);
                 }
                 json.writeObjectEnd();
                 json.writeObjectEnd();
@@ -2822,12 +4204,12 @@ public final class JsonSupport {
                 if (jsonData == null || jsonData.isNull()) return null;
                 jsonData.remove("class");
                 CharFilter filter = CharFilter.get(jsonData.getString("filtering"));
-                Object d = json.readValue("d", null, jsonData);
+                Object d = DictionaryJson.readItem(json, null, jsonData.get("d"));
                 jsonData = jsonData.get("data");
                 FilteredStringMap data = new FilteredStringMap<>(filter, jsonData.size, Utilities.getDefaultLoadFactor());
                 data.setDefaultValue(d);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.put(value.name, json.readValue(null, value));
+                    data.put(DictionaryJson.key(json, value.name), DictionaryJson.readItem(json, null, value));
                 }
                 return data;
             }
@@ -2841,19 +4223,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerFilteredStringOrderedMap(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("ooFSOM", FilteredStringSet.class); // object keys, object values, Filtered String kind, Ordered kind, Map type
+        registerFilteredStringOrderedMap(json, SETTINGS);
+    }
+
+    /**
+     * Registers FilteredStringOrderedMap with the given Json object, so FilteredStringOrderedMap can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerFilteredStringOrderedMap(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("ooFSOM", FilteredStringSet.class); // object keys, object values, Filtered String kind, Ordered kind, Map type
         json.setSerializer(FilteredStringOrderedMap.class, new Json.Serializer<FilteredStringOrderedMap>() {
             @Override
             public void write(Json json, FilteredStringOrderedMap object, Class knownType) {
                 json.writeObjectStart(FilteredStringOrderedMap.class, knownType);
                 json.writeValue("filtering", object.getFilter().getName());
                 json.writeValue("o", object.getOrderType().name(), String.class);
-                json.writeValue("d", object.getDefaultValue(), null);
+                DictionaryJson.writeItem(json, "d", object.getDefaultValue(), null);
                 json.writeObjectStart("data");
                 Iterator<Map.Entry<String, Object>> es = new FilteredStringOrderedMap.Entries<String, Object>(object).iterator();
                 while (es.hasNext()) {
                     Map.Entry<String, ?> e = es.next();
-                    json.writeValue(e.getKey(), e.getValue(), null);
+                    DictionaryJson.writeItem(json, DictionaryJson.name(json, e.getKey()), e.getValue(), null);
                 }
                 json.writeObjectEnd();
                 json.writeObjectEnd();
@@ -2865,12 +4257,12 @@ public final class JsonSupport {
                 jsonData.remove("class");
                 CharFilter filter = CharFilter.get(jsonData.getString("filtering"));
                 OrderType order = OrderType.valueOf(jsonData.getString("o", "LIST"));
-                Object d = json.readValue("d", null, jsonData);
+                Object d = DictionaryJson.readItem(json, null, jsonData.get("d"));
                 jsonData = jsonData.get("data");
                 FilteredStringOrderedMap data = new FilteredStringOrderedMap<>(filter, jsonData.size, Utilities.getDefaultLoadFactor(), order);
                 data.setDefaultValue(d);
                 for (JsonValue value = jsonData.child; value != null; value = value.next) {
-                    data.put(value.name, json.readValue(null, value));
+                    data.put(DictionaryJson.key(json, value.name), DictionaryJson.readItem(json, null, value));
                 }
                 return data;
             }
@@ -2883,19 +4275,31 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerOffsetBitSet(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("iBS", OffsetBitSet.class); // int items, Bit kind, Set type
+        registerOffsetBitSet(json, SETTINGS);
+    }
+
+    /**
+     * Registers OffsetBitSet with the given Json object, so OffsetBitSet can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerOffsetBitSet(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("iBS", OffsetBitSet.class); // int items, Bit kind, Set type
         json.setSerializer(OffsetBitSet.class, new Json.Serializer<OffsetBitSet>() {
             @Override
             public void write(Json json, OffsetBitSet object, Class knownType) {
                 int off = object.getOffset();
                 json.writeObjectStart(OffsetBitSet.class, knownType);
                 json.writeValue("offset", off);
-                json.writeArrayStart("values");
-                IntIterator it = object.iterator();
-                while (it.hasNext()) {
-                    json.writeValue(it.nextInt());
+                int[] bits = object.getRawBits();
+                int size = object.size();
+                // the raw words are smaller unless very few bits are set in a wide range
+                if (size >= bits.length) {
+                    JsonStreams.writeJoined(json, "raw", bits, 0, bits.length, settings.base);
+                } else {
+                    JsonStreams.writeArray(json, "values", object.iterator(), size);
                 }
-                json.writeArrayEnd();
                 json.writeObjectEnd();
             }
 
@@ -2903,6 +4307,12 @@ public final class JsonSupport {
             public OffsetBitSet read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
                 OffsetBitSet obs = new OffsetBitSet();
+                JsonValue raw = jsonData.get("raw");
+                if (raw != null) {
+                    obs.setRawBits(JsonStreams.readIntArray(raw, settings.base));
+                    obs.setOffset(jsonData.get("offset").asInt());
+                    return obs;
+                }
                 obs.setOffset(jsonData.get("offset").asInt());
                 obs.addAll(jsonData.get("values").asIntArray());
                 return obs;
@@ -2916,24 +4326,30 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerCharBitSet(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("cBS", CharBitSet.class); // char items, Bit kind, Set type
+        registerCharBitSet(json, SETTINGS);
+    }
+
+    /**
+     * Registers CharBitSet with the given Json object, so CharBitSet can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerCharBitSet(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("cBS", CharBitSet.class); // char items, Bit kind, Set type
         json.setSerializer(CharBitSet.class, new Json.Serializer<CharBitSet>() {
             @Override
             public void write(Json json, CharBitSet object, Class knownType) {
                 json.writeObjectStart(CharBitSet.class, knownType);
-                json.writeArrayStart("raw");
                 int[] bits = object.getRawBits();
-                for (int i = 0, n = bits.length; i < n; i++) {
-                    json.writeValue(bits[i]);
-                }
-                json.writeArrayEnd();
+                JsonStreams.writeJoined(json, "raw", bits, 0, bits.length, settings.base);
                 json.writeObjectEnd();
             }
 
             @Override
             public CharBitSet read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
-                return new CharBitSet(jsonData.get("raw").asIntArray(), true);
+                return new CharBitSet(JsonStreams.readIntArray(jsonData.get("raw"), settings.base), true);
             }
         });
     }
@@ -2944,31 +4360,37 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerCharBitSetFixedSize(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("cFBS", CharBitSetFixedSize.class); // char items, Fixed size, Bit kind, Set type
+        registerCharBitSetFixedSize(json, SETTINGS);
+    }
+
+    /**
+     * Registers CharBitSetFixedSize with the given Json object, so CharBitSetFixedSize can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerCharBitSetFixedSize(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("cFBS", CharBitSetFixedSize.class); // char items, Fixed size, Bit kind, Set type
         json.setSerializer(CharBitSetFixedSize.class, new Json.Serializer<CharBitSetFixedSize>() {
             @Override
             public void write(Json json, CharBitSetFixedSize object, Class knownType) {
                 json.writeObjectStart(CharBitSetFixedSize.class, knownType);
-                json.writeArrayStart("raw");
                 int[] bits = object.getRawBits();
-                for (int i = 0, n = bits.length; i < n; i++) {
-                    json.writeValue(bits[i]);
-                }
-                json.writeArrayEnd();
+                JsonStreams.writeJoined(json, "raw", bits, 0, bits.length, settings.base);
                 json.writeObjectEnd();
             }
 
             @Override
             public CharBitSetFixedSize read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
-                return new CharBitSetFixedSize(jsonData.get("raw").asIntArray(), true);
+                return new CharBitSetFixedSize(JsonStreams.readIntArray(jsonData.get("raw"), settings.base), true);
             }
         });
     }
 
     /**
      * Only adds class tags for {@link Junction}, {@link Junction.Any}, {@link Junction.All}, {@link Junction.One},
-     * {@link Junction.Not}, adds {@link Junction.Leaf}, and only if {@link #ADD_CLASS_TAGS} is true. You may also want
+     * {@link Junction.Not}, adds {@link Junction.Leaf}, and only if {@link #isAddClassTags()} is true. You may also want
      * to add a class tag for the item type of the Junction, such as {@code json.addClassTag("Str", String.class);} .
      * <br>
      * Note: If you have a Junction of String, then {@link Junction#toString()} can produce a valid serialized String
@@ -2979,7 +4401,24 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have class tags added, if allowed
      */
     public static void registerJunction(Json json) {
-        if(ADD_CLASS_TAGS) {
+        registerJunction(json, SETTINGS);
+    }
+
+    /**
+     * Only adds class tags for {@link Junction}, {@link Junction.Any}, {@link Junction.All}, {@link Junction.One},
+     * {@link Junction.Not}, adds {@link Junction.Leaf}, and only if {@link JsonSettings#isAddClassTags()} is true. You may also want
+     * to add a class tag for the item type of the Junction, such as {@code json.addClassTag("Str", String.class);} .
+     * <br>
+     * Note: If you have a Junction of String, then {@link Junction#toString()} can produce a valid serialized String
+     * that can be read back in with {@link Junction#parse(String)} . More complicated parsing is possible via
+     * {@link Junction#parse(ObjToObjFunction, String)}, but it has to operate on the results of toString() on items, at
+     * least for now.
+     *
+     * @param json a libGDX Json object that will have class tags added, if allowed
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerJunction(Json json, JsonSettings settings) {
+        if(settings.addClassTags) {
             json.addClassTag("Junc", Junction.class);
             json.addClassTag("JAny", Junction.Any.class);
             json.addClassTag("JAll", Junction.All.class);
@@ -2999,8 +4438,22 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerStringJunction(Json json) {
+        registerStringJunction(json, SETTINGS);
+    }
+
+    /**
+     * Registers StringJunction with the given Json object, so StringJunction can be written to and read from JSON.
+     * <br>
+     * Note: If you have a StringJunction, then {@link StringJunction#toString()} can produce a valid serialized String
+     * that can be read back in with {@link StringJunction#parse(String)} . The Serializer this registers simply wraps
+     * the existing toString() and parse() methods.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerStringJunction(Json json, JsonSettings settings) {
         if(json.getSerializer(StringJunction.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("SJun", StringJunction.class);
+        if(settings.addClassTags) json.addClassTag("SJun", StringJunction.class);
         json.setSerializer(StringJunction.class, new Json.Serializer<StringJunction>() {
             @Override
             public void write(Json json, StringJunction object, Class knownType) {
@@ -3025,10 +4478,25 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerAtomicLong(Json json) {
+        registerAtomicLong(json, SETTINGS);
+    }
+
+    /**
+     * Registers AtomicLong with the given Json object, so AtomicLong can be written to and read from JSON.
+     * This primarily matters if you intend to read and/or write {@link java.util.Random} objects or their subclasses
+     * without registering a custom serializer for them. Although the EnhancedRandom implementations in jdkgdxds have
+     * custom serializers here already, and don't need this method to be called, other classes that extend Random are
+     * likely to need this if you ever run on Java 16 or higher.
+     * <br>
+     * Surprisingly, this method is compatible with GWT, even though most concurrent code doesn't work there.
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerAtomicLong(Json json, JsonSettings settings) {
         json.setSerializer(AtomicLong.class, new Json.Serializer<AtomicLong>() {
             @Override
             public void write(Json json, AtomicLong object, Class knownType) {
-                json.writeValue("`" + BASE.signed(object.get()) + "`");
+                json.writeValue("`" + settings.base.signed(object.get()) + "`");
             }
 
             @Override
@@ -3036,7 +4504,7 @@ public final class JsonSupport {
                 String s;
                 if (jsonData == null || jsonData.isNull() || (s = jsonData.asString()) == null || s.length() < 3) return null;
                 final int tick = s.indexOf('`', 1);
-                final long state = BASE.readLong(s, 1, tick);
+                final long state = settings.base.readLong(s, 1, tick);
                 return new AtomicLong(state);
             }
         });
@@ -3051,8 +4519,21 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerAlternateRandom(Json json) {
+        registerAlternateRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers AlternateRandom with the given Json object, so AlternateRandom can be written to and read from JSON.
+     * Note that AlternateRandom is not a juniper EnhancedRandom, and so cannot be deserialized to an EnhancedRandom
+     * field. It is also almost exactly the same as {@link AceRandom}, so you might want to just prefer AceRandom
+     * if you depend on juniper anyway because of this library.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerAlternateRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(AlternateRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("AltR", AlternateRandom.class);
+        if(settings.addClassTags) json.addClassTag("AltR", AlternateRandom.class);
         json.setSerializer(AlternateRandom.class, new Json.Serializer<AlternateRandom>() {
             @Override
             public void write(Json json, AlternateRandom object, Class knownType) {
@@ -3074,18 +4555,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerFourWheelRandom(Json json) {
+        registerFourWheelRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers FourWheelRandom with the given Json object, so FourWheelRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerFourWheelRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(FourWheelRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("FoWR", FourWheelRandom.class);
+        if(settings.addClassTags) json.addClassTag("FoWR", FourWheelRandom.class);
         json.setSerializer(FourWheelRandom.class, new Json.Serializer<FourWheelRandom>() {
             @Override
             public void write(Json json, FourWheelRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public FourWheelRandom read(Json json, JsonValue jsonData, Class type) {
                 FourWheelRandom r = new FourWheelRandom(1L, 1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3097,18 +4588,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerTrimRandom(Json json) {
+        registerTrimRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers TrimRandom with the given Json object, so TrimRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerTrimRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(TrimRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("TrmR", TrimRandom.class);
+        if(settings.addClassTags) json.addClassTag("TrmR", TrimRandom.class);
         json.setSerializer(TrimRandom.class, new Json.Serializer<TrimRandom>() {
             @Override
             public void write(Json json, TrimRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public TrimRandom read(Json json, JsonValue jsonData, Class type) {
                 TrimRandom r = new TrimRandom(1L, 1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3120,18 +4621,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerWhiskerRandom(Json json) {
+        registerWhiskerRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers WhiskerRandom with the given Json object, so WhiskerRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerWhiskerRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(WhiskerRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("WhiR", WhiskerRandom.class);
+        if(settings.addClassTags) json.addClassTag("WhiR", WhiskerRandom.class);
         json.setSerializer(WhiskerRandom.class, new Json.Serializer<WhiskerRandom>() {
             @Override
             public void write(Json json, WhiskerRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public WhiskerRandom read(Json json, JsonValue jsonData, Class type) {
                 WhiskerRandom r = new WhiskerRandom(1L, 1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3143,18 +4654,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerPasarRandom(Json json) {
+        registerPasarRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers PasarRandom with the given Json object, so PasarRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerPasarRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(PasarRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("PasR", PasarRandom.class);
+        if(settings.addClassTags) json.addClassTag("PasR", PasarRandom.class);
         json.setSerializer(PasarRandom.class, new Json.Serializer<PasarRandom>() {
             @Override
             public void write(Json json, PasarRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public PasarRandom read(Json json, JsonValue jsonData, Class type) {
                 PasarRandom r = new PasarRandom(1L, 1L, 1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3166,18 +4687,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerAceRandom(Json json) {
+        registerAceRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers AceRandom with the given Json object, so AceRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerAceRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(AceRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("AceR", AceRandom.class);
+        if(settings.addClassTags) json.addClassTag("AceR", AceRandom.class);
         json.setSerializer(AceRandom.class, new Json.Serializer<AceRandom>() {
             @Override
             public void write(Json json, AceRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public AceRandom read(Json json, JsonValue jsonData, Class type) {
                 AceRandom r = new AceRandom(1L, 1L, 1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3189,18 +4720,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerChopRandom(Json json) {
+        registerChopRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers ChopRandom with the given Json object, so ChopRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerChopRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(ChopRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("ChpR", ChopRandom.class);
+        if(settings.addClassTags) json.addClassTag("ChpR", ChopRandom.class);
         json.setSerializer(ChopRandom.class, new Json.Serializer<ChopRandom>() {
             @Override
             public void write(Json json, ChopRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public ChopRandom read(Json json, JsonValue jsonData, Class type) {
                 ChopRandom r = new ChopRandom(1, 1, 1, 1);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3212,18 +4753,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerJsf32Random(Json json) {
+        registerJsf32Random(json, SETTINGS);
+    }
+
+    /**
+     * Registers Jsf32Random with the given Json object, so Jsf32Random can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerJsf32Random(Json json, JsonSettings settings) {
         if(json.getSerializer(Jsf32Random.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("JS3R", Jsf32Random.class);
+        if(settings.addClassTags) json.addClassTag("JS3R", Jsf32Random.class);
         json.setSerializer(Jsf32Random.class, new Json.Serializer<Jsf32Random>() {
             @Override
             public void write(Json json, Jsf32Random object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public Jsf32Random read(Json json, JsonValue jsonData, Class type) {
                 Jsf32Random r = new Jsf32Random(1, 1, 1, 1);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3235,18 +4786,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerXoshiro128PlusPlusRandom(Json json) {
+        registerXoshiro128PlusPlusRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers Xoshiro128PlusPlusRandom with the given Json object, so Xoshiro128PlusPlusRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerXoshiro128PlusPlusRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(Xoshiro128PlusPlusRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("XPPR", Xoshiro128PlusPlusRandom.class);
+        if(settings.addClassTags) json.addClassTag("XPPR", Xoshiro128PlusPlusRandom.class);
         json.setSerializer(Xoshiro128PlusPlusRandom.class, new Json.Serializer<Xoshiro128PlusPlusRandom>() {
             @Override
             public void write(Json json, Xoshiro128PlusPlusRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public Xoshiro128PlusPlusRandom read(Json json, JsonValue jsonData, Class type) {
                 Xoshiro128PlusPlusRandom r = new Xoshiro128PlusPlusRandom(1, 1, 1, 1);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3258,18 +4819,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerChip32Random(Json json) {
+        registerChip32Random(json, SETTINGS);
+    }
+
+    /**
+     * Registers Chip32Random with the given Json object, so Chip32Random can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerChip32Random(Json json, JsonSettings settings) {
         if(json.getSerializer(Chip32Random.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("XPPR", Chip32Random.class);
+        if(settings.addClassTags) json.addClassTag("XPPR", Chip32Random.class);
         json.setSerializer(Chip32Random.class, new Json.Serializer<Chip32Random>() {
             @Override
             public void write(Json json, Chip32Random object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public Chip32Random read(Json json, JsonValue jsonData, Class type) {
                 Chip32Random r = new Chip32Random(1, 1, 1, 1);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3281,18 +4852,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLamb32Random(Json json) {
+        registerLamb32Random(json, SETTINGS);
+    }
+
+    /**
+     * Registers Lamb32Random with the given Json object, so Lamb32Random can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLamb32Random(Json json, JsonSettings settings) {
         if(json.getSerializer(Lamb32Random.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("Lm3R", Lamb32Random.class);
+        if(settings.addClassTags) json.addClassTag("Lm3R", Lamb32Random.class);
         json.setSerializer(Lamb32Random.class, new Json.Serializer<Lamb32Random>() {
             @Override
             public void write(Json json, Lamb32Random object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public Lamb32Random read(Json json, JsonValue jsonData, Class type) {
                 Lamb32Random r = new Lamb32Random(1, 1);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3304,18 +4885,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerXoshiro160RoadroxoRandom(Json json) {
+        registerXoshiro160RoadroxoRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers Xoshiro160RoadroxoRandom with the given Json object, so Xoshiro160RoadroxoRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerXoshiro160RoadroxoRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(Xoshiro160RoadroxoRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("XPPR", Xoshiro160RoadroxoRandom.class);
+        if(settings.addClassTags) json.addClassTag("XPPR", Xoshiro160RoadroxoRandom.class);
         json.setSerializer(Xoshiro160RoadroxoRandom.class, new Json.Serializer<Xoshiro160RoadroxoRandom>() {
             @Override
             public void write(Json json, Xoshiro160RoadroxoRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public Xoshiro160RoadroxoRandom read(Json json, JsonValue jsonData, Class type) {
                 Xoshiro160RoadroxoRandom r = new Xoshiro160RoadroxoRandom(1, 1, 1, 1, 1);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3327,18 +4918,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerRespite32Random(Json json) {
+        registerRespite32Random(json, SETTINGS);
+    }
+
+    /**
+     * Registers Respite32Random with the given Json object, so Respite32Random can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerRespite32Random(Json json, JsonSettings settings) {
         if(json.getSerializer(Respite32Random.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("Re3R", Respite32Random.class);
+        if(settings.addClassTags) json.addClassTag("Re3R", Respite32Random.class);
         json.setSerializer(Respite32Random.class, new Json.Serializer<Respite32Random>() {
             @Override
             public void write(Json json, Respite32Random object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public Respite32Random read(Json json, JsonValue jsonData, Class type) {
                 Respite32Random r = new Respite32Random(1, 1, 1);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3350,18 +4951,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerStrangerRandom(Json json) {
+        registerStrangerRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers StrangerRandom with the given Json object, so StrangerRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerStrangerRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(StrangerRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("StrR", StrangerRandom.class);
+        if(settings.addClassTags) json.addClassTag("StrR", StrangerRandom.class);
         json.setSerializer(StrangerRandom.class, new Json.Serializer<StrangerRandom>() {
             @Override
             public void write(Json json, StrangerRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public StrangerRandom read(Json json, JsonValue jsonData, Class type) {
                 StrangerRandom r = new StrangerRandom(1L, 1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3373,18 +4984,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerXoshiro256StarStarRandom(Json json) {
+        registerXoshiro256StarStarRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers Xoshiro256StarStarRandom with the given Json object, so Xoshiro256StarStarRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerXoshiro256StarStarRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(Xoshiro256StarStarRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("XSSR", Xoshiro256StarStarRandom.class);
+        if(settings.addClassTags) json.addClassTag("XSSR", Xoshiro256StarStarRandom.class);
         json.setSerializer(Xoshiro256StarStarRandom.class, new Json.Serializer<Xoshiro256StarStarRandom>() {
             @Override
             public void write(Json json, Xoshiro256StarStarRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public Xoshiro256StarStarRandom read(Json json, JsonValue jsonData, Class type) {
                 Xoshiro256StarStarRandom r = new Xoshiro256StarStarRandom(1L, 1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3396,18 +5017,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerXoroshiro128StarStarRandom(Json json) {
+        registerXoroshiro128StarStarRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers Xoroshiro128StarStarRandom with the given Json object, so Xoroshiro128StarStarRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerXoroshiro128StarStarRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(Xoroshiro128StarStarRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("XSSR", Xoroshiro128StarStarRandom.class);
+        if(settings.addClassTags) json.addClassTag("XSSR", Xoroshiro128StarStarRandom.class);
         json.setSerializer(Xoroshiro128StarStarRandom.class, new Json.Serializer<Xoroshiro128StarStarRandom>() {
             @Override
             public void write(Json json, Xoroshiro128StarStarRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public Xoroshiro128StarStarRandom read(Json json, JsonValue jsonData, Class type) {
                 Xoroshiro128StarStarRandom r = new Xoroshiro128StarStarRandom(1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3419,18 +5050,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerXoshiro256MX3Random(Json json) {
+        registerXoshiro256MX3Random(json, SETTINGS);
+    }
+
+    /**
+     * Registers Xoshiro256MX3Random with the given Json object, so Xoshiro256MX3Random can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerXoshiro256MX3Random(Json json, JsonSettings settings) {
         if(json.getSerializer(Xoshiro256MX3Random.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("XMXR", Xoshiro256MX3Random.class);
+        if(settings.addClassTags) json.addClassTag("XMXR", Xoshiro256MX3Random.class);
         json.setSerializer(Xoshiro256MX3Random.class, new Json.Serializer<Xoshiro256MX3Random>() {
             @Override
             public void write(Json json, Xoshiro256MX3Random object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public Xoshiro256MX3Random read(Json json, JsonValue jsonData, Class type) {
                 Xoshiro256MX3Random r = new Xoshiro256MX3Random(1L, 1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3442,18 +5083,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerTricycleRandom(Json json) {
+        registerTricycleRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers TricycleRandom with the given Json object, so TricycleRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerTricycleRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(TricycleRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("TriR", TricycleRandom.class);
+        if(settings.addClassTags) json.addClassTag("TriR", TricycleRandom.class);
         json.setSerializer(TricycleRandom.class, new Json.Serializer<TricycleRandom>() {
             @Override
             public void write(Json json, TricycleRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public TricycleRandom read(Json json, JsonValue jsonData, Class type) {
                 TricycleRandom r = new TricycleRandom(1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3465,18 +5116,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerRomuTrioRandom(Json json) {
+        registerRomuTrioRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers RomuTrioRandom with the given Json object, so RomuTrioRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerRomuTrioRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(RomuTrioRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("RTrR", RomuTrioRandom.class);
+        if(settings.addClassTags) json.addClassTag("RTrR", RomuTrioRandom.class);
         json.setSerializer(RomuTrioRandom.class, new Json.Serializer<RomuTrioRandom>() {
             @Override
             public void write(Json json, RomuTrioRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public RomuTrioRandom read(Json json, JsonValue jsonData, Class type) {
                 RomuTrioRandom r = new RomuTrioRandom(1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3488,18 +5149,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerSoloRandom(Json json) {
+        registerSoloRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers SoloRandom with the given Json object, so SoloRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerSoloRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(SoloRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("SolR", SoloRandom.class);
+        if(settings.addClassTags) json.addClassTag("SolR", SoloRandom.class);
         json.setSerializer(SoloRandom.class, new Json.Serializer<SoloRandom>() {
             @Override
             public void write(Json json, SoloRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public SoloRandom read(Json json, JsonValue jsonData, Class type) {
                 SoloRandom r = new SoloRandom(1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3511,18 +5182,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerThrashRandom(Json json) {
+        registerThrashRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers ThrashRandom with the given Json object, so ThrashRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerThrashRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(ThrashRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("ThaR", ThrashRandom.class);
+        if(settings.addClassTags) json.addClassTag("ThaR", ThrashRandom.class);
         json.setSerializer(ThrashRandom.class, new Json.Serializer<ThrashRandom>() {
             @Override
             public void write(Json json, ThrashRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public ThrashRandom read(Json json, JsonValue jsonData, Class type) {
                 ThrashRandom r = new ThrashRandom(1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3534,18 +5215,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerThrooshRandom(Json json) {
+        registerThrooshRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers ThrooshRandom with the given Json object, so ThrooshRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerThrooshRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(ThrooshRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("ThoR", ThrooshRandom.class);
+        if(settings.addClassTags) json.addClassTag("ThoR", ThrooshRandom.class);
         json.setSerializer(ThrooshRandom.class, new Json.Serializer<ThrooshRandom>() {
             @Override
             public void write(Json json, ThrooshRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public ThrooshRandom read(Json json, JsonValue jsonData, Class type) {
                 ThrooshRandom r = new ThrooshRandom(1L, 1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3557,18 +5248,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLaserRandom(Json json) {
+        registerLaserRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers LaserRandom with the given Json object, so LaserRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLaserRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(LaserRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("LasR", LaserRandom.class);
+        if(settings.addClassTags) json.addClassTag("LasR", LaserRandom.class);
         json.setSerializer(LaserRandom.class, new Json.Serializer<LaserRandom>() {
             @Override
             public void write(Json json, LaserRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public LaserRandom read(Json json, JsonValue jsonData, Class type) {
                 LaserRandom r = new LaserRandom(1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3580,18 +5281,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerMizuchiRandom(Json json) {
+        registerMizuchiRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers MizuchiRandom with the given Json object, so MizuchiRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerMizuchiRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(MizuchiRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("MizR", MizuchiRandom.class);
+        if(settings.addClassTags) json.addClassTag("MizR", MizuchiRandom.class);
         json.setSerializer(MizuchiRandom.class, new Json.Serializer<MizuchiRandom>() {
             @Override
             public void write(Json json, MizuchiRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public MizuchiRandom read(Json json, JsonValue jsonData, Class type) {
                 MizuchiRandom r = new MizuchiRandom(1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3603,18 +5314,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerPcgRXSMXSRandom(Json json) {
+        registerPcgRXSMXSRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers PcgRXSMXSRandom with the given Json object, so PcgRXSMXSRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerPcgRXSMXSRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(PcgRXSMXSRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("PRXR", PcgRXSMXSRandom.class);
+        if(settings.addClassTags) json.addClassTag("PRXR", PcgRXSMXSRandom.class);
         json.setSerializer(PcgRXSMXSRandom.class, new Json.Serializer<PcgRXSMXSRandom>() {
             @Override
             public void write(Json json, PcgRXSMXSRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public PcgRXSMXSRandom read(Json json, JsonValue jsonData, Class type) {
                 PcgRXSMXSRandom r = new PcgRXSMXSRandom(1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3626,18 +5347,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerDistinctRandom(Json json) {
+        registerDistinctRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers DistinctRandom with the given Json object, so DistinctRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerDistinctRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(DistinctRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("DisR", DistinctRandom.class);
+        if(settings.addClassTags) json.addClassTag("DisR", DistinctRandom.class);
         json.setSerializer(DistinctRandom.class, new Json.Serializer<DistinctRandom>() {
             @Override
             public void write(Json json, DistinctRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public DistinctRandom read(Json json, JsonValue jsonData, Class type) {
                 DistinctRandom r = new DistinctRandom(1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3649,18 +5380,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerMx3Random(Json json) {
+        registerMx3Random(json, SETTINGS);
+    }
+
+    /**
+     * Registers Mx3Random with the given Json object, so Mx3Random can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerMx3Random(Json json, JsonSettings settings) {
         if(json.getSerializer(Mx3Random.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("Mx3R", Mx3Random.class);
+        if(settings.addClassTags) json.addClassTag("Mx3R", Mx3Random.class);
         json.setSerializer(Mx3Random.class, new Json.Serializer<Mx3Random>() {
             @Override
             public void write(Json json, Mx3Random object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public Mx3Random read(Json json, JsonValue jsonData, Class type) {
                 Mx3Random r = new Mx3Random(1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3673,18 +5414,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerHornRandom(Json json) {
+        registerHornRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers HornRandom with the given Json object, so HornRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerHornRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(HornRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("HrnR", HornRandom.class);
+        if(settings.addClassTags) json.addClassTag("HrnR", HornRandom.class);
         json.setSerializer(HornRandom.class, new Json.Serializer<HornRandom>() {
             @Override
             public void write(Json json, HornRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public HornRandom read(Json json, JsonValue jsonData, Class type) {
                 HornRandom r = new HornRandom(1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3696,18 +5447,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerScruffRandom(Json json) {
+        registerScruffRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers ScruffRandom with the given Json object, so ScruffRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerScruffRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(ScruffRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("ScrR", ScruffRandom.class);
+        if(settings.addClassTags) json.addClassTag("ScrR", ScruffRandom.class);
         json.setSerializer(ScruffRandom.class, new Json.Serializer<ScruffRandom>() {
             @Override
             public void write(Json json, ScruffRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public ScruffRandom read(Json json, JsonValue jsonData, Class type) {
                 ScruffRandom r = new ScruffRandom(1L, 1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3719,18 +5480,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerPouchRandom(Json json) {
+        registerPouchRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers PouchRandom with the given Json object, so PouchRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerPouchRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(PouchRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("PouR", PouchRandom.class);
+        if(settings.addClassTags) json.addClassTag("PouR", PouchRandom.class);
         json.setSerializer(PouchRandom.class, new Json.Serializer<PouchRandom>() {
             @Override
             public void write(Json json, PouchRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public PouchRandom read(Json json, JsonValue jsonData, Class type) {
                 PouchRandom r = new PouchRandom(1L, 1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3742,18 +5513,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerSfc64Random(Json json) {
+        registerSfc64Random(json, SETTINGS);
+    }
+
+    /**
+     * Registers Sfc64Random with the given Json object, so Sfc64Random can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerSfc64Random(Json json, JsonSettings settings) {
         if(json.getSerializer(Sfc64Random.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("SfcR", Sfc64Random.class);
+        if(settings.addClassTags) json.addClassTag("SfcR", Sfc64Random.class);
         json.setSerializer(Sfc64Random.class, new Json.Serializer<Sfc64Random>() {
             @Override
             public void write(Json json, Sfc64Random object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public Sfc64Random read(Json json, JsonValue jsonData, Class type) {
                 Sfc64Random r = new Sfc64Random(1L, 1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3765,18 +5546,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerCrand64Random(Json json) {
+        registerCrand64Random(json, SETTINGS);
+    }
+
+    /**
+     * Registers Crand64Random with the given Json object, so Crand64Random can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerCrand64Random(Json json, JsonSettings settings) {
         if(json.getSerializer(Crand64Random.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("CraR", Crand64Random.class);
+        if(settings.addClassTags) json.addClassTag("CraR", Crand64Random.class);
         json.setSerializer(Crand64Random.class, new Json.Serializer<Crand64Random>() {
             @Override
             public void write(Json json, Crand64Random object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public Crand64Random read(Json json, JsonValue jsonData, Class type) {
                 Crand64Random r = new Crand64Random(1L, 1L, 1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3788,18 +5579,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerFlowRandom(Json json) {
+        registerFlowRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers FlowRandom with the given Json object, so FlowRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerFlowRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(FlowRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("FloR", FlowRandom.class);
+        if(settings.addClassTags) json.addClassTag("FloR", FlowRandom.class);
         json.setSerializer(FlowRandom.class, new Json.Serializer<FlowRandom>() {
             @Override
             public void write(Json json, FlowRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public FlowRandom read(Json json, JsonValue jsonData, Class type) {
                 FlowRandom r = new FlowRandom(1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3811,18 +5612,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerOrbitalRandom(Json json) {
+        registerOrbitalRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers OrbitalRandom with the given Json object, so OrbitalRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerOrbitalRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(OrbitalRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("OrbR", OrbitalRandom.class);
+        if(settings.addClassTags) json.addClassTag("OrbR", OrbitalRandom.class);
         json.setSerializer(OrbitalRandom.class, new Json.Serializer<OrbitalRandom>() {
             @Override
             public void write(Json json, OrbitalRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public OrbitalRandom read(Json json, JsonValue jsonData, Class type) {
                 OrbitalRandom r = new OrbitalRandom(1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3834,18 +5645,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerTaxon32Random(Json json) {
+        registerTaxon32Random(json, SETTINGS);
+    }
+
+    /**
+     * Registers Taxon32Random with the given Json object, so Taxon32Random can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerTaxon32Random(Json json, JsonSettings settings) {
         if(json.getSerializer(Taxon32Random.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("TxnR", Taxon32Random.class);
+        if(settings.addClassTags) json.addClassTag("TxnR", Taxon32Random.class);
         json.setSerializer(Taxon32Random.class, new Json.Serializer<Taxon32Random>() {
             @Override
             public void write(Json json, Taxon32Random object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public Taxon32Random read(Json json, JsonValue jsonData, Class type) {
                 Taxon32Random r = new Taxon32Random(1, 1);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3857,18 +5678,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerChoo32Random(Json json) {
+        registerChoo32Random(json, SETTINGS);
+    }
+
+    /**
+     * Registers Choo32Random with the given Json object, so Choo32Random can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerChoo32Random(Json json, JsonSettings settings) {
         if(json.getSerializer(Choo32Random.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("ChoR", Choo32Random.class);
+        if(settings.addClassTags) json.addClassTag("ChoR", Choo32Random.class);
         json.setSerializer(Choo32Random.class, new Json.Serializer<Choo32Random>() {
             @Override
             public void write(Json json, Choo32Random object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public Choo32Random read(Json json, JsonValue jsonData, Class type) {
                 Choo32Random r = new Choo32Random(1, 1, 1, 1);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3880,18 +5711,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerChill32Random(Json json) {
+        registerChill32Random(json, SETTINGS);
+    }
+
+    /**
+     * Registers Chill32Random with the given Json object, so Chill32Random can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerChill32Random(Json json, JsonSettings settings) {
         if(json.getSerializer(Chill32Random.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("Ch3R", Chill32Random.class);
+        if(settings.addClassTags) json.addClassTag("Ch3R", Chill32Random.class);
         json.setSerializer(Chill32Random.class, new Json.Serializer<Chill32Random>() {
             @Override
             public void write(Json json, Chill32Random object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public Chill32Random read(Json json, JsonValue jsonData, Class type) {
                 Chill32Random r = new Chill32Random(1, 1, 1);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3903,18 +5744,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerBear32Random(Json json) {
+        registerBear32Random(json, SETTINGS);
+    }
+
+    /**
+     * Registers Bear32Random with the given Json object, so Bear32Random can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerBear32Random(Json json, JsonSettings settings) {
         if(json.getSerializer(Bear32Random.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("BeaR", Bear32Random.class);
+        if(settings.addClassTags) json.addClassTag("BeaR", Bear32Random.class);
         json.setSerializer(Bear32Random.class, new Json.Serializer<Bear32Random>() {
             @Override
             public void write(Json json, Bear32Random object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public Bear32Random read(Json json, JsonValue jsonData, Class type) {
                 Bear32Random r = new Bear32Random(1, 1, 1, 1);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3926,18 +5777,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerTraceRandom(Json json) {
+        registerTraceRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers TraceRandom with the given Json object, so TraceRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerTraceRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(TraceRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("TrcR", TraceRandom.class);
+        if(settings.addClassTags) json.addClassTag("TrcR", TraceRandom.class);
         json.setSerializer(TraceRandom.class, new Json.Serializer<TraceRandom>() {
             @Override
             public void write(Json json, TraceRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public TraceRandom read(Json json, JsonValue jsonData, Class type) {
                 TraceRandom r = new TraceRandom(1, 1L, 1L, 1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3949,18 +5810,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerExtendoRandom(Json json) {
+        registerExtendoRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers ExtendoRandom with the given Json object, so ExtendoRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerExtendoRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(ExtendoRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("ExoR", ExtendoRandom.class);
+        if(settings.addClassTags) json.addClassTag("ExoR", ExtendoRandom.class);
         json.setSerializer(ExtendoRandom.class, new Json.Serializer<ExtendoRandom>() {
             @Override
             public void write(Json json, ExtendoRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public ExtendoRandom read(Json json, JsonValue jsonData, Class type) {
                 ExtendoRandom r = new ExtendoRandom(1, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3973,19 +5844,30 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerMaceRandom(Json json) {
+        registerMaceRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers MaceRandom with the given Json object, so MaceRandom can be written to and read from JSON.
+     * Note that MaceRandom is deprecated, and using {@link TraceRandom} instead is encouraged.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerMaceRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(MaceRandom.class) != null) return;
         MaceRandom.registerWithDeserializer();
-        if(ADD_CLASS_TAGS) json.addClassTag("MceR", MaceRandom.class);
+        if(settings.addClassTags) json.addClassTag("MceR", MaceRandom.class);
         json.setSerializer(MaceRandom.class, new Json.Serializer<MaceRandom>() {
             @Override
             public void write(Json json, MaceRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public MaceRandom read(Json json, JsonValue jsonData, Class type) {
                 MaceRandom r = new MaceRandom(1, 1L, 1L, 1L, 1L, 1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -3997,18 +5879,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLCG64Random(Json json) {
+        registerLCG64Random(json, SETTINGS);
+    }
+
+    /**
+     * Registers LCG64Random with the given Json object, so LCG64Random can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLCG64Random(Json json, JsonSettings settings) {
         if(json.getSerializer(LCG64Random.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("L64R", LCG64Random.class);
+        if(settings.addClassTags) json.addClassTag("L64R", LCG64Random.class);
         json.setSerializer(LCG64Random.class, new Json.Serializer<LCG64Random>() {
             @Override
             public void write(Json json, LCG64Random object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public LCG64Random read(Json json, JsonValue jsonData, Class type) {
                 LCG64Random r = new LCG64Random(1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4020,18 +5912,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerGoldenQuasiRandom(Json json) {
+        registerGoldenQuasiRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers GoldenQuasiRandom with the given Json object, so GoldenQuasiRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerGoldenQuasiRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(GoldenQuasiRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("GoQR", GoldenQuasiRandom.class);
+        if(settings.addClassTags) json.addClassTag("GoQR", GoldenQuasiRandom.class);
         json.setSerializer(GoldenQuasiRandom.class, new Json.Serializer<GoldenQuasiRandom>() {
             @Override
             public void write(Json json, GoldenQuasiRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public GoldenQuasiRandom read(Json json, JsonValue jsonData, Class type) {
                 GoldenQuasiRandom r = new GoldenQuasiRandom(1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4043,18 +5945,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLFSR64QuasiRandom(Json json) {
+        registerLFSR64QuasiRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers LFSR64QuasiRandom with the given Json object, so LFSR64QuasiRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLFSR64QuasiRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(LFSR64QuasiRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("GoQR", LFSR64QuasiRandom.class);
+        if(settings.addClassTags) json.addClassTag("GoQR", LFSR64QuasiRandom.class);
         json.setSerializer(LFSR64QuasiRandom.class, new Json.Serializer<LFSR64QuasiRandom>() {
             @Override
             public void write(Json json, LFSR64QuasiRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public LFSR64QuasiRandom read(Json json, JsonValue jsonData, Class type) {
                 LFSR64QuasiRandom r = new LFSR64QuasiRandom(1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4066,18 +5978,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerVanDerCorputQuasiRandom(Json json) {
+        registerVanDerCorputQuasiRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers VanDerCorputQuasiRandom with the given Json object, so VanDerCorputQuasiRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerVanDerCorputQuasiRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(VanDerCorputQuasiRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("VCQR", VanDerCorputQuasiRandom.class);
+        if(settings.addClassTags) json.addClassTag("VCQR", VanDerCorputQuasiRandom.class);
         json.setSerializer(VanDerCorputQuasiRandom.class, new Json.Serializer<VanDerCorputQuasiRandom>() {
             @Override
             public void write(Json json, VanDerCorputQuasiRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public VanDerCorputQuasiRandom read(Json json, JsonValue jsonData, Class type) {
                 VanDerCorputQuasiRandom r = new VanDerCorputQuasiRandom(1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4089,18 +6011,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLowChangeQuasiRandom(Json json) {
+        registerLowChangeQuasiRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers LowChangeQuasiRandom with the given Json object, so LowChangeQuasiRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLowChangeQuasiRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(LowChangeQuasiRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("VCQR", LowChangeQuasiRandom.class);
+        if(settings.addClassTags) json.addClassTag("VCQR", LowChangeQuasiRandom.class);
         json.setSerializer(LowChangeQuasiRandom.class, new Json.Serializer<LowChangeQuasiRandom>() {
             @Override
             public void write(Json json, LowChangeQuasiRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public LowChangeQuasiRandom read(Json json, JsonValue jsonData, Class type) {
                 LowChangeQuasiRandom r = new LowChangeQuasiRandom(1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4112,18 +6044,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerTupleQuasiRandom(Json json) {
+        registerTupleQuasiRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers TupleQuasiRandom with the given Json object, so TupleQuasiRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerTupleQuasiRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(TupleQuasiRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("TuQR", TupleQuasiRandom.class);
+        if(settings.addClassTags) json.addClassTag("TuQR", TupleQuasiRandom.class);
         json.setSerializer(TupleQuasiRandom.class, new Json.Serializer<TupleQuasiRandom>() {
             @Override
             public void write(Json json, TupleQuasiRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public TupleQuasiRandom read(Json json, JsonValue jsonData, Class type) {
                 TupleQuasiRandom r = new TupleQuasiRandom(1L);
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4135,18 +6077,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerKnownSequenceRandom(Json json) {
+        registerKnownSequenceRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers KnownSequenceRandom with the given Json object, so KnownSequenceRandom can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerKnownSequenceRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(KnownSequenceRandom.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("KnSR", KnownSequenceRandom.class);
+        if(settings.addClassTags) json.addClassTag("KnSR", KnownSequenceRandom.class);
         json.setSerializer(KnownSequenceRandom.class, new Json.Serializer<KnownSequenceRandom>() {
             @Override
             public void write(Json json, KnownSequenceRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public KnownSequenceRandom read(Json json, JsonValue jsonData, Class type) {
                 KnownSequenceRandom r = new KnownSequenceRandom();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4158,18 +6110,28 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLongSequence(Json json) {
+        registerLongSequence(json, SETTINGS);
+    }
+
+    /**
+     * Registers LongSequence with the given Json object, so LongSequence can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLongSequence(Json json, JsonSettings settings) {
         if(json.getSerializer(LongSequence.class) != null) return;
-        if(ADD_CLASS_TAGS) json.addClassTag("LSeq", LongSequence.class);
+        if(settings.addClassTags) json.addClassTag("LSeq", LongSequence.class);
         json.setSerializer(LongSequence.class, new Json.Serializer<LongSequence>() {
             @Override
             public void write(Json json, LongSequence object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public LongSequence read(Json json, JsonValue jsonData, Class type) {
                 LongSequence s = new LongSequence();
-                s.stringDeserialize(jsonData.asString(), BASE);
+                s.stringDeserialize(jsonData.asString(), settings.base);
                 return s;
             }
         });
@@ -4182,19 +6144,30 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerReverseWrapper(Json json) {
+        registerReverseWrapper(json, SETTINGS);
+    }
+
+    /**
+     * Registers ReverseWrapper with the given Json object, so ReverseWrapper can be written to and read from JSON.
+     * This also registers all other EnhancedRandom types.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerReverseWrapper(Json json, JsonSettings settings) {
         if(json.getSerializer(ReverseWrapper.class) != null) return;
-        JsonSupport.registerEnhancedRandom(json);
-        if(ADD_CLASS_TAGS) json.addClassTag("RevW", ReverseWrapper.class);
+        JsonSupport.registerEnhancedRandom(json, settings);
+        if(settings.addClassTags) json.addClassTag("RevW", ReverseWrapper.class);
         json.setSerializer(ReverseWrapper.class, new Json.Serializer<ReverseWrapper>() {
             @Override
             public void write(Json json, ReverseWrapper object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public ReverseWrapper read(Json json, JsonValue jsonData, Class type) {
                 ReverseWrapper w = new ReverseWrapper();
-                w.stringDeserialize(jsonData.asString(), BASE);
+                w.stringDeserialize(jsonData.asString(), settings.base);
                 return w;
             }
         });
@@ -4208,19 +6181,30 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerDeckWrapper(Json json) {
+        registerDeckWrapper(json, SETTINGS);
+    }
+
+    /**
+     * Registers DeckWrapper with the given Json object, so DeckWrapper can be written to and read from JSON.
+     * This also registers all other EnhancedRandom types.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerDeckWrapper(Json json, JsonSettings settings) {
         if(json.getSerializer(DeckWrapper.class) != null) return;
-        JsonSupport.registerEnhancedRandom(json);
-        if(ADD_CLASS_TAGS) json.addClassTag("DecW", DeckWrapper.class);
+        JsonSupport.registerEnhancedRandom(json, settings);
+        if(settings.addClassTags) json.addClassTag("DecW", DeckWrapper.class);
         json.setSerializer(DeckWrapper.class, new Json.Serializer<DeckWrapper>() {
             @Override
             public void write(Json json, DeckWrapper object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public DeckWrapper read(Json json, JsonValue jsonData, Class type) {
                 DeckWrapper w = new DeckWrapper();
-                w.stringDeserialize(jsonData.asString(), BASE);
+                w.stringDeserialize(jsonData.asString(), settings.base);
                 return w;
             }
         });
@@ -4233,19 +6217,30 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerCompositeWrapper(Json json) {
+        registerCompositeWrapper(json, SETTINGS);
+    }
+
+    /**
+     * Registers CompositeWrapper with the given Json object, so CompositeWrapper can be written to and read from JSON.
+     * This also registers all other EnhancedRandom types.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerCompositeWrapper(Json json, JsonSettings settings) {
         if(json.getSerializer(CompositeWrapper.class) != null) return;
-        JsonSupport.registerEnhancedRandom(json);
-        if(ADD_CLASS_TAGS) json.addClassTag("CmpW", CompositeWrapper.class);
+        JsonSupport.registerEnhancedRandom(json, settings);
+        if(settings.addClassTags) json.addClassTag("CmpW", CompositeWrapper.class);
         json.setSerializer(CompositeWrapper.class, new Json.Serializer<CompositeWrapper>() {
             @Override
             public void write(Json json, CompositeWrapper object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public CompositeWrapper read(Json json, JsonValue jsonData, Class type) {
                 CompositeWrapper w = new CompositeWrapper();
-                w.stringDeserialize(jsonData.asString(), BASE);
+                w.stringDeserialize(jsonData.asString(), settings.base);
                 return w;
             }
         });
@@ -4258,20 +6253,31 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerArchivalWrapper(Json json) {
+        registerArchivalWrapper(json, SETTINGS);
+    }
+
+    /**
+     * Registers ArchivalWrapper with the given Json object, so ArchivalWrapper can be written to and read from JSON.
+     * This also registers all other EnhancedRandom types, and {@link LongSequence}.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerArchivalWrapper(Json json, JsonSettings settings) {
         if(json.getSerializer(ArchivalWrapper.class) != null) return;
-        JsonSupport.registerEnhancedRandom(json);
-        JsonSupport.registerLongSequence(json);
-        if(ADD_CLASS_TAGS) json.addClassTag("ArcW", ArchivalWrapper.class);
+        JsonSupport.registerEnhancedRandom(json, settings);
+        JsonSupport.registerLongSequence(json, settings);
+        if(settings.addClassTags) json.addClassTag("ArcW", ArchivalWrapper.class);
         json.setSerializer(ArchivalWrapper.class, new Json.Serializer<ArchivalWrapper>() {
             @Override
             public void write(Json json, ArchivalWrapper object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public ArchivalWrapper read(Json json, JsonValue jsonData, Class type) {
                 ArchivalWrapper w = new ArchivalWrapper();
-                w.stringDeserialize(jsonData.asString(), BASE);
+                w.stringDeserialize(jsonData.asString(), settings.base);
                 return w;
             }
         });
@@ -4284,19 +6290,30 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerDistributionWrapper(Json json) {
+        registerDistributionWrapper(json, SETTINGS);
+    }
+
+    /**
+     * Registers DistributionWrapper with the given Json object, so DistributionWrapper can be written to and read from JSON.
+     * This also registers all other EnhancedRandom types and all Distribution types.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerDistributionWrapper(Json json, JsonSettings settings) {
         if(json.getSerializer(DistributionWrapper.class) != null) return;
-        JsonSupport.registerEnhancedRandom(json);
-        JsonSupport.registerDistribution(json);
-        if(ADD_CLASS_TAGS) json.addClassTag("DsrW", DistributionWrapper.class);
+        JsonSupport.registerEnhancedRandom(json, settings);
+        JsonSupport.registerDistribution(json, settings);
+        if(settings.addClassTags) json.addClassTag("DsrW", DistributionWrapper.class);
         json.setSerializer(DistributionWrapper.class, new Json.Serializer<DistributionWrapper>() {
             @Override
             public void write(Json json, DistributionWrapper object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public DistributionWrapper read(Json json, JsonValue jsonData, Class type) {
-                return new DistributionWrapper().stringDeserialize(jsonData.asString(), BASE);
+                return new DistributionWrapper().stringDeserialize(jsonData.asString(), settings.base);
             }
         });
     }
@@ -4308,19 +6325,30 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerInterpolatorWrapper(Json json) {
+        registerInterpolatorWrapper(json, SETTINGS);
+    }
+
+    /**
+     * Registers InterpolatorWrapper with the given Json object, so InterpolatorWrapper can be written to and read from JSON.
+     * This also registers all other EnhancedRandom types and all Interpolator types.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerInterpolatorWrapper(Json json, JsonSettings settings) {
         if(json.getSerializer(InterpolatorWrapper.class) != null) return;
-        JsonSupport.registerEnhancedRandom(json);
-        JsonSupport.registerInterpolator(json);
-        if(ADD_CLASS_TAGS) json.addClassTag("InrW", InterpolatorWrapper.class);
+        JsonSupport.registerEnhancedRandom(json, settings);
+        JsonSupport.registerInterpolator(json, settings);
+        if(settings.addClassTags) json.addClassTag("InrW", InterpolatorWrapper.class);
         json.setSerializer(InterpolatorWrapper.class, new Json.Serializer<InterpolatorWrapper>() {
             @Override
             public void write(Json json, InterpolatorWrapper object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public InterpolatorWrapper read(Json json, JsonValue jsonData, Class type) {
-                return new InterpolatorWrapper().stringDeserialize(jsonData.asString(), BASE);
+                return new InterpolatorWrapper().stringDeserialize(jsonData.asString(), settings.base);
             }
         });
     }
@@ -4346,67 +6374,92 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerEnhancedRandom(Json json) {
+        registerEnhancedRandom(json, SETTINGS);
+    }
+
+    /**
+     * Registers EnhancedRandom with the given Json object, so EnhancedRandom can be written to and read from JSON.
+     * This also registers {@link DistinctRandom}, {@link LaserRandom}, {@link TricycleRandom}, {@link FourWheelRandom},
+     * {@link Xoshiro256StarStarRandom}, {@link Xoshiro128PlusPlusRandom}, {@link Xoshiro256MX3Random},
+     * {@link Xoroshiro128StarStarRandom}, {@link StrangerRandom}, {@link TrimRandom}, {@link WhiskerRandom},
+     * {@link RomuTrioRandom}, {@link ChopRandom}, {@link Xoshiro128PlusPlusRandom}, {@link MizuchiRandom},
+     * {@link ScruffRandom}, {@link AceRandom}, {@link FlowRandom}, {@link Taxon32Random}, {@link Choo32Random},
+     * {@link GoldenQuasiRandom}, {@link VanDerCorputQuasiRandom},
+     * {@link LowChangeQuasiRandom}, {@link TupleQuasiRandom}, and {@link KnownSequenceRandom}, plus
+     * {@link AtomicLong} because some subclasses of {@link java.util.Random} need it. This does not register
+     * {@link DistributionWrapper} or the wrappers {@link ReverseWrapper} and {@link ArchivalWrapper}, but
+     * {@link #registerDistributionWrapper(Json)}, {@link #registerReverseWrapper(Json)}, and
+     * {@link #registerArchivalWrapper(Json)} call this method instead (the first of those also calls
+     * {@link #registerDistribution(Json)}).
+     * <br>
+     * Abstract classes aren't usually serializable like this, but because each of the EnhancedRandom serializers uses a
+     * specific format shared with what this uses, and that format identifies which class is used, it works here.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerEnhancedRandom(Json json, JsonSettings settings) {
         if(json.getSerializer(EnhancedRandom.class) != null) return;
-        registerAtomicLong(json);
-        registerAceRandom(json);
-        registerBear32Random(json);
-        registerChill32Random(json);
-        registerChip32Random(json);
-        registerChoo32Random(json);
-        registerChopRandom(json);
-        registerCrand64Random(json);
-        registerDistinctRandom(json);
-        registerExtendoRandom(json);
-        registerFlowRandom(json);
-        registerFourWheelRandom(json);
-        registerGoldenQuasiRandom(json);
-        registerHornRandom(json);
-        registerJsf32Random(json);
-        registerKnownSequenceRandom(json);
-        registerLamb32Random(json);
-        registerLaserRandom(json);
-        registerLCG64Random(json);
-        registerLFSR64QuasiRandom(json);
-        registerLowChangeQuasiRandom(json);
-        registerMaceRandom(json);
-        registerMizuchiRandom(json);
-        registerMx3Random(json);
-        registerOrbitalRandom(json);
-        registerPasarRandom(json);
-        registerPcgRXSMXSRandom(json);
-        registerPouchRandom(json);
-        registerRespite32Random(json);
-        registerRomuTrioRandom(json);
-        registerScruffRandom(json);
-        registerSfc64Random(json);
-        registerSoloRandom(json);
-        registerStrangerRandom(json);
-        registerTaxon32Random(json);
-        registerThrashRandom(json);
-        registerThrooshRandom(json);
-        registerTraceRandom(json);
-        registerTricycleRandom(json);
-        registerTrimRandom(json);
-        registerTupleQuasiRandom(json);
-        registerVanDerCorputQuasiRandom(json);
-        registerWhiskerRandom(json);
-        registerXoroshiro128StarStarRandom(json);
-        registerXoshiro128PlusPlusRandom(json);
-        registerXoshiro160RoadroxoRandom(json);
-        registerXoshiro256MX3Random(json);
-        registerXoshiro256StarStarRandom(json);
-        if(ADD_CLASS_TAGS) json.addClassTag("EnhR", EnhancedRandom.class);
+        registerAtomicLong(json, settings);
+        registerAceRandom(json, settings);
+        registerBear32Random(json, settings);
+        registerChill32Random(json, settings);
+        registerChip32Random(json, settings);
+        registerChoo32Random(json, settings);
+        registerChopRandom(json, settings);
+        registerCrand64Random(json, settings);
+        registerDistinctRandom(json, settings);
+        registerExtendoRandom(json, settings);
+        registerFlowRandom(json, settings);
+        registerFourWheelRandom(json, settings);
+        registerGoldenQuasiRandom(json, settings);
+        registerHornRandom(json, settings);
+        registerJsf32Random(json, settings);
+        registerKnownSequenceRandom(json, settings);
+        registerLamb32Random(json, settings);
+        registerLaserRandom(json, settings);
+        registerLCG64Random(json, settings);
+        registerLFSR64QuasiRandom(json, settings);
+        registerLowChangeQuasiRandom(json, settings);
+        registerMaceRandom(json, settings);
+        registerMizuchiRandom(json, settings);
+        registerMx3Random(json, settings);
+        registerOrbitalRandom(json, settings);
+        registerPasarRandom(json, settings);
+        registerPcgRXSMXSRandom(json, settings);
+        registerPouchRandom(json, settings);
+        registerRespite32Random(json, settings);
+        registerRomuTrioRandom(json, settings);
+        registerScruffRandom(json, settings);
+        registerSfc64Random(json, settings);
+        registerSoloRandom(json, settings);
+        registerStrangerRandom(json, settings);
+        registerTaxon32Random(json, settings);
+        registerThrashRandom(json, settings);
+        registerThrooshRandom(json, settings);
+        registerTraceRandom(json, settings);
+        registerTricycleRandom(json, settings);
+        registerTrimRandom(json, settings);
+        registerTupleQuasiRandom(json, settings);
+        registerVanDerCorputQuasiRandom(json, settings);
+        registerWhiskerRandom(json, settings);
+        registerXoroshiro128StarStarRandom(json, settings);
+        registerXoshiro128PlusPlusRandom(json, settings);
+        registerXoshiro160RoadroxoRandom(json, settings);
+        registerXoshiro256MX3Random(json, settings);
+        registerXoshiro256StarStarRandom(json, settings);
+        if(settings.addClassTags) json.addClassTag("EnhR", EnhancedRandom.class);
         json.setSerializer(EnhancedRandom.class, new Json.Serializer<EnhancedRandom>() {
             @Override
             public void write(Json json, EnhancedRandom object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public EnhancedRandom read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
                 try {
-                    return Deserializer.deserialize(jsonData.asString(), BASE);
+                    return Deserializer.deserialize(jsonData.asString(), settings.base);
                 } catch (RuntimeException e) {
                     Gdx.app.error("Json Read Exception (EnhancedRandom)", e.toString());
                     return null;
@@ -4424,11 +6477,24 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerRandomXS128(Json json) {
+        registerRandomXS128(json, SETTINGS);
+    }
+
+    /**
+     * Registers RandomXS128 with the given Json object, so RandomXS128 can be written to and read from JSON.
+     * Note that RandomXS128 is not a jdkgdxds EnhancedRandom, and so registering this won't allow you to read
+     * RandomXS128 objects from EnhancedRandom fields. This serializer is here to reduce the hassle when you do want to
+     * serialize a RandomXS128, because on Java 16 and higher, RandomXS128 would need some extra steps for Json to be
+     * able to read some fields from it.
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerRandomXS128(Json json, JsonSettings settings) {
         if(json.getSerializer(RandomXS128.class) != null) return;
         json.setSerializer(RandomXS128.class, new Json.Serializer<RandomXS128>() {
             @Override
             public void write(Json json, RandomXS128 object, Class knownType) {
-                json.writeValue("`" + BASE.signed(object.getState(0)) + "~" + BASE.signed(object.getState(1)) + "`");
+                json.writeValue("`" + settings.base.signed(object.getState(0)) + "~" + settings.base.signed(object.getState(1)) + "`");
             }
 
             @Override
@@ -4436,8 +6502,8 @@ public final class JsonSupport {
                 String s;
                 if (jsonData == null || jsonData.isNull() || (s = jsonData.asString()) == null || s.length() < 5) return null;
                 final int split = s.indexOf('~', 1);
-                final long stateA = BASE.readLong(s, 1, split);
-                final long stateB = BASE.readLong(s, split + 1, s.indexOf('`', split));
+                final long stateA = settings.base.readLong(s, 1, split);
+                final long stateB = settings.base.readLong(s, split + 1, s.indexOf('`', split));
                 return new RandomXS128(stateA, stateB);
             }
         });
@@ -4470,17 +6536,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerArcsineDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Arcsine", ArcsineDistribution.class);
+        registerArcsineDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers ArcsineDistribution with the given Json object, so ArcsineDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerArcsineDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Arcsine", ArcsineDistribution.class);
         json.setSerializer(ArcsineDistribution.class, new Json.Serializer<ArcsineDistribution>() {
             @Override
             public void write(Json json, ArcsineDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public ArcsineDistribution read(Json json, JsonValue jsonData, Class type) {
                 ArcsineDistribution r = new ArcsineDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4492,17 +6568,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerBernoulliDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Bernoulli", BernoulliDistribution.class);
+        registerBernoulliDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers BernoulliDistribution with the given Json object, so BernoulliDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerBernoulliDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Bernoulli", BernoulliDistribution.class);
         json.setSerializer(BernoulliDistribution.class, new Json.Serializer<BernoulliDistribution>() {
             @Override
             public void write(Json json, BernoulliDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public BernoulliDistribution read(Json json, JsonValue jsonData, Class type) {
                 BernoulliDistribution r = new BernoulliDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4514,17 +6600,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerBetaDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Beta", BetaDistribution.class);
+        registerBetaDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers BetaDistribution with the given Json object, so BetaDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerBetaDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Beta", BetaDistribution.class);
         json.setSerializer(BetaDistribution.class, new Json.Serializer<BetaDistribution>() {
             @Override
             public void write(Json json, BetaDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public BetaDistribution read(Json json, JsonValue jsonData, Class type) {
                 BetaDistribution r = new BetaDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4536,17 +6632,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerBetaPrimeDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("BetaPrime", BetaPrimeDistribution.class);
+        registerBetaPrimeDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers BetaPrimeDistribution with the given Json object, so BetaPrimeDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerBetaPrimeDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("BetaPrime", BetaPrimeDistribution.class);
         json.setSerializer(BetaPrimeDistribution.class, new Json.Serializer<BetaPrimeDistribution>() {
             @Override
             public void write(Json json, BetaPrimeDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public BetaPrimeDistribution read(Json json, JsonValue jsonData, Class type) {
                 BetaPrimeDistribution r = new BetaPrimeDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4558,17 +6664,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerBinomialDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Binomial", BinomialDistribution.class);
+        registerBinomialDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers BinomialDistribution with the given Json object, so BinomialDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerBinomialDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Binomial", BinomialDistribution.class);
         json.setSerializer(BinomialDistribution.class, new Json.Serializer<BinomialDistribution>() {
             @Override
             public void write(Json json, BinomialDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public BinomialDistribution read(Json json, JsonValue jsonData, Class type) {
                 BinomialDistribution r = new BinomialDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4580,17 +6696,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerCauchyDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Cauchy", CauchyDistribution.class);
+        registerCauchyDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers CauchyDistribution with the given Json object, so CauchyDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerCauchyDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Cauchy", CauchyDistribution.class);
         json.setSerializer(CauchyDistribution.class, new Json.Serializer<CauchyDistribution>() {
             @Override
             public void write(Json json, CauchyDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public CauchyDistribution read(Json json, JsonValue jsonData, Class type) {
                 CauchyDistribution r = new CauchyDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4602,17 +6728,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerChiDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Chi", ChiDistribution.class);
+        registerChiDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers ChiDistribution with the given Json object, so ChiDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerChiDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Chi", ChiDistribution.class);
         json.setSerializer(ChiDistribution.class, new Json.Serializer<ChiDistribution>() {
             @Override
             public void write(Json json, ChiDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public ChiDistribution read(Json json, JsonValue jsonData, Class type) {
                 ChiDistribution r = new ChiDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4624,17 +6760,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerChiSquareDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("ChiSquare", ChiSquareDistribution.class);
+        registerChiSquareDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers ChiSquareDistribution with the given Json object, so ChiSquareDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerChiSquareDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("ChiSquare", ChiSquareDistribution.class);
         json.setSerializer(ChiSquareDistribution.class, new Json.Serializer<ChiSquareDistribution>() {
             @Override
             public void write(Json json, ChiSquareDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public ChiSquareDistribution read(Json json, JsonValue jsonData, Class type) {
                 ChiSquareDistribution r = new ChiSquareDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4646,17 +6792,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerContinuousUniformDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("ContinuousUniform", ContinuousUniformDistribution.class);
+        registerContinuousUniformDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers ContinuousUniformDistribution with the given Json object, so ContinuousUniformDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerContinuousUniformDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("ContinuousUniform", ContinuousUniformDistribution.class);
         json.setSerializer(ContinuousUniformDistribution.class, new Json.Serializer<ContinuousUniformDistribution>() {
             @Override
             public void write(Json json, ContinuousUniformDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public ContinuousUniformDistribution read(Json json, JsonValue jsonData, Class type) {
                 ContinuousUniformDistribution r = new ContinuousUniformDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4668,17 +6824,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerDiscreteUniformDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("DiscreteUniform", DiscreteUniformDistribution.class);
+        registerDiscreteUniformDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers DiscreteUniformDistribution with the given Json object, so DiscreteUniformDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerDiscreteUniformDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("DiscreteUniform", DiscreteUniformDistribution.class);
         json.setSerializer(DiscreteUniformDistribution.class, new Json.Serializer<DiscreteUniformDistribution>() {
             @Override
             public void write(Json json, DiscreteUniformDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public DiscreteUniformDistribution read(Json json, JsonValue jsonData, Class type) {
                 DiscreteUniformDistribution r = new DiscreteUniformDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4690,17 +6856,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerErlangDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Erlang", ErlangDistribution.class);
+        registerErlangDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers ErlangDistribution with the given Json object, so ErlangDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerErlangDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Erlang", ErlangDistribution.class);
         json.setSerializer(ErlangDistribution.class, new Json.Serializer<ErlangDistribution>() {
             @Override
             public void write(Json json, ErlangDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public ErlangDistribution read(Json json, JsonValue jsonData, Class type) {
                 ErlangDistribution r = new ErlangDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4712,17 +6888,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerExponentialDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Exponential", ExponentialDistribution.class);
+        registerExponentialDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers ExponentialDistribution with the given Json object, so ExponentialDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerExponentialDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Exponential", ExponentialDistribution.class);
         json.setSerializer(ExponentialDistribution.class, new Json.Serializer<ExponentialDistribution>() {
             @Override
             public void write(Json json, ExponentialDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public ExponentialDistribution read(Json json, JsonValue jsonData, Class type) {
                 ExponentialDistribution r = new ExponentialDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4734,17 +6920,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerFisherSnedecorDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("FisherSnedecor", FisherSnedecorDistribution.class);
+        registerFisherSnedecorDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers FisherSnedecorDistribution with the given Json object, so FisherSnedecorDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerFisherSnedecorDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("FisherSnedecor", FisherSnedecorDistribution.class);
         json.setSerializer(FisherSnedecorDistribution.class, new Json.Serializer<FisherSnedecorDistribution>() {
             @Override
             public void write(Json json, FisherSnedecorDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public FisherSnedecorDistribution read(Json json, JsonValue jsonData, Class type) {
                 FisherSnedecorDistribution r = new FisherSnedecorDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4756,17 +6952,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerFisherTippettDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("FisherTippett", FisherTippettDistribution.class);
+        registerFisherTippettDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers FisherTippettDistribution with the given Json object, so FisherTippettDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerFisherTippettDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("FisherTippett", FisherTippettDistribution.class);
         json.setSerializer(FisherTippettDistribution.class, new Json.Serializer<FisherTippettDistribution>() {
             @Override
             public void write(Json json, FisherTippettDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public FisherTippettDistribution read(Json json, JsonValue jsonData, Class type) {
                 FisherTippettDistribution r = new FisherTippettDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4778,17 +6984,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerGammaDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Gamma", GammaDistribution.class);
+        registerGammaDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers GammaDistribution with the given Json object, so GammaDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerGammaDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Gamma", GammaDistribution.class);
         json.setSerializer(GammaDistribution.class, new Json.Serializer<GammaDistribution>() {
             @Override
             public void write(Json json, GammaDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public GammaDistribution read(Json json, JsonValue jsonData, Class type) {
                 GammaDistribution r = new GammaDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4800,17 +7016,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerGeometricDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Geometric", GeometricDistribution.class);
+        registerGeometricDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers GeometricDistribution with the given Json object, so GeometricDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerGeometricDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Geometric", GeometricDistribution.class);
         json.setSerializer(GeometricDistribution.class, new Json.Serializer<GeometricDistribution>() {
             @Override
             public void write(Json json, GeometricDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public GeometricDistribution read(Json json, JsonValue jsonData, Class type) {
                 GeometricDistribution r = new GeometricDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4822,17 +7048,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerKumaraswamyDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Kumaraswamy", KumaraswamyDistribution.class);
+        registerKumaraswamyDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers KumaraswamyDistribution with the given Json object, so KumaraswamyDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerKumaraswamyDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Kumaraswamy", KumaraswamyDistribution.class);
         json.setSerializer(KumaraswamyDistribution.class, new Json.Serializer<KumaraswamyDistribution>() {
             @Override
             public void write(Json json, KumaraswamyDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public KumaraswamyDistribution read(Json json, JsonValue jsonData, Class type) {
                 KumaraswamyDistribution r = new KumaraswamyDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4844,17 +7080,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLaplaceDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Laplace", LaplaceDistribution.class);
+        registerLaplaceDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers LaplaceDistribution with the given Json object, so LaplaceDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLaplaceDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Laplace", LaplaceDistribution.class);
         json.setSerializer(LaplaceDistribution.class, new Json.Serializer<LaplaceDistribution>() {
             @Override
             public void write(Json json, LaplaceDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public LaplaceDistribution read(Json json, JsonValue jsonData, Class type) {
                 LaplaceDistribution r = new LaplaceDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4866,17 +7112,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLogCauchyDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("LogCauchy", LogCauchyDistribution.class);
+        registerLogCauchyDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers LogCauchyDistribution with the given Json object, so LogCauchyDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLogCauchyDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("LogCauchy", LogCauchyDistribution.class);
         json.setSerializer(LogCauchyDistribution.class, new Json.Serializer<LogCauchyDistribution>() {
             @Override
             public void write(Json json, LogCauchyDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public LogCauchyDistribution read(Json json, JsonValue jsonData, Class type) {
                 LogCauchyDistribution r = new LogCauchyDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4888,17 +7144,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLogisticDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Logistic", LogisticDistribution.class);
+        registerLogisticDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers LogisticDistribution with the given Json object, so LogisticDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLogisticDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Logistic", LogisticDistribution.class);
         json.setSerializer(LogisticDistribution.class, new Json.Serializer<LogisticDistribution>() {
             @Override
             public void write(Json json, LogisticDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public LogisticDistribution read(Json json, JsonValue jsonData, Class type) {
                 LogisticDistribution r = new LogisticDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4910,17 +7176,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLogNormalDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("LogNormal", LogNormalDistribution.class);
+        registerLogNormalDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers LogNormalDistribution with the given Json object, so LogNormalDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLogNormalDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("LogNormal", LogNormalDistribution.class);
         json.setSerializer(LogNormalDistribution.class, new Json.Serializer<LogNormalDistribution>() {
             @Override
             public void write(Json json, LogNormalDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public LogNormalDistribution read(Json json, JsonValue jsonData, Class type) {
                 LogNormalDistribution r = new LogNormalDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4932,17 +7208,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerLumpDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Lump", LumpDistribution.class);
+        registerLumpDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers LumpDistribution with the given Json object, so LumpDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerLumpDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Lump", LumpDistribution.class);
         json.setSerializer(LumpDistribution.class, new Json.Serializer<LumpDistribution>() {
             @Override
             public void write(Json json, LumpDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public LumpDistribution read(Json json, JsonValue jsonData, Class type) {
                 LumpDistribution r = new LumpDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4954,17 +7240,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerNormalDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Normal", NormalDistribution.class);
+        registerNormalDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers NormalDistribution with the given Json object, so NormalDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerNormalDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Normal", NormalDistribution.class);
         json.setSerializer(NormalDistribution.class, new Json.Serializer<NormalDistribution>() {
             @Override
             public void write(Json json, NormalDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public NormalDistribution read(Json json, JsonValue jsonData, Class type) {
                 NormalDistribution r = new NormalDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4976,17 +7272,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerParetoDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Pareto", ParetoDistribution.class);
+        registerParetoDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers ParetoDistribution with the given Json object, so ParetoDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerParetoDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Pareto", ParetoDistribution.class);
         json.setSerializer(ParetoDistribution.class, new Json.Serializer<ParetoDistribution>() {
             @Override
             public void write(Json json, ParetoDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public ParetoDistribution read(Json json, JsonValue jsonData, Class type) {
                 ParetoDistribution r = new ParetoDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -4998,17 +7304,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerPoissonDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Poisson", PoissonDistribution.class);
+        registerPoissonDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers PoissonDistribution with the given Json object, so PoissonDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerPoissonDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Poisson", PoissonDistribution.class);
         json.setSerializer(PoissonDistribution.class, new Json.Serializer<PoissonDistribution>() {
             @Override
             public void write(Json json, PoissonDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public PoissonDistribution read(Json json, JsonValue jsonData, Class type) {
                 PoissonDistribution r = new PoissonDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -5020,17 +7336,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerPowerDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Power", PowerDistribution.class);
+        registerPowerDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers PowerDistribution with the given Json object, so PowerDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerPowerDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Power", PowerDistribution.class);
         json.setSerializer(PowerDistribution.class, new Json.Serializer<PowerDistribution>() {
             @Override
             public void write(Json json, PowerDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public PowerDistribution read(Json json, JsonValue jsonData, Class type) {
                 PowerDistribution r = new PowerDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -5042,17 +7368,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerRayleighDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Rayleigh", RayleighDistribution.class);
+        registerRayleighDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers RayleighDistribution with the given Json object, so RayleighDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerRayleighDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Rayleigh", RayleighDistribution.class);
         json.setSerializer(RayleighDistribution.class, new Json.Serializer<RayleighDistribution>() {
             @Override
             public void write(Json json, RayleighDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public RayleighDistribution read(Json json, JsonValue jsonData, Class type) {
                 RayleighDistribution r = new RayleighDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -5064,17 +7400,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerStudentsTDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("StudentsT", StudentsTDistribution.class);
+        registerStudentsTDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers StudentsTDistribution with the given Json object, so StudentsTDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerStudentsTDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("StudentsT", StudentsTDistribution.class);
         json.setSerializer(StudentsTDistribution.class, new Json.Serializer<StudentsTDistribution>() {
             @Override
             public void write(Json json, StudentsTDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public StudentsTDistribution read(Json json, JsonValue jsonData, Class type) {
                 StudentsTDistribution r = new StudentsTDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -5086,17 +7432,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerTriangularDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Triangular", TriangularDistribution.class);
+        registerTriangularDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers TriangularDistribution with the given Json object, so TriangularDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerTriangularDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Triangular", TriangularDistribution.class);
         json.setSerializer(TriangularDistribution.class, new Json.Serializer<TriangularDistribution>() {
             @Override
             public void write(Json json, TriangularDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public TriangularDistribution read(Json json, JsonValue jsonData, Class type) {
                 TriangularDistribution r = new TriangularDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -5108,17 +7464,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerWeibullDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Weibull", WeibullDistribution.class);
+        registerWeibullDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers WeibullDistribution with the given Json object, so WeibullDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerWeibullDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Weibull", WeibullDistribution.class);
         json.setSerializer(WeibullDistribution.class, new Json.Serializer<WeibullDistribution>() {
             @Override
             public void write(Json json, WeibullDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public WeibullDistribution read(Json json, JsonValue jsonData, Class type) {
                 WeibullDistribution r = new WeibullDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -5130,17 +7496,27 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerZipfianDistribution(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Zipfian", ZipfianDistribution.class);
+        registerZipfianDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers ZipfianDistribution with the given Json object, so ZipfianDistribution can be written to and read from JSON.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerZipfianDistribution(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Zipfian", ZipfianDistribution.class);
         json.setSerializer(ZipfianDistribution.class, new Json.Serializer<ZipfianDistribution>() {
             @Override
             public void write(Json json, ZipfianDistribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public ZipfianDistribution read(Json json, JsonValue jsonData, Class type) {
                 ZipfianDistribution r = new ZipfianDistribution();
-                r.stringDeserialize(jsonData.asString(), BASE);
+                r.stringDeserialize(jsonData.asString(), settings.base);
                 return r;
             }
         });
@@ -5156,53 +7532,67 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerDistribution(Json json) {
+        registerDistribution(json, SETTINGS);
+    }
+
+    /**
+     * Registers Distribution with the given Json object, so Distribution can be written to and read from JSON.
+     * This also registers all currently-known Distribution subclasses.
+     * <br>
+     * Abstract classes aren't usually serializable like this, but because each of the Distribution serializers uses a
+     * specific format shared with what this uses, and that format identifies which class is used, it works here.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerDistribution(Json json, JsonSettings settings) {
         if(json.getSerializer(Distribution.class) != null) return;
-        registerArcsineDistribution(json);
-        registerBernoulliDistribution(json);
-        registerBetaDistribution(json);
-        registerBetaPrimeDistribution(json);
-        registerBinomialDistribution(json);
-        registerCauchyDistribution(json);
-        registerChiDistribution(json);
-        registerChiSquareDistribution(json);
-        registerContinuousUniformDistribution(json);
-        registerDiscreteUniformDistribution(json);
-        registerErlangDistribution(json);
-        registerExponentialDistribution(json);
-        registerExponentialDistribution(json);
-        registerFisherSnedecorDistribution(json);
-        registerFisherTippettDistribution(json);
-        registerGammaDistribution(json);
-        registerGeometricDistribution(json);
-        registerKumaraswamyDistribution(json);
-        registerLaplaceDistribution(json);
-        registerLogCauchyDistribution(json);
-        registerLogisticDistribution(json);
-        registerLogNormalDistribution(json);
-        registerLumpDistribution(json);
-        registerNormalDistribution(json);
-        registerParetoDistribution(json);
-        registerPoissonDistribution(json);
-        registerPowerDistribution(json);
-        registerRayleighDistribution(json);
-        registerStudentsTDistribution(json);
-        registerTriangularDistribution(json);
-        registerWeibullDistribution(json);
-        registerZipfianDistribution(json);
-
-        if(ADD_CLASS_TAGS) json.addClassTag("Dist", Distribution.class);
+        registerArcsineDistribution(json, settings);
+        registerBernoulliDistribution(json, settings);
+        registerBetaDistribution(json, settings);
+        registerBetaPrimeDistribution(json, settings);
+        registerBinomialDistribution(json, settings);
+        registerCauchyDistribution(json, settings);
+        registerChiDistribution(json, settings);
+        registerChiSquareDistribution(json, settings);
+        registerContinuousUniformDistribution(json, settings);
+        registerDiscreteUniformDistribution(json, settings);
+        registerErlangDistribution(json, settings);
+        registerExponentialDistribution(json, settings);
+        registerExponentialDistribution(json, settings);
+        registerFisherSnedecorDistribution(json, settings);
+        registerFisherTippettDistribution(json, settings);
+        registerGammaDistribution(json, settings);
+        registerGeometricDistribution(json, settings);
+        registerKumaraswamyDistribution(json, settings);
+        registerLaplaceDistribution(json, settings);
+        registerLogCauchyDistribution(json, settings);
+        registerLogisticDistribution(json, settings);
+        registerLogNormalDistribution(json, settings);
+        registerLumpDistribution(json, settings);
+        registerNormalDistribution(json, settings);
+        registerParetoDistribution(json, settings);
+        registerPoissonDistribution(json, settings);
+        registerPowerDistribution(json, settings);
+        registerRayleighDistribution(json, settings);
+        registerStudentsTDistribution(json, settings);
+        registerTriangularDistribution(json, settings);
+        registerWeibullDistribution(json, settings);
+        registerZipfianDistribution(json, settings);
+
+        if(settings.addClassTags) json.addClassTag("Dist", Distribution.class);
 
         json.setSerializer(Distribution.class, new Json.Serializer<Distribution>() {
             @Override
             public void write(Json json, Distribution object, Class knownType) {
-                json.writeValue(object.stringSerialize(BASE));
+                json.writeValue(object.stringSerialize(settings.base));
             }
 
             @Override
             public Distribution read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
                 try {
-                    return Deserializer.deserializeDistribution(jsonData.asString(), BASE);
+                    return Deserializer.deserializeDistribution(jsonData.asString(), settings.base);
                 } catch (RuntimeException e) {
                     Gdx.app.error("Json Read Exception (Distribution)", e.toString());
                     return null;
@@ -5219,7 +7609,19 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerBase(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Base", Base.class);
+        registerBase(json, SETTINGS);
+    }
+
+    /**
+     * Registers Base with the given Json object, so Base can be written to and read from JSON.
+     * This is a simple wrapper around Base's built-in {@link Base#serializeToString()} and
+     * {@link Base#deserializeFromString(CharSequence)} methods.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerBase(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Base", Base.class);
         json.setSerializer(Base.class, new Json.Serializer<Base>() {
             @Override
             public void write(Json json, Base object, Class knownType) {
@@ -5241,18 +7643,29 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerHasher(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("Hshr", Hasher.class);
+        registerHasher(json, SETTINGS);
+    }
+
+    /**
+     * Registers Hasher with the given Json object, so Hasher can be written to and read from JSON.
+     * This just stores the seed (which is a single {@code long}) as a String in the current Base used by JsonSupport.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerHasher(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("Hshr", Hasher.class);
 
         json.setSerializer(Hasher.class, new Json.Serializer<Hasher>() {
             @Override
             public void write(Json json, Hasher object, Class knownType) {
-                json.writeValue(BASE.signed(object.seed));
+                json.writeValue(settings.base.signed(object.seed));
             }
 
             @Override
             public Hasher read(Json json, JsonValue jsonData, Class type) {
                 if (jsonData == null || jsonData.isNull()) return null;
-                return new Hasher(BASE.readLong(jsonData.asString()));
+                return new Hasher(settings.base.readLong(jsonData.asString()));
             }
         });
     }
@@ -5265,6 +7678,18 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerInterpolator(Json json) {
+        registerInterpolator(json, SETTINGS);
+    }
+
+    /**
+     * Registers Interpolator with the given Json object, so Interpolator can be written to and read from JSON.
+     * This is a simple wrapper around each Interpolator's unique {@link Interpolator#getTag()} and
+     * {@link Interpolations#get(String)} to read it back.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerInterpolator(Json json, JsonSettings settings) {
         json.addClassTag("Inlr", Interpolator.class);
         json.setSerializer(Interpolator.class, new Json.Serializer<Interpolator>() {
             @Override
@@ -5288,7 +7713,19 @@ public final class JsonSupport {
      * @param json a libGDX Json object that will have a serializer registered
      */
     public static void registerClass(Json json) {
-        if(ADD_CLASS_TAGS) json.addClassTag("C", Class.class); // just Class type
+        registerClass(json, SETTINGS);
+    }
+
+    /**
+     * Registers the JDK Class type with the given Json object, so Class values can be written to and read from JSON.
+     * This can be useful for code that needs to use Class values as keys or as values. Class keys can be used with an
+     * {@link IdentityObjectMap} slightly more efficiently than an {@link ObjectObjectMap}.
+     *
+     * @param json a libGDX Json object that will have a serializer registered
+     * @param settings the JsonSettings the registered serializers will use; they keep it even if the defaults change
+     */
+    public static void registerClass(Json json, JsonSettings settings) {
+        if(settings.addClassTags) json.addClassTag("C", Class.class); // just Class type
         json.setSerializer(Class.class, new Json.Serializer<Class>() {
             @Override
             public void write(Json json, Class object, Class knownType) {
@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.github.tommyettinger.digital.*;
+import com.github.tommyettinger.digital.Interpolations.Interpolator;
+import com.github.tommyettinger.ds.*;
+import com.github.tommyettinger.ds.support.util.*;
+import com.github.tommyettinger.random.*;
+import com.github.tommyettinger.random.distribution.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Json} that registers {@link JsonSupport}'s serializers only when they are needed, instead of all at once
+ * like {@link JsonSupport#registerAll(Json)}. The first time a LazyJson writes an object of a type JsonSupport knows,
+ * reads a value with such a type requested, or reads a class tag or class name for such a type, it calls the matching
+ * {@code register} method in JsonSupport with this LazyJson's {@link JsonSettings}. After that, the serializer is
+ * stored in this Json as usual, and is used without any more lookups. This can save a lot of startup time and memory if
+ * only a few of the many types JsonSupport handles are used, which is common with the EnhancedRandom and Distribution
+ * types from juniper.
+ * <br>
+ * Asking for an interface type, like {@link EnhancedRandom} or {@link Distribution}, registers everything that
+ * interface's register method registers, because any implementation could be read back.
+ * <br>
+ * Some {@code register} methods in JsonSupport check {@link #getSerializer(Class)} to avoid registering twice, so
+ * getSerializer() does not trigger lazy registration here; call {@link #resolve(Class)} first if you need it to.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class LazyJson extends Json {
+
+    /**
+     * Registers one or more types with a Json, using the given settings. Every {@code register} method in
+     * {@link JsonSupport} that takes a Json and a JsonSettings can be used as a Registrar.
+     */
+    public interface Registrar {
+        void register(Json json, JsonSettings settings);
+    }
+
+    private static final ObjectObjectMap<Class, Registrar> BY_CLASS = new ObjectObjectMap<>(256);
+    private static final ObjectObjectMap<String, Registrar> BY_NAME = new ObjectObjectMap<>(256);
+    private static final ObjectObjectMap<String, Registrar> BY_TAG = new ObjectObjectMap<>(256);
+
+    private static void add(Registrar registrar, String tag, Class type) {
+        BY_CLASS.put(type, registrar);
+        BY_NAME.put(type.getName(), registrar);
+        if (tag != null) BY_TAG.put(tag, registrar);
+    }
+
+    private static void add(Registrar registrar, String[] tags, Class[] types) {
+        for (Class type : types) {
+            BY_CLASS.put(type, registrar);
+            BY_NAME.put(type.getName(), registrar);
+        }
+        for (String tag : tags) {
+            BY_TAG.put(tag, registrar);
+        }
+    }
+
+    static {
+        add(JsonSupport::registerObjectList, "oL", ObjectList.class);
+        add(JsonSupport::registerIntList, "iL", IntList.class);
+        add(JsonSupport::registerLongList, "lL", LongList.class);
+        add(JsonSupport::registerFloatList, "fL", FloatList.class);
+        add(JsonSupport::registerOffHeapIntList, "ohiL", OffHeapIntList.class);
+        add(JsonSupport::registerOffHeapLongList, "ohlL", OffHeapLongList.class);
+        add(JsonSupport::registerOffHeapFloatList, "ohfL", OffHeapFloatList.class);
+        add(JsonSupport::registerByteList, "bL", ByteList.class);
+        add(JsonSupport::registerShortList, "sL", ShortList.class);
+        add(JsonSupport::registerCharList, "cL", CharList.class);
+        add(JsonSupport::registerDoubleList, "dL", DoubleList.class);
+        add(JsonSupport::registerBooleanList, "tL", BooleanList.class);
+        add(JsonSupport::registerObjectBag, "oB", ObjectBag.class);
+        add(JsonSupport::registerIntBag, "iB", IntBag.class);
+        add(JsonSupport::registerLongBag, "lB", LongBag.class);
+        add(JsonSupport::registerFloatBag, "fB", FloatBag.class);
+        add(JsonSupport::registerByteBag, "bB", ByteBag.class);
+        add(JsonSupport::registerShortBag, "sB", ShortBag.class);
+        add(JsonSupport::registerCharBag, "cB", CharBag.class);
+        add(JsonSupport::registerDoubleBag, "dB", DoubleBag.class);
+        add(JsonSupport::registerBooleanBag, "tB", BooleanBag.class);
+        add(JsonSupport::registerObjectDeque, "oQ", ObjectDeque.class);
+        add(JsonSupport::registerLongDeque, "lQ", LongDeque.class);
+        add(JsonSupport::registerIntDeque, "iQ", IntDeque.class);
+        add(JsonSupport::registerCharDeque, "cQ", CharDeque.class);
+        add(JsonSupport::registerShortDeque, "sQ", ShortDeque.class);
+        add(JsonSupport::registerByteDeque, "bQ", ByteDeque.class);
+        add(JsonSupport::registerFloatDeque, "fQ", FloatDeque.class);
+        add(JsonSupport::registerDoubleDeque, "dQ", DoubleDeque.class);
+        add(JsonSupport::registerBooleanDeque, "tQ", BooleanDeque.class);
+        add(JsonSupport::registerEnumSet, "eS", EnumSet.class);
+        add(JsonSupport::registerEnumOrderedSet, "eOS", EnumOrderedSet.class);
+        add(JsonSupport::registerObjectSet, "oS", ObjectSet.class);
+        add(JsonSupport::registerObjectOrderedSet, "oOS", ObjectOrderedSet.class);
+        add(JsonSupport::registerIntSet, "iS", IntSet.class);
+        add(JsonSupport::registerIntOrderedSet, "iOS", IntOrderedSet.class);
+        add(JsonSupport::registerLongSet, "lS", LongSet.class);
+        add(JsonSupport::registerLongOrderedSet, "lOS", LongOrderedSet.class);
+        add(JsonSupport::registerEnumMap, "eoM", EnumMap.class);
+        add(JsonSupport::registerEnumOrderedMap, "eoOM", EnumOrderedMap.class);
+        add(JsonSupport::registerEnumIntMap, "elM", EnumIntMap.class);
+        add(JsonSupport::registerEnumIntOrderedMap, "elOM", EnumIntOrderedMap.class);
+        add(JsonSupport::registerEnumLongMap, "elM", EnumLongMap.class);
+        add(JsonSupport::registerEnumLongOrderedMap, "elOM", EnumLongOrderedMap.class);
+        add(JsonSupport::registerEnumFloatMap, "elM", EnumFloatMap.class);
+        add(JsonSupport::registerEnumFloatOrderedMap, "elOM", EnumFloatOrderedMap.class);
+        add(JsonSupport::registerObjectObjectMap, "ooM", ObjectObjectMap.class);
+        add(JsonSupport::registerObjectObjectOrderedMap, "ooOM", ObjectObjectOrderedMap.class);
+        add(JsonSupport::registerObjectLongMap, "olM", ObjectLongMap.class);
+        add(JsonSupport::registerObjectLongOrderedMap, "olOM", ObjectLongOrderedMap.class);
+        add(JsonSupport::registerObjectIntMap, "oiM", ObjectIntMap.class);
+        add(JsonSupport::registerObjectIntOrderedMap, "oiOM", ObjectIntOrderedMap.class);
+        add(JsonSupport::registerObjectFloatMap, "ofM", ObjectFloatMap.class);
+        add(JsonSupport::registerObjectFloatOrderedMap, "ofOM", ObjectFloatOrderedMap.class);
+        add(JsonSupport::registerIntObjectMap, "ioM", IntObjectMap.class);
+        add(JsonSupport::registerIntObjectOrderedMap, "ioOM", IntObjectOrderedMap.class);
+        add(JsonSupport::registerIntIntMap, "iiM", IntIntMap.class);
+        add(JsonSupport::registerOffHeapIntIntMap, "ohiiM", OffHeapIntIntMap.class);
+        add(JsonSupport::registerIntIntOrderedMap, "iiOM", IntIntOrderedMap.class);
+        add(JsonSupport::registerIntLongMap, "ilM", IntLongMap.class);
+        add(JsonSupport::registerIntLongOrderedMap, "ilOM", IntLongOrderedMap.class);
+        add(JsonSupport::registerIntFloatMap, "ifM", IntFloatMap.class);
+        add(JsonSupport::registerIntFloatOrderedMap, "ifOM", IntFloatOrderedMap.class);
+        add(JsonSupport::registerLongObjectMap, "loM", LongObjectMap.class);
+        add(JsonSupport::registerLongObjectOrderedMap, "loOM", LongObjectOrderedMap.class);
+        add(JsonSupport::registerLongIntMap, "liM", LongIntMap.class);
+        add(JsonSupport::registerLongIntOrderedMap, "liOM", LongIntOrderedMap.class);
+        add(JsonSupport::registerLongLongMap, "llM", LongLongMap.class);
+        add(JsonSupport::registerLongLongOrderedMap, "llOM", LongLongOrderedMap.class);
+        add(JsonSupport::registerLongFloatMap, "lfM", LongFloatMap.class);
+        add(JsonSupport::registerLongFloatOrderedMap, "lfOM", LongFloatOrderedMap.class);
+        add(JsonSupport::registerBinaryHeap, "oBQ", BinaryHeap.class);
+        add(JsonSupport::registerNumberedSet, "oNS", NumberedSet.class);
+        add(JsonSupport::registerCaseInsensitiveSet, "oCS", CaseInsensitiveSet.class);
+        add(JsonSupport::registerCaseInsensitiveOrderedSet, "oCOS", CaseInsensitiveOrderedSet.class);
+        add(JsonSupport::registerCaseInsensitiveMap, "ooCM", CaseInsensitiveMap.class);
+        add(JsonSupport::registerCaseInsensitiveOrderedMap, "ooCOM", CaseInsensitiveOrderedMap.class);
+        add(JsonSupport::registerFilteredStringSet, "oFSS", FilteredStringSet.class);
+        add(JsonSupport::registerFilteredStringOrderedSet, "oFSOS", FilteredStringOrderedSet.class);
+        add(JsonSupport::registerFilteredStringMap, "ooFSM", FilteredStringMap.class);
+        add(JsonSupport::registerFilteredStringOrderedMap, "ooFSOM", FilteredStringOrderedMap.class);
+        add(JsonSupport::registerOffsetBitSet, "iBS", OffsetBitSet.class);
+        add(JsonSupport::registerCharBitSet, "cBS", CharBitSet.class);
+        add(JsonSupport::registerCharBitSetFixedSize, "cFBS", CharBitSetFixedSize.class);
+        add(JsonSupport::registerJunction, new String[]{"Junc", "JAny", "JAll", "JOne", "JNot", "JLea"},
+                new Class[]{Junction.class, Junction.Any.class, Junction.All.class, Junction.One.class,
+                        Junction.Not.class, Junction.Leaf.class});
+        add(JsonSupport::registerStringJunction, "SJun", StringJunction.class);
+        add(JsonSupport::registerAtomicLong, null, AtomicLong.class);
+        add(JsonSupport::registerAlternateRandom, "AltR", AlternateRandom.class);
+        add(JsonSupport::registerFourWheelRandom, "FoWR", FourWheelRandom.class);
+        add(JsonSupport::registerTrimRandom, "TrmR", TrimRandom.class);
+        add(JsonSupport::registerWhiskerRandom, "WhiR", WhiskerRandom.class);
+        add(JsonSupport::registerPasarRandom, "PasR", PasarRandom.class);
+        add(JsonSupport::registerAceRandom, "AceR", AceRandom.class);
+        add(JsonSupport::registerChopRandom, "ChpR", ChopRandom.class);
+        add(JsonSupport::registerJsf32Random, "JS3R", Jsf32Random.class);
+        add(JsonSupport::registerXoshiro128PlusPlusRandom, "XPPR", Xoshiro128PlusPlusRandom.class);
+        add(JsonSupport::registerChip32Random, "XPPR", Chip32Random.class);
+        add(JsonSupport::registerLamb32Random, "Lm3R", Lamb32Random.class);
+        add(JsonSupport::registerXoshiro160RoadroxoRandom, "XPPR", Xoshiro160RoadroxoRandom.class);
+        add(JsonSupport::registerRespite32Random, "Re3R", Respite32Random.class);
+        add(JsonSupport::registerStrangerRandom, "StrR", StrangerRandom.class);
+        add(JsonSupport::registerXoshiro256StarStarRandom, "XSSR", Xoshiro256StarStarRandom.class);
+        add(JsonSupport::registerXoroshiro128StarStarRandom, "XSSR", Xoroshiro128StarStarRandom.class);
+        add(JsonSupport::registerXoshiro256MX3Random, "XMXR", Xoshiro256MX3Random.class);
+        add(JsonSupport::registerTricycleRandom, "TriR", TricycleRandom.class);
+        add(JsonSupport::registerRomuTrioRandom, "RTrR", RomuTrioRandom.class);
+        add(JsonSupport::registerSoloRandom, "SolR", SoloRandom.class);
+        add(JsonSupport::registerThrashRandom, "ThaR", ThrashRandom.class);
+        add(JsonSupport::registerThrooshRandom, "ThoR", ThrooshRandom.class);
+        add(JsonSupport::registerLaserRandom, "LasR", LaserRandom.class);
+        add(JsonSupport::registerMizuchiRandom, "MizR", MizuchiRandom.class);
+        add(JsonSupport::registerPcgRXSMXSRandom, "PRXR", PcgRXSMXSRandom.class);
+        add(JsonSupport::registerDistinctRandom, "DisR", DistinctRandom.class);
+        add(JsonSupport::registerMx3Random, "Mx3R", Mx3Random.class);
+        add(JsonSupport::registerHornRandom, "HrnR", HornRandom.class);
+        add(JsonSupport::registerScruffRandom, "ScrR", ScruffRandom.class);
+        add(JsonSupport::registerPouchRandom, "PouR", PouchRandom.class);
+        add(JsonSupport::registerSfc64Random, "SfcR", Sfc64Random.class);
+        add(JsonSupport::registerCrand64Random, "CraR", Crand64Random.class);
+        add(JsonSupport::registerFlowRandom, "FloR", FlowRandom.class);
+        add(JsonSupport::registerOrbitalRandom, "OrbR", OrbitalRandom.class);
+        add(JsonSupport::registerTaxon32Random, "TxnR", Taxon32Random.class);
+        add(JsonSupport::registerChoo32Random, "ChoR", Choo32Random.class);
+        add(JsonSupport::registerChill32Random, "Ch3R", Chill32Random.class);
+        add(JsonSupport::registerBear32Random, "BeaR", Bear32Random.class);
+        add(JsonSupport::registerTraceRandom, "TrcR", TraceRandom.class);
+        add(JsonSupport::registerExtendoRandom, "ExoR", ExtendoRandom.class);
+        add(JsonSupport::registerMaceRandom, "MceR", MaceRandom.class);
+        add(JsonSupport::registerLCG64Random, "L64R", LCG64Random.class);
+        add(JsonSupport::registerGoldenQuasiRandom, "GoQR", GoldenQuasiRandom.class);
+        add(JsonSupport::registerLFSR64QuasiRandom, "GoQR", LFSR64QuasiRandom.class);
+        add(JsonSupport::registerVanDerCorputQuasiRandom, "VCQR", VanDerCorputQuasiRandom.class);
+        add(JsonSupport::registerLowChangeQuasiRandom, "VCQR", LowChangeQuasiRandom.class);
+        add(JsonSupport::registerTupleQuasiRandom, "TuQR", TupleQuasiRandom.class);
+        add(JsonSupport::registerKnownSequenceRandom, "KnSR", KnownSequenceRandom.class);
+        add(JsonSupport::registerLongSequence, "LSeq", LongSequence.class);
+        add(JsonSupport::registerReverseWrapper, "RevW", ReverseWrapper.class);
+        add(JsonSupport::registerDeckWrapper, "DecW", DeckWrapper.class);
+        add(JsonSupport::registerCompositeWrapper, "CmpW", CompositeWrapper.class);
+        add(JsonSupport::registerArchivalWrapper, "ArcW", ArchivalWrapper.class);
+        add(JsonSupport::registerDistributionWrapper, "DsrW", DistributionWrapper.class);
+        add(JsonSupport::registerInterpolatorWrapper, "InrW", InterpolatorWrapper.class);
+        add(JsonSupport::registerEnhancedRandom, "EnhR", EnhancedRandom.class);
+        add(JsonSupport::registerRandomXS128, null, RandomXS128.class);
+        add(JsonSupport::registerArcsineDistribution, "Arcsine", ArcsineDistribution.class);
+        add(JsonSupport::registerBernoulliDistribution, "Bernoulli", BernoulliDistribution.class);
+        add(JsonSupport::registerBetaDistribution, "Beta", BetaDistribution.class);
+        add(JsonSupport::registerBetaPrimeDistribution, "BetaPrime", BetaPrimeDistribution.class);
+        add(JsonSupport::registerBinomialDistribution, "Binomial", BinomialDistribution.class);
+        add(JsonSupport::registerCauchyDistribution, "Cauchy", CauchyDistribution.class);
+        add(JsonSupport::registerChiDistribution, "Chi", ChiDistribution.class);
+        add(JsonSupport::registerChiSquareDistribution, "ChiSquare", ChiSquareDistribution.class);
+        add(JsonSupport::registerContinuousUniformDistribution, "ContinuousUniform", ContinuousUniformDistribution.class);
+        add(JsonSupport::registerDiscreteUniformDistribution, "DiscreteUniform", DiscreteUniformDistribution.class);
+        add(JsonSupport::registerErlangDistribution, "Erlang", ErlangDistribution.class);
+        add(JsonSupport::registerExponentialDistribution, "Exponential", ExponentialDistribution.class);
+        add(JsonSupport::registerFisherSnedecorDistribution, "FisherSnedecor", FisherSnedecorDistribution.class);
+        add(JsonSupport::registerFisherTippettDistribution, "FisherTippett", FisherTippettDistribution.class);
+        add(JsonSupport::registerGammaDistribution, "Gamma", GammaDistribution.class);
+        add(JsonSupport::registerGeometricDistribution, "Geometric", GeometricDistribution.class);
+        add(JsonSupport::registerKumaraswamyDistribution, "Kumaraswamy", KumaraswamyDistribution.class);
+        add(JsonSupport::registerLaplaceDistribution, "Laplace", LaplaceDistribution.class);
+        add(JsonSupport::registerLogCauchyDistribution, "LogCauchy", LogCauchyDistribution.class);
+        add(JsonSupport::registerLogisticDistribution, "Logistic", LogisticDistribution.class);
+        add(JsonSupport::registerLogNormalDistribution, "LogNormal", LogNormalDistribution.class);
+        add(JsonSupport::registerLumpDistribution, "Lump", LumpDistribution.class);
+        add(JsonSupport::registerNormalDistribution, "Normal", NormalDistribution.class);
+        add(JsonSupport::registerParetoDistribution, "Pareto", ParetoDistribution.class);
+        add(JsonSupport::registerPoissonDistribution, "Poisson", PoissonDistribution.class);
+        add(JsonSupport::registerPowerDistribution, "Power", PowerDistribution.class);
+        add(JsonSupport::registerRayleighDistribution, "Rayleigh", RayleighDistribution.class);
+        add(JsonSupport::registerStudentsTDistribution, "StudentsT", StudentsTDistribution.class);
+        add(JsonSupport::registerTriangularDistribution, "Triangular", TriangularDistribution.class);
+        add(JsonSupport::registerWeibullDistribution, "Weibull", WeibullDistribution.class);
+        add(JsonSupport::registerZipfianDistribution, "Zipfian", ZipfianDistribution.class);
+        add(JsonSupport::registerDistribution, "Dist", Distribution.class);
+        add(JsonSupport::registerBase, "Base", Base.class);
+        add(JsonSupport::registerHasher, "Hshr", Hasher.class);
+        add(JsonSupport::registerInterpolator, "Inlr", Interpolator.class);
+        add(JsonSupport::registerClass, "C", Class.class);
+    }
+
+    private final JsonSettings settings;
+    private final ObjectSet<Registrar> done = new ObjectSet<>(32);
+    private String typeName = "class";
+
+    /**
+     * Creates a LazyJson using {@link JsonWriter.OutputType#minimal} and {@link JsonSupport#getSettings()}.
+     */
+    public LazyJson() {
+        this(JsonWriter.OutputType.minimal, JsonSupport.getSettings());
+    }
+
+    /**
+     * Creates a LazyJson using the given OutputType and {@link JsonSupport#getSettings()}.
+     * @param outputType the OutputType to write with, such as {@link JsonWriter.OutputType#minimal}
+     */
+    public LazyJson(JsonWriter.OutputType outputType) {
+        this(outputType, JsonSupport.getSettings());
+    }
+
+    /**
+     * Creates a LazyJson using the given OutputType and JsonSettings. The settings are passed to every
+     * {@code register} method this calls.
+     * @param outputType the OutputType to write with, such as {@link JsonWriter.OutputType#minimal}
+     * @param settings the JsonSettings every lazily-registered serializer will use; if null, uses the defaults
+     */
+    public LazyJson(JsonWriter.OutputType outputType, JsonSettings settings) {
+        super(outputType);
+        this.settings = settings == null ? JsonSupport.getSettings() : settings;
+    }
+
+    /**
+     * Gets the JsonSettings that every lazily-registered serializer uses.
+     * @return the JsonSettings this was created with
+     */
+    public JsonSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Registers the serializer for {@code type} now, if JsonSupport has one and it hasn't been registered yet.
+     * @param type any Class; if JsonSupport doesn't handle it, this does nothing
+     * @return true if JsonSupport handles {@code type}, whether or not it was registered by this call
+     */
+    public boolean resolve(Class type) {
+        if (type == null) return false;
+        return run(BY_CLASS.get(type));
+    }
+
+    private boolean run(Registrar registrar) {
+        if (registrar == null) return false;
+        if (done.add(registrar))
+            registrar.register(this, settings);
+        return true;
+    }
+
+    @Override
+    public void setTypeName(String typeName) {
+        super.setTypeName(typeName);
+        this.typeName = typeName;
+    }
+
+    @Override
+    public Class getClass(String tag) {
+        Class type = super.getClass(tag);
+        if (type == null && run(BY_TAG.get(tag)))
+            type = super.getClass(tag);
+        return type;
+    }
+
+    @Override
+    public void writeValue(Object value, Class knownType, Class elementType) {
+        if (value != null) resolve(value.getClass());
+        super.writeValue(value, knownType, elementType);
+    }
+
+    @Override
+    public <T> T readValue(Class<T> type, Class elementType, JsonValue jsonData) {
+        if (jsonData != null) {
+            resolve(type);
+            if (typeName != null && jsonData.isObject()) {
+                String className = jsonData.getString(typeName, null);
+                if (className != null && super.getClass(className) == null) {
+                    Registrar registrar = BY_TAG.get(className);
+                    run(registrar == null ? BY_NAME.get(className) : registrar);
+                }
+            }
+        }
+        return super.readValue(type, elementType, jsonData);
+    }
+}
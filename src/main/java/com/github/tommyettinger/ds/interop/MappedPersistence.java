@@ -0,0 +1,890 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop;
+
+import com.github.tommyettinger.ds.*;
+import com.github.tommyettinger.ds.support.util.*;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Saves jdkgdxds primitive collections, primitive-to-primitive maps, and {@link OffsetBitSet}s to files as raw arrays,
+ * and loads them back, using memory-mapped files through {@link FileChannel#map(FileChannel.MapMode, long, long)}.
+ * Unlike {@link JsonSupport}, nothing is encoded as text or parsed; loading a list is one bulk copy from the mapped file
+ * into its array, and {@code mapInts()} and similar methods give a read-only view of the saved items without copying
+ * them at all. This is meant for checkpointing very large data structures, where startup time matters.
+ * <br>
+ * Each file has a 24-byte header, followed by the items. Everything is little-endian. The header holds:
+ * <ul>
+ *     <li>the int {@code 0x4D58474A} ("JGXM" in ASCII, when read as bytes),</li>
+ *     <li>a format version byte, currently 1,</li>
+ *     <li>a shape byte: 0 for a collection, 1 for a map, or 2 for the raw words of an OffsetBitSet,</li>
+ *     <li>the key or item type as an ASCII byte: {@code i}, {@code l}, {@code f}, {@code d}, {@code s}, {@code b}, or
+ *     {@code c} for int, long, float, double, short, byte, or char,</li>
+ *     <li>the value type as an ASCII byte in the same way, or 0 if this isn't a map,</li>
+ *     <li>the int count of items or entries, then 4 reserved bytes,</li>
+ *     <li>a long holding the raw bits of a map's default value, or an OffsetBitSet's offset, or 0.</li>
+ * </ul>
+ * A map stores all of its keys, then all of its values; each array is padded with zeros to a multiple of 8 bytes.
+ * <br>
+ * Every {@code save()} method calls {@link MappedByteBuffer#force()} before it returns, so once it returns normally,
+ * the saved data is on the storage device and survives an OS crash or power failure, as a checkpoint should.
+ * <br>
+ * A mapped file stays mapped until its buffer is garbage-collected, and on Windows, a file can't be replaced while it is
+ * mapped. Loading copies the data out, but the mapping it used may stay alive until it is garbage-collected, and a view
+ * from {@code mapInts()} and similar methods keeps its mapping for as long as the view is reachable, so saving over a
+ * file that was just loaded or mapped can fail there. This class isn't available on GWT.
+ */
+public final class MappedPersistence {
+    private static final int MAGIC = 0x4D58474A;
+    private static final byte VERSION = 1;
+    private static final byte COLLECTION = 0, MAP = 1, BITS = 2;
+    private static final char NONE = 0;
+    private static final int HEADER_BYTES = 24;
+    private static final int COUNT = 8;
+    private static final int EXTRA = 16;
+
+    private MappedPersistence() {
+    }
+
+    private static long padded(long bytes) {
+        return bytes + 7L & -8L;
+    }
+
+    /**
+     * Creates or truncates {@code file}, maps it with room for the header and {@code bytes} more, and writes the header.
+     * The returned buffer is positioned just after the header. The mapping stays valid after the channel is closed, and
+     * callers must call {@link MappedByteBuffer#force()} once they have filled it.
+     */
+    private static MappedByteBuffer create(Path file, byte shape, char keyType, char valueType, int count, long extra,
+                                           long bytes) throws IOException {
+        if (HEADER_BYTES + bytes > Integer.MAX_VALUE)
+            throw new IOException("Data structure is too large to map as one file: " + bytes + " bytes");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + bytes);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).put(VERSION).put(shape).put((byte) keyType).put((byte) valueType)
+                    .putInt(count).putInt(0).putLong(extra);
+            return buffer;
+        }
+    }
+
+    /**
+     * Maps {@code file} read-only, checks that its header matches the given shape and types and that it is long enough
+     * for its count, and returns the buffer positioned just after the header.
+     */
+    private static ByteBuffer open(Path file, byte shape, char keyType, char valueType, int keyBytes, int valueBytes)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_BYTES || length > Integer.MAX_VALUE)
+                throw new IOException("Not a mapped data structure file: " + file);
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length).order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt() != MAGIC)
+                throw new IOException("Not a mapped data structure file: " + file);
+            byte version = buffer.get();
+            if (version != VERSION)
+                throw new IOException("Unsupported mapped file version " + version + ": " + file);
+            if (buffer.get() != shape || buffer.get() != (byte) keyType || buffer.get() != (byte) valueType)
+                throw new IOException("File holds a different kind of data structure: " + file);
+            int count = buffer.getInt(COUNT);
+            if (count < 0 || length < HEADER_BYTES + padded((long) count * keyBytes) + padded((long) count * valueBytes))
+                throw new IOException("File is truncated: " + file);
+            ((Buffer) buffer).position(HEADER_BYTES);
+            return buffer;
+        }
+    }
+
+    /**
+     * Writes the items of any jdkgdxds int-based collection, such as an {@link IntList}, {@link IntBag}, or int
+     * set, to {@code file} in this class' format, replacing anything already there. Lists are written with one bulk copy.
+     * @param from a primitive-int-backed data structure from jdkgdxds
+     * @param file the file to write; it will be created or truncated
+     * @throws IOException if the file can't be written
+     */
+    public static void save(PrimitiveCollection.OfInt from, Path file) throws IOException {
+        int n = from.size();
+        MappedByteBuffer buffer = create(file, COLLECTION, 'i', NONE, n, 0L, padded(n * 4L));
+        IntBuffer items = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        if (from instanceof IntList) {
+            items.put(((IntList) from).items, 0, n);
+        } else if (from instanceof OffHeapIntList) {
+            items.put(((OffHeapIntList) from).asBuffer());
+        } else {
+            IntIterator it = from.iterator();
+            while (it.hasNext()) {
+                items.put(it.nextInt());
+            }
+        }
+        buffer.force();
+    }
+
+    /**
+     * Clears {@code into} and refills it with the items in {@code file}, which must have been written by
+     * {@link #save(PrimitiveCollection.OfInt, Path)}. Lists, including bags, are refilled with one bulk copy from the
+     * mapped file.
+     * @param file a file written by {@link #save(PrimitiveCollection.OfInt, Path)}
+     * @param into an existing collection that will be cleared and refilled
+     * @param <C> the type of {@code into}
+     * @return {@code into}, now holding only the items in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold int items
+     */
+    public static <C extends PrimitiveCollection.OfInt> C loadInts(Path file, C into) throws IOException {
+        ByteBuffer buffer = open(file, COLLECTION, 'i', NONE, 4, 0);
+        int n = buffer.getInt(COUNT);
+        IntBuffer items = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        into.clear();
+        if (into instanceof IntList) {
+            items.get(((IntList) into).setSize(n), 0, n);
+        } else {
+            for (int i = 0; i < n; i++) {
+                into.add(items.get(i));
+            }
+        }
+        return into;
+    }
+
+    /**
+     * Maps the items in {@code file}, which must have been written by {@link #save(PrimitiveCollection.OfInt, Path)},
+     * as a read-only IntBuffer without copying them. The buffer has position 0 and limit equal to the item count.
+     * @param file a file written by {@link #save(PrimitiveCollection.OfInt, Path)}
+     * @return a read-only IntBuffer over the items in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold int items
+     */
+    public static IntBuffer mapInts(Path file) throws IOException {
+        ByteBuffer buffer = open(file, COLLECTION, 'i', NONE, 4, 0);
+        int n = buffer.getInt(COUNT);
+        IntBuffer items = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        ((Buffer) items).limit(n);
+        return items;
+    }
+
+    /**
+     * Writes the items of any jdkgdxds long-based collection, such as a {@link LongList}, {@link LongBag}, or long
+     * set, to {@code file} in this class' format, replacing anything already there. Lists are written with one bulk copy.
+     * @param from a primitive-long-backed data structure from jdkgdxds
+     * @param file the file to write; it will be created or truncated
+     * @throws IOException if the file can't be written
+     */
+    public static void save(PrimitiveCollection.OfLong from, Path file) throws IOException {
+        int n = from.size();
+        MappedByteBuffer buffer = create(file, COLLECTION, 'l', NONE, n, 0L, padded(n * 8L));
+        LongBuffer items = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        if (from instanceof LongList) {
+            items.put(((LongList) from).items, 0, n);
+        } else if (from instanceof OffHeapLongList) {
+            items.put(((OffHeapLongList) from).asBuffer());
+        } else {
+            LongIterator it = from.iterator();
+            while (it.hasNext()) {
+                items.put(it.nextLong());
+            }
+        }
+        buffer.force();
+    }
+
+    /**
+     * Clears {@code into} and refills it with the items in {@code file}, which must have been written by
+     * {@link #save(PrimitiveCollection.OfLong, Path)}. Lists, including bags, are refilled with one bulk copy from the
+     * mapped file.
+     * @param file a file written by {@link #save(PrimitiveCollection.OfLong, Path)}
+     * @param into an existing collection that will be cleared and refilled
+     * @param <C> the type of {@code into}
+     * @return {@code into}, now holding only the items in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold long items
+     */
+    public static <C extends PrimitiveCollection.OfLong> C loadLongs(Path file, C into) throws IOException {
+        ByteBuffer buffer = open(file, COLLECTION, 'l', NONE, 8, 0);
+        int n = buffer.getInt(COUNT);
+        LongBuffer items = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        into.clear();
+        if (into instanceof LongList) {
+            items.get(((LongList) into).setSize(n), 0, n);
+        } else {
+            for (int i = 0; i < n; i++) {
+                into.add(items.get(i));
+            }
+        }
+        return into;
+    }
+
+    /**
+     * Maps the items in {@code file}, which must have been written by {@link #save(PrimitiveCollection.OfLong, Path)},
+     * as a read-only LongBuffer without copying them. The buffer has position 0 and limit equal to the item count.
+     * @param file a file written by {@link #save(PrimitiveCollection.OfLong, Path)}
+     * @return a read-only LongBuffer over the items in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold long items
+     */
+    public static LongBuffer mapLongs(Path file) throws IOException {
+        ByteBuffer buffer = open(file, COLLECTION, 'l', NONE, 8, 0);
+        int n = buffer.getInt(COUNT);
+        LongBuffer items = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        ((Buffer) items).limit(n);
+        return items;
+    }
+
+    /**
+     * Writes the items of any jdkgdxds float-based collection, such as a {@link FloatList}, {@link FloatBag}, or float
+     * set, to {@code file} in this class' format, replacing anything already there. Lists are written with one bulk copy.
+     * @param from a primitive-float-backed data structure from jdkgdxds
+     * @param file the file to write; it will be created or truncated
+     * @throws IOException if the file can't be written
+     */
+    public static void save(PrimitiveCollection.OfFloat from, Path file) throws IOException {
+        int n = from.size();
+        MappedByteBuffer buffer = create(file, COLLECTION, 'f', NONE, n, 0L, padded(n * 4L));
+        FloatBuffer items = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+        if (from instanceof FloatList) {
+            items.put(((FloatList) from).items, 0, n);
+        } else if (from instanceof OffHeapFloatList) {
+            items.put(((OffHeapFloatList) from).asBuffer());
+        } else {
+            FloatIterator it = from.iterator();
+            while (it.hasNext()) {
+                items.put(it.nextFloat());
+            }
+        }
+        buffer.force();
+    }
+
+    /**
+     * Clears {@code into} and refills it with the items in {@code file}, which must have been written by
+     * {@link #save(PrimitiveCollection.OfFloat, Path)}. Lists, including bags, are refilled with one bulk copy from the
+     * mapped file.
+     * @param file a file written by {@link #save(PrimitiveCollection.OfFloat, Path)}
+     * @param into an existing collection that will be cleared and refilled
+     * @param <C> the type of {@code into}
+     * @return {@code into}, now holding only the items in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold float items
+     */
+    public static <C extends PrimitiveCollection.OfFloat> C loadFloats(Path file, C into) throws IOException {
+        ByteBuffer buffer = open(file, COLLECTION, 'f', NONE, 4, 0);
+        int n = buffer.getInt(COUNT);
+        FloatBuffer items = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+        into.clear();
+        if (into instanceof FloatList) {
+            items.get(((FloatList) into).setSize(n), 0, n);
+        } else {
+            for (int i = 0; i < n; i++) {
+                into.add(items.get(i));
+            }
+        }
+        return into;
+    }
+
+    /**
+     * Maps the items in {@code file}, which must have been written by {@link #save(PrimitiveCollection.OfFloat, Path)},
+     * as a read-only FloatBuffer without copying them. The buffer has position 0 and limit equal to the item count.
+     * @param file a file written by {@link #save(PrimitiveCollection.OfFloat, Path)}
+     * @return a read-only FloatBuffer over the items in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold float items
+     */
+    public static FloatBuffer mapFloats(Path file) throws IOException {
+        ByteBuffer buffer = open(file, COLLECTION, 'f', NONE, 4, 0);
+        int n = buffer.getInt(COUNT);
+        FloatBuffer items = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+        ((Buffer) items).limit(n);
+        return items;
+    }
+
+    /**
+     * Writes the items of any jdkgdxds double-based collection, such as a {@link DoubleList}, {@link DoubleBag}, or double
+     * set, to {@code file} in this class' format, replacing anything already there. Lists are written with one bulk copy.
+     * @param from a primitive-double-backed data structure from jdkgdxds
+     * @param file the file to write; it will be created or truncated
+     * @throws IOException if the file can't be written
+     */
+    public static void save(PrimitiveCollection.OfDouble from, Path file) throws IOException {
+        int n = from.size();
+        MappedByteBuffer buffer = create(file, COLLECTION, 'd', NONE, n, 0L, padded(n * 8L));
+        DoubleBuffer items = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        if (from instanceof DoubleList) {
+            items.put(((DoubleList) from).items, 0, n);
+        } else {
+            DoubleIterator it = from.iterator();
+            while (it.hasNext()) {
+                items.put(it.nextDouble());
+            }
+        }
+        buffer.force();
+    }
+
+    /**
+     * Clears {@code into} and refills it with the items in {@code file}, which must have been written by
+     * {@link #save(PrimitiveCollection.OfDouble, Path)}. Lists, including bags, are refilled with one bulk copy from the
+     * mapped file.
+     * @param file a file written by {@link #save(PrimitiveCollection.OfDouble, Path)}
+     * @param into an existing collection that will be cleared and refilled
+     * @param <C> the type of {@code into}
+     * @return {@code into}, now holding only the items in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold double items
+     */
+    public static <C extends PrimitiveCollection.OfDouble> C loadDoubles(Path file, C into) throws IOException {
+        ByteBuffer buffer = open(file, COLLECTION, 'd', NONE, 8, 0);
+        int n = buffer.getInt(COUNT);
+        DoubleBuffer items = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        into.clear();
+        if (into instanceof DoubleList) {
+            items.get(((DoubleList) into).setSize(n), 0, n);
+        } else {
+            for (int i = 0; i < n; i++) {
+                into.add(items.get(i));
+            }
+        }
+        return into;
+    }
+
+    /**
+     * Maps the items in {@code file}, which must have been written by {@link #save(PrimitiveCollection.OfDouble, Path)},
+     * as a read-only DoubleBuffer without copying them. The buffer has position 0 and limit equal to the item count.
+     * @param file a file written by {@link #save(PrimitiveCollection.OfDouble, Path)}
+     * @return a read-only DoubleBuffer over the items in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold double items
+     */
+    public static DoubleBuffer mapDoubles(Path file) throws IOException {
+        ByteBuffer buffer = open(file, COLLECTION, 'd', NONE, 8, 0);
+        int n = buffer.getInt(COUNT);
+        DoubleBuffer items = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        ((Buffer) items).limit(n);
+        return items;
+    }
+
+    /**
+     * Writes the items of any jdkgdxds short-based collection, such as a {@link ShortList}, {@link ShortBag}, or short
+     * set, to {@code file} in this class' format, replacing anything already there. Lists are written with one bulk copy.
+     * @param from a primitive-short-backed data structure from jdkgdxds
+     * @param file the file to write; it will be created or truncated
+     * @throws IOException if the file can't be written
+     */
+    public static void save(PrimitiveCollection.OfShort from, Path file) throws IOException {
+        int n = from.size();
+        MappedByteBuffer buffer = create(file, COLLECTION, 's', NONE, n, 0L, padded(n * 2L));
+        ShortBuffer items = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asShortBuffer();
+        if (from instanceof ShortList) {
+            items.put(((ShortList) from).items, 0, n);
+        } else {
+            ShortIterator it = from.iterator();
+            while (it.hasNext()) {
+                items.put(it.nextShort());
+            }
+        }
+        buffer.force();
+    }
+
+    /**
+     * Clears {@code into} and refills it with the items in {@code file}, which must have been written by
+     * {@link #save(PrimitiveCollection.OfShort, Path)}. Lists, including bags, are refilled with one bulk copy from the
+     * mapped file.
+     * @param file a file written by {@link #save(PrimitiveCollection.OfShort, Path)}
+     * @param into an existing collection that will be cleared and refilled
+     * @param <C> the type of {@code into}
+     * @return {@code into}, now holding only the items in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold short items
+     */
+    public static <C extends PrimitiveCollection.OfShort> C loadShorts(Path file, C into) throws IOException {
+        ByteBuffer buffer = open(file, COLLECTION, 's', NONE, 2, 0);
+        int n = buffer.getInt(COUNT);
+        ShortBuffer items = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asShortBuffer();
+        into.clear();
+        if (into instanceof ShortList) {
+            items.get(((ShortList) into).setSize(n), 0, n);
+        } else {
+            for (int i = 0; i < n; i++) {
+                into.add(items.get(i));
+            }
+        }
+        return into;
+    }
+
+    /**
+     * Maps the items in {@code file}, which must have been written by {@link #save(PrimitiveCollection.OfShort, Path)},
+     * as a read-only ShortBuffer without copying them. The buffer has position 0 and limit equal to the item count.
+     * @param file a file written by {@link #save(PrimitiveCollection.OfShort, Path)}
+     * @return a read-only ShortBuffer over the items in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold short items
+     */
+    public static ShortBuffer mapShorts(Path file) throws IOException {
+        ByteBuffer buffer = open(file, COLLECTION, 's', NONE, 2, 0);
+        int n = buffer.getInt(COUNT);
+        ShortBuffer items = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asShortBuffer();
+        ((Buffer) items).limit(n);
+        return items;
+    }
+
+    /**
+     * Writes the items of any jdkgdxds byte-based collection, such as a {@link ByteList}, {@link ByteBag}, or byte
+     * set, to {@code file} in this class' format, replacing anything already there. Lists are written with one bulk copy.
+     * @param from a primitive-byte-backed data structure from jdkgdxds
+     * @param file the file to write; it will be created or truncated
+     * @throws IOException if the file can't be written
+     */
+    public static void save(PrimitiveCollection.OfByte from, Path file) throws IOException {
+        int n = from.size();
+        MappedByteBuffer buffer = create(file, COLLECTION, 'b', NONE, n, 0L, padded(n * 1L));
+        ByteBuffer items = buffer.slice();
+        if (from instanceof ByteList) {
+            items.put(((ByteList) from).items, 0, n);
+        } else {
+            ByteIterator it = from.iterator();
+            while (it.hasNext()) {
+                items.put(it.nextByte());
+            }
+        }
+        buffer.force();
+    }
+
+    /**
+     * Clears {@code into} and refills it with the items in {@code file}, which must have been written by
+     * {@link #save(PrimitiveCollection.OfByte, Path)}. Lists, including bags, are refilled with one bulk copy from the
+     * mapped file.
+     * @param file a file written by {@link #save(PrimitiveCollection.OfByte, Path)}
+     * @param into an existing collection that will be cleared and refilled
+     * @param <C> the type of {@code into}
+     * @return {@code into}, now holding only the items in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold byte items
+     */
+    public static <C extends PrimitiveCollection.OfByte> C loadBytes(Path file, C into) throws IOException {
+        ByteBuffer buffer = open(file, COLLECTION, 'b', NONE, 1, 0);
+        int n = buffer.getInt(COUNT);
+        ByteBuffer items = buffer.slice();
+        into.clear();
+        if (into instanceof ByteList) {
+            items.get(((ByteList) into).setSize(n), 0, n);
+        } else {
+            for (int i = 0; i < n; i++) {
+                into.add(items.get(i));
+            }
+        }
+        return into;
+    }
+
+    /**
+     * Maps the items in {@code file}, which must have been written by {@link #save(PrimitiveCollection.OfByte, Path)},
+     * as a read-only ByteBuffer without copying them. The buffer has position 0 and limit equal to the item count.
+     * @param file a file written by {@link #save(PrimitiveCollection.OfByte, Path)}
+     * @return a read-only ByteBuffer over the items in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold byte items
+     */
+    public static ByteBuffer mapBytes(Path file) throws IOException {
+        ByteBuffer buffer = open(file, COLLECTION, 'b', NONE, 1, 0);
+        int n = buffer.getInt(COUNT);
+        ByteBuffer items = buffer.slice();
+        ((Buffer) items).limit(n);
+        return items;
+    }
+
+    /**
+     * Writes the items of any jdkgdxds char-based collection, such as a {@link CharList}, {@link CharBag}, or char
+     * set, to {@code file} in this class' format, replacing anything already there. Lists are written with one bulk copy.
+     * @param from a primitive-char-backed data structure from jdkgdxds
+     * @param file the file to write; it will be created or truncated
+     * @throws IOException if the file can't be written
+     */
+    public static void save(PrimitiveCollection.OfChar from, Path file) throws IOException {
+        int n = from.size();
+        MappedByteBuffer buffer = create(file, COLLECTION, 'c', NONE, n, 0L, padded(n * 2L));
+        CharBuffer items = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asCharBuffer();
+        if (from instanceof CharList) {
+            items.put(((CharList) from).items, 0, n);
+        } else {
+            CharIterator it = from.iterator();
+            while (it.hasNext()) {
+                items.put(it.nextChar());
+            }
+        }
+        buffer.force();
+    }
+
+    /**
+     * Clears {@code into} and refills it with the items in {@code file}, which must have been written by
+     * {@link #save(PrimitiveCollection.OfChar, Path)}. Lists, including bags, are refilled with one bulk copy from the
+     * mapped file.
+     * @param file a file written by {@link #save(PrimitiveCollection.OfChar, Path)}
+     * @param into an existing collection that will be cleared and refilled
+     * @param <C> the type of {@code into}
+     * @return {@code into}, now holding only the items in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold char items
+     */
+    public static <C extends PrimitiveCollection.OfChar> C loadChars(Path file, C into) throws IOException {
+        ByteBuffer buffer = open(file, COLLECTION, 'c', NONE, 2, 0);
+        int n = buffer.getInt(COUNT);
+        CharBuffer items = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asCharBuffer();
+        into.clear();
+        if (into instanceof CharList) {
+            items.get(((CharList) into).setSize(n), 0, n);
+        } else {
+            for (int i = 0; i < n; i++) {
+                into.add(items.get(i));
+            }
+        }
+        return into;
+    }
+
+    /**
+     * Maps the items in {@code file}, which must have been written by {@link #save(PrimitiveCollection.OfChar, Path)},
+     * as a read-only CharBuffer without copying them. The buffer has position 0 and limit equal to the item count.
+     * @param file a file written by {@link #save(PrimitiveCollection.OfChar, Path)}
+     * @return a read-only CharBuffer over the items in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold char items
+     */
+    public static CharBuffer mapChars(Path file) throws IOException {
+        ByteBuffer buffer = open(file, COLLECTION, 'c', NONE, 2, 0);
+        int n = buffer.getInt(COUNT);
+        CharBuffer items = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asCharBuffer();
+        ((Buffer) items).limit(n);
+        return items;
+    }
+
+    /**
+     * Writes the keys and values of an {@link IntIntMap} or {@link IntIntOrderedMap} to {@code file}, as a column of
+     * keys followed by a column of values, replacing anything already there. The default value is stored too.
+     * @param from a jdkgdxds IntIntMap or IntIntOrderedMap
+     * @param file the file to write; it will be created or truncated
+     * @throws IOException if the file can't be written
+     */
+    public static void save(IntIntMap from, Path file) throws IOException {
+        int n = from.size();
+        MappedByteBuffer buffer = create(file, MAP, 'i', 'i', n, from.getDefaultValue(), padded(n * 4L) + padded(n * 4L));
+        IntBuffer keys = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        IntIterator ks = from.keySet().iterator();
+        while (ks.hasNext()) {
+            keys.put(ks.nextInt());
+        }
+        ((Buffer) buffer).position(HEADER_BYTES + (int) padded(n * 4L));
+        IntBuffer values = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        IntIterator vs = from.values().iterator();
+        while (vs.hasNext()) {
+            values.put(vs.nextInt());
+        }
+        buffer.force();
+    }
+
+    /**
+     * Clears {@code into} and refills it with the entries in {@code file}, which must have been written by
+     * {@link #save(IntIntMap, Path)}; an ordered map gets the entries in the order they were saved. The default value of
+     * {@code into} is set to the one that was saved.
+     * @param file a file written by {@link #save(IntIntMap, Path)}
+     * @param into an existing IntIntMap or IntIntOrderedMap that will be cleared and refilled
+     * @param <M> the type of {@code into}
+     * @return {@code into}, now holding only the entries in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold a IntIntMap
+     */
+    public static <M extends IntIntMap> M load(Path file, M into) throws IOException {
+        ByteBuffer buffer = open(file, MAP, 'i', 'i', 4, 4);
+        int n = buffer.getInt(COUNT);
+        IntBuffer keys = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        ((Buffer) buffer).position(HEADER_BYTES + (int) padded(n * 4L));
+        IntBuffer values = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        into.clear();
+        into.ensureCapacity(n);
+        into.setDefaultValue((int) buffer.getLong(EXTRA));
+        for (int i = 0; i < n; i++) {
+            into.put(keys.get(i), values.get(i));
+        }
+        return into;
+    }
+
+    /**
+     * Writes the keys and values of an {@link IntLongMap} or {@link IntLongOrderedMap} to {@code file}, as a column of
+     * keys followed by a column of values, replacing anything already there. The default value is stored too.
+     * @param from a jdkgdxds IntLongMap or IntLongOrderedMap
+     * @param file the file to write; it will be created or truncated
+     * @throws IOException if the file can't be written
+     */
+    public static void save(IntLongMap from, Path file) throws IOException {
+        int n = from.size();
+        MappedByteBuffer buffer = create(file, MAP, 'i', 'l', n, from.getDefaultValue(), padded(n * 4L) + padded(n * 8L));
+        IntBuffer keys = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        IntIterator ks = from.keySet().iterator();
+        while (ks.hasNext()) {
+            keys.put(ks.nextInt());
+        }
+        ((Buffer) buffer).position(HEADER_BYTES + (int) padded(n * 4L));
+        LongBuffer values = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        LongIterator vs = from.values().iterator();
+        while (vs.hasNext()) {
+            values.put(vs.nextLong());
+        }
+        buffer.force();
+    }
+
+    /**
+     * Clears {@code into} and refills it with the entries in {@code file}, which must have been written by
+     * {@link #save(IntLongMap, Path)}; an ordered map gets the entries in the order they were saved. The default value of
+     * {@code into} is set to the one that was saved.
+     * @param file a file written by {@link #save(IntLongMap, Path)}
+     * @param into an existing IntLongMap or IntLongOrderedMap that will be cleared and refilled
+     * @param <M> the type of {@code into}
+     * @return {@code into}, now holding only the entries in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold a IntLongMap
+     */
+    public static <M extends IntLongMap> M load(Path file, M into) throws IOException {
+        ByteBuffer buffer = open(file, MAP, 'i', 'l', 4, 8);
+        int n = buffer.getInt(COUNT);
+        IntBuffer keys = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        ((Buffer) buffer).position(HEADER_BYTES + (int) padded(n * 4L));
+        LongBuffer values = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        into.clear();
+        into.ensureCapacity(n);
+        into.setDefaultValue(buffer.getLong(EXTRA));
+        for (int i = 0; i < n; i++) {
+            into.put(keys.get(i), values.get(i));
+        }
+        return into;
+    }
+
+    /**
+     * Writes the keys and values of an {@link IntFloatMap} or {@link IntFloatOrderedMap} to {@code file}, as a column of
+     * keys followed by a column of values, replacing anything already there. The default value is stored too.
+     * @param from a jdkgdxds IntFloatMap or IntFloatOrderedMap
+     * @param file the file to write; it will be created or truncated
+     * @throws IOException if the file can't be written
+     */
+    public static void save(IntFloatMap from, Path file) throws IOException {
+        int n = from.size();
+        MappedByteBuffer buffer = create(file, MAP, 'i', 'f', n, (long) Float.floatToRawIntBits(from.getDefaultValue()), padded(n * 4L) + padded(n * 4L));
+        IntBuffer keys = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        IntIterator ks = from.keySet().iterator();
+        while (ks.hasNext()) {
+            keys.put(ks.nextInt());
+        }
+        ((Buffer) buffer).position(HEADER_BYTES + (int) padded(n * 4L));
+        FloatBuffer values = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+        FloatIterator vs = from.values().iterator();
+        while (vs.hasNext()) {
+            values.put(vs.nextFloat());
+        }
+        buffer.force();
+    }
+
+    /**
+     * Clears {@code into} and refills it with the entries in {@code file}, which must have been written by
+     * {@link #save(IntFloatMap, Path)}; an ordered map gets the entries in the order they were saved. The default value of
+     * {@code into} is set to the one that was saved.
+     * @param file a file written by {@link #save(IntFloatMap, Path)}
+     * @param into an existing IntFloatMap or IntFloatOrderedMap that will be cleared and refilled
+     * @param <M> the type of {@code into}
+     * @return {@code into}, now holding only the entries in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold a IntFloatMap
+     */
+    public static <M extends IntFloatMap> M load(Path file, M into) throws IOException {
+        ByteBuffer buffer = open(file, MAP, 'i', 'f', 4, 4);
+        int n = buffer.getInt(COUNT);
+        IntBuffer keys = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        ((Buffer) buffer).position(HEADER_BYTES + (int) padded(n * 4L));
+        FloatBuffer values = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+        into.clear();
+        into.ensureCapacity(n);
+        into.setDefaultValue(Float.intBitsToFloat((int) buffer.getLong(EXTRA)));
+        for (int i = 0; i < n; i++) {
+            into.put(keys.get(i), values.get(i));
+        }
+        return into;
+    }
+
+    /**
+     * Writes the keys and values of a {@link LongIntMap} or {@link LongIntOrderedMap} to {@code file}, as a column of
+     * keys followed by a column of values, replacing anything already there. The default value is stored too.
+     * @param from a jdkgdxds LongIntMap or LongIntOrderedMap
+     * @param file the file to write; it will be created or truncated
+     * @throws IOException if the file can't be written
+     */
+    public static void save(LongIntMap from, Path file) throws IOException {
+        int n = from.size();
+        MappedByteBuffer buffer = create(file, MAP, 'l', 'i', n, from.getDefaultValue(), padded(n * 8L) + padded(n * 4L));
+        LongBuffer keys = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        LongIterator ks = from.keySet().iterator();
+        while (ks.hasNext()) {
+            keys.put(ks.nextLong());
+        }
+        ((Buffer) buffer).position(HEADER_BYTES + (int) padded(n * 8L));
+        IntBuffer values = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        IntIterator vs = from.values().iterator();
+        while (vs.hasNext()) {
+            values.put(vs.nextInt());
+        }
+        buffer.force();
+    }
+
+    /**
+     * Clears {@code into} and refills it with the entries in {@code file}, which must have been written by
+     * {@link #save(LongIntMap, Path)}; an ordered map gets the entries in the order they were saved. The default value of
+     * {@code into} is set to the one that was saved.
+     * @param file a file written by {@link #save(LongIntMap, Path)}
+     * @param into an existing LongIntMap or LongIntOrderedMap that will be cleared and refilled
+     * @param <M> the type of {@code into}
+     * @return {@code into}, now holding only the entries in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold a LongIntMap
+     */
+    public static <M extends LongIntMap> M load(Path file, M into) throws IOException {
+        ByteBuffer buffer = open(file, MAP, 'l', 'i', 8, 4);
+        int n = buffer.getInt(COUNT);
+        LongBuffer keys = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        ((Buffer) buffer).position(HEADER_BYTES + (int) padded(n * 8L));
+        IntBuffer values = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        into.clear();
+        into.ensureCapacity(n);
+        into.setDefaultValue((int) buffer.getLong(EXTRA));
+        for (int i = 0; i < n; i++) {
+            into.put(keys.get(i), values.get(i));
+        }
+        return into;
+    }
+
+    /**
+     * Writes the keys and values of a {@link LongLongMap} or {@link LongLongOrderedMap} to {@code file}, as a column of
+     * keys followed by a column of values, replacing anything already there. The default value is stored too.
+     * @param from a jdkgdxds LongLongMap or LongLongOrderedMap
+     * @param file the file to write; it will be created or truncated
+     * @throws IOException if the file can't be written
+     */
+    public static void save(LongLongMap from, Path file) throws IOException {
+        int n = from.size();
+        MappedByteBuffer buffer = create(file, MAP, 'l', 'l', n, from.getDefaultValue(), padded(n * 8L) + padded(n * 8L));
+        LongBuffer keys = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        LongIterator ks = from.keySet().iterator();
+        while (ks.hasNext()) {
+            keys.put(ks.nextLong());
+        }
+        ((Buffer) buffer).position(HEADER_BYTES + (int) padded(n * 8L));
+        LongBuffer values = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        LongIterator vs = from.values().iterator();
+        while (vs.hasNext()) {
+            values.put(vs.nextLong());
+        }
+        buffer.force();
+    }
+
+    /**
+     * Clears {@code into} and refills it with the entries in {@code file}, which must have been written by
+     * {@link #save(LongLongMap, Path)}; an ordered map gets the entries in the order they were saved. The default value of
+     * {@code into} is set to the one that was saved.
+     * @param file a file written by {@link #save(LongLongMap, Path)}
+     * @param into an existing LongLongMap or LongLongOrderedMap that will be cleared and refilled
+     * @param <M> the type of {@code into}
+     * @return {@code into}, now holding only the entries in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold a LongLongMap
+     */
+    public static <M extends LongLongMap> M load(Path file, M into) throws IOException {
+        ByteBuffer buffer = open(file, MAP, 'l', 'l', 8, 8);
+        int n = buffer.getInt(COUNT);
+        LongBuffer keys = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        ((Buffer) buffer).position(HEADER_BYTES + (int) padded(n * 8L));
+        LongBuffer values = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        into.clear();
+        into.ensureCapacity(n);
+        into.setDefaultValue(buffer.getLong(EXTRA));
+        for (int i = 0; i < n; i++) {
+            into.put(keys.get(i), values.get(i));
+        }
+        return into;
+    }
+
+    /**
+     * Writes the keys and values of a {@link LongFloatMap} or {@link LongFloatOrderedMap} to {@code file}, as a column of
+     * keys followed by a column of values, replacing anything already there. The default value is stored too.
+     * @param from a jdkgdxds LongFloatMap or LongFloatOrderedMap
+     * @param file the file to write; it will be created or truncated
+     * @throws IOException if the file can't be written
+     */
+    public static void save(LongFloatMap from, Path file) throws IOException {
+        int n = from.size();
+        MappedByteBuffer buffer = create(file, MAP, 'l', 'f', n, (long) Float.floatToRawIntBits(from.getDefaultValue()), padded(n * 8L) + padded(n * 4L));
+        LongBuffer keys = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        LongIterator ks = from.keySet().iterator();
+        while (ks.hasNext()) {
+            keys.put(ks.nextLong());
+        }
+        ((Buffer) buffer).position(HEADER_BYTES + (int) padded(n * 8L));
+        FloatBuffer values = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+        FloatIterator vs = from.values().iterator();
+        while (vs.hasNext()) {
+            values.put(vs.nextFloat());
+        }
+        buffer.force();
+    }
+
+    /**
+     * Clears {@code into} and refills it with the entries in {@code file}, which must have been written by
+     * {@link #save(LongFloatMap, Path)}; an ordered map gets the entries in the order they were saved. The default value of
+     * {@code into} is set to the one that was saved.
+     * @param file a file written by {@link #save(LongFloatMap, Path)}
+     * @param into an existing LongFloatMap or LongFloatOrderedMap that will be cleared and refilled
+     * @param <M> the type of {@code into}
+     * @return {@code into}, now holding only the entries in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold a LongFloatMap
+     */
+    public static <M extends LongFloatMap> M load(Path file, M into) throws IOException {
+        ByteBuffer buffer = open(file, MAP, 'l', 'f', 8, 4);
+        int n = buffer.getInt(COUNT);
+        LongBuffer keys = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        ((Buffer) buffer).position(HEADER_BYTES + (int) padded(n * 8L));
+        FloatBuffer values = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+        into.clear();
+        into.ensureCapacity(n);
+        into.setDefaultValue(Float.intBitsToFloat((int) buffer.getLong(EXTRA)));
+        for (int i = 0; i < n; i++) {
+            into.put(keys.get(i), values.get(i));
+        }
+        return into;
+    }
+
+    /**
+     * Writes the raw words and offset of an {@link OffsetBitSet} to {@code file}, replacing anything already there.
+     * @param from an OffsetBitSet
+     * @param file the file to write; it will be created or truncated
+     * @throws IOException if the file can't be written
+     */
+    public static void save(OffsetBitSet from, Path file) throws IOException {
+        int[] bits = from.getRawBits();
+        int n = bits.length;
+        MappedByteBuffer buffer = create(file, BITS, 'i', NONE, n, from.getOffset(), padded(n * 4L));
+        buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(bits, 0, n);
+        buffer.force();
+    }
+
+    /**
+     * Replaces the contents and offset of {@code into} with the bits in {@code file}, which must have been written by
+     * {@link #save(OffsetBitSet, Path)}.
+     * @param file a file written by {@link #save(OffsetBitSet, Path)}
+     * @param into an existing OffsetBitSet that will have its contents replaced
+     * @return {@code into}, now holding only the bits in {@code file}
+     * @throws IOException if the file can't be read or doesn't hold an OffsetBitSet
+     */
+    public static OffsetBitSet load(Path file, OffsetBitSet into) throws IOException {
+        ByteBuffer buffer = open(file, BITS, 'i', NONE, 4, 0);
+        int[] bits = new int[buffer.getInt(COUNT)];
+        buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(bits);
+        into.setRawBits(bits);
+        into.setOffset((int) buffer.getLong(EXTRA));
+        return into;
+    }
+}
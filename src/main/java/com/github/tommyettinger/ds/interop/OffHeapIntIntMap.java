@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop;
+
+import com.github.tommyettinger.ds.support.util.IntIterator;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.NoSuchElementException;
+
+/**
+ * An unordered map from int keys to int values, with its keys and values stored outside the Java heap in direct
+ * {@link ByteBuffer}s. Like {@link OffHeapIntList}, this is meant for maps with so many entries that the garbage
+ * collector would spend a long time on their arrays. It uses open addressing with linear probing, as the libGDX and
+ * jdkgdxds IntIntMap classes do, and it removes entries by shifting later entries back instead of leaving tombstones.
+ * {@link ConversionToJDK#toOffHeapIntIntMap(com.badlogic.gdx.utils.IntIntMap)} and
+ * {@link ConversionToGDX#toIntIntMap(OffHeapIntIntMap)} convert to and from libGDX, and
+ * {@link JsonSupport#registerOffHeapIntIntMap(com.badlogic.gdx.utils.Json)} lets it be serialized.
+ * <br>
+ * The key 0 is stored on the heap, because a 0 in the key buffer marks an empty slot. The key and value tables can each
+ * have at most {@link #MAX_TABLE_SIZE} slots, so this can hold roughly 200 million entries with the default load
+ * factor; {@link #put(int, int)} throws an IllegalStateException instead of growing past that. {@link #keys()} and
+ * {@link #values()} iterate in the same order, so they can be read side by side.
+ */
+public class OffHeapIntIntMap {
+    /**
+     * The most slots the key table and value table can each have; one more doubling would need more bytes than a
+     * direct ByteBuffer can hold.
+     */
+    public static final int MAX_TABLE_SIZE = 1 << 28;
+
+    private IntBuffer keyTable;
+    private IntBuffer valueTable;
+    private int size;
+    private boolean hasZeroKey;
+    private int zeroValue;
+    private int defaultValue;
+
+    private final float loadFactor;
+    private int threshold;
+    private int shift;
+    private int mask;
+
+    /**
+     * Creates an empty map with room for 51 entries and a load factor of 0.8.
+     */
+    public OffHeapIntIntMap() {
+        this(51, 0.8f);
+    }
+
+    /**
+     * Creates an empty map with room for {@code initialCapacity} entries before it needs to grow, and a load factor of
+     * 0.8.
+     * @param initialCapacity how many entries this can hold before it needs to grow
+     */
+    public OffHeapIntIntMap(int initialCapacity) {
+        this(initialCapacity, 0.8f);
+    }
+
+    /**
+     * Creates an empty map with room for {@code initialCapacity} entries before it needs to grow.
+     * @param initialCapacity how many entries this can hold before it needs to grow
+     * @param loadFactor how full the tables can get before they grow; must be greater than 0 and less than 1
+     */
+    public OffHeapIntIntMap(int initialCapacity, float loadFactor) {
+        if (loadFactor <= 0f || loadFactor >= 1f)
+            throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor);
+        this.loadFactor = loadFactor;
+        resize(tableSize(initialCapacity, loadFactor));
+    }
+
+    private static int tableSize(int capacity, float loadFactor) {
+        if (capacity < 0) throw new IllegalArgumentException("capacity must be >= 0: " + capacity);
+        long needed = Math.max(2L, (long) Math.ceil(capacity / (double) loadFactor));
+        if (needed > MAX_TABLE_SIZE)
+            throw new IllegalStateException("OffHeapIntIntMap can't hold " + capacity + " entries.");
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private static IntBuffer allocate(int slots) {
+        if (slots > MAX_TABLE_SIZE)
+            throw new IllegalStateException("OffHeapIntIntMap can't have more than " + MAX_TABLE_SIZE + " slots: " + slots);
+        return ByteBuffer.allocateDirect(slots << 2).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+
+    private int place(int key) {
+        return place(key, shift);
+    }
+
+    private static int place(int key, int shift) {
+        return (int) (key * 0x9E3779B97F4A7C15L >>> shift);
+    }
+
+    /**
+     * Returns the index of {@code key} in the key table, or {@code -(index + 1)} for the empty slot where it would go.
+     * The key must not be 0.
+     */
+    private int locateKey(int key) {
+        for (int i = place(key); ; i = i + 1 & mask) {
+            int other = keyTable.get(i);
+            if (other == 0) return -(i + 1);
+            if (other == key) return i;
+        }
+    }
+
+    /**
+     * Moves every entry into new tables with {@code newSize} slots. The new tables are allocated before any field
+     * changes, so if that throws, this map is left as it was.
+     */
+    private void resize(int newSize) {
+        IntBuffer newKeys = allocate(newSize), newValues = allocate(newSize);
+        int newMask = newSize - 1, newShift = Long.numberOfLeadingZeros(newMask);
+        for (int i = 0, n = keyTable == null ? 0 : keyTable.capacity(); i < n; i++) {
+            int key = keyTable.get(i);
+            if (key != 0) {
+                int slot = place(key, newShift);
+                while (newKeys.get(slot) != 0) {
+                    slot = slot + 1 & newMask;
+                }
+                newKeys.put(slot, key);
+                newValues.put(slot, valueTable.get(i));
+            }
+        }
+        keyTable = newKeys;
+        valueTable = newValues;
+        threshold = (int) (newSize * loadFactor);
+        mask = newMask;
+        shift = newShift;
+    }
+
+    /**
+     * Associates {@code value} with {@code key}.
+     * @param key any int key
+     * @param value the value to associate with {@code key}
+     * @return the value previously associated with {@code key}, or the {@link #getDefaultValue() default value}
+     * @throws IllegalStateException if adding {@code key} would need tables with more than {@link #MAX_TABLE_SIZE}
+     *                               slots; the map is left unchanged
+     */
+    public int put(int key, int value) {
+        if (key == 0) {
+            int old = hasZeroKey ? zeroValue : defaultValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return old;
+        }
+        int i = locateKey(key);
+        if (i >= 0) {
+            int old = valueTable.get(i);
+            valueTable.put(i, value);
+            return old;
+        }
+        if (size + 1 >= threshold) {
+            resize(keyTable.capacity() << 1);
+            i = locateKey(key);
+        }
+        i = -(i + 1);
+        keyTable.put(i, key);
+        valueTable.put(i, value);
+        size++;
+        return defaultValue;
+    }
+
+    /**
+     * Gets the value associated with {@code key}, or the {@link #getDefaultValue() default value} if it isn't present.
+     * @param key any int key
+     * @return the associated value, or the default value
+     */
+    public int get(int key) {
+        return get(key, defaultValue);
+    }
+
+    /**
+     * Gets the value associated with {@code key}, or {@code defaultValue} if it isn't present.
+     * @param key any int key
+     * @param defaultValue the value to return if {@code key} isn't present
+     * @return the associated value, or {@code defaultValue}
+     */
+    public int get(int key, int defaultValue) {
+        if (key == 0) return hasZeroKey ? zeroValue : defaultValue;
+        int i = locateKey(key);
+        return i < 0 ? defaultValue : valueTable.get(i);
+    }
+
+    /**
+     * Checks whether {@code key} has a value associated with it.
+     * @param key any int key
+     * @return true if {@code key} is present
+     */
+    public boolean containsKey(int key) {
+        if (key == 0) return hasZeroKey;
+        return locateKey(key) >= 0;
+    }
+
+    /**
+     * Removes {@code key} and its value, if present.
+     * @param key any int key
+     * @return the value that was associated with {@code key}, or the {@link #getDefaultValue() default value}
+     */
+    public int remove(int key) {
+        if (key == 0) {
+            if (!hasZeroKey) return defaultValue;
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+        int i = locateKey(key);
+        if (i < 0) return defaultValue;
+        int old = valueTable.get(i);
+        int next = i + 1 & mask;
+        while ((key = keyTable.get(next)) != 0) {
+            int placement = place(key);
+            if ((next - placement & mask) > (i - placement & mask)) {
+                keyTable.put(i, key);
+                valueTable.put(i, valueTable.get(next));
+                i = next;
+            }
+            next = next + 1 & mask;
+        }
+        keyTable.put(i, 0);
+        size--;
+        return old;
+    }
+
+    /**
+     * Makes sure this can hold {@code additional} more entries without allocating larger tables.
+     * @param additional how many entries will be added
+     */
+    public void ensureCapacity(int additional) {
+        int tableSize = tableSize((int) Math.min(Integer.MAX_VALUE, (long) size + additional), loadFactor);
+        if (keyTable.capacity() < tableSize) resize(tableSize);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every entry, keeping the current tables.
+     */
+    public void clear() {
+        if (size == 0) return;
+        hasZeroKey = false;
+        size = 0;
+        for (int i = 0, n = keyTable.capacity(); i < n; i++) {
+            keyTable.put(i, 0);
+        }
+    }
+
+    /**
+     * Gets the value {@link #get(int)}, {@link #put(int, int)}, and {@link #remove(int)} return when a key isn't present.
+     * @return the default value, which is 0 unless changed
+     */
+    public int getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * Sets the value {@link #get(int)}, {@link #put(int, int)}, and {@link #remove(int)} return when a key isn't present.
+     * @param defaultValue the new default value
+     */
+    public void setDefaultValue(int defaultValue) {
+        this.defaultValue = defaultValue;
+    }
+
+    /**
+     * Iterates over the keys, in the same order as {@link #values()}.
+     * @return a new iterator over the keys
+     */
+    public IntIterator keys() {
+        return new TableIterator(true);
+    }
+
+    /**
+     * Iterates over the values, in the same order as {@link #keys()}.
+     * @return a new iterator over the values
+     */
+    public IntIterator values() {
+        return new TableIterator(false);
+    }
+
+    private final class TableIterator implements IntIterator {
+        private final boolean keys;
+        private int index = -2;
+        private int current = -2;
+
+        TableIterator(boolean keys) {
+            this.keys = keys;
+            advance();
+        }
+
+        /**
+         * Moves {@code index} to the next occupied slot; -1 stands for the zero key, and the table size means done.
+         */
+        private void advance() {
+            int n = keyTable.capacity();
+            if (index == -2) {
+                index = -1;
+                if (hasZeroKey) return;
+            }
+            while (++index < n) {
+                if (keyTable.get(index) != 0) return;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < keyTable.capacity();
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) throw new NoSuchElementException("No more entries.");
+            current = index;
+            advance();
+            if (current == -1) return keys ? 0 : zeroValue;
+            return keys ? keyTable.get(current) : valueTable.get(current);
+        }
+
+        @Override
+        public void remove() {
+            if (current == -2) throw new IllegalStateException("nextInt() must be called before remove().");
+            if (current == -1) {
+                OffHeapIntIntMap.this.remove(0);
+            } else {
+                OffHeapIntIntMap.this.remove(keyTable.get(current));
+                // removal may shift a later entry back into the current slot, so look at it again
+                if (keyTable.get(current) != 0) index = current;
+            }
+            current = -2;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hasZeroKey ? zeroValue : 0;
+        for (int i = 0, n = keyTable.capacity(); i < n; i++) {
+            int key = keyTable.get(i);
+            if (key != 0) h += key * 31 + valueTable.get(i);
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OffHeapIntIntMap)) return false;
+        OffHeapIntIntMap other = (OffHeapIntIntMap) o;
+        if (other.size != size || other.hasZeroKey != hasZeroKey) return false;
+        if (hasZeroKey && other.zeroValue != zeroValue) return false;
+        for (int i = 0, n = keyTable.capacity(); i < n; i++) {
+            int key = keyTable.get(i);
+            if (key != 0) {
+                int j = other.locateKey(key);
+                if (j < 0 || other.valueTable.get(j) != valueTable.get(i)) return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) return "{}";
+        StringBuilder sb = new StringBuilder(size * 12);
+        sb.append('{');
+        IntIterator ks = keys(), vs = values();
+        while (ks.hasNext()) {
+            sb.append(ks.nextInt()).append('=').append(vs.nextInt());
+            if (ks.hasNext()) sb.append(", ");
+        }
+        return sb.append('}').toString();
+    }
+}
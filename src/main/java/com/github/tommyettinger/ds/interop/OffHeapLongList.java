@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop;
+
+import com.github.tommyettinger.ds.PrimitiveCollection;
+import com.github.tommyettinger.ds.support.util.LongIterator;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.NoSuchElementException;
+
+/**
+ * A resizable, ordered list of long items that are stored outside the Java heap, in a direct {@link ByteBuffer}. The
+ * garbage collector never has to scan or move the items, which matters when a list holds hundreds of millions of them;
+ * only this small object and its buffer are on the heap. It works like a jdkgdxds {@link com.github.tommyettinger.ds.LongList}
+ * for the most part, and implements {@link PrimitiveCollection.OfLong}, so code that takes a PrimitiveCollection can use it
+ * as-is. {@link ConversionToJDK#toOffHeapLongList(LongArray)} and {@link ConversionToGDX#toLongArray(PrimitiveCollection.OfLong)}
+ * convert to and from libGDX, and {@link JsonSupport#registerOffHeapLongList(com.badlogic.gdx.utils.Json)} lets it be
+ * serialized.
+ * <br>
+ * Items are kept in native byte order, and {@link #asBuffer()} gives them as a LongBuffer without copying. A direct
+ * buffer can hold at most {@link Integer#MAX_VALUE} bytes, so this can hold at most {@link #MAX_CAPACITY} items. When the
+ * list grows, a larger buffer is allocated and the items are copied into it in bulk; the memory of the old buffer is
+ * released once it is garbage-collected, so it helps to give a good capacity up-front or call {@link #ensureCapacity(int)}.
+ */
+public class OffHeapLongList implements PrimitiveCollection.OfLong {
+    /**
+     * The most items an OffHeapLongList can hold, limited by how many bytes one direct ByteBuffer can have.
+     */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE / 8;
+
+    private LongBuffer items;
+    private int size;
+
+    /**
+     * Creates an empty OffHeapLongList with room for 16 items.
+     */
+    public OffHeapLongList() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty OffHeapLongList with room for {@code capacity} items before it needs to grow.
+     * @param capacity how many items this can hold before it needs to grow
+     */
+    public OffHeapLongList(int capacity) {
+        items = allocate(Math.max(1, capacity));
+    }
+
+    /**
+     * Creates an OffHeapLongList holding {@code length} items from {@code array}, starting at {@code offset}.
+     * @param array the long array to copy from
+     * @param offset the first index in {@code array} to copy
+     * @param length how many items to copy
+     */
+    public OffHeapLongList(long[] array, int offset, int length) {
+        this(length);
+        addAll(array, offset, length);
+    }
+
+    /**
+     * Creates an OffHeapLongList holding the items of any jdkgdxds long-based collection, in its iteration order.
+     * @param from a primitive-long-backed data structure, such as a jdkgdxds LongList
+     */
+    public OffHeapLongList(PrimitiveCollection.OfLong from) {
+        this(from.size());
+        LongIterator it = from.iterator();
+        while (it.hasNext()) {
+            add(it.nextLong());
+        }
+    }
+
+    private static LongBuffer allocate(int capacity) {
+        if (capacity > MAX_CAPACITY)
+            throw new IllegalStateException("OffHeapLongList can't hold more than " + MAX_CAPACITY + " items: " + capacity);
+        return ByteBuffer.allocateDirect(capacity * 8).order(ByteOrder.nativeOrder()).asLongBuffer();
+    }
+
+    /**
+     * Gets a view of {@code items} from {@code start} inclusive to {@code end} exclusive, positioned at {@code start}.
+     * Positions are changed through {@link Buffer}, because the covariant overrides don't exist on Java 8.
+     */
+    private LongBuffer range(int start, int end) {
+        LongBuffer view = items.duplicate();
+        ((Buffer) view).limit(end);
+        ((Buffer) view).position(start);
+        return view;
+    }
+
+    private void resize(int capacity) {
+        LongBuffer larger = allocate(capacity);
+        larger.put(range(0, size));
+        items = larger;
+    }
+
+    /**
+     * Gets how many items this can hold before it needs to allocate a larger buffer.
+     * @return the current capacity
+     */
+    public int capacity() {
+        return items.capacity();
+    }
+
+    /**
+     * Makes sure this can hold {@code additional} more items without allocating a larger buffer.
+     * @param additional how many items will be added
+     */
+    public void ensureCapacity(int additional) {
+        if (additional < 0) throw new IllegalArgumentException("additional must be >= 0: " + additional);
+        long needed = (long) size + additional;
+        if (needed > MAX_CAPACITY)
+            throw new IllegalStateException("OffHeapLongList can't hold more than " + MAX_CAPACITY + " items: " + needed);
+        int capacity = items.capacity();
+        if (needed > capacity)
+            resize((int) Math.min(MAX_CAPACITY, Math.max(needed, capacity + (capacity >>> 1) + 8L)));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public boolean add(long value) {
+        if (size == items.capacity()) ensureCapacity(1);
+        items.put(size++, value);
+        return true;
+    }
+
+    /**
+     * Inserts {@code value} at {@code index}, moving any items at or after {@code index} up by one.
+     * @param index the index to insert at; may be equal to {@link #size()} to add at the end
+     * @param value the item to insert
+     */
+    public void insert(int index, long value) {
+        if (index > size) throw new IndexOutOfBoundsException("index can't be > size: " + index + " > " + size);
+        if (size == items.capacity()) ensureCapacity(1);
+        if (index < size) {
+            LongBuffer tail = range(index, size);
+            LongBuffer to = items.duplicate();
+            ((Buffer) to).position(index + 1);
+            to.put(tail);
+        }
+        items.put(index, value);
+        size++;
+    }
+
+    /**
+     * Adds {@code length} items from {@code array}, starting at {@code offset}, to the end of this, in one bulk copy.
+     * @param array the long array to copy from
+     * @param offset the first index in {@code array} to copy
+     * @param length how many items to copy
+     */
+    public void addAll(long[] array, int offset, int length) {
+        ensureCapacity(length);
+        LongBuffer to = items.duplicate();
+        ((Buffer) to).position(size);
+        to.put(array, offset, length);
+        size += length;
+    }
+
+    /**
+     * Gets the item at {@code index}.
+     * @param index the index of the item to get
+     * @return the item at {@code index}
+     */
+    public long get(int index) {
+        if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+        return items.get(index);
+    }
+
+    /**
+     * Sets the item at {@code index} to {@code value}.
+     * @param index the index of the item to set
+     * @param value the new item
+     * @return the item that was at {@code index} before
+     */
+    public long set(int index, long value) {
+        if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+        long old = items.get(index);
+        items.put(index, value);
+        return old;
+    }
+
+    /**
+     * Removes the item at {@code index}, moving any later items down by one.
+     * @param index the index of the item to remove
+     * @return the removed item
+     */
+    public long removeAt(int index) {
+        if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+        long old = items.get(index);
+        if (index < size - 1) {
+            LongBuffer tail = range(index + 1, size);
+            LongBuffer to = items.duplicate();
+            ((Buffer) to).position(index);
+            to.put(tail);
+        }
+        size--;
+        return old;
+    }
+
+    /**
+     * Removes the first occurrence of {@code value}, if present.
+     * @param value the item to remove
+     * @return true if an item was removed
+     */
+    @Override
+    public boolean remove(long value) {
+        int index = indexOf(value);
+        if (index < 0) return false;
+        removeAt(index);
+        return true;
+    }
+
+    @Override
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Finds the first index of {@code value}, or returns -1 if it isn't present.
+     * @param value the item to look for
+     * @return the first index of {@code value}, or -1
+     */
+    public int indexOf(long value) {
+        for (int i = 0; i < size; i++) {
+            if (items.get(i) == value) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Copies {@code length} items, starting at {@code start}, into {@code into} at {@code offset}, in one bulk copy.
+     * @param start the first index in this list to copy
+     * @param into the array to copy into
+     * @param offset the first index in {@code into} to write
+     * @param length how many items to copy
+     * @return {@code into}
+     */
+    public long[] toArray(int start, long[] into, int offset, int length) {
+        if (start + length > size)
+            throw new IndexOutOfBoundsException("start + length can't be > size: " + (start + length) + " > " + size);
+        range(start, start + length).get(into, offset, length);
+        return into;
+    }
+
+    /**
+     * Copies every item into a new on-heap array.
+     * @return a new long array holding the items of this list
+     */
+    public long[] toArray() {
+        return toArray(0, new long[size], 0, size);
+    }
+
+    /**
+     * Gets the items of this list as a LongBuffer that shares this list's memory, with position 0 and limit
+     * {@link #size()}. Changes to the items show up in both, but if this list grows, the buffer keeps the old memory.
+     * @return a LongBuffer over the items of this list
+     */
+    public LongBuffer asBuffer() {
+        return range(0, size);
+    }
+
+    @Override
+    public LongIterator iterator() {
+        return new LongIterator() {
+            private int index;
+            private int last = -1;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public long nextLong() {
+                if (index >= size) throw new NoSuchElementException("No more items.");
+                last = index;
+                return items.get(index++);
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) throw new IllegalStateException("nextLong() must be called before remove().");
+                removeAt(last);
+                index = last;
+                last = -1;
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        for (int i = 0; i < size; i++) {
+            long item = items.get(i);
+            h = h * 31 + (int) (item ^ item >>> 32);
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OffHeapLongList)) return false;
+        OffHeapLongList other = (OffHeapLongList) o;
+        if (size != other.size) return false;
+        for (int i = 0; i < size; i++) {
+            if (items.get(i) != other.items.get(i)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) return "[]";
+        StringBuilder sb = new StringBuilder(size * 8);
+        sb.append('[').append(items.get(0));
+        for (int i = 1; i < size; i++) {
+            sb.append(", ").append(items.get(i));
+        }
+        return sb.append(']').toString();
+    }
+}
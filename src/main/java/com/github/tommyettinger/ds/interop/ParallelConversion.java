@@ -0,0 +1,671 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.CharArray;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.ShortArray;
+import com.github.tommyettinger.ds.*;
+import com.github.tommyettinger.ds.support.util.IntIterator;
+import com.github.tommyettinger.ds.support.util.LongIterator;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel versions of some of the conversions in {@link ConversionToGDX} and {@link ConversionToJDK}, for when a
+ * single data structure is large enough that converting it on one core takes a noticeable amount of time. Work is only
+ * split up when the source has at least {@link #getThreshold()} items; smaller conversions just call the matching
+ * method in ConversionToGDX or ConversionToJDK, so they aren't slowed down by scheduling tasks.
+ * <br>
+ * Array-backed destinations are filled by copying disjoint slices of the source at the same time, using
+ * {@link System#arraycopy(Object, int, Object, int, int)} when the source is array-backed too (at most two copies per
+ * slice of a deque, if the slice wraps around its backing array), or by index when it is a {@link RandomAccess} List. Hashed destinations are built as one partial set per slice, and the
+ * partial sets are then merged into a destination that was sized for all of them up-front. The merge runs on one
+ * thread, so this is mostly a win when the source has many repeated items; if every item is unique, the merge does as
+ * much work as the sequential conversion. Sources that can only be iterated, such as hashed sets and maps, can't be
+ * split into slices, so their conversions are always sequential and aren't repeated here.
+ * <br>
+ * The source must not be modified while a conversion is running. This class is not available on GWT, which has no
+ * threads anyway; use ConversionToGDX or ConversionToJDK there.
+ */
+@SuppressWarnings("unchecked")
+public class ParallelConversion {
+    /**
+     * The default minimum number of items a source must have before its conversion is split up; 1 &lt;&lt; 18, or
+     * 262144. Below this, the time spent scheduling tasks is usually more than the time saved.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 18;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Creates a ParallelConversion that runs on {@link ForkJoinPool#commonPool()} and splits conversions of at least
+     * {@link #DEFAULT_THRESHOLD} items.
+     */
+    public ParallelConversion() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a ParallelConversion that runs on {@link ForkJoinPool#commonPool()} and splits conversions of at least
+     * {@code threshold} items.
+     * @param threshold the minimum number of items a source must have for its conversion to be split; at least 1
+     */
+    public ParallelConversion(int threshold) {
+        this(ForkJoinPool.commonPool(), threshold);
+    }
+
+    /**
+     * Creates a ParallelConversion that runs on the given ForkJoinPool and splits conversions of at least
+     * {@code threshold} items. Conversions are split into as many slices as {@code pool} has parallelism.
+     * @param pool the ForkJoinPool to run on; if null, {@link ForkJoinPool#commonPool()} is used
+     * @param threshold the minimum number of items a source must have for its conversion to be split; at least 1
+     */
+    public ParallelConversion(ForkJoinPool pool, int threshold) {
+        this.pool = pool == null ? ForkJoinPool.commonPool() : pool;
+        this.threshold = Math.max(1, threshold);
+    }
+
+    /**
+     * Gets the ForkJoinPool that split conversions run on.
+     * @return the ForkJoinPool this was created with
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Gets the minimum number of items a source must have before its conversion is split up.
+     * @return the threshold this was created with
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Copies or reads one slice of a source, from {@code start} inclusive to {@code end} exclusive.
+     */
+    private interface SliceAction {
+        void run(int slice, int start, int end);
+    }
+
+    /**
+     * Gets how many slices a source with {@code size} items should be split into; this is 1 below the threshold.
+     */
+    private int slices(int size) {
+        if (size < threshold) return 1;
+        return Math.max(1, Math.min(pool.getParallelism(), size));
+    }
+
+    /**
+     * Splits the range from 0 to {@code size} into {@code slices} nearly-equal slices and runs {@code action} on each
+     * of them in {@link #pool}, returning once all of them are done.
+     */
+    private void forEachSlice(int size, int slices, SliceAction action) {
+        final ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[slices];
+        for (int i = 0; i < slices; i++) {
+            final int slice = i;
+            final int start = (int) ((long) size * i / slices);
+            final int end = (int) ((long) size * (i + 1) / slices);
+            tasks[i] = ForkJoinTask.adapt(() -> action.run(slice, start, end));
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+    }
+
+    /**
+     * Converts any jdkgdxds int-based collection to a libGDX IntArray, like
+     * {@link ConversionToGDX#toIntArray(PrimitiveCollection.OfInt)}. If {@code from} is a {@link IntList},
+     * {@link IntBag}, or {@link IntDeque} with at least {@link #getThreshold()} items, slices of it are copied at
+     * the same time.
+     * @param from a primitive-int-backed data structure from jdkgdxds
+     * @return a new IntArray holding the items of {@code from}
+     */
+    public IntArray toIntArray(PrimitiveCollection.OfInt from) {
+        final int size = from.size();
+        final int slices = slices(size);
+        if (slices == 1 || !(from instanceof IntList || from instanceof IntDeque))
+            return ConversionToGDX.toIntArray(from);
+        IntArray array = new IntArray(size);
+        final int[] items = array.items;
+        if (from instanceof IntList) {
+            final int[] source = ((IntList) from).items;
+            forEachSlice(size, slices, (slice, start, end) -> System.arraycopy(source, start, items, start, end - start));
+        } else {
+            final IntDeque deque = (IntDeque) from;
+            forEachSlice(size, slices, (slice, start, end) ->
+                    ConversionToGDX.copyDeque(deque.items, deque.items.length, deque.head, start, items, start, end - start));
+        }
+        array.size = size;
+        return array;
+    }
+
+    /**
+     * Converts any jdkgdxds long-based collection to a libGDX LongArray, like
+     * {@link ConversionToGDX#toLongArray(PrimitiveCollection.OfLong)}. If {@code from} is a {@link LongList},
+     * {@link LongBag}, or {@link LongDeque} with at least {@link #getThreshold()} items, slices of it are copied at
+     * the same time.
+     * @param from a primitive-long-backed data structure from jdkgdxds
+     * @return a new LongArray holding the items of {@code from}
+     */
+    public LongArray toLongArray(PrimitiveCollection.OfLong from) {
+        final int size = from.size();
+        final int slices = slices(size);
+        if (slices == 1 || !(from instanceof LongList || from instanceof LongDeque))
+            return ConversionToGDX.toLongArray(from);
+        LongArray array = new LongArray(size);
+        final long[] items = array.items;
+        if (from instanceof LongList) {
+            final long[] source = ((LongList) from).items;
+            forEachSlice(size, slices, (slice, start, end) -> System.arraycopy(source, start, items, start, end - start));
+        } else {
+            final LongDeque deque = (LongDeque) from;
+            forEachSlice(size, slices, (slice, start, end) ->
+                    ConversionToGDX.copyDeque(deque.items, deque.items.length, deque.head, start, items, start, end - start));
+        }
+        array.size = size;
+        return array;
+    }
+
+    /**
+     * Converts any jdkgdxds float-based collection to a libGDX FloatArray, like
+     * {@link ConversionToGDX#toFloatArray(PrimitiveCollection.OfFloat)}. If {@code from} is a {@link FloatList},
+     * {@link FloatBag}, or {@link FloatDeque} with at least {@link #getThreshold()} items, slices of it are copied at
+     * the same time.
+     * @param from a primitive-float-backed data structure from jdkgdxds
+     * @return a new FloatArray holding the items of {@code from}
+     */
+    public FloatArray toFloatArray(PrimitiveCollection.OfFloat from) {
+        final int size = from.size();
+        final int slices = slices(size);
+        if (slices == 1 || !(from instanceof FloatList || from instanceof FloatDeque))
+            return ConversionToGDX.toFloatArray(from);
+        FloatArray array = new FloatArray(size);
+        final float[] items = array.items;
+        if (from instanceof FloatList) {
+            final float[] source = ((FloatList) from).items;
+            forEachSlice(size, slices, (slice, start, end) -> System.arraycopy(source, start, items, start, end - start));
+        } else {
+            final FloatDeque deque = (FloatDeque) from;
+            forEachSlice(size, slices, (slice, start, end) ->
+                    ConversionToGDX.copyDeque(deque.items, deque.items.length, deque.head, start, items, start, end - start));
+        }
+        array.size = size;
+        return array;
+    }
+
+    /**
+     * Converts any jdkgdxds byte-based collection to a libGDX ByteArray, like
+     * {@link ConversionToGDX#toByteArray(PrimitiveCollection.OfByte)}. If {@code from} is a {@link ByteList},
+     * {@link ByteBag}, or {@link ByteDeque} with at least {@link #getThreshold()} items, slices of it are copied at
+     * the same time.
+     * @param from a primitive-byte-backed data structure from jdkgdxds
+     * @return a new ByteArray holding the items of {@code from}
+     */
+    public ByteArray toByteArray(PrimitiveCollection.OfByte from) {
+        final int size = from.size();
+        final int slices = slices(size);
+        if (slices == 1 || !(from instanceof ByteList || from instanceof ByteDeque))
+            return ConversionToGDX.toByteArray(from);
+        ByteArray array = new ByteArray(size);
+        final byte[] items = array.items;
+        if (from instanceof ByteList) {
+            final byte[] source = ((ByteList) from).items;
+            forEachSlice(size, slices, (slice, start, end) -> System.arraycopy(source, start, items, start, end - start));
+        } else {
+            final ByteDeque deque = (ByteDeque) from;
+            forEachSlice(size, slices, (slice, start, end) ->
+                    ConversionToGDX.copyDeque(deque.items, deque.items.length, deque.head, start, items, start, end - start));
+        }
+        array.size = size;
+        return array;
+    }
+
+    /**
+     * Converts any jdkgdxds char-based collection to a libGDX CharArray, like
+     * {@link ConversionToGDX#toCharArray(PrimitiveCollection.OfChar)}. If {@code from} is a {@link CharList},
+     * {@link CharBag}, or {@link CharDeque} with at least {@link #getThreshold()} items, slices of it are copied at
+     * the same time.
+     * @param from a primitive-char-backed data structure from jdkgdxds
+     * @return a new CharArray holding the items of {@code from}
+     */
+    public CharArray toCharArray(PrimitiveCollection.OfChar from) {
+        final int size = from.size();
+        final int slices = slices(size);
+        if (slices == 1 || !(from instanceof CharList || from instanceof CharDeque))
+            return ConversionToGDX.toCharArray(from);
+        CharArray array = new CharArray(size);
+        final char[] items = array.items;
+        if (from instanceof CharList) {
+            final char[] source = ((CharList) from).items;
+            forEachSlice(size, slices, (slice, start, end) -> System.arraycopy(source, start, items, start, end - start));
+        } else {
+            final CharDeque deque = (CharDeque) from;
+            forEachSlice(size, slices, (slice, start, end) ->
+                    ConversionToGDX.copyDeque(deque.items, deque.items.length, deque.head, start, items, start, end - start));
+        }
+        array.size = size;
+        return array;
+    }
+
+    /**
+     * Converts any jdkgdxds short-based collection to a libGDX ShortArray, like
+     * {@link ConversionToGDX#toShortArray(PrimitiveCollection.OfShort)}. If {@code from} is a {@link ShortList},
+     * {@link ShortBag}, or {@link ShortDeque} with at least {@link #getThreshold()} items, slices of it are copied at
+     * the same time.
+     * @param from a primitive-short-backed data structure from jdkgdxds
+     * @return a new ShortArray holding the items of {@code from}
+     */
+    public ShortArray toShortArray(PrimitiveCollection.OfShort from) {
+        final int size = from.size();
+        final int slices = slices(size);
+        if (slices == 1 || !(from instanceof ShortList || from instanceof ShortDeque))
+            return ConversionToGDX.toShortArray(from);
+        ShortArray array = new ShortArray(size);
+        final short[] items = array.items;
+        if (from instanceof ShortList) {
+            final short[] source = ((ShortList) from).items;
+            forEachSlice(size, slices, (slice, start, end) -> System.arraycopy(source, start, items, start, end - start));
+        } else {
+            final ShortDeque deque = (ShortDeque) from;
+            forEachSlice(size, slices, (slice, start, end) ->
+                    ConversionToGDX.copyDeque(deque.items, deque.items.length, deque.head, start, items, start, end - start));
+        }
+        array.size = size;
+        return array;
+    }
+
+    /**
+     * Converts any jdkgdxds boolean-based collection to a libGDX BooleanArray, like
+     * {@link ConversionToGDX#toBooleanArray(PrimitiveCollection.OfBoolean)}. If {@code from} is a {@link BooleanList},
+     * {@link BooleanBag}, or {@link BooleanDeque} with at least {@link #getThreshold()} items, slices of it are copied at
+     * the same time.
+     * @param from a primitive-boolean-backed data structure from jdkgdxds
+     * @return a new BooleanArray holding the items of {@code from}
+     */
+    public BooleanArray toBooleanArray(PrimitiveCollection.OfBoolean from) {
+        final int size = from.size();
+        final int slices = slices(size);
+        if (slices == 1 || !(from instanceof BooleanList || from instanceof BooleanDeque))
+            return ConversionToGDX.toBooleanArray(from);
+        BooleanArray array = new BooleanArray(size);
+        final boolean[] items = array.items;
+        if (from instanceof BooleanList) {
+            final boolean[] source = ((BooleanList) from).items;
+            forEachSlice(size, slices, (slice, start, end) -> System.arraycopy(source, start, items, start, end - start));
+        } else {
+            final BooleanDeque deque = (BooleanDeque) from;
+            forEachSlice(size, slices, (slice, start, end) ->
+                    ConversionToGDX.copyDeque(deque.items, deque.items.length, deque.head, start, items, start, end - start));
+        }
+        array.size = size;
+        return array;
+    }
+
+    /**
+     * Converts any Collection to a libGDX Array, like {@link ConversionToGDX#toArray(Collection)}. If {@code from} is a
+     * {@link RandomAccess} List, such as an {@link ObjectList}, with at least {@link #getThreshold()} items, slices of
+     * it are copied at the same time.
+     * @param from a Collection from the JDK, jdkgdxds, or some other library
+     * @param <T> the element type for {@code from} and the result
+     * @return a new Array of type T holding the items of {@code from} (this does not give a Class to the Array constructor)
+     */
+    public <T> Array<T> toArray(Collection<? extends T> from) {
+        final int size = from.size();
+        final int slices = slices(size);
+        if (slices == 1 || !(from instanceof List && from instanceof RandomAccess))
+            return ConversionToGDX.toArray(from);
+        final List<? extends T> list = (List<? extends T>) from;
+        Array<T> array = new Array<>(size);
+        final T[] items = array.items;
+        forEachSlice(size, slices, (slice, start, end) -> {
+            for (int i = start; i < end; i++) {
+                items[i] = list.get(i);
+            }
+        });
+        array.size = size;
+        return array;
+    }
+
+    /**
+     * Converts a libGDX IntArray to a jdkgdxds IntList, like {@link ConversionToJDK#toIntList(IntArray)}. If
+     * {@code from} has at least {@link #getThreshold()} items, slices of it are copied at the same time.
+     * @param from a libGDX IntArray
+     * @return a new IntList holding the items of {@code from}
+     */
+    public IntList toIntList(IntArray from) {
+        final int size = from.size;
+        final int slices = slices(size);
+        if (slices == 1)
+            return ConversionToJDK.toIntList(from);
+        IntList list = new IntList(size);
+        final int[] items = list.setSize(size);
+        final int[] source = from.items;
+        forEachSlice(size, slices, (slice, start, end) -> System.arraycopy(source, start, items, start, end - start));
+        return list;
+    }
+
+    /**
+     * Converts a libGDX LongArray to a jdkgdxds LongList, like {@link ConversionToJDK#toLongList(LongArray)}. If
+     * {@code from} has at least {@link #getThreshold()} items, slices of it are copied at the same time.
+     * @param from a libGDX LongArray
+     * @return a new LongList holding the items of {@code from}
+     */
+    public LongList toLongList(LongArray from) {
+        final int size = from.size;
+        final int slices = slices(size);
+        if (slices == 1)
+            return ConversionToJDK.toLongList(from);
+        LongList list = new LongList(size);
+        final long[] items = list.setSize(size);
+        final long[] source = from.items;
+        forEachSlice(size, slices, (slice, start, end) -> System.arraycopy(source, start, items, start, end - start));
+        return list;
+    }
+
+    /**
+     * Converts a libGDX FloatArray to a jdkgdxds FloatList, like {@link ConversionToJDK#toFloatList(FloatArray)}. If
+     * {@code from} has at least {@link #getThreshold()} items, slices of it are copied at the same time.
+     * @param from a libGDX FloatArray
+     * @return a new FloatList holding the items of {@code from}
+     */
+    public FloatList toFloatList(FloatArray from) {
+        final int size = from.size;
+        final int slices = slices(size);
+        if (slices == 1)
+            return ConversionToJDK.toFloatList(from);
+        FloatList list = new FloatList(size);
+        final float[] items = list.setSize(size);
+        final float[] source = from.items;
+        forEachSlice(size, slices, (slice, start, end) -> System.arraycopy(source, start, items, start, end - start));
+        return list;
+    }
+
+    /**
+     * Converts a libGDX ByteArray to a jdkgdxds ByteList, like {@link ConversionToJDK#toByteList(ByteArray)}. If
+     * {@code from} has at least {@link #getThreshold()} items, slices of it are copied at the same time.
+     * @param from a libGDX ByteArray
+     * @return a new ByteList holding the items of {@code from}
+     */
+    public ByteList toByteList(ByteArray from) {
+        final int size = from.size;
+        final int slices = slices(size);
+        if (slices == 1)
+            return ConversionToJDK.toByteList(from);
+        ByteList list = new ByteList(size);
+        final byte[] items = list.setSize(size);
+        final byte[] source = from.items;
+        forEachSlice(size, slices, (slice, start, end) -> System.arraycopy(source, start, items, start, end - start));
+        return list;
+    }
+
+    /**
+     * Converts a libGDX CharArray to a jdkgdxds CharList, like {@link ConversionToJDK#toCharList(CharArray)}. If
+     * {@code from} has at least {@link #getThreshold()} items, slices of it are copied at the same time.
+     * @param from a libGDX CharArray
+     * @return a new CharList holding the items of {@code from}
+     */
+    public CharList toCharList(CharArray from) {
+        final int size = from.size;
+        final int slices = slices(size);
+        if (slices == 1)
+            return ConversionToJDK.toCharList(from);
+        CharList list = new CharList(size);
+        final char[] items = list.setSize(size);
+        final char[] source = from.items;
+        forEachSlice(size, slices, (slice, start, end) -> System.arraycopy(source, start, items, start, end - start));
+        return list;
+    }
+
+    /**
+     * Converts a libGDX ShortArray to a jdkgdxds ShortList, like {@link ConversionToJDK#toShortList(ShortArray)}. If
+     * {@code from} has at least {@link #getThreshold()} items, slices of it are copied at the same time.
+     * @param from a libGDX ShortArray
+     * @return a new ShortList holding the items of {@code from}
+     */
+    public ShortList toShortList(ShortArray from) {
+        final int size = from.size;
+        final int slices = slices(size);
+        if (slices == 1)
+            return ConversionToJDK.toShortList(from);
+        ShortList list = new ShortList(size);
+        final short[] items = list.setSize(size);
+        final short[] source = from.items;
+        forEachSlice(size, slices, (slice, start, end) -> System.arraycopy(source, start, items, start, end - start));
+        return list;
+    }
+
+    /**
+     * Converts a libGDX BooleanArray to a jdkgdxds BooleanList, like {@link ConversionToJDK#toBooleanList(BooleanArray)}. If
+     * {@code from} has at least {@link #getThreshold()} items, slices of it are copied at the same time.
+     * @param from a libGDX BooleanArray
+     * @return a new BooleanList holding the items of {@code from}
+     */
+    public BooleanList toBooleanList(BooleanArray from) {
+        final int size = from.size;
+        final int slices = slices(size);
+        if (slices == 1)
+            return ConversionToJDK.toBooleanList(from);
+        BooleanList list = new BooleanList(size);
+        final boolean[] items = list.setSize(size);
+        final boolean[] source = from.items;
+        forEachSlice(size, slices, (slice, start, end) -> System.arraycopy(source, start, items, start, end - start));
+        return list;
+    }
+
+    /**
+     * Converts a libGDX IntArray to a jdkgdxds IntSet, like {@link ConversionToJDK#toIntSet(IntArray)}. If
+     * {@code from} has at least {@link #getThreshold()} items, each slice of it is first gathered into its own
+     * partial set at the same time, and then the partial sets are merged.
+     * @param from a libGDX IntArray
+     * @return a new jdkgdxds IntSet holding the unique items in {@code from}
+     */
+    public IntSet toIntSet(IntArray from) {
+        final int size = from.size;
+        final int slices = slices(size);
+        if (slices == 1)
+            return ConversionToJDK.toIntSet(from);
+        final int[] source = from.items;
+        final IntSet[] partials = new IntSet[slices];
+        forEachSlice(size, slices, (slice, start, end) -> partials[slice] = new IntSet(source, start, end - start));
+        int total = 0;
+        for (IntSet partial : partials) {
+            total += partial.size();
+        }
+        IntSet set = new IntSet(total);
+        for (IntSet partial : partials) {
+            IntIterator it = partial.iterator();
+            while (it.hasNext()) {
+                set.add(it.nextInt());
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Converts any jdkgdxds int-based collection to a libGDX IntSet, like
+     * {@link ConversionToGDX#toIntSet(PrimitiveCollection.OfInt)}. If {@code from} is a {@link IntList} or
+     * {@link IntBag} with at least {@link #getThreshold()} items, each slice of it is first gathered into its own
+     * partial set at the same time, and then the partial sets are merged.
+     * @param from a primitive-int-backed data structure from jdkgdxds
+     * @return a new libGDX IntSet holding the unique items in {@code from}
+     */
+    public com.badlogic.gdx.utils.IntSet toIntSet(PrimitiveCollection.OfInt from) {
+        final int size = from.size();
+        final int slices = slices(size);
+        if (slices == 1 || !(from instanceof IntList))
+            return ConversionToGDX.toIntSet(from);
+        final int[] source = ((IntList) from).items;
+        final com.badlogic.gdx.utils.IntSet[] partials = new com.badlogic.gdx.utils.IntSet[slices];
+        forEachSlice(size, slices, (slice, start, end) -> {
+            com.badlogic.gdx.utils.IntSet partial = new com.badlogic.gdx.utils.IntSet(end - start);
+            partial.addAll(source, start, end - start);
+            partials[slice] = partial;
+        });
+        int total = 0;
+        for (com.badlogic.gdx.utils.IntSet partial : partials) {
+            total += partial.size;
+        }
+        com.badlogic.gdx.utils.IntSet set = new com.badlogic.gdx.utils.IntSet(total);
+        for (com.badlogic.gdx.utils.IntSet partial : partials) {
+            set.addAll(partial);
+        }
+        return set;
+    }
+
+    /**
+     * Converts a libGDX LongArray to a jdkgdxds LongSet, like {@link ConversionToJDK#toLongSet(LongArray)}. If
+     * {@code from} has at least {@link #getThreshold()} items, each slice of it is first gathered into its own
+     * partial set at the same time, and then the partial sets are merged.
+     * @param from a libGDX LongArray
+     * @return a new jdkgdxds LongSet holding the unique items in {@code from}
+     */
+    public LongSet toLongSet(LongArray from) {
+        final int size = from.size;
+        final int slices = slices(size);
+        if (slices == 1)
+            return ConversionToJDK.toLongSet(from);
+        final long[] source = from.items;
+        final LongSet[] partials = new LongSet[slices];
+        forEachSlice(size, slices, (slice, start, end) -> partials[slice] = new LongSet(source, start, end - start));
+        int total = 0;
+        for (LongSet partial : partials) {
+            total += partial.size();
+        }
+        LongSet set = new LongSet(total);
+        for (LongSet partial : partials) {
+            LongIterator it = partial.iterator();
+            while (it.hasNext()) {
+                set.add(it.nextLong());
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Converts any jdkgdxds long-based collection to a libGDX LongSet, like
+     * {@link ConversionToGDX#toLongSet(PrimitiveCollection.OfLong)}. If {@code from} is a {@link LongList} or
+     * {@link LongBag} with at least {@link #getThreshold()} items, each slice of it is first gathered into its own
+     * partial set at the same time, and then the partial sets are merged.
+     * @param from a primitive-long-backed data structure from jdkgdxds
+     * @return a new libGDX LongSet holding the unique items in {@code from}
+     */
+    public com.badlogic.gdx.utils.LongSet toLongSet(PrimitiveCollection.OfLong from) {
+        final int size = from.size();
+        final int slices = slices(size);
+        if (slices == 1 || !(from instanceof LongList))
+            return ConversionToGDX.toLongSet(from);
+        final long[] source = ((LongList) from).items;
+        final com.badlogic.gdx.utils.LongSet[] partials = new com.badlogic.gdx.utils.LongSet[slices];
+        forEachSlice(size, slices, (slice, start, end) -> {
+            com.badlogic.gdx.utils.LongSet partial = new com.badlogic.gdx.utils.LongSet(end - start);
+            partial.addAll(source, start, end - start);
+            partials[slice] = partial;
+        });
+        int total = 0;
+        for (com.badlogic.gdx.utils.LongSet partial : partials) {
+            total += partial.size;
+        }
+        com.badlogic.gdx.utils.LongSet set = new com.badlogic.gdx.utils.LongSet(total);
+        for (com.badlogic.gdx.utils.LongSet partial : partials) {
+            set.addAll(partial);
+        }
+        return set;
+    }
+
+    /**
+     * Converts a libGDX Array to a jdkgdxds ObjectSet, like {@link ConversionToJDK#toObjectSet(Array)}. If
+     * {@code from} has at least {@link #getThreshold()} items, each slice of it is first gathered into its own
+     * partial set at the same time, and then the partial sets are merged.
+     * @param from a libGDX Array
+     * @param <T> the element type for {@code from} and the result
+     * @return a new jdkgdxds ObjectSet holding the unique items in {@code from}
+     */
+    public <T> ObjectSet<T> toObjectSet(Array<T> from) {
+        final int size = from.size;
+        final int slices = slices(size);
+        if (slices == 1)
+            return ConversionToJDK.toObjectSet(from);
+        final T[] source = from.items;
+        final ObjectSet<T>[] partials = new ObjectSet[slices];
+        forEachSlice(size, slices, (slice, start, end) -> {
+            ObjectSet<T> partial = new ObjectSet<>(end - start);
+            for (int i = start; i < end; i++) {
+                partial.add(source[i]);
+            }
+            partials[slice] = partial;
+        });
+        int total = 0;
+        for (ObjectSet<T> partial : partials) {
+            total += partial.size();
+        }
+        ObjectSet<T> set = new ObjectSet<>(total);
+        for (ObjectSet<T> partial : partials) {
+            set.addAll(partial);
+        }
+        return set;
+    }
+
+    /**
+     * Converts any Collection to a libGDX ObjectSet, like {@link ConversionToGDX#toObjectSet(Collection)}. If
+     * {@code from} is a {@link RandomAccess} List, such as an {@link ObjectList}, with at least
+     * {@link #getThreshold()} items, each slice of it is first gathered into its own partial set at the same time, and
+     * then the partial sets are merged.
+     * @param from anything that implements the JDK Collection interface
+     * @param <T> the element type for {@code from} and the result
+     * @return a new libGDX ObjectSet holding the unique items in {@code from}
+     */
+    public <T> com.badlogic.gdx.utils.ObjectSet<T> toObjectSet(Collection<? extends T> from) {
+        final int size = from.size();
+        final int slices = slices(size);
+        if (slices == 1 || !(from instanceof List && from instanceof RandomAccess))
+            return ConversionToGDX.toObjectSet(from);
+        final List<? extends T> list = (List<? extends T>) from;
+        final com.badlogic.gdx.utils.ObjectSet<T>[] partials = new com.badlogic.gdx.utils.ObjectSet[slices];
+        forEachSlice(size, slices, (slice, start, end) -> {
+            com.badlogic.gdx.utils.ObjectSet<T> partial = new com.badlogic.gdx.utils.ObjectSet<>(end - start);
+            for (int i = start; i < end; i++) {
+                partial.add(list.get(i));
+            }
+            partials[slice] = partial;
+        });
+        int total = 0;
+        for (com.badlogic.gdx.utils.ObjectSet<T> partial : partials) {
+            total += partial.size;
+        }
+        com.badlogic.gdx.utils.ObjectSet<T> set = new com.badlogic.gdx.utils.ObjectSet<>(total);
+        for (com.badlogic.gdx.utils.ObjectSet<T> partial : partials) {
+            set.addAll(partial);
+        }
+        return set;
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.UBJsonReader;
+import com.badlogic.gdx.utils.UBJsonWriter;
+import com.github.tommyettinger.ds.support.util.*;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A {@link JsonWriter} that writes binary UBJSON using a libGDX {@link UBJsonWriter}, so a {@link Json} object can
+ * write UBJSON with all the serializers it has registered. Pass one of these to
+ * {@link Json#toJson(Object, Class, java.io.Writer)}, and read the result back by parsing it with a
+ * {@link UBJsonReader} and giving the parsed JsonValue to {@link Json#readValue(Class, JsonValue)}.
+ * <br>
+ * Most values are written just as UBJsonWriter would write them. The difference is with the primitive collections in
+ * jdkgdxds, such as IntList, LongSet, or FloatDeque; when {@link JsonSupport}'s serializers write one of those here,
+ * its items are written as one typed, length-prefixed UBJSON array (the {@code [$l#} style) instead of as a String of
+ * text numbers. Reading those back needs no number parsing, because UBJsonReader already reads each item as a number,
+ * and the serializers in JsonSupport read either form. Ints, longs, floats, and doubles are stored with their usual
+ * markers; bytes are stored unsigned as {@code U}, and shorts and chars are stored as {@code C}, because those read back
+ * the same way whether or not {@link UBJsonReader#oldFormat} is set. Booleans are stored as {@code U} bytes that are
+ * either 0 or 1.
+ * <br>
+ * The given OutputStream is written to in very small pieces, so it should be buffered if it isn't in memory.
+ */
+public class UBJsonAdapter extends JsonWriter {
+    private final DataOutputStream out;
+    private final Packer ub;
+
+    /**
+     * Creates a UBJsonAdapter that writes UBJSON to the given OutputStream, which will be closed when this is.
+     * @param out an OutputStream that should be buffered if it isn't a ByteArrayOutputStream
+     */
+    public UBJsonAdapter(OutputStream out) {
+        super();
+        this.out = out instanceof DataOutputStream ? (DataOutputStream) out : new DataOutputStream(out);
+        this.ub = new Packer(this.out);
+    }
+
+    @Override
+    public JsonWriter object() throws IOException {
+        ub.object();
+        return this;
+    }
+
+    @Override
+    public JsonWriter array() throws IOException {
+        ub.array();
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(Object value) throws IOException {
+        if (value == null) ub.value();
+        else if (value instanceof Number) {
+            if (value instanceof Integer || value instanceof Short || value instanceof Byte)
+                ub.value(((Number) value).intValue());
+            else if (value instanceof Long) ub.value(((Long) value).longValue());
+            else if (value instanceof Float) ub.value(((Float) value).floatValue());
+            else if (value instanceof Double) ub.value(((Double) value).doubleValue());
+            else ub.value(value.toString());
+        }
+        else if (value instanceof Boolean) ub.value(((Boolean) value).booleanValue());
+        else ub.value(value.toString());
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) ub.value();
+        else ub.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(boolean value) throws IOException {
+        ub.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(int value) throws IOException {
+        ub.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(long value) throws IOException {
+        ub.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(float value) throws IOException {
+        ub.value(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(double value) throws IOException {
+        ub.value(value);
+        return this;
+    }
+
+    /**
+     * Parses the given JSON text and writes it as UBJSON.
+     * @param json JSON text
+     * @return this, for chaining
+     */
+    @Override
+    public JsonWriter json(String json) throws IOException {
+        ub.value(new JsonReader().parse(json));
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(String name) throws IOException {
+        ub.name(name);
+        return this;
+    }
+
+    @Override
+    public JsonWriter object(String name) throws IOException {
+        ub.object(name);
+        return this;
+    }
+
+    @Override
+    public JsonWriter array(String name) throws IOException {
+        ub.array(name);
+        return this;
+    }
+
+    @Override
+    public JsonWriter set(String name, Object value) throws IOException {
+        return name(name).value(value);
+    }
+
+    @Override
+    public JsonWriter set(String name, String value) throws IOException {
+        return name(name).value(value);
+    }
+
+    @Override
+    public JsonWriter set(String name, boolean value) throws IOException {
+        return name(name).value(value);
+    }
+
+    @Override
+    public JsonWriter set(String name, int value) throws IOException {
+        return name(name).value(value);
+    }
+
+    @Override
+    public JsonWriter set(String name, long value) throws IOException {
+        return name(name).value(value);
+    }
+
+    @Override
+    public JsonWriter set(String name, float value) throws IOException {
+        return name(name).value(value);
+    }
+
+    @Override
+    public JsonWriter set(String name, double value) throws IOException {
+        return name(name).value(value);
+    }
+
+    @Override
+    public JsonWriter json(String name, String json) throws IOException {
+        return name(name).json(json);
+    }
+
+    @Override
+    public JsonWriter pop() throws IOException {
+        ub.pop();
+        return this;
+    }
+
+    /**
+     * Always throws an UnsupportedOperationException, because UBJSON can't contain raw text.
+     */
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        throw new UnsupportedOperationException("UBJsonAdapter can't write raw text.");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ub.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        ub.close();
+    }
+
+    void pack(String name, int[] items, int start, int length) throws IOException {
+        ub.start(name, 'l', length);
+        for (int i = start, n = start + length; i < n; i++) {
+            out.writeInt(items[i]);
+        }
+        ub.end();
+    }
+
+    void pack(String name, long[] items, int start, int length) throws IOException {
+        ub.start(name, 'L', length);
+        for (int i = start, n = start + length; i < n; i++) {
+            out.writeLong(items[i]);
+        }
+        ub.end();
+    }
+
+    void pack(String name, short[] items, int start, int length) throws IOException {
+        ub.start(name, 'C', length);
+        for (int i = start, n = start + length; i < n; i++) {
+            out.writeShort(items[i]);
+        }
+        ub.end();
+    }
+
+    void pack(String name, byte[] items, int start, int length) throws IOException {
+        ub.start(name, 'U', length);
+        out.write(items, start, length);
+        ub.end();
+    }
+
+    void pack(String name, boolean[] items, int start, int length) throws IOException {
+        ub.start(name, 'U', length);
+        for (int i = start, n = start + length; i < n; i++) {
+            out.writeByte(items[i] ? 1 : 0);
+        }
+        ub.end();
+    }
+
+    void pack(String name, char[] items, int start, int length) throws IOException {
+        ub.start(name, 'C', length);
+        for (int i = start, n = start + length; i < n; i++) {
+            out.writeChar(items[i]);
+        }
+        ub.end();
+    }
+
+    void pack(String name, float[] items, int start, int length) throws IOException {
+        ub.start(name, 'd', length);
+        for (int i = start, n = start + length; i < n; i++) {
+            out.writeFloat(items[i]);
+        }
+        ub.end();
+    }
+
+    void pack(String name, double[] items, int start, int length) throws IOException {
+        ub.start(name, 'D', length);
+        for (int i = start, n = start + length; i < n; i++) {
+            out.writeDouble(items[i]);
+        }
+        ub.end();
+    }
+
+    void pack(String name, IntIterator it, int size) throws IOException {
+        ub.start(name, 'l', size);
+        for (int i = 0; i < size; i++) {
+            out.writeInt(it.nextInt());
+        }
+        ub.end();
+    }
+
+    void pack(String name, LongIterator it, int size) throws IOException {
+        ub.start(name, 'L', size);
+        for (int i = 0; i < size; i++) {
+            out.writeLong(it.nextLong());
+        }
+        ub.end();
+    }
+
+    void pack(String name, ShortIterator it, int size) throws IOException {
+        ub.start(name, 'C', size);
+        for (int i = 0; i < size; i++) {
+            out.writeShort(it.nextShort());
+        }
+        ub.end();
+    }
+
+    void pack(String name, ByteIterator it, int size) throws IOException {
+        ub.start(name, 'U', size);
+        for (int i = 0; i < size; i++) {
+            out.writeByte(it.nextByte());
+        }
+        ub.end();
+    }
+
+    void pack(String name, BooleanIterator it, int size) throws IOException {
+        ub.start(name, 'U', size);
+        for (int i = 0; i < size; i++) {
+            out.writeByte(it.nextBoolean() ? 1 : 0);
+        }
+        ub.end();
+    }
+
+    void pack(String name, FloatIterator it, int size) throws IOException {
+        ub.start(name, 'd', size);
+        for (int i = 0; i < size; i++) {
+            out.writeFloat(it.nextFloat());
+        }
+        ub.end();
+    }
+
+    void pack(String name, DoubleIterator it, int size) throws IOException {
+        ub.start(name, 'D', size);
+        for (int i = 0; i < size; i++) {
+            out.writeDouble(it.nextDouble());
+        }
+        ub.end();
+    }
+
+    /**
+     * A UBJsonWriter that can start a typed, counted array and end it without writing a closing {@code ]}.
+     */
+    private static final class Packer extends UBJsonWriter {
+        private final DataOutputStream out;
+
+        Packer(DataOutputStream out) {
+            super(out);
+            this.out = out;
+        }
+
+        void start(String name, char type, int size) throws IOException {
+            name(name).array();
+            out.writeByte('$');
+            out.writeByte(type);
+            out.writeByte('#');
+            value(size);
+        }
+
+        void end() throws IOException {
+            pop(true);
+        }
+    }
+}
@@ -0,0 +1,2865 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ArraySupplier;
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.Queue;
+import com.badlogic.gdx.utils.Select;
+import com.badlogic.gdx.utils.ShortArray;
+import com.badlogic.gdx.utils.reflect.ArrayReflection;
+import com.github.tommyettinger.ds.BooleanList;
+import com.github.tommyettinger.ds.ByteList;
+import com.github.tommyettinger.ds.FloatList;
+import com.github.tommyettinger.ds.IntList;
+import com.github.tommyettinger.ds.LongList;
+import com.github.tommyettinger.ds.ObjectDeque;
+import com.github.tommyettinger.ds.ObjectList;
+import com.github.tommyettinger.ds.ShortList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Creates live views of JDK or jdkgdxds data structures that have libGDX types, so an {@link ObjectList} (or any other
+ * {@link List}) can be passed to code that expects a libGDX {@link Array}, or an {@link ObjectDeque} (or any other
+ * {@link Deque}) can be passed to code that expects a libGDX {@link Queue}. Unlike the methods in
+ * {@link ConversionToGDX}, no new data structure is made; every read and write goes straight to the wrapped data
+ * structure.
+ * <br>
+ * libGDX exposes the backing arrays of Array and Queue to subclasses and, for Array, to everyone, and a lot of libGDX
+ * code reads {@link Array#items} and {@link Array#size} of another Array directly, as {@link Array#addAll(Array)} and
+ * {@link Array#equals(Object)} do. The views here can't share a backing array with the data structure they wrap, so
+ * each keeps its own copy of the wrapped items in its {@code items} or {@code values} array, and every method called
+ * on a view changes both the wrapped data structure and that copy, so other code can read them like any Array or
+ * Queue. If the wrapped data structure is changed directly, the copy and the public {@code size} field may be stale
+ * until a method is called on the view again, which always refreshes them if the size changed; call
+ * {@link ArrayView#pull()} or {@link QueueView#pull()} to refresh them before passing the view somewhere else.
+ * <br>
+ * The primitive lists in jdkgdxds are different, because their items arrays are public. A view like
+ * {@link IntArrayView}, from {@link #array(IntList)}, uses the same items array as the IntList it wraps, so even code
+ * that reads {@link IntArray#items} directly sees the List's items without any copying. There is no view for CharList,
+ * because CharArray has a large StringBuilder-like API that changes its items in too many ways to keep in sync.
+ * <br>
+ * The views here are only as thread-safe as the data structures they wrap, which is to say not at all.
+ * @see ViewAsJDK ViewAsJDK goes the other way, making views with JDK types
+ */
+@SuppressWarnings("unchecked")
+public class ViewAsGDX {
+
+    /**
+     * Creates a libGDX {@link Array} view of the given List, such as an {@link ObjectList}; changes to either are
+     * visible in the other.
+     * @param list a List that will be wrapped, not copied; an ObjectList or other RandomAccess List is strongly preferred
+     * @param <T> the element type of list
+     * @return an Array that reads from and writes to list
+     */
+    public static <T> ArrayView<T> array(List<T> list) {
+        return new ArrayView<>(list);
+    }
+
+    /**
+     * Creates a libGDX {@link Queue} view of the given Deque, such as an {@link ObjectDeque}; changes to either are
+     * visible in the other.
+     * @param deque a Deque that will be wrapped, not copied; an ObjectDeque is strongly preferred
+     * @param <T> the element type of deque
+     * @return a Queue that reads from and writes to deque
+     */
+    public static <T> QueueView<T> queue(Deque<T> deque) {
+        return new QueueView<>(deque);
+    }
+
+    /**
+     * Creates a libGDX {@link IntArray} view of the given IntList that shares the List's items array, so changes to
+     * either are visible in the other.
+     * @param list a IntList that will be wrapped, not copied
+     * @return a IntArray that reads from and writes to list's items
+     */
+    public static IntArrayView array(IntList list) {
+        return new IntArrayView(list);
+    }
+
+    /**
+     * Creates a libGDX {@link LongArray} view of the given LongList that shares the List's items array, so changes to
+     * either are visible in the other.
+     * @param list a LongList that will be wrapped, not copied
+     * @return a LongArray that reads from and writes to list's items
+     */
+    public static LongArrayView array(LongList list) {
+        return new LongArrayView(list);
+    }
+
+    /**
+     * Creates a libGDX {@link FloatArray} view of the given FloatList that shares the List's items array, so changes to
+     * either are visible in the other.
+     * @param list a FloatList that will be wrapped, not copied
+     * @return a FloatArray that reads from and writes to list's items
+     */
+    public static FloatArrayView array(FloatList list) {
+        return new FloatArrayView(list);
+    }
+
+    /**
+     * Creates a libGDX {@link ByteArray} view of the given ByteList that shares the List's items array, so changes to
+     * either are visible in the other.
+     * @param list a ByteList that will be wrapped, not copied
+     * @return a ByteArray that reads from and writes to list's items
+     */
+    public static ByteArrayView array(ByteList list) {
+        return new ByteArrayView(list);
+    }
+
+    /**
+     * Creates a libGDX {@link ShortArray} view of the given ShortList that shares the List's items array, so changes to
+     * either are visible in the other.
+     * @param list a ShortList that will be wrapped, not copied
+     * @return a ShortArray that reads from and writes to list's items
+     */
+    public static ShortArrayView array(ShortList list) {
+        return new ShortArrayView(list);
+    }
+
+    /**
+     * Creates a libGDX {@link BooleanArray} view of the given BooleanList that shares the List's items array, so changes to
+     * either are visible in the other.
+     * @param list a BooleanList that will be wrapped, not copied
+     * @return a BooleanArray that reads from and writes to list's items
+     */
+    public static BooleanArrayView array(BooleanList list) {
+        return new BooleanArrayView(list);
+    }
+
+    /**
+     * A libGDX {@link Array} that reads from and writes to a {@link List}. This is always ordered. Its
+     * {@link Array#items} array holds a copy of the List's items that every method here keeps up to date; see the
+     * {@link ViewAsGDX} documentation.
+     * @param <T> the element type
+     */
+    public static class ArrayView<T> extends Array<T> {
+        /**
+         * The List this reads from and writes to.
+         */
+        public final List<T> list;
+
+        public ArrayView(List<T> list) {
+            super(true, 0, ArraySupplier.object());
+            this.list = list;
+            pull();
+        }
+
+        /**
+         * Copies the wrapped List's items into {@link #items} and sets {@link #size} to match. Methods called on this
+         * view do this on their own when the List's size has changed, so this only needs to be called directly before
+         * reading {@code items} after the List was changed without going through this view.
+         */
+        public void pull() {
+            int n = list.size(), old = size;
+            T[] copied = list.toArray(items);
+            if (copied == items) {
+                for (int i = n; i < old; i++) items[i] = null;
+            }
+            items = copied;
+            size = n;
+        }
+
+        private int sync() {
+            if (list.size() != size) pull();
+            return size;
+        }
+
+        @Override
+        public void add(T value) {
+            sync();
+            list.add(value);
+            super.add(value);
+        }
+
+        @Override
+        public void add(T value1, T value2) {
+            sync();
+            list.add(value1);
+            list.add(value2);
+            super.add(value1, value2);
+        }
+
+        @Override
+        public void add(T value1, T value2, T value3) {
+            sync();
+            list.add(value1);
+            list.add(value2);
+            list.add(value3);
+            super.add(value1, value2, value3);
+        }
+
+        @Override
+        public void add(T value1, T value2, T value3, T value4) {
+            sync();
+            list.add(value1);
+            list.add(value2);
+            list.add(value3);
+            list.add(value4);
+            super.add(value1, value2, value3, value4);
+        }
+
+        @Override
+        public void addAll(Array<? extends T> array) {
+            addAll(array, 0, array.size);
+        }
+
+        @Override
+        public void addAll(Array<? extends T> array, int start, int count) {
+            if (array instanceof ArrayView) ((ArrayView<? extends T>) array).sync();
+            if (start + count > array.size)
+                throw new IllegalArgumentException("start + count must be <= size: " + start + " + " + count + " <= " + array.size);
+            addAll(array.items, start, count);
+        }
+
+        @Override
+        public void addAll(T... array) {
+            addAll(array, 0, array.length);
+        }
+
+        @Override
+        public void addAll(T[] array, int start, int count) {
+            sync();
+            list.addAll(Arrays.asList(array).subList(start, start + count));
+            super.addAll(array, start, count);
+        }
+
+        @Override
+        public T get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public void set(int index, T value) {
+            sync();
+            list.set(index, value);
+            super.set(index, value);
+        }
+
+        @Override
+        public void insert(int index, T value) {
+            sync();
+            list.add(index, value);
+            super.insert(index, value);
+        }
+
+        @Override
+        public void insertRange(int index, int count) {
+            int oldSize = sync();
+            if (index > oldSize) throw new IndexOutOfBoundsException("index can't be > size: " + index + " > " + oldSize);
+            list.addAll(index, Collections.<T>nCopies(count, null));
+            for (int i = index, n = Math.min(index + count, oldSize); i < n; i++) {
+                list.set(i, list.get(i + count));
+            }
+            super.insertRange(index, count);
+        }
+
+        @Override
+        public void swap(int first, int second) {
+            sync();
+            Collections.swap(list, first, second);
+            super.swap(first, second);
+        }
+
+        @Override
+        public boolean replaceFirst(T value, boolean identity, T replacement) {
+            int i = indexOf(value, identity);
+            if (i < 0) return false;
+            set(i, replacement);
+            return true;
+        }
+
+        @Override
+        public int replaceAll(T value, boolean identity, T replacement) {
+            int replacements = 0;
+            for (int i = 0, n = sync(); i < n; i++) {
+                T item = list.get(i);
+                if (identity || value == null ? item == value : value.equals(item)) {
+                    list.set(i, replacement);
+                    items[i] = replacement;
+                    replacements++;
+                }
+            }
+            return replacements;
+        }
+
+        @Override
+        public boolean contains(T value, boolean identity) {
+            return indexOf(value, identity) != -1;
+        }
+
+        @Override
+        public boolean containsAll(Array<? extends T> values, boolean identity) {
+            for (int i = 0, n = values.size; i < n; i++)
+                if (!contains(values.get(i), identity)) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAny(Array<? extends T> values, boolean identity) {
+            for (int i = 0, n = values.size; i < n; i++)
+                if (contains(values.get(i), identity)) return true;
+            return false;
+        }
+
+        @Override
+        public int indexOf(T value, boolean identity) {
+            if (identity || value == null) {
+                for (int i = 0, n = sync(); i < n; i++)
+                    if (list.get(i) == value) return i;
+                return -1;
+            }
+            return list.indexOf(value);
+        }
+
+        @Override
+        public int lastIndexOf(T value, boolean identity) {
+            if (identity || value == null) {
+                for (int i = sync() - 1; i >= 0; i--)
+                    if (list.get(i) == value) return i;
+                return -1;
+            }
+            return list.lastIndexOf(value);
+        }
+
+        @Override
+        public boolean removeValue(T value, boolean identity) {
+            int i = indexOf(value, identity);
+            if (i < 0) return false;
+            removeIndex(i);
+            return true;
+        }
+
+        @Override
+        public T removeIndex(int index) {
+            sync();
+            T value = list.remove(index);
+            super.removeIndex(index);
+            return value;
+        }
+
+        @Override
+        public void removeRange(int start, int end) {
+            int n = sync();
+            if (end >= n) throw new IndexOutOfBoundsException("end can't be >= size: " + end + " >= " + n);
+            if (start > end) throw new IndexOutOfBoundsException("start can't be > end: " + start + " > " + end);
+            list.subList(start, end + 1).clear();
+            super.removeRange(start, end);
+        }
+
+        @Override
+        public boolean removeAll(Array<? extends T> array, boolean identity) {
+            int startSize = sync();
+            for (int i = 0, n = array.size; i < n; i++) {
+                int index = indexOf(array.get(i), identity);
+                if (index >= 0) removeIndex(index);
+            }
+            return size != startSize;
+        }
+
+        @Override
+        public T pop() {
+            int n = sync();
+            if (n == 0) throw new IllegalStateException("Array is empty.");
+            T item = list.remove(n - 1);
+            super.pop();
+            return item;
+        }
+
+        @Override
+        public T peek() {
+            int n = sync();
+            if (n == 0) throw new IllegalStateException("Array is empty.");
+            return list.get(n - 1);
+        }
+
+        @Override
+        public T first() {
+            if (sync() == 0) throw new IllegalStateException("Array is empty.");
+            return list.get(0);
+        }
+
+        @Override
+        public boolean notEmpty() {
+            return sync() > 0;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return sync() == 0;
+        }
+
+        @Override
+        public void clear() {
+            sync();
+            list.clear();
+            super.clear();
+        }
+
+        /**
+         * Trims the wrapped List to its size, if it is an ArrayList (such as an ObjectList), and does the same for
+         * {@link #items}.
+         * @return {@link #items}
+         */
+        @Override
+        public T[] shrink() {
+            sync();
+            if (list instanceof ArrayList) ((ArrayList<T>) list).trimToSize();
+            return super.shrink();
+        }
+
+        /**
+         * Ensures the wrapped List has room for the given number of additional items, if it is an ArrayList (such as an
+         * ObjectList), and does the same for {@link #items}.
+         * @param additionalCapacity how many more items should fit without resizing
+         * @return {@link #items}
+         */
+        @Override
+        public T[] ensureCapacity(int additionalCapacity) {
+            if (additionalCapacity < 0) throw new IllegalArgumentException("additionalCapacity must be >= 0: " + additionalCapacity);
+            if (list instanceof ArrayList) ((ArrayList<T>) list).ensureCapacity(sync() + additionalCapacity);
+            return super.ensureCapacity(additionalCapacity);
+        }
+
+        /**
+         * Sets the size of the wrapped List, removing items from the end or adding null items as needed.
+         * @param newSize the size the List will have
+         * @return {@link #items}
+         */
+        @Override
+        public T[] setSize(int newSize) {
+            truncate(newSize);
+            int n = size;
+            if (newSize > n) {
+                if (list instanceof ArrayList) ((ArrayList<T>) list).ensureCapacity(newSize);
+                list.addAll(Collections.<T>nCopies(newSize - n, null));
+                pull();
+            }
+            return items;
+        }
+
+        @Override
+        public void sort() {
+            list.sort(null);
+            pull();
+        }
+
+        @Override
+        public void sort(Comparator<? super T> comparator) {
+            list.sort(comparator);
+            pull();
+        }
+
+        /**
+         * Selects the nth-lowest element from the List according to Comparator ranking. Unlike in Array, this does not
+         * reorder the List; it works on a copy.
+         * @param comparator used for comparison
+         * @param kthLowest rank of desired object according to comparison, starting at 1 for the lowest
+         * @return the value of the Nth lowest ranked object
+         */
+        @Override
+        public T selectRanked(Comparator<T> comparator, int kthLowest) {
+            if (kthLowest < 1) {
+                throw new GdxRuntimeException("nth_lowest must be greater than 0, 1 = first, 2 = second...");
+            }
+            return Select.instance().select((T[]) list.toArray(), comparator, kthLowest, sync());
+        }
+
+        /**
+         * Gets the index of the nth-lowest element from the List according to Comparator ranking. Unlike in Array,
+         * this does not reorder the List; it works on a copy, and returns the first index of the selected item.
+         * @param comparator used for comparison
+         * @param kthLowest rank of desired object according to comparison, starting at 1 for the lowest
+         * @return the index of the Nth lowest ranked object
+         */
+        @Override
+        public int selectRankedIndex(Comparator<T> comparator, int kthLowest) {
+            return indexOf(selectRanked(comparator, kthLowest), true);
+        }
+
+        @Override
+        public void reverse() {
+            sync();
+            Collections.reverse(list);
+            super.reverse();
+        }
+
+        @Override
+        public void shuffle() {
+            for (int i = sync() - 1; i >= 0; i--) {
+                int j = MathUtils.random(i);
+                Collections.swap(list, i, j);
+                super.swap(i, j);
+            }
+        }
+
+        /**
+         * Returns a new iterator over the wrapped List each time this is called, so nested iteration is safe.
+         * Remove is supported.
+         * @return a new ArrayIterator over the List
+         */
+        @Override
+        public ArrayIterator<T> iterator() {
+            return new ViewIterator<>(this);
+        }
+
+        @Override
+        public void truncate(int newSize) {
+            if (newSize < 0) throw new IllegalArgumentException("newSize must be >= 0: " + newSize);
+            int n = sync();
+            if (n <= newSize) return;
+            list.subList(newSize, n).clear();
+            super.truncate(newSize);
+        }
+
+        @Override
+        public T random() {
+            int n = sync();
+            if (n == 0) return null;
+            return list.get(MathUtils.random(0, n - 1));
+        }
+
+        @Override
+        public T[] toArray() {
+            return (T[]) list.toArray();
+        }
+
+        @Override
+        public T[] toArray(ArraySupplier<T[]> arraySupplier) {
+            return list.toArray(arraySupplier.get(sync()));
+        }
+
+        @Override
+        @Deprecated
+        public <V> V[] toArray(Class<V> type) {
+            return list.toArray((V[]) ArrayReflection.newInstance(type, sync()));
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 1;
+            for (int i = 0, n = sync(); i < n; i++) {
+                h *= 31;
+                Object item = list.get(i);
+                if (item != null) h += item.hashCode();
+            }
+            return h;
+        }
+
+        /**
+         * Compares with another Array using {@link Array#get(int)}, so it works with other views.
+         * Returns false if the other Array is unordered.
+         */
+        @Override
+        public boolean equals(Object object) {
+            if (object == this) return true;
+            if (!(object instanceof Array)) return false;
+            Array array = (Array) object;
+            if (!array.ordered) return false;
+            int n = sync();
+            if (n != array.size) return false;
+            for (int i = 0; i < n; i++) {
+                Object o1 = list.get(i), o2 = array.get(i);
+                if (!(o1 == null ? o2 == null : o1.equals(o2))) return false;
+            }
+            return true;
+        }
+
+        /**
+         * Uses == for comparison of each item, using {@link Array#get(int)}. Returns false if the other Array is
+         * unordered.
+         */
+        @Override
+        public boolean equalsIdentity(Object object) {
+            if (object == this) return true;
+            if (!(object instanceof Array)) return false;
+            Array array = (Array) object;
+            if (!array.ordered) return false;
+            int n = sync();
+            if (n != array.size) return false;
+            for (int i = 0; i < n; i++)
+                if (list.get(i) != array.get(i)) return false;
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            if (sync() == 0) return "[]";
+            return "[" + toString(", ") + "]";
+        }
+
+        @Override
+        public String toString(String separator) {
+            int n = sync();
+            if (n == 0) return "";
+            StringBuilder buffer = new StringBuilder(32);
+            buffer.append(list.get(0));
+            for (int i = 1; i < n; i++) {
+                buffer.append(separator);
+                buffer.append(list.get(i));
+            }
+            return buffer.toString();
+        }
+
+        private static final class ViewIterator<T> extends ArrayIterator<T> {
+            private final ArrayView<T> view;
+            private int at;
+
+            ViewIterator(ArrayView<T> view) {
+                super(view, true);
+                this.view = view;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return at < view.sync();
+            }
+
+            @Override
+            public T next() {
+                if (at >= view.sync()) throw new NoSuchElementException(String.valueOf(at));
+                return view.list.get(at++);
+            }
+
+            @Override
+            public void remove() {
+                at--;
+                view.removeIndex(at);
+            }
+
+            @Override
+            public void reset() {
+                at = 0;
+            }
+
+            @Override
+            public ArrayIterator<T> iterator() {
+                return this;
+            }
+        }
+    }
+
+    /**
+     * A libGDX {@link Queue} that reads from and writes to a {@link Deque}. Its backing array holds a copy of the
+     * Deque's items that every method here keeps up to date; see the {@link ViewAsGDX} documentation. Getting or
+     * removing an item by index is fast if the Deque is also a {@link List}, as {@link ObjectDeque} is, and takes linear
+     * time otherwise.
+     * @param <T> the element type
+     */
+    public static class QueueView<T> extends Queue<T> {
+        /**
+         * The Deque this reads from and writes to.
+         */
+        public final Deque<T> deque;
+
+        public QueueView(Deque<T> deque) {
+            super(1);
+            this.deque = deque;
+            pull();
+        }
+
+        /**
+         * Copies the wrapped Deque's items into the backing array, starting at its first index, and sets {@link #size}
+         * to match. Methods called on this view do this on their own when the Deque's size has changed, so this only
+         * needs to be called directly after the Deque was changed without going through this view, and before this
+         * view is passed to code that reads the backing array of a Queue, such as {@link Queue#equals(Object)}.
+         */
+        public void pull() {
+            int n = deque.size();
+            T[] copied = deque.toArray(values);
+            if (copied == values) Arrays.fill(values, n, values.length, null);
+            values = copied;
+            head = 0;
+            tail = n == values.length ? 0 : n;
+            size = n;
+        }
+
+        private int sync() {
+            if (deque.size() != size) pull();
+            return size;
+        }
+
+        @Override
+        public void addLast(T object) {
+            sync();
+            deque.addLast(object);
+            super.addLast(object);
+        }
+
+        @Override
+        public void addFirst(T object) {
+            sync();
+            deque.addFirst(object);
+            super.addFirst(object);
+        }
+
+        /**
+         * Ensures the wrapped Deque has room for the given number of additional items, if it is an ObjectDeque, and
+         * does the same for the backing array.
+         * @param additional how many more items should fit without resizing
+         */
+        @Override
+        public void ensureCapacity(int additional) {
+            if (deque instanceof ObjectDeque) ((ObjectDeque<T>) deque).ensureCapacity(additional);
+            sync();
+            super.ensureCapacity(additional);
+        }
+
+        @Override
+        public T removeFirst() {
+            if (sync() == 0) throw new NoSuchElementException("Queue is empty.");
+            T item = deque.removeFirst();
+            super.removeFirst();
+            return item;
+        }
+
+        @Override
+        public T removeLast() {
+            if (sync() == 0) throw new NoSuchElementException("Queue is empty.");
+            T item = deque.removeLast();
+            super.removeLast();
+            return item;
+        }
+
+        @Override
+        public int indexOf(T value, boolean identity) {
+            int i = 0;
+            if (identity || value == null) {
+                for (T item : deque) {
+                    if (item == value) return i;
+                    i++;
+                }
+            } else {
+                for (T item : deque) {
+                    if (value.equals(item)) return i;
+                    i++;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean removeValue(T value, boolean identity) {
+            int index = indexOf(value, identity);
+            if (index == -1) return false;
+            removeIndex(index);
+            return true;
+        }
+
+        @Override
+        public T removeIndex(int index) {
+            if (index < 0) throw new IndexOutOfBoundsException("index can't be < 0: " + index);
+            if (index >= sync()) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+            T value;
+            if (index == 0) value = deque.removeFirst();
+            else if (index == size - 1) value = deque.removeLast();
+            else if (deque instanceof List) value = ((List<T>) deque).remove(index);
+            else {
+                Iterator<T> it = deque.iterator();
+                for (int i = 0; i < index; i++) it.next();
+                value = it.next();
+                it.remove();
+            }
+            super.removeIndex(index);
+            return value;
+        }
+
+        @Override
+        public boolean notEmpty() {
+            return sync() > 0;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return sync() == 0;
+        }
+
+        @Override
+        public T first() {
+            if (sync() == 0) throw new NoSuchElementException("Queue is empty.");
+            return deque.getFirst();
+        }
+
+        @Override
+        public T last() {
+            if (sync() == 0) throw new NoSuchElementException("Queue is empty.");
+            return deque.getLast();
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0) throw new IndexOutOfBoundsException("index can't be < 0: " + index);
+            if (index >= sync()) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+            if (deque instanceof List) return ((List<T>) deque).get(index);
+            Iterator<T> it = deque.iterator();
+            for (int i = 0; i < index; i++) it.next();
+            return it.next();
+        }
+
+        @Override
+        public void clear() {
+            sync();
+            deque.clear();
+            super.clear();
+        }
+
+        /**
+         * Returns a new iterator over the wrapped Deque each time this is called, so nested iteration is safe.
+         * Remove is supported if the Deque's iterator supports it.
+         * @return a new Iterator over the Deque, from first to last
+         */
+        @Override
+        public Iterator<T> iterator() {
+            sync();
+            final Iterator<T> it = deque.iterator();
+            return new Iterator<T>() {
+                private int at;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    T item = it.next();
+                    at++;
+                    return item;
+                }
+
+                @Override
+                public void remove() {
+                    it.remove();
+                    QueueView.super.removeIndex(--at);
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            if (sync() == 0) return "[]";
+            return "[" + toString(", ") + "]";
+        }
+
+        @Override
+        public String toString(String separator) {
+            if (sync() == 0) return "";
+            StringBuilder sb = new StringBuilder(64);
+            Iterator<T> it = deque.iterator();
+            sb.append(it.next());
+            while (it.hasNext()) {
+                sb.append(separator).append(it.next());
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = sync() + 1;
+            for (T value : deque) {
+                hash *= 31;
+                if (value != null) hash += value.hashCode();
+            }
+            return hash;
+        }
+
+        /**
+         * Compares with another Queue using {@link Queue#get(int)}, so it works with other views.
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Queue)) return false;
+            Queue<?> q = (Queue<?>) o;
+            if (q.size != sync()) return false;
+            int i = 0;
+            for (T myValue : deque) {
+                Object itsValue = q.get(i++);
+                if (!(myValue == null ? itsValue == null : myValue.equals(itsValue))) return false;
+            }
+            return true;
+        }
+
+        /**
+         * Uses == for comparison of each item, using {@link Queue#get(int)}.
+         */
+        @Override
+        public boolean equalsIdentity(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Queue)) return false;
+            Queue<?> q = (Queue<?>) o;
+            if (q.size != sync()) return false;
+            int i = 0;
+            for (T myValue : deque) {
+                if (myValue != q.get(i++)) return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A libGDX {@link IntArray} that shares its {@link IntArray#items items} array with a jdkgdxds {@link IntList}.
+     * Every method called on this first picks up the List's current items array and size, and every method that can
+     * change them writes them back to the List, so both always agree after any call to this.
+     */
+    public static class IntArrayView extends IntArray {
+        /**
+         * The IntList this shares its items with.
+         */
+        public final IntList list;
+
+        public IntArrayView(IntList list) {
+            super(true, 0);
+            this.list = list;
+            pull();
+        }
+
+        /**
+         * Sets {@link #items} and {@link #size} to match the wrapped IntList. This is called by every method here,
+         * so it only needs to be called directly before reading {@code items} or {@code size} after the List was
+         * changed without going through this view.
+         */
+        public void pull() {
+            items = list.items;
+            size = list.size();
+        }
+
+        private void push() {
+            list.items = items;
+            list.setSize(size);
+        }
+
+        @Override
+        public void add(int value) {
+            pull();
+            super.add(value);
+            push();
+        }
+
+        @Override
+        public void add(int value1, int value2) {
+            pull();
+            super.add(value1, value2);
+            push();
+        }
+
+        @Override
+        public void add(int value1, int value2, int value3) {
+            pull();
+            super.add(value1, value2, value3);
+            push();
+        }
+
+        @Override
+        public void add(int value1, int value2, int value3, int value4) {
+            pull();
+            super.add(value1, value2, value3, value4);
+            push();
+        }
+
+        @Override
+        public void addAll(IntArray array) {
+            pull();
+            super.addAll(array);
+            push();
+        }
+
+        @Override
+        public void addAll(IntArray array, int offset, int length) {
+            pull();
+            super.addAll(array, offset, length);
+            push();
+        }
+
+        @Override
+        public void addAll(int... array) {
+            pull();
+            super.addAll(array);
+            push();
+        }
+
+        @Override
+        public void addAll(int[] array, int offset, int length) {
+            pull();
+            super.addAll(array, offset, length);
+            push();
+        }
+
+        @Override
+        public int get(int index) {
+            pull();
+            return super.get(index);
+        }
+
+        @Override
+        public void set(int index, int value) {
+            pull();
+            super.set(index, value);
+        }
+
+        @Override
+        public void incr(int index, int value) {
+            pull();
+            super.incr(index, value);
+        }
+
+        @Override
+        public void incr(int value) {
+            pull();
+            super.incr(value);
+        }
+
+        @Override
+        public void mul(int index, int value) {
+            pull();
+            super.mul(index, value);
+        }
+
+        @Override
+        public void mul(int value) {
+            pull();
+            super.mul(value);
+        }
+
+        @Override
+        public void insert(int index, int value) {
+            pull();
+            super.insert(index, value);
+            push();
+        }
+
+        @Override
+        public void insertRange(int index, int count) {
+            pull();
+            super.insertRange(index, count);
+            push();
+        }
+
+        @Override
+        public void swap(int first, int second) {
+            pull();
+            super.swap(first, second);
+        }
+
+        @Override
+        public boolean replaceFirst(int value, int replacement) {
+            pull();
+            return super.replaceFirst(value, replacement);
+        }
+
+        @Override
+        public int replaceAll(int value, int replacement) {
+            pull();
+            return super.replaceAll(value, replacement);
+        }
+
+        @Override
+        public boolean contains(int value) {
+            pull();
+            return super.contains(value);
+        }
+
+        @Override
+        public int indexOf(int value) {
+            pull();
+            return super.indexOf(value);
+        }
+
+        @Override
+        public int lastIndexOf(int value) {
+            pull();
+            return super.lastIndexOf(value);
+        }
+
+        @Override
+        public boolean removeValue(int value) {
+            pull();
+            boolean result = super.removeValue(value);
+            push();
+            return result;
+        }
+
+        @Override
+        public int removeIndex(int index) {
+            pull();
+            int result = super.removeIndex(index);
+            push();
+            return result;
+        }
+
+        @Override
+        public void removeRange(int start, int end) {
+            pull();
+            super.removeRange(start, end);
+            push();
+        }
+
+        @Override
+        public boolean removeAll(IntArray array) {
+            pull();
+            boolean result = super.removeAll(array);
+            push();
+            return result;
+        }
+
+        @Override
+        public int pop() {
+            pull();
+            int result = super.pop();
+            push();
+            return result;
+        }
+
+        @Override
+        public int peek() {
+            pull();
+            return super.peek();
+        }
+
+        @Override
+        public int first() {
+            pull();
+            return super.first();
+        }
+
+        @Override
+        public boolean notEmpty() {
+            pull();
+            return super.notEmpty();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            pull();
+            return super.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            pull();
+            super.clear();
+            push();
+        }
+
+        @Override
+        public int[] shrink() {
+            pull();
+            int[] result = super.shrink();
+            push();
+            return result;
+        }
+
+        @Override
+        public int[] ensureCapacity(int additionalCapacity) {
+            pull();
+            int[] result = super.ensureCapacity(additionalCapacity);
+            push();
+            return result;
+        }
+
+        @Override
+        public int[] setSize(int newSize) {
+            pull();
+            int[] result = super.setSize(newSize);
+            push();
+            return result;
+        }
+
+        @Override
+        public void sort() {
+            pull();
+            super.sort();
+        }
+
+        @Override
+        public void reverse() {
+            pull();
+            super.reverse();
+        }
+
+        @Override
+        public void shuffle() {
+            pull();
+            super.shuffle();
+        }
+
+        @Override
+        public void truncate(int newSize) {
+            pull();
+            super.truncate(newSize);
+            push();
+        }
+
+        @Override
+        public int random() {
+            pull();
+            return super.random();
+        }
+
+        @Override
+        public int[] toArray() {
+            pull();
+            return super.toArray();
+        }
+
+        @Override
+        public int hashCode() {
+            pull();
+            return super.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            pull();
+            return super.equals(object);
+        }
+
+        @Override
+        public String toString() {
+            pull();
+            return super.toString();
+        }
+
+        @Override
+        public String toString(String separator) {
+            pull();
+            return super.toString(separator);
+        }
+    }
+
+    /**
+     * A libGDX {@link LongArray} that shares its {@link LongArray#items items} array with a jdkgdxds {@link LongList}.
+     * Every method called on this first picks up the List's current items array and size, and every method that can
+     * change them writes them back to the List, so both always agree after any call to this.
+     */
+    public static class LongArrayView extends LongArray {
+        /**
+         * The LongList this shares its items with.
+         */
+        public final LongList list;
+
+        public LongArrayView(LongList list) {
+            super(true, 0);
+            this.list = list;
+            pull();
+        }
+
+        /**
+         * Sets {@link #items} and {@link #size} to match the wrapped LongList. This is called by every method here,
+         * so it only needs to be called directly before reading {@code items} or {@code size} after the List was
+         * changed without going through this view.
+         */
+        public void pull() {
+            items = list.items;
+            size = list.size();
+        }
+
+        private void push() {
+            list.items = items;
+            list.setSize(size);
+        }
+
+        @Override
+        public void add(long value) {
+            pull();
+            super.add(value);
+            push();
+        }
+
+        @Override
+        public void add(long value1, long value2) {
+            pull();
+            super.add(value1, value2);
+            push();
+        }
+
+        @Override
+        public void add(long value1, long value2, long value3) {
+            pull();
+            super.add(value1, value2, value3);
+            push();
+        }
+
+        @Override
+        public void add(long value1, long value2, long value3, long value4) {
+            pull();
+            super.add(value1, value2, value3, value4);
+            push();
+        }
+
+        @Override
+        public void addAll(LongArray array) {
+            pull();
+            super.addAll(array);
+            push();
+        }
+
+        @Override
+        public void addAll(LongArray array, int offset, int length) {
+            pull();
+            super.addAll(array, offset, length);
+            push();
+        }
+
+        @Override
+        public void addAll(long... array) {
+            pull();
+            super.addAll(array);
+            push();
+        }
+
+        @Override
+        public void addAll(long[] array, int offset, int length) {
+            pull();
+            super.addAll(array, offset, length);
+            push();
+        }
+
+        @Override
+        public long get(int index) {
+            pull();
+            return super.get(index);
+        }
+
+        @Override
+        public void set(int index, long value) {
+            pull();
+            super.set(index, value);
+        }
+
+        @Override
+        public void incr(int index, long value) {
+            pull();
+            super.incr(index, value);
+        }
+
+        @Override
+        public void incr(long value) {
+            pull();
+            super.incr(value);
+        }
+
+        @Override
+        public void mul(int index, long value) {
+            pull();
+            super.mul(index, value);
+        }
+
+        @Override
+        public void mul(long value) {
+            pull();
+            super.mul(value);
+        }
+
+        @Override
+        public void insert(int index, long value) {
+            pull();
+            super.insert(index, value);
+            push();
+        }
+
+        @Override
+        public void insertRange(int index, int count) {
+            pull();
+            super.insertRange(index, count);
+            push();
+        }
+
+        @Override
+        public void swap(int first, int second) {
+            pull();
+            super.swap(first, second);
+        }
+
+        @Override
+        public boolean replaceFirst(long value, long replacement) {
+            pull();
+            return super.replaceFirst(value, replacement);
+        }
+
+        @Override
+        public int replaceAll(long value, long replacement) {
+            pull();
+            return super.replaceAll(value, replacement);
+        }
+
+        @Override
+        public boolean contains(long value) {
+            pull();
+            return super.contains(value);
+        }
+
+        @Override
+        public int indexOf(long value) {
+            pull();
+            return super.indexOf(value);
+        }
+
+        @Override
+        public int lastIndexOf(long value) {
+            pull();
+            return super.lastIndexOf(value);
+        }
+
+        @Override
+        public boolean removeValue(long value) {
+            pull();
+            boolean result = super.removeValue(value);
+            push();
+            return result;
+        }
+
+        @Override
+        public long removeIndex(int index) {
+            pull();
+            long result = super.removeIndex(index);
+            push();
+            return result;
+        }
+
+        @Override
+        public void removeRange(int start, int end) {
+            pull();
+            super.removeRange(start, end);
+            push();
+        }
+
+        @Override
+        public boolean removeAll(LongArray array) {
+            pull();
+            boolean result = super.removeAll(array);
+            push();
+            return result;
+        }
+
+        @Override
+        public long pop() {
+            pull();
+            long result = super.pop();
+            push();
+            return result;
+        }
+
+        @Override
+        public long peek() {
+            pull();
+            return super.peek();
+        }
+
+        @Override
+        public long first() {
+            pull();
+            return super.first();
+        }
+
+        @Override
+        public boolean notEmpty() {
+            pull();
+            return super.notEmpty();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            pull();
+            return super.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            pull();
+            super.clear();
+            push();
+        }
+
+        @Override
+        public long[] shrink() {
+            pull();
+            long[] result = super.shrink();
+            push();
+            return result;
+        }
+
+        @Override
+        public long[] ensureCapacity(int additionalCapacity) {
+            pull();
+            long[] result = super.ensureCapacity(additionalCapacity);
+            push();
+            return result;
+        }
+
+        @Override
+        public long[] setSize(int newSize) {
+            pull();
+            long[] result = super.setSize(newSize);
+            push();
+            return result;
+        }
+
+        @Override
+        public void sort() {
+            pull();
+            super.sort();
+        }
+
+        @Override
+        public void reverse() {
+            pull();
+            super.reverse();
+        }
+
+        @Override
+        public void shuffle() {
+            pull();
+            super.shuffle();
+        }
+
+        @Override
+        public void truncate(int newSize) {
+            pull();
+            super.truncate(newSize);
+            push();
+        }
+
+        @Override
+        public long random() {
+            pull();
+            return super.random();
+        }
+
+        @Override
+        public long[] toArray() {
+            pull();
+            return super.toArray();
+        }
+
+        @Override
+        public int hashCode() {
+            pull();
+            return super.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            pull();
+            return super.equals(object);
+        }
+
+        @Override
+        public String toString() {
+            pull();
+            return super.toString();
+        }
+
+        @Override
+        public String toString(String separator) {
+            pull();
+            return super.toString(separator);
+        }
+    }
+
+    /**
+     * A libGDX {@link FloatArray} that shares its {@link FloatArray#items items} array with a jdkgdxds {@link FloatList}.
+     * Every method called on this first picks up the List's current items array and size, and every method that can
+     * change them writes them back to the List, so both always agree after any call to this.
+     */
+    public static class FloatArrayView extends FloatArray {
+        /**
+         * The FloatList this shares its items with.
+         */
+        public final FloatList list;
+
+        public FloatArrayView(FloatList list) {
+            super(true, 0);
+            this.list = list;
+            pull();
+        }
+
+        /**
+         * Sets {@link #items} and {@link #size} to match the wrapped FloatList. This is called by every method here,
+         * so it only needs to be called directly before reading {@code items} or {@code size} after the List was
+         * changed without going through this view.
+         */
+        public void pull() {
+            items = list.items;
+            size = list.size();
+        }
+
+        private void push() {
+            list.items = items;
+            list.setSize(size);
+        }
+
+        @Override
+        public void add(float value) {
+            pull();
+            super.add(value);
+            push();
+        }
+
+        @Override
+        public void add(float value1, float value2) {
+            pull();
+            super.add(value1, value2);
+            push();
+        }
+
+        @Override
+        public void add(float value1, float value2, float value3) {
+            pull();
+            super.add(value1, value2, value3);
+            push();
+        }
+
+        @Override
+        public void add(float value1, float value2, float value3, float value4) {
+            pull();
+            super.add(value1, value2, value3, value4);
+            push();
+        }
+
+        @Override
+        public void addAll(FloatArray array) {
+            pull();
+            super.addAll(array);
+            push();
+        }
+
+        @Override
+        public void addAll(FloatArray array, int offset, int length) {
+            pull();
+            super.addAll(array, offset, length);
+            push();
+        }
+
+        @Override
+        public void addAll(float... array) {
+            pull();
+            super.addAll(array);
+            push();
+        }
+
+        @Override
+        public void addAll(float[] array, int offset, int length) {
+            pull();
+            super.addAll(array, offset, length);
+            push();
+        }
+
+        @Override
+        public float get(int index) {
+            pull();
+            return super.get(index);
+        }
+
+        @Override
+        public void set(int index, float value) {
+            pull();
+            super.set(index, value);
+        }
+
+        @Override
+        public void incr(int index, float value) {
+            pull();
+            super.incr(index, value);
+        }
+
+        @Override
+        public void incr(float value) {
+            pull();
+            super.incr(value);
+        }
+
+        @Override
+        public void mul(int index, float value) {
+            pull();
+            super.mul(index, value);
+        }
+
+        @Override
+        public void mul(float value) {
+            pull();
+            super.mul(value);
+        }
+
+        @Override
+        public void insert(int index, float value) {
+            pull();
+            super.insert(index, value);
+            push();
+        }
+
+        @Override
+        public void insertRange(int index, int count) {
+            pull();
+            super.insertRange(index, count);
+            push();
+        }
+
+        @Override
+        public void swap(int first, int second) {
+            pull();
+            super.swap(first, second);
+        }
+
+        @Override
+        public boolean replaceFirst(float value, float replacement) {
+            pull();
+            return super.replaceFirst(value, replacement);
+        }
+
+        @Override
+        public int replaceAll(float value, float replacement) {
+            pull();
+            return super.replaceAll(value, replacement);
+        }
+
+        @Override
+        public boolean contains(float value) {
+            pull();
+            return super.contains(value);
+        }
+
+        @Override
+        public int indexOf(float value) {
+            pull();
+            return super.indexOf(value);
+        }
+
+        @Override
+        public int lastIndexOf(float value) {
+            pull();
+            return super.lastIndexOf(value);
+        }
+
+        @Override
+        public boolean removeValue(float value) {
+            pull();
+            boolean result = super.removeValue(value);
+            push();
+            return result;
+        }
+
+        @Override
+        public float removeIndex(int index) {
+            pull();
+            float result = super.removeIndex(index);
+            push();
+            return result;
+        }
+
+        @Override
+        public void removeRange(int start, int end) {
+            pull();
+            super.removeRange(start, end);
+            push();
+        }
+
+        @Override
+        public boolean removeAll(FloatArray array) {
+            pull();
+            boolean result = super.removeAll(array);
+            push();
+            return result;
+        }
+
+        @Override
+        public float pop() {
+            pull();
+            float result = super.pop();
+            push();
+            return result;
+        }
+
+        @Override
+        public float peek() {
+            pull();
+            return super.peek();
+        }
+
+        @Override
+        public float first() {
+            pull();
+            return super.first();
+        }
+
+        @Override
+        public boolean notEmpty() {
+            pull();
+            return super.notEmpty();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            pull();
+            return super.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            pull();
+            super.clear();
+            push();
+        }
+
+        @Override
+        public float[] shrink() {
+            pull();
+            float[] result = super.shrink();
+            push();
+            return result;
+        }
+
+        @Override
+        public float[] ensureCapacity(int additionalCapacity) {
+            pull();
+            float[] result = super.ensureCapacity(additionalCapacity);
+            push();
+            return result;
+        }
+
+        @Override
+        public float[] setSize(int newSize) {
+            pull();
+            float[] result = super.setSize(newSize);
+            push();
+            return result;
+        }
+
+        @Override
+        public void sort() {
+            pull();
+            super.sort();
+        }
+
+        @Override
+        public void reverse() {
+            pull();
+            super.reverse();
+        }
+
+        @Override
+        public void shuffle() {
+            pull();
+            super.shuffle();
+        }
+
+        @Override
+        public void truncate(int newSize) {
+            pull();
+            super.truncate(newSize);
+            push();
+        }
+
+        @Override
+        public float random() {
+            pull();
+            return super.random();
+        }
+
+        @Override
+        public float[] toArray() {
+            pull();
+            return super.toArray();
+        }
+
+        @Override
+        public int hashCode() {
+            pull();
+            return super.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            pull();
+            return super.equals(object);
+        }
+
+        @Override
+        public boolean equals(Object object, float epsilon) {
+            pull();
+            return super.equals(object, epsilon);
+        }
+
+        @Override
+        public String toString() {
+            pull();
+            return super.toString();
+        }
+
+        @Override
+        public String toString(String separator) {
+            pull();
+            return super.toString(separator);
+        }
+    }
+
+    /**
+     * A libGDX {@link ByteArray} that shares its {@link ByteArray#items items} array with a jdkgdxds {@link ByteList}.
+     * Every method called on this first picks up the List's current items array and size, and every method that can
+     * change them writes them back to the List, so both always agree after any call to this.
+     */
+    public static class ByteArrayView extends ByteArray {
+        /**
+         * The ByteList this shares its items with.
+         */
+        public final ByteList list;
+
+        public ByteArrayView(ByteList list) {
+            super(true, 0);
+            this.list = list;
+            pull();
+        }
+
+        /**
+         * Sets {@link #items} and {@link #size} to match the wrapped ByteList. This is called by every method here,
+         * so it only needs to be called directly before reading {@code items} or {@code size} after the List was
+         * changed without going through this view.
+         */
+        public void pull() {
+            items = list.items;
+            size = list.size();
+        }
+
+        private void push() {
+            list.items = items;
+            list.setSize(size);
+        }
+
+        @Override
+        public void add(byte value) {
+            pull();
+            super.add(value);
+            push();
+        }
+
+        @Override
+        public void add(byte value1, byte value2) {
+            pull();
+            super.add(value1, value2);
+            push();
+        }
+
+        @Override
+        public void add(byte value1, byte value2, byte value3) {
+            pull();
+            super.add(value1, value2, value3);
+            push();
+        }
+
+        @Override
+        public void add(byte value1, byte value2, byte value3, byte value4) {
+            pull();
+            super.add(value1, value2, value3, value4);
+            push();
+        }
+
+        @Override
+        public void addAll(ByteArray array) {
+            pull();
+            super.addAll(array);
+            push();
+        }
+
+        @Override
+        public void addAll(ByteArray array, int offset, int length) {
+            pull();
+            super.addAll(array, offset, length);
+            push();
+        }
+
+        @Override
+        public void addAll(byte... array) {
+            pull();
+            super.addAll(array);
+            push();
+        }
+
+        @Override
+        public void addAll(byte[] array, int offset, int length) {
+            pull();
+            super.addAll(array, offset, length);
+            push();
+        }
+
+        @Override
+        public byte get(int index) {
+            pull();
+            return super.get(index);
+        }
+
+        @Override
+        public void set(int index, byte value) {
+            pull();
+            super.set(index, value);
+        }
+
+        @Override
+        public void incr(int index, byte value) {
+            pull();
+            super.incr(index, value);
+        }
+
+        @Override
+        public void incr(byte value) {
+            pull();
+            super.incr(value);
+        }
+
+        @Override
+        public void mul(int index, byte value) {
+            pull();
+            super.mul(index, value);
+        }
+
+        @Override
+        public void mul(byte value) {
+            pull();
+            super.mul(value);
+        }
+
+        @Override
+        public void insert(int index, byte value) {
+            pull();
+            super.insert(index, value);
+            push();
+        }
+
+        @Override
+        public void insertRange(int index, int count) {
+            pull();
+            super.insertRange(index, count);
+            push();
+        }
+
+        @Override
+        public void swap(int first, int second) {
+            pull();
+            super.swap(first, second);
+        }
+
+        @Override
+        public boolean replaceFirst(byte value, byte replacement) {
+            pull();
+            return super.replaceFirst(value, replacement);
+        }
+
+        @Override
+        public int replaceAll(byte value, byte replacement) {
+            pull();
+            return super.replaceAll(value, replacement);
+        }
+
+        @Override
+        public boolean contains(byte value) {
+            pull();
+            return super.contains(value);
+        }
+
+        @Override
+        public int indexOf(byte value) {
+            pull();
+            return super.indexOf(value);
+        }
+
+        @Override
+        public int lastIndexOf(byte value) {
+            pull();
+            return super.lastIndexOf(value);
+        }
+
+        @Override
+        public boolean removeValue(byte value) {
+            pull();
+            boolean result = super.removeValue(value);
+            push();
+            return result;
+        }
+
+        @Override
+        public int removeIndex(int index) {
+            pull();
+            int result = super.removeIndex(index);
+            push();
+            return result;
+        }
+
+        @Override
+        public void removeRange(int start, int end) {
+            pull();
+            super.removeRange(start, end);
+            push();
+        }
+
+        @Override
+        public boolean removeAll(ByteArray array) {
+            pull();
+            boolean result = super.removeAll(array);
+            push();
+            return result;
+        }
+
+        @Override
+        public byte pop() {
+            pull();
+            byte result = super.pop();
+            push();
+            return result;
+        }
+
+        @Override
+        public byte peek() {
+            pull();
+            return super.peek();
+        }
+
+        @Override
+        public byte first() {
+            pull();
+            return super.first();
+        }
+
+        @Override
+        public boolean notEmpty() {
+            pull();
+            return super.notEmpty();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            pull();
+            return super.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            pull();
+            super.clear();
+            push();
+        }
+
+        @Override
+        public byte[] shrink() {
+            pull();
+            byte[] result = super.shrink();
+            push();
+            return result;
+        }
+
+        @Override
+        public byte[] ensureCapacity(int additionalCapacity) {
+            pull();
+            byte[] result = super.ensureCapacity(additionalCapacity);
+            push();
+            return result;
+        }
+
+        @Override
+        public byte[] setSize(int newSize) {
+            pull();
+            byte[] result = super.setSize(newSize);
+            push();
+            return result;
+        }
+
+        @Override
+        public void sort() {
+            pull();
+            super.sort();
+        }
+
+        @Override
+        public void reverse() {
+            pull();
+            super.reverse();
+        }
+
+        @Override
+        public void shuffle() {
+            pull();
+            super.shuffle();
+        }
+
+        @Override
+        public void truncate(int newSize) {
+            pull();
+            super.truncate(newSize);
+            push();
+        }
+
+        @Override
+        public byte random() {
+            pull();
+            return super.random();
+        }
+
+        @Override
+        public byte[] toArray() {
+            pull();
+            return super.toArray();
+        }
+
+        @Override
+        public int hashCode() {
+            pull();
+            return super.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            pull();
+            return super.equals(object);
+        }
+
+        @Override
+        public String toString() {
+            pull();
+            return super.toString();
+        }
+
+        @Override
+        public String toString(String separator) {
+            pull();
+            return super.toString(separator);
+        }
+    }
+
+    /**
+     * A libGDX {@link ShortArray} that shares its {@link ShortArray#items items} array with a jdkgdxds {@link ShortList}.
+     * Every method called on this first picks up the List's current items array and size, and every method that can
+     * change them writes them back to the List, so both always agree after any call to this.
+     */
+    public static class ShortArrayView extends ShortArray {
+        /**
+         * The ShortList this shares its items with.
+         */
+        public final ShortList list;
+
+        public ShortArrayView(ShortList list) {
+            super(true, 0);
+            this.list = list;
+            pull();
+        }
+
+        /**
+         * Sets {@link #items} and {@link #size} to match the wrapped ShortList. This is called by every method here,
+         * so it only needs to be called directly before reading {@code items} or {@code size} after the List was
+         * changed without going through this view.
+         */
+        public void pull() {
+            items = list.items;
+            size = list.size();
+        }
+
+        private void push() {
+            list.items = items;
+            list.setSize(size);
+        }
+
+        @Override
+        public void add(int value) {
+            pull();
+            super.add(value);
+            push();
+        }
+
+        @Override
+        public void add(short value) {
+            pull();
+            super.add(value);
+            push();
+        }
+
+        @Override
+        public void add(short value1, short value2) {
+            pull();
+            super.add(value1, value2);
+            push();
+        }
+
+        @Override
+        public void add(short value1, short value2, short value3) {
+            pull();
+            super.add(value1, value2, value3);
+            push();
+        }
+
+        @Override
+        public void add(short value1, short value2, short value3, short value4) {
+            pull();
+            super.add(value1, value2, value3, value4);
+            push();
+        }
+
+        @Override
+        public void addAll(ShortArray array) {
+            pull();
+            super.addAll(array);
+            push();
+        }
+
+        @Override
+        public void addAll(ShortArray array, int offset, int length) {
+            pull();
+            super.addAll(array, offset, length);
+            push();
+        }
+
+        @Override
+        public void addAll(short... array) {
+            pull();
+            super.addAll(array);
+            push();
+        }
+
+        @Override
+        public void addAll(short[] array, int offset, int length) {
+            pull();
+            super.addAll(array, offset, length);
+            push();
+        }
+
+        @Override
+        public short get(int index) {
+            pull();
+            return super.get(index);
+        }
+
+        @Override
+        public void set(int index, short value) {
+            pull();
+            super.set(index, value);
+        }
+
+        @Override
+        public void incr(int index, short value) {
+            pull();
+            super.incr(index, value);
+        }
+
+        @Override
+        public void incr(short value) {
+            pull();
+            super.incr(value);
+        }
+
+        @Override
+        public void mul(int index, short value) {
+            pull();
+            super.mul(index, value);
+        }
+
+        @Override
+        public void mul(short value) {
+            pull();
+            super.mul(value);
+        }
+
+        @Override
+        public void insert(int index, short value) {
+            pull();
+            super.insert(index, value);
+            push();
+        }
+
+        @Override
+        public void insertRange(int index, int count) {
+            pull();
+            super.insertRange(index, count);
+            push();
+        }
+
+        @Override
+        public void swap(int first, int second) {
+            pull();
+            super.swap(first, second);
+        }
+
+        @Override
+        public boolean replaceFirst(short value, short replacement) {
+            pull();
+            return super.replaceFirst(value, replacement);
+        }
+
+        @Override
+        public int replaceAll(short value, short replacement) {
+            pull();
+            return super.replaceAll(value, replacement);
+        }
+
+        @Override
+        public boolean contains(short value) {
+            pull();
+            return super.contains(value);
+        }
+
+        @Override
+        public int indexOf(short value) {
+            pull();
+            return super.indexOf(value);
+        }
+
+        @Override
+        public int lastIndexOf(short value) {
+            pull();
+            return super.lastIndexOf(value);
+        }
+
+        @Override
+        public boolean removeValue(short value) {
+            pull();
+            boolean result = super.removeValue(value);
+            push();
+            return result;
+        }
+
+        @Override
+        public short removeIndex(int index) {
+            pull();
+            short result = super.removeIndex(index);
+            push();
+            return result;
+        }
+
+        @Override
+        public void removeRange(int start, int end) {
+            pull();
+            super.removeRange(start, end);
+            push();
+        }
+
+        @Override
+        public boolean removeAll(ShortArray array) {
+            pull();
+            boolean result = super.removeAll(array);
+            push();
+            return result;
+        }
+
+        @Override
+        public short pop() {
+            pull();
+            short result = super.pop();
+            push();
+            return result;
+        }
+
+        @Override
+        public short peek() {
+            pull();
+            return super.peek();
+        }
+
+        @Override
+        public short first() {
+            pull();
+            return super.first();
+        }
+
+        @Override
+        public boolean notEmpty() {
+            pull();
+            return super.notEmpty();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            pull();
+            return super.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            pull();
+            super.clear();
+            push();
+        }
+
+        @Override
+        public short[] shrink() {
+            pull();
+            short[] result = super.shrink();
+            push();
+            return result;
+        }
+
+        @Override
+        public short[] ensureCapacity(int additionalCapacity) {
+            pull();
+            short[] result = super.ensureCapacity(additionalCapacity);
+            push();
+            return result;
+        }
+
+        @Override
+        public short[] setSize(int newSize) {
+            pull();
+            short[] result = super.setSize(newSize);
+            push();
+            return result;
+        }
+
+        @Override
+        public void sort() {
+            pull();
+            super.sort();
+        }
+
+        @Override
+        public void reverse() {
+            pull();
+            super.reverse();
+        }
+
+        @Override
+        public void shuffle() {
+            pull();
+            super.shuffle();
+        }
+
+        @Override
+        public void truncate(int newSize) {
+            pull();
+            super.truncate(newSize);
+            push();
+        }
+
+        @Override
+        public short random() {
+            pull();
+            return super.random();
+        }
+
+        @Override
+        public short[] toArray() {
+            pull();
+            return super.toArray();
+        }
+
+        @Override
+        public int hashCode() {
+            pull();
+            return super.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            pull();
+            return super.equals(object);
+        }
+
+        @Override
+        public String toString() {
+            pull();
+            return super.toString();
+        }
+
+        @Override
+        public String toString(String separator) {
+            pull();
+            return super.toString(separator);
+        }
+    }
+
+    /**
+     * A libGDX {@link BooleanArray} that shares its {@link BooleanArray#items items} array with a jdkgdxds {@link BooleanList}.
+     * Every method called on this first picks up the List's current items array and size, and every method that can
+     * change them writes them back to the List, so both always agree after any call to this.
+     */
+    public static class BooleanArrayView extends BooleanArray {
+        /**
+         * The BooleanList this shares its items with.
+         */
+        public final BooleanList list;
+
+        public BooleanArrayView(BooleanList list) {
+            super(true, 0);
+            this.list = list;
+            pull();
+        }
+
+        /**
+         * Sets {@link #items} and {@link #size} to match the wrapped BooleanList. This is called by every method here,
+         * so it only needs to be called directly before reading {@code items} or {@code size} after the List was
+         * changed without going through this view.
+         */
+        public void pull() {
+            items = list.items;
+            size = list.size();
+        }
+
+        private void push() {
+            list.items = items;
+            list.setSize(size);
+        }
+
+        @Override
+        public void add(boolean value) {
+            pull();
+            super.add(value);
+            push();
+        }
+
+        @Override
+        public void add(boolean value1, boolean value2) {
+            pull();
+            super.add(value1, value2);
+            push();
+        }
+
+        @Override
+        public void add(boolean value1, boolean value2, boolean value3) {
+            pull();
+            super.add(value1, value2, value3);
+            push();
+        }
+
+        @Override
+        public void add(boolean value1, boolean value2, boolean value3, boolean value4) {
+            pull();
+            super.add(value1, value2, value3, value4);
+            push();
+        }
+
+        @Override
+        public void addAll(BooleanArray array) {
+            pull();
+            super.addAll(array);
+            push();
+        }
+
+        @Override
+        public void addAll(BooleanArray array, int offset, int length) {
+            pull();
+            super.addAll(array, offset, length);
+            push();
+        }
+
+        @Override
+        public void addAll(boolean... array) {
+            pull();
+            super.addAll(array);
+            push();
+        }
+
+        @Override
+        public void addAll(boolean[] array, int offset, int length) {
+            pull();
+            super.addAll(array, offset, length);
+            push();
+        }
+
+        @Override
+        public boolean get(int index) {
+            pull();
+            return super.get(index);
+        }
+
+        @Override
+        public void set(int index, boolean value) {
+            pull();
+            super.set(index, value);
+        }
+
+        @Override
+        public void insert(int index, boolean value) {
+            pull();
+            super.insert(index, value);
+            push();
+        }
+
+        @Override
+        public void insertRange(int index, int count) {
+            pull();
+            super.insertRange(index, count);
+            push();
+        }
+
+        @Override
+        public void swap(int first, int second) {
+            pull();
+            super.swap(first, second);
+        }
+
+        @Override
+        public boolean replaceFirst(boolean value, boolean replacement) {
+            pull();
+            return super.replaceFirst(value, replacement);
+        }
+
+        @Override
+        public int replaceAll(boolean value, boolean replacement) {
+            pull();
+            return super.replaceAll(value, replacement);
+        }
+
+        @Override
+        public boolean removeIndex(int index) {
+            pull();
+            boolean result = super.removeIndex(index);
+            push();
+            return result;
+        }
+
+        @Override
+        public void removeRange(int start, int end) {
+            pull();
+            super.removeRange(start, end);
+            push();
+        }
+
+        @Override
+        public boolean removeAll(BooleanArray array) {
+            pull();
+            boolean result = super.removeAll(array);
+            push();
+            return result;
+        }
+
+        @Override
+        public boolean pop() {
+            pull();
+            boolean result = super.pop();
+            push();
+            return result;
+        }
+
+        @Override
+        public boolean peek() {
+            pull();
+            return super.peek();
+        }
+
+        @Override
+        public boolean first() {
+            pull();
+            return super.first();
+        }
+
+        @Override
+        public boolean notEmpty() {
+            pull();
+            return super.notEmpty();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            pull();
+            return super.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            pull();
+            super.clear();
+            push();
+        }
+
+        @Override
+        public boolean[] shrink() {
+            pull();
+            boolean[] result = super.shrink();
+            push();
+            return result;
+        }
+
+        @Override
+        public boolean[] ensureCapacity(int additionalCapacity) {
+            pull();
+            boolean[] result = super.ensureCapacity(additionalCapacity);
+            push();
+            return result;
+        }
+
+        @Override
+        public boolean[] setSize(int newSize) {
+            pull();
+            boolean[] result = super.setSize(newSize);
+            push();
+            return result;
+        }
+
+        @Override
+        public void reverse() {
+            pull();
+            super.reverse();
+        }
+
+        @Override
+        public void shuffle() {
+            pull();
+            super.shuffle();
+        }
+
+        @Override
+        public void truncate(int newSize) {
+            pull();
+            super.truncate(newSize);
+            push();
+        }
+
+        @Override
+        public boolean random() {
+            pull();
+            return super.random();
+        }
+
+        @Override
+        public boolean[] toArray() {
+            pull();
+            return super.toArray();
+        }
+
+        @Override
+        public int hashCode() {
+            pull();
+            return super.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            pull();
+            return super.equals(object);
+        }
+
+        @Override
+        public String toString() {
+            pull();
+            return super.toString();
+        }
+
+        @Override
+        public String toString(String separator) {
+            pull();
+            return super.toString(separator);
+        }
+    }
+}
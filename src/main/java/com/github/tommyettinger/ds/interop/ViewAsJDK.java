@@ -0,0 +1,1169 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.CharArray;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.Queue;
+import com.badlogic.gdx.utils.ShortArray;
+import com.github.tommyettinger.ds.PrimitiveCollection;
+import com.github.tommyettinger.ds.support.util.BooleanIterator;
+import com.github.tommyettinger.ds.support.util.ByteIterator;
+import com.github.tommyettinger.ds.support.util.CharIterator;
+import com.github.tommyettinger.ds.support.util.FloatIterator;
+import com.github.tommyettinger.ds.support.util.IntIterator;
+import com.github.tommyettinger.ds.support.util.LongIterator;
+import com.github.tommyettinger.ds.support.util.ShortIterator;
+
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Creates live views of libGDX data structures that implement JDK interfaces, so a libGDX {@link Array} can be passed
+ * to code that expects a {@link List}, or a libGDX {@link Queue} can be passed to code that expects a {@link Deque}.
+ * The primitive arrays in libGDX, like {@link IntArray}, can be viewed as jdkgdxds primitive collections, like
+ * {@link PrimitiveCollection.OfInt}, using {@link #collection(IntArray)} and its overloads.
+ * Unlike the methods in {@link ConversionToJDK}, nothing is copied; every read and write goes straight to the
+ * libGDX data structure, and changes made to it are seen through the view right away. The views don't allocate
+ * anything per item.
+ * <br>
+ * The views here are only as thread-safe as the data structures they wrap, which is to say not at all.
+ * @see ViewAsGDX ViewAsGDX goes the other way, making views with libGDX types
+ */
+@SuppressWarnings("unchecked")
+public class ViewAsJDK {
+
+    /**
+     * Creates a {@link List} view of the given Array; changes to either are visible in the other.
+     * @param array a libGDX Array that will be wrapped, not copied
+     * @param <T> the element type of array
+     * @return a List that reads from and writes to array
+     */
+    public static <T> ListView<T> list(Array<T> array) {
+        return new ListView<>(array);
+    }
+
+    /**
+     * Creates a {@link Deque} view of the given Queue; changes to either are visible in the other.
+     * @param queue a libGDX Queue that will be wrapped, not copied
+     * @param <T> the element type of queue
+     * @return a Deque that reads from and writes to queue
+     */
+    public static <T> DequeView<T> deque(Queue<T> queue) {
+        return new DequeView<>(queue);
+    }
+
+    /**
+     * Creates a {@link PrimitiveCollection.OfInt} view of the given IntArray; changes to either are visible in the other.
+     * @param array a libGDX IntArray that will be wrapped, not copied
+     * @return a PrimitiveCollection.OfInt that reads from and writes to array
+     */
+    public static IntCollectionView collection(IntArray array) {
+        return new IntCollectionView(array);
+    }
+
+    /**
+     * Creates a {@link PrimitiveCollection.OfLong} view of the given LongArray; changes to either are visible in the other.
+     * @param array a libGDX LongArray that will be wrapped, not copied
+     * @return a PrimitiveCollection.OfLong that reads from and writes to array
+     */
+    public static LongCollectionView collection(LongArray array) {
+        return new LongCollectionView(array);
+    }
+
+    /**
+     * Creates a {@link PrimitiveCollection.OfFloat} view of the given FloatArray; changes to either are visible in the other.
+     * @param array a libGDX FloatArray that will be wrapped, not copied
+     * @return a PrimitiveCollection.OfFloat that reads from and writes to array
+     */
+    public static FloatCollectionView collection(FloatArray array) {
+        return new FloatCollectionView(array);
+    }
+
+    /**
+     * Creates a {@link PrimitiveCollection.OfByte} view of the given ByteArray; changes to either are visible in the other.
+     * @param array a libGDX ByteArray that will be wrapped, not copied
+     * @return a PrimitiveCollection.OfByte that reads from and writes to array
+     */
+    public static ByteCollectionView collection(ByteArray array) {
+        return new ByteCollectionView(array);
+    }
+
+    /**
+     * Creates a {@link PrimitiveCollection.OfShort} view of the given ShortArray; changes to either are visible in the other.
+     * @param array a libGDX ShortArray that will be wrapped, not copied
+     * @return a PrimitiveCollection.OfShort that reads from and writes to array
+     */
+    public static ShortCollectionView collection(ShortArray array) {
+        return new ShortCollectionView(array);
+    }
+
+    /**
+     * Creates a {@link PrimitiveCollection.OfChar} view of the given CharArray; changes to either are visible in the other.
+     * @param array a libGDX CharArray that will be wrapped, not copied
+     * @return a PrimitiveCollection.OfChar that reads from and writes to array
+     */
+    public static CharCollectionView collection(CharArray array) {
+        return new CharCollectionView(array);
+    }
+
+    /**
+     * Creates a {@link PrimitiveCollection.OfBoolean} view of the given BooleanArray; changes to either are visible in the other.
+     * @param array a libGDX BooleanArray that will be wrapped, not copied
+     * @return a PrimitiveCollection.OfBoolean that reads from and writes to array
+     */
+    public static BooleanCollectionView collection(BooleanArray array) {
+        return new BooleanCollectionView(array);
+    }
+
+    /**
+     * A {@link List} that reads from and writes to a libGDX {@link Array}. If the Array is unordered, removing an item
+     * by index moves the last item into its place, as {@link Array#removeIndex(int)} does.
+     * @param <T> the element type
+     */
+    public static class ListView<T> extends AbstractList<T> implements RandomAccess {
+        /**
+         * The Array this reads from and writes to. This can be changed to view a different Array.
+         */
+        public Array<T> array;
+
+        public ListView(Array<T> array) {
+            this.array = array;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0) throw new IndexOutOfBoundsException("index can't be < 0: " + index);
+            return array.get(index);
+        }
+
+        @Override
+        public T set(int index, T element) {
+            if (index < 0) throw new IndexOutOfBoundsException("index can't be < 0: " + index);
+            T old = array.get(index);
+            array.set(index, element);
+            return old;
+        }
+
+        @Override
+        public void add(int index, T element) {
+            if (index < 0) throw new IndexOutOfBoundsException("index can't be < 0: " + index);
+            array.insert(index, element);
+            modCount++;
+        }
+
+        @Override
+        public boolean add(T t) {
+            array.add(t);
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public T remove(int index) {
+            if (index < 0) throw new IndexOutOfBoundsException("index can't be < 0: " + index);
+            modCount++;
+            return array.removeIndex(index);
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if (fromIndex < toIndex) {
+                array.removeRange(fromIndex, toIndex - 1);
+                modCount++;
+            }
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return array.indexOf((T) o, false);
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return array.lastIndexOf((T) o, false);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return array.contains((T) o, false);
+        }
+
+        @Override
+        public void clear() {
+            array.clear();
+            modCount++;
+        }
+
+        @Override
+        public int size() {
+            return array.size;
+        }
+    }
+
+    /**
+     * A {@link Deque} that reads from and writes to a libGDX {@link Queue}. Queue allows null items, but Deque uses
+     * null to mean "empty" in methods like {@link #pollFirst()}, so null items should be avoided here.
+     * @param <T> the element type
+     */
+    public static class DequeView<T> extends AbstractCollection<T> implements Deque<T> {
+        /**
+         * The Queue this reads from and writes to. This can be changed to view a different Queue.
+         */
+        public Queue<T> queue;
+
+        public DequeView(Queue<T> queue) {
+            this.queue = queue;
+        }
+
+        /**
+         * Gets the item at the given index, counting from the first item, without removing it.
+         * @param index the index of the item to get, from 0 inclusive to {@link #size()} exclusive
+         * @return the item at index
+         */
+        public T get(int index) {
+            return queue.get(index);
+        }
+
+        @Override
+        public void addFirst(T t) {
+            queue.addFirst(t);
+        }
+
+        @Override
+        public void addLast(T t) {
+            queue.addLast(t);
+        }
+
+        @Override
+        public boolean offerFirst(T t) {
+            queue.addFirst(t);
+            return true;
+        }
+
+        @Override
+        public boolean offerLast(T t) {
+            queue.addLast(t);
+            return true;
+        }
+
+        @Override
+        public T removeFirst() {
+            return queue.removeFirst();
+        }
+
+        @Override
+        public T removeLast() {
+            return queue.removeLast();
+        }
+
+        @Override
+        public T pollFirst() {
+            return queue.size == 0 ? null : queue.removeFirst();
+        }
+
+        @Override
+        public T pollLast() {
+            return queue.size == 0 ? null : queue.removeLast();
+        }
+
+        @Override
+        public T getFirst() {
+            return queue.first();
+        }
+
+        @Override
+        public T getLast() {
+            return queue.last();
+        }
+
+        @Override
+        public T peekFirst() {
+            return queue.size == 0 ? null : queue.first();
+        }
+
+        @Override
+        public T peekLast() {
+            return queue.size == 0 ? null : queue.last();
+        }
+
+        @Override
+        public boolean removeFirstOccurrence(Object o) {
+            return queue.removeValue((T) o, false);
+        }
+
+        @Override
+        public boolean removeLastOccurrence(Object o) {
+            for (int i = queue.size - 1; i >= 0; i--) {
+                T item = queue.get(i);
+                if (o == null ? item == null : o.equals(item)) {
+                    queue.removeIndex(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean add(T t) {
+            queue.addLast(t);
+            return true;
+        }
+
+        @Override
+        public boolean offer(T t) {
+            queue.addLast(t);
+            return true;
+        }
+
+        @Override
+        public T remove() {
+            return queue.removeFirst();
+        }
+
+        @Override
+        public T poll() {
+            return pollFirst();
+        }
+
+        @Override
+        public T element() {
+            return queue.first();
+        }
+
+        @Override
+        public T peek() {
+            return peekFirst();
+        }
+
+        @Override
+        public void push(T t) {
+            queue.addFirst(t);
+        }
+
+        @Override
+        public T pop() {
+            return queue.removeFirst();
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return queue.removeValue((T) o, false);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return queue.indexOf((T) o, false) != -1;
+        }
+
+        @Override
+        public void clear() {
+            queue.clear();
+        }
+
+        @Override
+        public int size() {
+            return queue.size;
+        }
+
+        /**
+         * Returns a new Iterator over the items in the Queue, from first to last. This allocates a new Iterator each
+         * time, so nested iteration is safe.
+         * @return a new Iterator from first to last
+         */
+        @Override
+        public Iterator<T> iterator() {
+            return new ViewIterator(false);
+        }
+
+        /**
+         * Returns a new Iterator over the items in the Queue, from last to first. This allocates a new Iterator each
+         * time, so nested iteration is safe.
+         * @return a new Iterator from last to first
+         */
+        @Override
+        public Iterator<T> descendingIterator() {
+            return new ViewIterator(true);
+        }
+
+        private final class ViewIterator implements Iterator<T> {
+            private final boolean descending;
+            private int index;
+            private int last = -1;
+
+            ViewIterator(boolean descending) {
+                this.descending = descending;
+                this.index = descending ? queue.size - 1 : 0;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return descending ? index >= 0 : index < queue.size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                last = index;
+                return queue.get(descending ? index-- : index++);
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) throw new IllegalStateException("next() must be called before remove().");
+                queue.removeIndex(last);
+                if (!descending) index--;
+                last = -1;
+            }
+        }
+    }
+
+    /**
+     * A {@link PrimitiveCollection.OfInt} that reads from and writes to a libGDX {@link IntArray}, using its items array
+     * directly.
+     */
+    public static class IntCollectionView implements PrimitiveCollection.OfInt {
+        /**
+         * The IntArray this reads from and writes to. This can be changed to view a different IntArray.
+         */
+        public IntArray array;
+
+        public IntCollectionView(IntArray array) {
+            this.array = array;
+        }
+
+        /**
+         * Gets the item at the given index.
+         * @param index the index of the item to get, from 0 inclusive to {@link #size()} exclusive
+         * @return the item at index
+         */
+        public int get(int index) {
+            return array.get(index);
+        }
+
+        /**
+         * Sets the item at the given index.
+         * @param index the index of the item to set, from 0 inclusive to {@link #size()} exclusive
+         * @param item the item to place at index
+         */
+        public void set(int index, int item) {
+            array.set(index, item);
+        }
+
+        @Override
+        public boolean add(int item) {
+            array.add(item);
+            return true;
+        }
+
+        @Override
+        public boolean remove(int item) {
+            return array.removeValue(item);
+        }
+
+        @Override
+        public boolean contains(int item) {
+            return array.contains(item);
+        }
+
+        @Override
+        public int size() {
+            return array.size;
+        }
+
+        @Override
+        public void clear() {
+            array.clear();
+        }
+
+        /**
+         * Returns a new IntIterator each time this is called, so nested iteration is safe. Remove is supported.
+         * @return a new IntIterator over the IntArray
+         */
+        @Override
+        public IntIterator iterator() {
+            return new IntIterator() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < array.size;
+                }
+
+                @Override
+                public int nextInt() {
+                    if (index >= array.size) throw new NoSuchElementException(String.valueOf(index));
+                    return array.items[index++];
+                }
+
+                @Override
+                public void remove() {
+                    if (index == 0) throw new IllegalStateException("nextInt() must be called before remove().");
+                    array.removeIndex(--index);
+                }
+            };
+        }
+
+        @Override
+        public int hashCode() {
+            return array.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IntCollectionView && array.equals(((IntCollectionView) o).array);
+        }
+
+        @Override
+        public String toString() {
+            return array.toString();
+        }
+    }
+
+    /**
+     * A {@link PrimitiveCollection.OfLong} that reads from and writes to a libGDX {@link LongArray}, using its items array
+     * directly.
+     */
+    public static class LongCollectionView implements PrimitiveCollection.OfLong {
+        /**
+         * The LongArray this reads from and writes to. This can be changed to view a different LongArray.
+         */
+        public LongArray array;
+
+        public LongCollectionView(LongArray array) {
+            this.array = array;
+        }
+
+        /**
+         * Gets the item at the given index.
+         * @param index the index of the item to get, from 0 inclusive to {@link #size()} exclusive
+         * @return the item at index
+         */
+        public long get(int index) {
+            return array.get(index);
+        }
+
+        /**
+         * Sets the item at the given index.
+         * @param index the index of the item to set, from 0 inclusive to {@link #size()} exclusive
+         * @param item the item to place at index
+         */
+        public void set(int index, long item) {
+            array.set(index, item);
+        }
+
+        @Override
+        public boolean add(long item) {
+            array.add(item);
+            return true;
+        }
+
+        @Override
+        public boolean remove(long item) {
+            return array.removeValue(item);
+        }
+
+        @Override
+        public boolean contains(long item) {
+            return array.contains(item);
+        }
+
+        @Override
+        public int size() {
+            return array.size;
+        }
+
+        @Override
+        public void clear() {
+            array.clear();
+        }
+
+        /**
+         * Returns a new LongIterator each time this is called, so nested iteration is safe. Remove is supported.
+         * @return a new LongIterator over the LongArray
+         */
+        @Override
+        public LongIterator iterator() {
+            return new LongIterator() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < array.size;
+                }
+
+                @Override
+                public long nextLong() {
+                    if (index >= array.size) throw new NoSuchElementException(String.valueOf(index));
+                    return array.items[index++];
+                }
+
+                @Override
+                public void remove() {
+                    if (index == 0) throw new IllegalStateException("nextLong() must be called before remove().");
+                    array.removeIndex(--index);
+                }
+            };
+        }
+
+        @Override
+        public int hashCode() {
+            return array.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof LongCollectionView && array.equals(((LongCollectionView) o).array);
+        }
+
+        @Override
+        public String toString() {
+            return array.toString();
+        }
+    }
+
+    /**
+     * A {@link PrimitiveCollection.OfFloat} that reads from and writes to a libGDX {@link FloatArray}, using its items array
+     * directly.
+     */
+    public static class FloatCollectionView implements PrimitiveCollection.OfFloat {
+        /**
+         * The FloatArray this reads from and writes to. This can be changed to view a different FloatArray.
+         */
+        public FloatArray array;
+
+        public FloatCollectionView(FloatArray array) {
+            this.array = array;
+        }
+
+        /**
+         * Gets the item at the given index.
+         * @param index the index of the item to get, from 0 inclusive to {@link #size()} exclusive
+         * @return the item at index
+         */
+        public float get(int index) {
+            return array.get(index);
+        }
+
+        /**
+         * Sets the item at the given index.
+         * @param index the index of the item to set, from 0 inclusive to {@link #size()} exclusive
+         * @param item the item to place at index
+         */
+        public void set(int index, float item) {
+            array.set(index, item);
+        }
+
+        @Override
+        public boolean add(float item) {
+            array.add(item);
+            return true;
+        }
+
+        @Override
+        public boolean remove(float item) {
+            return array.removeValue(item);
+        }
+
+        @Override
+        public boolean contains(float item) {
+            return array.contains(item);
+        }
+
+        @Override
+        public int size() {
+            return array.size;
+        }
+
+        @Override
+        public void clear() {
+            array.clear();
+        }
+
+        /**
+         * Returns a new FloatIterator each time this is called, so nested iteration is safe. Remove is supported.
+         * @return a new FloatIterator over the FloatArray
+         */
+        @Override
+        public FloatIterator iterator() {
+            return new FloatIterator() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < array.size;
+                }
+
+                @Override
+                public float nextFloat() {
+                    if (index >= array.size) throw new NoSuchElementException(String.valueOf(index));
+                    return array.items[index++];
+                }
+
+                @Override
+                public void remove() {
+                    if (index == 0) throw new IllegalStateException("nextFloat() must be called before remove().");
+                    array.removeIndex(--index);
+                }
+            };
+        }
+
+        @Override
+        public int hashCode() {
+            return array.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof FloatCollectionView && array.equals(((FloatCollectionView) o).array);
+        }
+
+        @Override
+        public String toString() {
+            return array.toString();
+        }
+    }
+
+    /**
+     * A {@link PrimitiveCollection.OfByte} that reads from and writes to a libGDX {@link ByteArray}, using its items array
+     * directly.
+     */
+    public static class ByteCollectionView implements PrimitiveCollection.OfByte {
+        /**
+         * The ByteArray this reads from and writes to. This can be changed to view a different ByteArray.
+         */
+        public ByteArray array;
+
+        public ByteCollectionView(ByteArray array) {
+            this.array = array;
+        }
+
+        /**
+         * Gets the item at the given index.
+         * @param index the index of the item to get, from 0 inclusive to {@link #size()} exclusive
+         * @return the item at index
+         */
+        public byte get(int index) {
+            return array.get(index);
+        }
+
+        /**
+         * Sets the item at the given index.
+         * @param index the index of the item to set, from 0 inclusive to {@link #size()} exclusive
+         * @param item the item to place at index
+         */
+        public void set(int index, byte item) {
+            array.set(index, item);
+        }
+
+        @Override
+        public boolean add(byte item) {
+            array.add(item);
+            return true;
+        }
+
+        @Override
+        public boolean remove(byte item) {
+            return array.removeValue(item);
+        }
+
+        @Override
+        public boolean contains(byte item) {
+            return array.contains(item);
+        }
+
+        @Override
+        public int size() {
+            return array.size;
+        }
+
+        @Override
+        public void clear() {
+            array.clear();
+        }
+
+        /**
+         * Returns a new ByteIterator each time this is called, so nested iteration is safe. Remove is supported.
+         * @return a new ByteIterator over the ByteArray
+         */
+        @Override
+        public ByteIterator iterator() {
+            return new ByteIterator() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < array.size;
+                }
+
+                @Override
+                public byte nextByte() {
+                    if (index >= array.size) throw new NoSuchElementException(String.valueOf(index));
+                    return array.items[index++];
+                }
+
+                @Override
+                public void remove() {
+                    if (index == 0) throw new IllegalStateException("nextByte() must be called before remove().");
+                    array.removeIndex(--index);
+                }
+            };
+        }
+
+        @Override
+        public int hashCode() {
+            return array.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ByteCollectionView && array.equals(((ByteCollectionView) o).array);
+        }
+
+        @Override
+        public String toString() {
+            return array.toString();
+        }
+    }
+
+    /**
+     * A {@link PrimitiveCollection.OfShort} that reads from and writes to a libGDX {@link ShortArray}, using its items array
+     * directly.
+     */
+    public static class ShortCollectionView implements PrimitiveCollection.OfShort {
+        /**
+         * The ShortArray this reads from and writes to. This can be changed to view a different ShortArray.
+         */
+        public ShortArray array;
+
+        public ShortCollectionView(ShortArray array) {
+            this.array = array;
+        }
+
+        /**
+         * Gets the item at the given index.
+         * @param index the index of the item to get, from 0 inclusive to {@link #size()} exclusive
+         * @return the item at index
+         */
+        public short get(int index) {
+            return array.get(index);
+        }
+
+        /**
+         * Sets the item at the given index.
+         * @param index the index of the item to set, from 0 inclusive to {@link #size()} exclusive
+         * @param item the item to place at index
+         */
+        public void set(int index, short item) {
+            array.set(index, item);
+        }
+
+        @Override
+        public boolean add(short item) {
+            array.add(item);
+            return true;
+        }
+
+        @Override
+        public boolean remove(short item) {
+            return array.removeValue(item);
+        }
+
+        @Override
+        public boolean contains(short item) {
+            return array.contains(item);
+        }
+
+        @Override
+        public int size() {
+            return array.size;
+        }
+
+        @Override
+        public void clear() {
+            array.clear();
+        }
+
+        /**
+         * Returns a new ShortIterator each time this is called, so nested iteration is safe. Remove is supported.
+         * @return a new ShortIterator over the ShortArray
+         */
+        @Override
+        public ShortIterator iterator() {
+            return new ShortIterator() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < array.size;
+                }
+
+                @Override
+                public short nextShort() {
+                    if (index >= array.size) throw new NoSuchElementException(String.valueOf(index));
+                    return array.items[index++];
+                }
+
+                @Override
+                public void remove() {
+                    if (index == 0) throw new IllegalStateException("nextShort() must be called before remove().");
+                    array.removeIndex(--index);
+                }
+            };
+        }
+
+        @Override
+        public int hashCode() {
+            return array.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ShortCollectionView && array.equals(((ShortCollectionView) o).array);
+        }
+
+        @Override
+        public String toString() {
+            return array.toString();
+        }
+    }
+
+    /**
+     * A {@link PrimitiveCollection.OfChar} that reads from and writes to a libGDX {@link CharArray}, using its items array
+     * directly.
+     */
+    public static class CharCollectionView implements PrimitiveCollection.OfChar {
+        /**
+         * The CharArray this reads from and writes to. This can be changed to view a different CharArray.
+         */
+        public CharArray array;
+
+        public CharCollectionView(CharArray array) {
+            this.array = array;
+        }
+
+        /**
+         * Gets the item at the given index.
+         * @param index the index of the item to get, from 0 inclusive to {@link #size()} exclusive
+         * @return the item at index
+         */
+        public char get(int index) {
+            return array.get(index);
+        }
+
+        /**
+         * Sets the item at the given index.
+         * @param index the index of the item to set, from 0 inclusive to {@link #size()} exclusive
+         * @param item the item to place at index
+         */
+        public void set(int index, char item) {
+            array.set(index, item);
+        }
+
+        @Override
+        public boolean add(char item) {
+            array.add(item);
+            return true;
+        }
+
+        @Override
+        public boolean remove(char item) {
+            return array.removeValue(item);
+        }
+
+        @Override
+        public boolean contains(char item) {
+            return array.contains(item);
+        }
+
+        @Override
+        public int size() {
+            return array.size;
+        }
+
+        @Override
+        public void clear() {
+            array.clear();
+        }
+
+        /**
+         * Returns a new CharIterator each time this is called, so nested iteration is safe. Remove is supported.
+         * @return a new CharIterator over the CharArray
+         */
+        @Override
+        public CharIterator iterator() {
+            return new CharIterator() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < array.size;
+                }
+
+                @Override
+                public char nextChar() {
+                    if (index >= array.size) throw new NoSuchElementException(String.valueOf(index));
+                    return array.items[index++];
+                }
+
+                @Override
+                public void remove() {
+                    if (index == 0) throw new IllegalStateException("nextChar() must be called before remove().");
+                    array.removeIndex(--index);
+                }
+            };
+        }
+
+        @Override
+        public int hashCode() {
+            return array.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CharCollectionView && array.equals(((CharCollectionView) o).array);
+        }
+
+        @Override
+        public String toString() {
+            return array.toString();
+        }
+    }
+
+    /**
+     * A {@link PrimitiveCollection.OfBoolean} that reads from and writes to a libGDX {@link BooleanArray}, using its items array
+     * directly.
+     */
+    public static class BooleanCollectionView implements PrimitiveCollection.OfBoolean {
+        /**
+         * The BooleanArray this reads from and writes to. This can be changed to view a different BooleanArray.
+         */
+        public BooleanArray array;
+
+        public BooleanCollectionView(BooleanArray array) {
+            this.array = array;
+        }
+
+        /**
+         * Gets the item at the given index.
+         * @param index the index of the item to get, from 0 inclusive to {@link #size()} exclusive
+         * @return the item at index
+         */
+        public boolean get(int index) {
+            return array.get(index);
+        }
+
+        /**
+         * Sets the item at the given index.
+         * @param index the index of the item to set, from 0 inclusive to {@link #size()} exclusive
+         * @param item the item to place at index
+         */
+        public void set(int index, boolean item) {
+            array.set(index, item);
+        }
+
+        @Override
+        public boolean add(boolean item) {
+            array.add(item);
+            return true;
+        }
+
+        @Override
+        public boolean remove(boolean item) {
+            boolean[] items = array.items;
+            for (int i = 0, n = array.size; i < n; i++) {
+                if (items[i] == item) {
+                    array.removeIndex(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean contains(boolean item) {
+            boolean[] items = array.items;
+            for (int i = 0, n = array.size; i < n; i++) {
+                if (items[i] == item) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public int size() {
+            return array.size;
+        }
+
+        @Override
+        public void clear() {
+            array.clear();
+        }
+
+        /**
+         * Returns a new BooleanIterator each time this is called, so nested iteration is safe. Remove is supported.
+         * @return a new BooleanIterator over the BooleanArray
+         */
+        @Override
+        public BooleanIterator iterator() {
+            return new BooleanIterator() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < array.size;
+                }
+
+                @Override
+                public boolean nextBoolean() {
+                    if (index >= array.size) throw new NoSuchElementException(String.valueOf(index));
+                    return array.items[index++];
+                }
+
+                @Override
+                public void remove() {
+                    if (index == 0) throw new IllegalStateException("nextBoolean() must be called before remove().");
+                    array.removeIndex(--index);
+                }
+            };
+        }
+
+        @Override
+        public int hashCode() {
+            return array.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof BooleanCollectionView && array.equals(((BooleanCollectionView) o).array);
+        }
+
+        @Override
+        public String toString() {
+            return array.toString();
+        }
+    }
+}
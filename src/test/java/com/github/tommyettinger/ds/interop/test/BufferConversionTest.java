@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop.test;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ShortArray;
+import com.github.tommyettinger.ds.FloatList;
+import com.github.tommyettinger.ds.ShortDeque;
+import com.github.tommyettinger.ds.ShortList;
+import com.github.tommyettinger.ds.interop.BufferConversion;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+
+public class BufferConversionTest {
+    @Test
+    public void testFloats() {
+        FloatList list = new FloatList(3);
+        list.add(1f);
+        list.add(2f);
+        list.add(3f);
+        FloatBuffer buffer = BufferConversion.toFloatBuffer(list);
+        Assert.assertTrue(buffer.isDirect());
+        Assert.assertEquals(0, buffer.position());
+        Assert.assertEquals(3, buffer.limit());
+        Assert.assertEquals(2f, buffer.get(1), 0f);
+
+        FloatBuffer vertices = FloatBuffer.allocate(8);
+        BufferConversion.put(list, vertices);
+        BufferConversion.put(FloatArray.with(4f, 5f), vertices);
+        Assert.assertEquals(5, vertices.position());
+        vertices.flip();
+        FloatArray array = BufferConversion.toFloatArray(vertices);
+        Assert.assertEquals(FloatArray.with(1f, 2f, 3f, 4f, 5f), array);
+        Assert.assertEquals(0, vertices.position());
+        FloatList back = BufferConversion.toFloatList(vertices, list);
+        Assert.assertSame(list, back);
+        Assert.assertEquals(5, back.size());
+        Assert.assertEquals(5f, back.get(4), 0f);
+    }
+
+    @Test
+    public void testShortDeque() {
+        ShortDeque deque = new ShortDeque(3);
+        deque.addLast((short) 2);
+        deque.addLast((short) 3);
+        deque.addFirst((short) 1);
+        ShortBuffer buffer = BufferConversion.toShortBuffer(deque);
+        Assert.assertEquals(3, buffer.remaining());
+        Assert.assertEquals(1, buffer.get(0));
+        buffer.position(1);
+        ShortList list = BufferConversion.toShortList(buffer);
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals(3, list.get(1));
+        Assert.assertEquals(ShortArray.with((short) 2, (short) 3), BufferConversion.toShortArray(buffer));
+        ShortDeque read = BufferConversion.toShortDeque(buffer);
+        Assert.assertEquals(2, read.size());
+        Assert.assertEquals(1, buffer.position());
+        read.addLast((short) 4);
+        read.addFirst((short) 0);
+        Assert.assertEquals(ShortArray.with((short) 0, (short) 2, (short) 3, (short) 4),
+                BufferConversion.toShortArray(BufferConversion.toShortBuffer(read)));
+    }
+}
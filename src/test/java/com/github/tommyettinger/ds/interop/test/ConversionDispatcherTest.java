@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop.test;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.OrderedSet;
+import com.github.tommyettinger.ds.IntList;
+import com.github.tommyettinger.ds.ObjectList;
+import com.github.tommyettinger.ds.interop.ConversionDispatcher;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConversionDispatcherTest {
+    @Test
+    public void testConvert() {
+        ConversionDispatcher dispatcher = new ConversionDispatcher();
+        IntList ints = dispatcher.convert(IntArray.with(1, 2, 3), IntList.class);
+        Assert.assertEquals(IntList.with(1, 2, 3), ints);
+        Assert.assertEquals(IntList.with(4, 5), dispatcher.convert(IntArray.with(4, 5), IntList.class));
+        Assert.assertEquals(IntArray.with(1, 2, 3), dispatcher.convert(ints, IntArray.class));
+        ObjectList<String> strings = ObjectList.with("a", "b", "a");
+        Array<?> array = dispatcher.convert(strings, Array.class);
+        Assert.assertEquals(3, array.size);
+        OrderedSet<?> set = dispatcher.convert(strings, OrderedSet.class);
+        Assert.assertEquals(2, set.size);
+        Assert.assertEquals("b", set.orderedItems().get(1));
+        Assert.assertNull(dispatcher.convert(null, IntList.class));
+        Assert.assertTrue(dispatcher.canConvert(strings, Array.class));
+        Assert.assertFalse(dispatcher.canConvert("text", Array.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoConversion() {
+        new ConversionDispatcher().convert(IntArray.with(1), ObjectList.class);
+    }
+}
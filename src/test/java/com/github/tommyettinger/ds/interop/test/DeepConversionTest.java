@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop.test;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.github.tommyettinger.ds.IntList;
+import com.github.tommyettinger.ds.ObjectList;
+import com.github.tommyettinger.ds.ObjectObjectMap;
+import com.github.tommyettinger.ds.interop.DeepConversion;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DeepConversionTest {
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testNested() {
+        IntArray shared = IntArray.with(1, 2, 3);
+        ObjectMap<String, IntArray> inner = new ObjectMap<>();
+        inner.put("a", shared);
+        inner.put("b", shared);
+        Array<ObjectMap<String, IntArray>> array = new Array<>();
+        array.add(inner);
+        array.add(inner);
+        ObjectMap<String, Array<ObjectMap<String, IntArray>>> config = new ObjectMap<>();
+        config.put("levels", array);
+
+        DeepConversion deep = new DeepConversion();
+        ObjectObjectMap<String, ObjectList<ObjectObjectMap<String, IntList>>> converted =
+                (ObjectObjectMap<String, ObjectList<ObjectObjectMap<String, IntList>>>) deep.toJDK(config);
+        ObjectList<ObjectObjectMap<String, IntList>> list = converted.get("levels");
+        Assert.assertEquals(2, list.size());
+        Assert.assertSame(list.get(0), list.get(1));
+        IntList a = list.get(0).get("a");
+        Assert.assertSame(a, list.get(0).get("b"));
+        Assert.assertEquals(3, a.size());
+        Assert.assertEquals(2, a.get(1));
+
+        ObjectMap<String, Array<ObjectMap<String, IntArray>>> back =
+                (ObjectMap<String, Array<ObjectMap<String, IntArray>>>) deep.toGDX(converted);
+        Array<ObjectMap<String, IntArray>> backArray = back.get("levels");
+        Assert.assertSame(backArray.get(0), backArray.get(1));
+        Assert.assertEquals(shared, backArray.get(0).get("a"));
+    }
+
+    @Test
+    public void testCycle() {
+        Array<Object> array = new Array<>();
+        array.add("text");
+        array.add(array);
+        ObjectList<?> list = (ObjectList<?>) new DeepConversion().toJDK(array);
+        Assert.assertEquals("text", list.get(0));
+        Assert.assertSame(list, list.get(1));
+    }
+}
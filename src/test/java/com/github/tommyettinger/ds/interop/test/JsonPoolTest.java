@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop.test;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.github.tommyettinger.digital.Base;
+import com.github.tommyettinger.ds.*;
+import com.github.tommyettinger.ds.interop.JsonPool;
+import com.github.tommyettinger.ds.interop.JsonSettings;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public class JsonPoolTest {
+    @Test
+    public void testSharedSerializers() {
+        JsonPool pool = new JsonPool(JsonWriter.OutputType.minimal, new JsonSettings(Base.BASE36, false, true), 4);
+        Json a = pool.obtain();
+        Json b = pool.obtain();
+        Assert.assertNotSame(a, b);
+        Assert.assertSame(a.getSerializer(IntList.class), b.getSerializer(IntList.class));
+        Assert.assertEquals("iL", a.getTag(IntList.class));
+        IntList numbers = IntList.with(1, 22, 333, -4444, 55555);
+        String data = a.toJson(numbers);
+        System.out.println(data);
+        Assert.assertTrue(data.contains(Base.BASE36.signed(-4444)));
+        Assert.assertEquals(numbers, b.fromJson(IntList.class, data));
+        pool.free(a);
+        Assert.assertSame(a, pool.obtain());
+        pool.free(b);
+    }
+
+    @Test
+    public void testThreads() throws InterruptedException {
+        final JsonPool pool = new JsonPool();
+        final ObjectObjectOrderedMap<String, FloatList> map = new ObjectObjectOrderedMap<>();
+        map.put("a", FloatList.with(0.5f, 1.25f, -3f));
+        map.put("b", FloatList.with(42.42f));
+        final String expected = pool.get().toJson(map);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final boolean borrow = (t & 1) == 0;
+            threads[t] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 200; i++) {
+                        Json json = borrow ? pool.obtain() : pool.get();
+                        String data = json.toJson(map);
+                        Assert.assertEquals(expected, data);
+                        Assert.assertEquals(map, json.fromJson(ObjectObjectOrderedMap.class, data));
+                        if (borrow) pool.free(json);
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertNull(failure.get());
+    }
+}
@@ -21,20 +21,27 @@ import com.badlogic.gdx.math.Plane;
 import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.UBJsonReader;
 import com.github.tommyettinger.digital.*;
 import com.github.tommyettinger.digital.Interpolations.Interpolator;
 import com.github.tommyettinger.ds.*;
 import com.github.tommyettinger.ds.EnumMap;
 import com.github.tommyettinger.ds.EnumSet;
+import com.github.tommyettinger.ds.interop.DictionaryJson;
+import com.github.tommyettinger.ds.interop.JsonSettings;
 import com.github.tommyettinger.ds.interop.JsonSupport;
+import com.github.tommyettinger.ds.interop.UBJsonAdapter;
 import com.github.tommyettinger.random.*;
 import com.github.tommyettinger.ds.support.util.*;
 import com.github.tommyettinger.random.distribution.*;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -1615,6 +1622,23 @@ public class JsonTest {
         System.out.println();
     }
 
+    @Test
+    public void testOffsetBitSetDense() {
+        Json json = new Json(JsonWriter.OutputType.minimal);
+        JsonSupport.registerOffsetBitSet(json);
+        OffsetBitSet numbers = new OffsetBitSet(-1000, 100000);
+        for (int i = -1000; i < 100000; i += 3) {
+            numbers.add(i);
+        }
+        String data = json.toJson(numbers);
+        // Dense sets are written as their raw words, not one number per item.
+        Assert.assertFalse(data.contains("values"));
+        Assert.assertTrue(data.length() < numbers.size());
+        OffsetBitSet numbers2 = json.fromJson(OffsetBitSet.class, data);
+        Assert.assertEquals(numbers.getOffset(), numbers2.getOffset());
+        Assert.assertEquals(numbers, numbers2);
+    }
+
     @Test
     public void testCharBitSet() {
         Json json = new Json(JsonWriter.OutputType.minimal);
@@ -2985,9 +3009,9 @@ public class JsonTest {
 
     @Test
     public void testFloatDeque() {
-        Json json = new Json(JsonWriter.OutputType.minimal);
-        JsonSupport.registerFloatDeque(json);
         for (int i = 0; i < 2; i++) {
+            Json json = new Json(JsonWriter.OutputType.minimal);
+            JsonSupport.registerFloatDeque(json, JsonSupport.getSettings().withFloatsLegible(i == 0));
             FloatDeque numbers = FloatDeque.with(42.42f, 23.23f, 666.666f, 420.42f, 4.7683716e-7f);
             String data = json.toJson(numbers);
             System.out.println(data);
@@ -3000,15 +3024,14 @@ public class JsonTest {
             }
             Assert.assertEquals(numbers, numbers2);
             System.out.println();
-            JsonSupport.setFloatsLegible(false);
         }
     }
 
     @Test
     public void testDoubleDeque() {
-        Json json = new Json(JsonWriter.OutputType.minimal);
-        JsonSupport.registerDoubleDeque(json);
         for (int i = 0; i < 2; i++) {
+            Json json = new Json(JsonWriter.OutputType.minimal);
+            JsonSupport.registerDoubleDeque(json, JsonSupport.getSettings().withFloatsLegible(i == 0));
             DoubleDeque numbers = DoubleDeque.with(42.42, 23.23, 666.666, 420.42);
             String data = json.toJson(numbers);
             System.out.println(data);
@@ -3021,10 +3044,39 @@ public class JsonTest {
             }
             Assert.assertEquals(numbers, numbers2);
             System.out.println();
-            JsonSupport.setFloatsLegible(false);
         }
     }
 
+    @Test
+    public void testPerJsonSettings() {
+        Json legible = new Json(JsonWriter.OutputType.minimal);
+        Json compact = new Json(JsonWriter.OutputType.minimal);
+        JsonSupport.registerAll(legible, JsonSettings.DEFAULT);
+        JsonSupport.registerAll(compact, new JsonSettings(Base.BASE36, false, false));
+        // Changing the defaults must not affect serializers that were already registered.
+        JsonSupport.setNumeralBase(Base.BASE16);
+        FloatList numbers = FloatList.with(42.42f, 23.23f, 666.666f, 420.42f, 4.7683716e-7f);
+        LongList longs = LongList.with(1234567890123L, -1L, 0L, Long.MAX_VALUE);
+        String legibleData = legible.toJson(numbers);
+        String compactData = compact.toJson(numbers);
+        System.out.println(legibleData);
+        System.out.println(compactData);
+        Assert.assertNotEquals(legibleData, compactData);
+        Assert.assertEquals(numbers, legible.fromJson(FloatList.class, legibleData));
+        Assert.assertEquals(numbers, compact.fromJson(FloatList.class, compactData));
+        legibleData = legible.toJson(longs);
+        compactData = compact.toJson(longs);
+        System.out.println(legibleData);
+        System.out.println(compactData);
+        Assert.assertTrue(legibleData.contains("1234567890123"));
+        Assert.assertTrue(compactData.contains(Base.BASE36.signed(1234567890123L)));
+        Assert.assertEquals(longs, legible.fromJson(LongList.class, legibleData));
+        Assert.assertEquals(longs, compact.fromJson(LongList.class, compactData));
+        Assert.assertEquals("lL", legible.getTag(LongList.class));
+        Assert.assertNull(compact.getTag(LongList.class));
+        JsonSupport.setSettings(JsonSettings.DEFAULT);
+    }
+
     @Test
     public void testBooleanDeque() {
         Json json = new Json(JsonWriter.OutputType.minimal);
@@ -4054,4 +4106,232 @@ public class JsonTest {
         Assert.assertEquals(junction, junction2);
     }
 
+    @Test
+    public void testLargePrimitiveCollections() {
+        // These are big enough that the streaming serializers have to write their items in several chunks.
+        Json json = new Json(JsonWriter.OutputType.minimal);
+        JsonSupport.registerAll(json);
+        DistinctRandom random = new DistinctRandom(123456789);
+        IntList ints = new IntList(20000);
+        LongBag longs = new LongBag(20000);
+        FloatDeque floats = new FloatDeque(20000);
+        DoubleList doubles = new DoubleList(20000);
+        BooleanList booleans = new BooleanList(20000);
+        CharList chars = new CharList(20000);
+        for (int i = 0; i < 20000; i++) {
+            ints.add(random.nextInt());
+            longs.add(random.nextLong());
+            floats.add(random.nextFloat(-1000f, 1000f));
+            doubles.add(random.nextDouble(-1000.0, 1000.0));
+            booleans.add(random.nextBoolean());
+            chars.add("a\"b\\c\n".charAt(random.nextInt(6)));
+        }
+        Assert.assertEquals(ints, json.fromJson(IntList.class, json.toJson(ints)));
+        Assert.assertEquals(longs, json.fromJson(LongBag.class, json.toJson(longs)));
+        Assert.assertEquals(floats, json.fromJson(FloatDeque.class, json.toJson(floats)));
+        Assert.assertEquals(doubles, json.fromJson(DoubleList.class, json.toJson(doubles)));
+        Assert.assertEquals(booleans, json.fromJson(BooleanList.class, json.toJson(booleans)));
+        Assert.assertEquals(chars, json.fromJson(CharList.class, json.toJson(chars)));
+        Assert.assertEquals(new FloatDeque(), json.fromJson(FloatDeque.class, json.toJson(new FloatDeque())));
+    }
+
+    @Test
+    public void testUBJson() {
+        Json json = new Json(JsonWriter.OutputType.minimal);
+        JsonSupport.registerAll(json);
+        ObjectList<Object> all = ObjectList.with(
+                IntList.with(42, -23, 666, Integer.MIN_VALUE),
+                LongSet.with(1234567890123L, -1L, 0L, Long.MAX_VALUE),
+                FloatDeque.with(42.42f, -23.23f, 0.5f),
+                DoubleList.with(Math.PI, -Math.E, 0.25),
+                ByteList.with((byte) -128, (byte) -1, (byte) 0, (byte) 127),
+                ShortBag.with((short) -32768, (short) -1, (short) 32767),
+                CharList.with('a', '"', '\\', '\uFFFF'),
+                BooleanList.with(true, false, true),
+                BooleanDeque.with(false, false, true),
+                BooleanBag.with(true, true, false),
+                IntDeque.with(1, 2, 3),
+                new IntList(),
+                ObjectObjectMap.with("a", IntList.with(1, 2), "b", LongList.with(3L, 4L))
+        );
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        json.toJson(all, ObjectList.class, new UBJsonAdapter(bytes));
+        String text = json.toJson(all, ObjectList.class);
+        System.out.println("UBJSON: " + bytes.size() + " bytes, JSON: " + text.length() + " chars");
+        JsonValue parsed = new UBJsonReader().parse(new ByteArrayInputStream(bytes.toByteArray()));
+        ObjectList<?> all2 = json.readValue(ObjectList.class, parsed);
+        Assert.assertEquals(all, all2);
+        // The same Json object still reads the text format.
+        Assert.assertEquals(all, json.fromJson(ObjectList.class, text));
+    }
+
+    @Test
+    public void testPackedMaps() {
+        Json packed = new Json(JsonWriter.OutputType.minimal);
+        Json fields = new Json(JsonWriter.OutputType.minimal);
+        JsonSupport.registerAll(packed, new JsonSettings(Base.BASE36, false, true, true));
+        JsonSupport.registerAll(fields, new JsonSettings(Base.BASE36, false, true, false));
+        IntIntMap ints = new IntIntMap(1000);
+        LongFloatOrderedMap floats = new LongFloatOrderedMap(1000);
+        IntObjectMap<String> strings = new IntObjectMap<>(1000);
+        DistinctRandom random = new DistinctRandom(123456789);
+        for (int i = 0; i < 1000; i++) {
+            ints.put(random.nextInt(), random.nextInt());
+            floats.put(random.nextLong(), random.nextFloat());
+            strings.put(random.nextInt(), Base.BASE36.signed(random.nextInt()));
+        }
+        ints.setDefaultValue(-1);
+        String data = packed.toJson(ints);
+        Assert.assertTrue(data.length() < fields.toJson(ints).length());
+        Assert.assertEquals(ints, packed.fromJson(IntIntMap.class, data));
+        // Either Json can read either form.
+        Assert.assertEquals(ints, fields.fromJson(IntIntMap.class, data));
+        Assert.assertEquals(ints, packed.fromJson(IntIntMap.class, fields.toJson(ints)));
+        Assert.assertEquals(-1, packed.fromJson(IntIntMap.class, data).getDefaultValue());
+        data = packed.toJson(floats);
+        LongFloatOrderedMap floats2 = packed.fromJson(LongFloatOrderedMap.class, data);
+        Assert.assertEquals(floats, floats2);
+        Assert.assertEquals(floats.order(), floats2.order());
+        data = packed.toJson(strings);
+        Assert.assertEquals(strings, packed.fromJson(IntObjectMap.class, data));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        packed.toJson(ints, IntIntMap.class, new UBJsonAdapter(bytes));
+        JsonValue parsed = new UBJsonReader().parse(new ByteArrayInputStream(bytes.toByteArray()));
+        Assert.assertEquals(ints, packed.readValue(IntIntMap.class, parsed));
+    }
+
+    @Test
+    public void testEntryArrayMaps() {
+        Json arrays = new Json(JsonWriter.OutputType.minimal);
+        Json fields = new Json(JsonWriter.OutputType.minimal);
+        JsonSupport.registerAll(arrays, JsonSettings.DEFAULT.withEntryArrays(true));
+        JsonSupport.registerAll(fields, JsonSettings.DEFAULT);
+        ObjectObjectMap<GridPoint2, Vector2> points = new ObjectObjectMap<>(
+                new GridPoint2[]{new GridPoint2(42, 42), new GridPoint2(23, -23), new GridPoint2(666, 0)},
+                new Vector2[]{new Vector2(0.5f, 1f), new Vector2(-2f, 3f), new Vector2(4f, 5.25f)});
+        points.setDefaultValue(Vector2.Zero);
+        String data = arrays.toJson(points, ObjectObjectMap.class);
+        System.out.println(data);
+        Assert.assertTrue(new JsonReader().parse(data).get("e").isArray());
+        ObjectObjectMap<?, ?> points2 = arrays.fromJson(ObjectObjectMap.class, data);
+        Assert.assertEquals(points, points2);
+        Assert.assertEquals(Vector2.Zero, points2.getDefaultValue());
+        // Either Json can read either form.
+        Assert.assertEquals(points, fields.fromJson(ObjectObjectMap.class, data));
+        Assert.assertEquals(points, arrays.fromJson(ObjectObjectMap.class, fields.toJson(points, ObjectObjectMap.class)));
+
+        ObjectObjectOrderedMap<GridPoint2, String> ordered = new ObjectObjectOrderedMap<>(
+                new GridPoint2[]{new GridPoint2(3, 3), new GridPoint2(1, 1), new GridPoint2(2, 2)},
+                new String[]{"three", "one", "two"}, OrderType.BAG);
+        data = arrays.toJson(ordered, ObjectObjectOrderedMap.class);
+        System.out.println(data);
+        ObjectObjectOrderedMap<?, ?> ordered2 = fields.fromJson(ObjectObjectOrderedMap.class, data);
+        Assert.assertEquals(ordered, ordered2);
+        Assert.assertEquals(ordered.order(), ordered2.order());
+        Assert.assertEquals(OrderType.BAG, ordered2.getOrderType());
+    }
+
+    @Test
+    public void testTypedSerializers() {
+        Json json = new Json(JsonWriter.OutputType.minimal);
+        JsonSupport.registerObjectList(json, Vector2.class);
+        JsonSupport.registerObjectObjectMap(json, GridPoint2.class, String.class);
+        ObjectList<Vector2> points = ObjectList.with(new Vector2(1f, 2f), new Vector2(-3f, 0.5f));
+        String data = json.toJson(points, ObjectList.class);
+        System.out.println(data);
+        Assert.assertFalse(data.contains("class"));
+        Assert.assertEquals(points, json.fromJson(ObjectList.class, data));
+        // Items that aren't a Vector2 still keep their class.
+        ObjectList<Object> mixed = ObjectList.with(new Vector2(1f, 2f), new GridPoint2(3, 4), "five");
+        data = json.toJson(mixed, ObjectList.class);
+        System.out.println(data);
+        Assert.assertEquals(mixed, json.fromJson(ObjectList.class, data));
+        // Even Strings keep their class when a boxed number is expected.
+        Json numbers = new Json(JsonWriter.OutputType.minimal);
+        JsonSupport.registerObjectList(numbers, Integer.class);
+        ObjectList<Object> boxed = ObjectList.with(1, "two", 3);
+        data = numbers.toJson(boxed, ObjectList.class);
+        System.out.println(data);
+        Assert.assertEquals(boxed, numbers.fromJson(ObjectList.class, data));
+
+        ObjectObjectMap<GridPoint2, String> names = new ObjectObjectMap<>(
+                new GridPoint2[]{new GridPoint2(1, 1), new GridPoint2(-2, 7)}, new String[]{"one", "minus two"});
+        data = json.toJson(names, ObjectObjectMap.class);
+        System.out.println(data);
+        Assert.assertFalse(data.contains("class"));
+        Assert.assertEquals(names, json.fromJson(ObjectObjectMap.class, data));
+
+        Json arrays = new Json(JsonWriter.OutputType.minimal);
+        JsonSupport.registerObjectObjectMap(arrays, JsonSettings.DEFAULT.withEntryArrays(true), GridPoint2.class, String.class);
+        data = arrays.toJson(names, ObjectObjectMap.class);
+        System.out.println(data);
+        Assert.assertFalse(data.contains("class"));
+        Assert.assertEquals(names, arrays.fromJson(ObjectObjectMap.class, data));
+    }
+
+    @Test
+    public void testDictionaryJson() {
+        Json plain = new Json(JsonWriter.OutputType.minimal);
+        Json json = new DictionaryJson(JsonWriter.OutputType.minimal);
+        JsonSupport.registerAll(plain);
+        JsonSupport.registerAll(json);
+        ObjectList<ObjectObjectMap<String, Object>> records = new ObjectList<>();
+        for (int i = 0; i < 20; i++) {
+            records.add(new ObjectObjectMap<>(new String[]{"name", "kind", "index"},
+                    new Object[]{new String("somebody"), new String(i % 2 == 0 ? "even" : "odd"), i}));
+        }
+        String data = json.toJson(records, ObjectList.class);
+        System.out.println(data);
+        Assert.assertTrue(data.length() < plain.toJson(records, ObjectList.class).length());
+        ObjectList<?> records2 = json.fromJson(ObjectList.class, data);
+        Assert.assertEquals(records, records2);
+        Assert.assertSame(((ObjectObjectMap<?, ?>) records2.get(0)).get("name"), ((ObjectObjectMap<?, ?>) records2.get(1)).get("name"));
+        Assert.assertSame(((ObjectObjectMap<?, ?>) records2.get(2)).get("kind"), ((ObjectObjectMap<?, ?>) records2.get(8)).get("kind"));
+        // Something written by a plain Json can still be read.
+        Assert.assertEquals(records, json.fromJson(ObjectList.class, plain.toJson(records, ObjectList.class)));
+
+        ObjectIntMap<String> counts = new ObjectIntMap<>(new String[]{"foo", "bar", "baz"}, new int[]{1, 2, 3});
+        data = json.toJson(counts, ObjectIntMap.class);
+        System.out.println(data);
+        Assert.assertEquals(counts, json.fromJson(ObjectIntMap.class, data));
+        CaseInsensitiveSet names = CaseInsensitiveSet.with("Alpha", "beta", "GAMMA");
+        data = json.toJson(names, CaseInsensitiveSet.class);
+        System.out.println(data);
+        Assert.assertEquals(names, json.fromJson(CaseInsensitiveSet.class, data));
+    }
+
+    @Test
+    public void testSharedReferences() {
+        DictionaryJson json = new DictionaryJson(JsonWriter.OutputType.minimal);
+        json.setShareReferences(true);
+        JsonSupport.registerAll(json);
+        Vector2 origin = new Vector2(0f, 0f), corner = new Vector2(1f, 1f);
+        ObjectList<Object> graph = new ObjectList<>();
+        graph.add(ObjectList.with(origin, corner, origin));
+        graph.add(NumberedSet.with(corner, origin));
+        IntObjectMap<Vector2> byIndex = new IntObjectMap<>();
+        for (int i = 0; i < 10; i++) {
+            byIndex.put(i, (i & 1) == 0 ? origin : corner);
+        }
+        graph.add(byIndex);
+        String data = json.toJson(graph, ObjectList.class);
+        System.out.println(data);
+        ObjectList<?> graph2 = json.fromJson(ObjectList.class, data);
+        Assert.assertEquals(graph, graph2);
+        ObjectList<?> list2 = (ObjectList<?>) graph2.get(0);
+        NumberedSet<?> set2 = (NumberedSet<?>) graph2.get(1);
+        IntObjectMap<?> byIndex2 = (IntObjectMap<?>) graph2.get(2);
+        Assert.assertSame(list2.get(0), list2.get(2));
+        Assert.assertSame(list2.get(1), set2.iterator().next());
+        Assert.assertSame(list2.get(0), byIndex2.get(8));
+        Assert.assertSame(list2.get(1), byIndex2.get(3));
+
+        // Without shared references, each occurrence is its own copy.
+        json.setShareReferences(false);
+        graph2 = json.fromJson(ObjectList.class, json.toJson(graph, ObjectList.class));
+        Assert.assertEquals(graph, graph2);
+        list2 = (ObjectList<?>) graph2.get(0);
+        Assert.assertNotSame(list2.get(0), list2.get(2));
+    }
+
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop.test;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.github.tommyettinger.ds.*;
+import com.github.tommyettinger.ds.interop.JsonSettings;
+import com.github.tommyettinger.ds.interop.JsonSupport;
+import com.github.tommyettinger.ds.interop.LazyJson;
+import com.github.tommyettinger.random.AceRandom;
+import com.github.tommyettinger.random.EnhancedRandom;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LazyJsonTest {
+    @Test
+    public void testRegistersOnWrite() {
+        LazyJson json = new LazyJson(JsonWriter.OutputType.minimal, JsonSettings.DEFAULT);
+        Assert.assertNull(json.getSerializer(IntList.class));
+        IntList numbers = IntList.with(1, 22, 333, -4444);
+        String data = json.toJson(numbers);
+        System.out.println(data);
+        Assert.assertNotNull(json.getSerializer(IntList.class));
+        Assert.assertNull(json.getSerializer(LongList.class));
+        Assert.assertNull(json.getSerializer(AceRandom.class));
+        Assert.assertEquals(numbers, json.fromJson(IntList.class, data));
+    }
+
+    @Test
+    public void testRegistersOnClassTag() {
+        Json eager = new Json(JsonWriter.OutputType.minimal);
+        JsonSupport.registerAll(eager, JsonSettings.DEFAULT);
+        ObjectList<Object> items = ObjectList.with(LongList.with(1L, -2L), FloatList.with(0.5f),
+                ObjectObjectMap.with("a", IntList.with(3, 4)));
+        String data = eager.toJson(items, ObjectList.class);
+        System.out.println(data);
+
+        LazyJson lazy = new LazyJson(JsonWriter.OutputType.minimal, JsonSettings.DEFAULT);
+        ObjectList<?> read = lazy.fromJson(ObjectList.class, data);
+        Assert.assertEquals(items, read);
+        Assert.assertNotNull(lazy.getSerializer(LongList.class));
+        Assert.assertNotNull(lazy.getSerializer(IntList.class));
+        Assert.assertNull(lazy.getSerializer(IntSet.class));
+        Assert.assertEquals(data, lazy.toJson(read, ObjectList.class));
+    }
+
+    @Test
+    public void testInterfaceType() {
+        LazyJson json = new LazyJson();
+        EnhancedRandom random = new AceRandom(123456789L);
+        String data = json.toJson(random, EnhancedRandom.class);
+        System.out.println(data);
+        EnhancedRandom random2 = json.fromJson(EnhancedRandom.class, data);
+        Assert.assertEquals(random, random2);
+        Assert.assertEquals(random.nextLong(), random2.nextLong());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop.test;
+
+import com.github.tommyettinger.ds.IntList;
+import com.github.tommyettinger.ds.LongLongMap;
+import com.github.tommyettinger.ds.LongLongOrderedMap;
+import com.github.tommyettinger.ds.LongSet;
+import com.github.tommyettinger.ds.OffsetBitSet;
+import com.github.tommyettinger.ds.interop.MappedPersistence;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class MappedPersistenceTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testIntList() throws IOException {
+        Path file = folder.newFile("ints.bin").toPath();
+        IntList list = new IntList(1000);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i * i - 500);
+        }
+        MappedPersistence.save(list, file);
+        Assert.assertEquals(24 + 4000, Files.size(file));
+        IntList back = MappedPersistence.loadInts(file, new IntList());
+        Assert.assertEquals(list, back);
+        IntBuffer view = MappedPersistence.mapInts(file);
+        Assert.assertTrue(view.isReadOnly());
+        Assert.assertEquals(1000, view.limit());
+        Assert.assertEquals(list.get(999), view.get(999));
+    }
+
+    @Test
+    public void testSetAndBits() throws IOException {
+        Path file = folder.newFile("longs.bin").toPath();
+        LongSet set = LongSet.with(-1L, 0L, 1L << 40);
+        MappedPersistence.save(set, file);
+        Assert.assertEquals(set, MappedPersistence.loadLongs(file, new LongSet()));
+
+        // A separate file, because the mapping from loadLongs() may still be alive, and Windows won't truncate it.
+        Path bitsFile = folder.newFile("bits.bin").toPath();
+        OffsetBitSet bits = new OffsetBitSet(-64, 128);
+        bits.addAll(new int[]{-60, 0, 100});
+        MappedPersistence.save(bits, bitsFile);
+        OffsetBitSet back = MappedPersistence.load(bitsFile, new OffsetBitSet());
+        Assert.assertEquals(bits, back);
+        Assert.assertEquals(bits.getOffset(), back.getOffset());
+    }
+
+    @Test
+    public void testMap() throws IOException {
+        Path file = folder.newFile("map.bin").toPath();
+        LongLongOrderedMap map = new LongLongOrderedMap();
+        map.setDefaultValue(-1L);
+        map.put(3L, 30L);
+        map.put(0L, 0L);
+        map.put(-1L << 50, 7L);
+        MappedPersistence.save(map, file);
+        LongLongOrderedMap back = MappedPersistence.load(file, new LongLongOrderedMap());
+        Assert.assertEquals(map, back);
+        Assert.assertEquals(-1L, back.getDefaultValue());
+        try {
+            MappedPersistence.loadInts(file, new IntList());
+            Assert.fail("a map file should not load as a list");
+        } catch (IOException expected) {
+        }
+        Assert.assertEquals(3, MappedPersistence.load(file, new LongLongMap()).size());
+    }
+}
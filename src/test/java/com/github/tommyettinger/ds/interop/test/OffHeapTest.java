@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop.test;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.github.tommyettinger.ds.IntList;
+import com.github.tommyettinger.ds.interop.ConversionToGDX;
+import com.github.tommyettinger.ds.interop.ConversionToJDK;
+import com.github.tommyettinger.ds.interop.JsonSettings;
+import com.github.tommyettinger.ds.interop.JsonSupport;
+import com.github.tommyettinger.ds.interop.OffHeapFloatList;
+import com.github.tommyettinger.ds.interop.OffHeapIntIntMap;
+import com.github.tommyettinger.ds.interop.OffHeapIntList;
+import com.github.tommyettinger.ds.interop.OffHeapLongList;
+import com.github.tommyettinger.ds.support.util.IntIterator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OffHeapTest {
+    @Test
+    public void testIntList() {
+        OffHeapIntList list = new OffHeapIntList(2);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        Assert.assertTrue(list.capacity() >= 100);
+        list.insert(0, -1);
+        Assert.assertEquals(-1, list.get(0));
+        Assert.assertEquals(99, list.get(100));
+        Assert.assertEquals(50, list.removeAt(51));
+        Assert.assertTrue(list.remove(-1));
+        Assert.assertFalse(list.contains(50));
+        Assert.assertEquals(99, list.size());
+        IntIterator it = list.iterator();
+        while (it.hasNext()) {
+            if (it.nextInt() % 2 == 1) it.remove();
+        }
+        Assert.assertEquals(50, list.size());
+        Assert.assertEquals(98, list.asBuffer().get(49));
+        Assert.assertEquals(list, new OffHeapIntList(IntList.with(list.toArray())));
+
+        IntArray array = ConversionToGDX.toIntArray(list);
+        Assert.assertEquals(50, array.size);
+        Assert.assertEquals(98, array.peek());
+        Assert.assertEquals(list, ConversionToJDK.toOffHeapIntList(array));
+    }
+
+    @Test
+    public void testLongAndFloatLists() {
+        OffHeapLongList longs = new OffHeapLongList();
+        longs.addAll(new long[]{1L << 40, -5L, 7L}, 0, 3);
+        Assert.assertEquals(-5L, longs.set(1, 6L));
+        Assert.assertEquals("[1099511627776, 6, 7]", longs.toString());
+        Assert.assertEquals(3, ConversionToGDX.toLongArray(longs).size);
+
+        OffHeapFloatList floats = ConversionToJDK.toOffHeapFloatList(FloatArray.with(0.5f, 1.5f));
+        floats.insert(1, 1f);
+        Assert.assertEquals(FloatArray.with(0.5f, 1f, 1.5f), ConversionToGDX.toFloatArray(floats));
+        // equals() agrees with hashCode() on NaN and on the sign of zero.
+        OffHeapFloatList nan = new OffHeapFloatList(new float[]{Float.NaN, 0f}, 0, 2);
+        Assert.assertEquals(nan, new OffHeapFloatList(new float[]{Float.NaN, 0f}, 0, 2));
+        Assert.assertNotEquals(nan, new OffHeapFloatList(new float[]{Float.NaN, -0f}, 0, 2));
+    }
+
+    @Test
+    public void testIntIntMap() {
+        OffHeapIntIntMap map = new OffHeapIntIntMap(4);
+        map.setDefaultValue(-1);
+        for (int i = -500; i < 500; i++) {
+            map.put(i * 7, i);
+        }
+        Assert.assertEquals(1000, map.size());
+        Assert.assertEquals(0, map.get(0));
+        Assert.assertEquals(-1, map.get(1));
+        Assert.assertEquals(3, map.remove(21));
+        Assert.assertEquals(-1, map.remove(21));
+        Assert.assertFalse(map.containsKey(21));
+        Assert.assertEquals(499, map.get(3493));
+
+        com.badlogic.gdx.utils.IntIntMap gdx = ConversionToGDX.toIntIntMap(map);
+        Assert.assertEquals(999, gdx.size);
+        Assert.assertEquals(-500, gdx.get(-3500, 0));
+        OffHeapIntIntMap back = ConversionToJDK.toOffHeapIntIntMap(gdx);
+        Assert.assertEquals(map, back);
+    }
+
+    @Test
+    public void testJson() {
+        Json json = new Json(JsonWriter.OutputType.minimal);
+        JsonSupport.registerAll(json);
+        OffHeapIntList list = new OffHeapIntList(new int[]{3, 1, 4, 1, 5}, 0, 5);
+        Assert.assertEquals(list, json.fromJson(OffHeapIntList.class, json.toJson(list)));
+        OffHeapFloatList floats = new OffHeapFloatList(new float[]{0.25f, -2f}, 0, 2);
+        Assert.assertEquals(floats, json.fromJson(OffHeapFloatList.class, json.toJson(floats)));
+
+        OffHeapIntIntMap map = new OffHeapIntIntMap();
+        map.setDefaultValue(9);
+        map.put(0, 1);
+        map.put(-2, 3);
+        map.put(40000, 5);
+        OffHeapIntIntMap back = json.fromJson(OffHeapIntIntMap.class, json.toJson(map));
+        Assert.assertEquals(map, back);
+        Assert.assertEquals(9, back.getDefaultValue());
+
+        Json packed = new Json(JsonWriter.OutputType.minimal);
+        JsonSupport.registerAll(packed, JsonSettings.DEFAULT.withPackMaps(true));
+        Assert.assertEquals(map, packed.fromJson(OffHeapIntIntMap.class, packed.toJson(map)));
+    }
+}
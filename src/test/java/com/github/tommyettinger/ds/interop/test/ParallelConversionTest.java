@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop.test;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongArray;
+import com.github.tommyettinger.ds.IntDeque;
+import com.github.tommyettinger.ds.IntSet;
+import com.github.tommyettinger.ds.LongList;
+import com.github.tommyettinger.ds.ObjectList;
+import com.github.tommyettinger.ds.interop.ConversionToGDX;
+import com.github.tommyettinger.ds.interop.ParallelConversion;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelConversionTest {
+    private final ParallelConversion parallel = new ParallelConversion(new ForkJoinPool(4), 16);
+
+    @Test
+    public void testArrays() {
+        LongList longs = new LongList(1000);
+        IntDeque ints = new IntDeque(1024);
+        // moves the head partway into the backing array, so the items wrap around its end
+        for (int i = 0; i < 500; i++) {
+            ints.addLast(-1);
+            ints.removeFirst();
+        }
+        ObjectList<String> strings = new ObjectList<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            longs.add(i * 0x9E3779B97F4A7C15L);
+            ints.add(i * 31);
+            strings.add("item" + i);
+        }
+        LongArray longArray = parallel.toLongArray(longs);
+        Assert.assertEquals(1000, longArray.size);
+        IntArray intArray = parallel.toIntArray(ints);
+        Assert.assertEquals(1000, intArray.size);
+        Assert.assertEquals(intArray, ConversionToGDX.toIntArray(ints));
+        Array<String> stringArray = parallel.toArray(strings);
+        Assert.assertEquals(1000, stringArray.size);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(longs.get(i), longArray.get(i));
+            Assert.assertEquals(ints.get(i), intArray.get(i));
+            Assert.assertEquals(strings.get(i), stringArray.get(i));
+        }
+        LongList back = parallel.toLongList(longArray);
+        Assert.assertEquals(1000, back.size());
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(longs.get(i), back.get(i));
+        }
+    }
+
+    @Test
+    public void testSets() {
+        IntArray ints = new IntArray(1000);
+        Array<String> strings = new Array<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            ints.add(i % 100);
+            strings.add("item" + (i % 300));
+        }
+        IntSet intSet = parallel.toIntSet(ints);
+        Assert.assertEquals(100, intSet.size());
+        for (int i = 0; i < 100; i++) {
+            Assert.assertTrue(intSet.contains(i));
+        }
+        Assert.assertEquals(300, parallel.toObjectSet(strings).size());
+    }
+
+    @Test
+    public void testBelowThreshold() {
+        ParallelConversion sequential = new ParallelConversion(new ForkJoinPool(4), 1 << 20);
+        LongList longs = new LongList(10);
+        for (int i = 0; i < 10; i++) {
+            longs.add(i);
+        }
+        LongArray longArray = sequential.toLongArray(longs);
+        Assert.assertEquals(10, longArray.size);
+        Assert.assertEquals(9L, longArray.peek());
+    }
+}
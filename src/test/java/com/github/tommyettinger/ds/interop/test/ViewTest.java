@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2023-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.interop.test;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Queue;
+import com.github.tommyettinger.ds.IntList;
+import com.github.tommyettinger.ds.ObjectDeque;
+import com.github.tommyettinger.ds.ObjectList;
+import com.github.tommyettinger.ds.PrimitiveCollection;
+import com.github.tommyettinger.ds.interop.ViewAsGDX;
+import com.github.tommyettinger.ds.interop.ViewAsJDK;
+import com.github.tommyettinger.ds.support.util.FloatIterator;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+public class ViewTest {
+    @Test
+    public void testListView() {
+        Array<String> array = Array.with("alpha", "beta", "gamma");
+        List<String> list = ViewAsJDK.list(array);
+        Assert.assertEquals(3, list.size());
+        Assert.assertEquals("beta", list.get(1));
+        list.add("delta");
+        list.add(0, "omega");
+        Assert.assertEquals(5, array.size);
+        Assert.assertEquals("omega", array.first());
+        Assert.assertEquals("beta", list.set(2, "BETA"));
+        Assert.assertEquals("BETA", array.get(2));
+        list.subList(1, 3).clear();
+        Assert.assertTrue(array.equals(Array.with("omega", "gamma", "delta")));
+        array.add("epsilon");
+        Assert.assertEquals(ObjectList.with("omega", "gamma", "delta", "epsilon"), list);
+        Assert.assertEquals(array.toString(), list.toString());
+    }
+
+    @Test
+    public void testDequeView() {
+        Queue<Integer> queue = new Queue<>();
+        Deque<Integer> deque = ViewAsJDK.deque(queue);
+        deque.addLast(2);
+        deque.addFirst(1);
+        deque.offerLast(3);
+        Assert.assertEquals(3, queue.size);
+        Assert.assertEquals(1, (int) queue.first());
+        Assert.assertEquals(3, (int) deque.peekLast());
+        Iterator<Integer> it = deque.descendingIterator();
+        Assert.assertEquals(3, (int) it.next());
+        Assert.assertEquals(2, (int) it.next());
+        it.remove();
+        Assert.assertEquals(2, deque.size());
+        Assert.assertEquals(1, (int) deque.pollFirst());
+        Assert.assertEquals(3, (int) deque.pollFirst());
+        Assert.assertNull(deque.pollFirst());
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testArrayView() {
+        ObjectList<String> list = ObjectList.with("alpha", "beta", "gamma");
+        Array<String> array = ViewAsGDX.array(list);
+        Assert.assertEquals(3, array.size);
+        Assert.assertEquals("gamma", array.peek());
+        array.add("delta");
+        array.insert(0, "omega");
+        Assert.assertEquals(5, list.size());
+        Assert.assertEquals("omega", list.get(0));
+        array.removeRange(1, 2);
+        Assert.assertEquals(ObjectList.with("omega", "gamma", "delta"), list);
+        Assert.assertTrue(array.equals(Array.with("omega", "gamma", "delta")));
+        Assert.assertEquals(Array.with("omega", "gamma", "delta").hashCode(), array.hashCode());
+        array.sort();
+        Assert.assertEquals("[delta, gamma, omega]", array.toString());
+        Assert.assertEquals("gamma", array.selectRanked(String::compareTo, 2));
+        int count = 0;
+        for (String s : array) {
+            for (String t : array) {
+                count++;
+            }
+        }
+        Assert.assertEquals(9, count);
+        list.add("zeta");
+        Assert.assertTrue(array.notEmpty());
+        Assert.assertEquals(4, array.size);
+        Assert.assertEquals("zeta", array.pop());
+        Assert.assertEquals(3, list.size());
+    }
+
+    @Test
+    public void testArrayViewItems() {
+        ObjectList<String> list = ObjectList.with("alpha", "beta", "gamma");
+        ViewAsGDX.ArrayView<String> view = ViewAsGDX.array(list);
+        view.add("delta");
+        view.removeIndex(0);
+        Array<String> expected = Array.with("beta", "gamma", "delta");
+        // These read the view's items and size directly.
+        Assert.assertTrue(expected.equals(view));
+        Assert.assertEquals(expected, new Array<>(view));
+        Array<String> other = Array.with("omega");
+        other.addAll(view);
+        Assert.assertEquals(Array.with("omega", "beta", "gamma", "delta"), other);
+        list.add("epsilon");
+        view.pull();
+        Object[] items = ((Array<?>) view).items;
+        Assert.assertEquals(list.size(), view.size);
+        for (int i = 0; i < view.size; i++) {
+            Assert.assertEquals(list.get(i), items[i]);
+        }
+    }
+
+    @Test
+    public void testQueueView() {
+        ObjectDeque<Integer> deque = new ObjectDeque<>();
+        Queue<Integer> queue = ViewAsGDX.queue(deque);
+        queue.addLast(2);
+        queue.addFirst(1);
+        queue.addLast(3);
+        Assert.assertEquals(3, deque.size());
+        Assert.assertEquals(1, (int) deque.peekFirst());
+        Assert.assertEquals(2, (int) queue.get(1));
+        Assert.assertEquals(2, (int) queue.removeIndex(1));
+        Assert.assertEquals("[1, 3]", queue.toString());
+        Queue<Integer> plain = new Queue<>();
+        plain.addLast(1);
+        plain.addLast(3);
+        Assert.assertEquals(plain.hashCode(), queue.hashCode());
+        Assert.assertEquals(queue, plain);
+        // This reads the view's backing array directly.
+        Assert.assertEquals(plain, queue);
+        Assert.assertEquals(3, (int) queue.removeLast());
+        Assert.assertEquals(1, queue.size);
+    }
+
+    @Test
+    public void testPrimitiveCollectionView() {
+        FloatArray array = FloatArray.with(0.5f, 1.5f, 2.5f);
+        PrimitiveCollection.OfFloat floats = ViewAsJDK.collection(array);
+        Assert.assertEquals(3, floats.size());
+        Assert.assertTrue(floats.contains(1.5f));
+        floats.add(3.5f);
+        Assert.assertEquals(3.5f, array.peek(), 0f);
+        array.add(4.5f);
+        float sum = 0f;
+        FloatIterator it = floats.iterator();
+        while (it.hasNext()) {
+            float f = it.nextFloat();
+            sum += f;
+            if (f == 0.5f) it.remove();
+        }
+        Assert.assertEquals(12.5f, sum, 0f);
+        Assert.assertEquals(4, array.size);
+        Assert.assertTrue(floats.remove(2.5f));
+        Assert.assertEquals(FloatArray.with(1.5f, 3.5f, 4.5f), array);
+    }
+
+    @Test
+    public void testPrimitiveArrayView() {
+        IntList list = IntList.with(10, 20, 30);
+        IntArray array = ViewAsGDX.array(list);
+        Assert.assertSame(list.items, array.items);
+        Assert.assertEquals(3, array.size);
+        for (int i = 0; i < 100; i++) {
+            array.add(i);
+        }
+        Assert.assertEquals(103, list.size());
+        Assert.assertSame(list.items, array.items);
+        Assert.assertEquals(99, list.get(102));
+        array.removeRange(3, 102);
+        array.insert(0, 5);
+        Assert.assertEquals(IntList.with(5, 10, 20, 30), list);
+        list.add(40);
+        Assert.assertEquals(40, array.peek());
+        Assert.assertEquals(5, array.size);
+        Assert.assertEquals(IntArray.with(5, 10, 20, 30, 40), array);
+    }
+}